@@ -0,0 +1,30 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An answer set found by the solver.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@Name("at.ac.tuwien.kr.alpha.AnswerSet")
+@Label("Answer Set")
+@Category({"Alpha", "Solver"})
+@Description("An answer set found by the solver")
+@StackTrace(false)
+public class AnswerSetEvent extends jdk.jfr.Event {
+	@Label("Decision Level")
+	int decisionLevel;
+
+	@Label("Choices")
+	@Description("The number of choices made so far")
+	int choices;
+
+	@Label("Backjumps")
+	@Description("The number of backjumps made so far")
+	int backjumps;
+}
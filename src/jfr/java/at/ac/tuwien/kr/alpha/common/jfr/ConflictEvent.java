@@ -0,0 +1,31 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A conflict analyzed by the solver.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@Name("at.ac.tuwien.kr.alpha.Conflict")
+@Label("Conflict")
+@Category({"Alpha", "Solver"})
+@Description("A conflict analyzed by the solver")
+@StackTrace(false)
+public class ConflictEvent extends jdk.jfr.Event {
+	@Label("Learned NoGood Size")
+	@Description("The size of the learned nogood, 0 if the choice causing the conflict is backtracked instead")
+	int learnedNoGoodSize;
+
+	@Label("LBD")
+	@Description("The literals blocks distance of the learned nogood")
+	int lbd;
+
+	@Label("Backjump Distance")
+	@Description("The number of decision levels backjumped")
+	int backjumpDistance;
+}
@@ -0,0 +1,27 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A call of a grounder to derive the nogoods of new ground rules.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@Name("at.ac.tuwien.kr.alpha.GroundingRound")
+@Label("Grounding Round")
+@Category({"Alpha", "Grounder"})
+@Description("A call of the grounder to derive nogoods")
+@StackTrace(false)
+public class GroundingRoundEvent extends jdk.jfr.Event {
+	@Label("Bootstrap")
+	@Description("Whether the round grounds the rules that need no assignment")
+	boolean bootstrap;
+
+	@Label("NoGoods")
+	@Description("The number of new nogoods derived")
+	int noGoods;
+}
@@ -0,0 +1,93 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+/**
+ * The {@link EventEmitter} creating the JFR events. {@link FlightRecorderEvents} instantiates it by name only if the
+ * JFR API is available, hence none of the event classes is loaded otherwise.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+final class JfrEventEmitter implements EventEmitter {
+
+	@Override
+	public Object beginGroundingRound() {
+		GroundingRoundEvent event = new GroundingRoundEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void endGroundingRound(Object begun, boolean bootstrap, int noGoods) {
+		GroundingRoundEvent event = (GroundingRoundEvent) begun;
+		event.end();
+		event.bootstrap = bootstrap;
+		event.noGoods = noGoods;
+		event.commit();
+	}
+
+	@Override
+	public void commitConflict(int learnedNoGoodSize, int lbd, int backjumpDistance) {
+		ConflictEvent event = new ConflictEvent();
+		if (!event.isEnabled()) {
+			return;
+		}
+		event.learnedNoGoodSize = learnedNoGoodSize;
+		event.lbd = lbd;
+		event.backjumpDistance = backjumpDistance;
+		event.commit();
+	}
+
+	@Override
+	public Object beginNoGoodDeletion() {
+		NoGoodDeletionEvent event = new NoGoodDeletionEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void endNoGoodDeletion(Object begun, int deletedNoGoods, int coreTierSize, int midTierSize, int localTierSize) {
+		NoGoodDeletionEvent event = (NoGoodDeletionEvent) begun;
+		event.end();
+		event.deletedNoGoods = deletedNoGoods;
+		event.coreTierSize = coreTierSize;
+		event.midTierSize = midTierSize;
+		event.localTierSize = localTierSize;
+		event.commit();
+	}
+
+	@Override
+	public Object beginJustification() {
+		JustificationEvent event = new JustificationEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void endJustification(Object begun, int mbtAtoms, int reasons) {
+		JustificationEvent event = (JustificationEvent) begun;
+		event.end();
+		event.mbtAtoms = mbtAtoms;
+		event.reasons = reasons;
+		event.commit();
+	}
+
+	@Override
+	public void commitAnswerSet(int decisionLevel, int choices, int backjumps) {
+		AnswerSetEvent event = new AnswerSetEvent();
+		if (!event.isEnabled()) {
+			return;
+		}
+		event.decisionLevel = decisionLevel;
+		event.choices = choices;
+		event.backjumps = backjumps;
+		event.commit();
+	}
+}
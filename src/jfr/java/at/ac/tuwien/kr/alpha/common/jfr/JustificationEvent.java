@@ -0,0 +1,27 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A search for the reasons why an atom assigned must-be-true cannot be justified.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@Name("at.ac.tuwien.kr.alpha.Justification")
+@Label("Justification")
+@Category({"Alpha", "Solver"})
+@Description("A search for the reasons of an unjustified must-be-true atom")
+@StackTrace(false)
+public class JustificationEvent extends jdk.jfr.Event {
+	@Label("MBT Atoms")
+	@Description("The number of atoms assigned must-be-true")
+	int mbtAtoms;
+
+	@Label("Reasons")
+	@Description("The number of literals why the atom is unjustified")
+	int reasons;
+}
@@ -0,0 +1,31 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A run of the deletion of learned nogoods.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@Name("at.ac.tuwien.kr.alpha.NoGoodDeletion")
+@Label("NoGood Deletion")
+@Category({"Alpha", "Solver"})
+@Description("A run of the deletion of learned nogoods")
+@StackTrace(false)
+public class NoGoodDeletionEvent extends jdk.jfr.Event {
+	@Label("Deleted NoGoods")
+	int deletedNoGoods;
+
+	@Label("Core Tier Size")
+	int coreTierSize;
+
+	@Label("Mid Tier Size")
+	int midTierSize;
+
+	@Label("Local Tier Size")
+	int localTierSize;
+}
@@ -0,0 +1,78 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+import at.ac.tuwien.kr.alpha.api.Alpha;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests the events emitted by {@link FlightRecorderEvents} in a recording. Lives in the source set {@code src/jfrTest},
+ * which is only compiled and run by a JDK providing the JFR API.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class FlightRecordingTest {
+
+	@Before
+	public void assumeFlightRecorder() {
+		// The JVM may provide the API but still be unable to record, e.g., if started with -XX:-FlightRecorder.
+		assumeTrue(FlightRecorder.isAvailable());
+		assertTrue(FlightRecorderEvents.isAvailable());
+	}
+
+	private static List<RecordedEvent> recordSolving(String program) throws IOException {
+		Path file = Files.createTempFile("alpha", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(GroundingRoundEvent.class);
+			recording.enable(ConflictEvent.class);
+			recording.enable(AnswerSetEvent.class);
+			recording.start();
+			new Alpha().solve(new Alpha().readProgramString(program)).count();
+			recording.stop();
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+		return events.stream().filter(event -> event.getEventType().getName().equals(name)).collect(Collectors.toList());
+	}
+
+	@Test
+	public void recordsGroundingRoundsAndAnswerSets() throws IOException {
+		List<RecordedEvent> events = recordSolving("a :- not b. b :- not a. c(X) :- a, X = 1..3.");
+		List<RecordedEvent> groundingRounds = eventsNamed(events, "at.ac.tuwien.kr.alpha.GroundingRound");
+		assertTrue(groundingRounds.size() > 1);
+		assertTrue(groundingRounds.get(0).getBoolean("bootstrap"));
+		assertTrue(groundingRounds.get(0).getInt("noGoods") > 0);
+		assertTrue(groundingRounds.stream().skip(1).noneMatch(event -> event.getBoolean("bootstrap")));
+		assertEquals(2, eventsNamed(events, "at.ac.tuwien.kr.alpha.AnswerSet").size());
+	}
+
+	@Test
+	public void recordsConflicts() throws IOException {
+		List<RecordedEvent> events = recordSolving("p(1..6). { q(X) } :- p(X). :- q(X), q(Y), X != Y. :- not r. r :- q(X).");
+		List<RecordedEvent> conflicts = eventsNamed(events, "at.ac.tuwien.kr.alpha.Conflict");
+		assertFalse(conflicts.isEmpty());
+		for (RecordedEvent conflict : conflicts) {
+			assertTrue(conflict.getInt("backjumpDistance") >= 0);
+		}
+		assertEquals(6, eventsNamed(events, "at.ac.tuwien.kr.alpha.AnswerSet").size());
+	}
+}
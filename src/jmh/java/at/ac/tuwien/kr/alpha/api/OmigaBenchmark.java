@@ -0,0 +1,64 @@
+package at.ac.tuwien.kr.alpha.api;
+
+import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.config.SystemConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs Alpha end to end, from parsing to the first answer set, on the OMiGA test cases in {@code benchmarks/omiga}.
+ * Instances are read into memory beforehand, so file I/O is not measured. Paths are relative to the root of the
+ * repository.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OmigaBenchmark {
+
+	@Param({
+		"benchmarks/omiga/omiga-testcases/3col/3col-20-38.txt",
+		"benchmarks/omiga/omiga-testcases/cutedge/cutedge-100-30.txt",
+		"benchmarks/omiga/omiga-testcases/cutedge/cutedge-100-50.txt",
+		"benchmarks/omiga/omiga-testcases/locstrat/locstrat-200.txt",
+		"benchmarks/omiga/omiga-testcases/locstrat/locstrat-400.txt",
+		"benchmarks/omiga/omiga-testcases/reach/reach-1.txt"
+	})
+	private String instance;
+
+	private String program;
+	private SystemConfig config;
+
+	@Setup
+	public void setUp() throws IOException {
+		program = new String(Files.readAllBytes(Paths.get(instance)), StandardCharsets.UTF_8);
+		config = new SystemConfig();
+		config.setDeterministic(true);
+	}
+
+	@Benchmark
+	public Optional<AnswerSet> solveFirst() {
+		Alpha alpha = new Alpha(config);
+		return alpha.solve(alpha.readProgramString(program)).findFirst();
+	}
+}
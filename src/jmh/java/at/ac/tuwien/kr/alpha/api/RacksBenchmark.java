@@ -0,0 +1,62 @@
+package at.ac.tuwien.kr.alpha.api;
+
+import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.config.SystemConfig;
+import at.ac.tuwien.kr.alpha.solver.heuristics.BranchingHeuristicFactory.Heuristic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs Alpha end to end, from parsing to the first answer set, on the rack configuration problem in
+ * {@code benchmarks/siemens/racks}. The instance is solved with the BerkMin literal heuristic, since with the default
+ * heuristic it is not solved within several minutes, which is too long for repeated measurements.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RacksBenchmark {
+
+	@Param({"benchmarks/siemens/racks/racks.lp"})
+	private String instance;
+
+	@Param({"BERKMINLITERAL"})
+	private Heuristic heuristic;
+
+	private String program;
+	private SystemConfig config;
+
+	@Setup
+	public void setUp() throws IOException {
+		program = new String(Files.readAllBytes(Paths.get(instance)), StandardCharsets.UTF_8);
+		config = new SystemConfig();
+		config.setDeterministic(true);
+		config.setBranchingHeuristic(heuristic);
+	}
+
+	@Benchmark
+	public Optional<AnswerSet> solveFirst() {
+		Alpha alpha = new Alpha(config);
+		return alpha.solve(alpha.readProgramString(program)).findFirst();
+	}
+}
@@ -0,0 +1,86 @@
+package at.ac.tuwien.kr.alpha.common.terms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures interning of {@link ConstantTerm}s that are known already, as happens for every constant the parser reads
+ * and every term the grounder builds. Symbols are equal to, but distinct objects from, the ones interned during setup,
+ * so that lookups cannot short-cut on identity.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstantTermBenchmark {
+
+	@Param({"10000"})
+	private int symbols;
+
+	private Integer[] integers;
+	private String[] strings;
+
+	/**
+	 * The index of the next symbol to look up, kept per thread so that contended runs do not share it.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int next;
+
+		int next(int bound) {
+			int current = next;
+			next = current + 1 == bound ? 0 : current + 1;
+			return current;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		integers = new Integer[symbols];
+		strings = new String[symbols];
+		for (int i = 0; i < symbols; i++) {
+			ConstantTerm.getInstance(i + 1000);
+			ConstantTerm.getSymbolicInstance("c" + i);
+			// Boxing values above the Integer cache and concatenating strings yields fresh objects.
+			integers[i] = Integer.valueOf(i + 1000);
+			strings[i] = "c" + i;
+		}
+	}
+
+	@Benchmark
+	public ConstantTerm<Integer> internInteger(Cursor cursor) {
+		return ConstantTerm.getInstance(integers[cursor.next(symbols)]);
+	}
+
+	@Benchmark
+	public ConstantTerm<String> internSymbol(Cursor cursor) {
+		return ConstantTerm.getSymbolicInstance(strings[cursor.next(symbols)]);
+	}
+
+	@Benchmark
+	public ConstantTerm<String> internString(Cursor cursor) {
+		return ConstantTerm.getInstance(strings[cursor.next(symbols)]);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public ConstantTerm<String> internSymbolContended(Cursor cursor) {
+		return ConstantTerm.getSymbolicInstance(strings[cursor.next(symbols)]);
+	}
+}
@@ -0,0 +1,104 @@
+package at.ac.tuwien.kr.alpha.grounder;
+
+import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
+import at.ac.tuwien.kr.alpha.common.terms.ConstantTerm;
+import at.ac.tuwien.kr.alpha.common.terms.Term;
+import at.ac.tuwien.kr.alpha.common.terms.VariableTerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups the grounder performs on an {@link IndexedInstanceStorage} when binding a body literal: probing
+ * an index position, matching a partially ground atom, and checking whether a ground instance is known.
+ *
+ * The storage holds the instances e(i, j) of a graph in which every node i has {@code degree} successors j, and is
+ * indexed on both positions.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedInstanceStorageBenchmark {
+
+	@Param({"1000", "10000"})
+	private int nodes;
+
+	@Param({"10"})
+	private int degree;
+
+	private IndexedInstanceStorage storage;
+	private Term[] probes;
+	private Atom[] partiallyGroundAtoms;
+	private Instance[] instances;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		Predicate edge = Predicate.getInstance("e", 2);
+		storage = new IndexedInstanceStorage(edge, true);
+		storage.addIndexPosition(0);
+		storage.addIndexPosition(1);
+		for (int i = 0; i < nodes; i++) {
+			for (int j = 1; j <= degree; j++) {
+				storage.addInstance(new Instance(ConstantTerm.getInstance(i), ConstantTerm.getInstance((i + j) % nodes)));
+			}
+		}
+		storage.markRecentlyAddedInstancesDone();
+
+		// Probe nodes in a fixed pseudo-random order, so that consecutive lookups do not hit neighbouring buckets.
+		probes = new Term[nodes];
+		partiallyGroundAtoms = new Atom[nodes];
+		instances = new Instance[nodes];
+		VariableTerm y = VariableTerm.getInstance("Y");
+		for (int k = 0; k < nodes; k++) {
+			int i = (int) ((k * 7919L) % nodes);
+			probes[k] = ConstantTerm.getInstance(i);
+			partiallyGroundAtoms[k] = new BasicAtom(edge, probes[k], y);
+			instances[k] = new Instance(probes[k], ConstantTerm.getInstance((i + degree) % nodes));
+		}
+	}
+
+	private int nextProbe() {
+		int probe = next;
+		next = probe + 1 == nodes ? 0 : probe + 1;
+		return probe;
+	}
+
+	@Benchmark
+	public List<Instance> matchAtFirstPosition() {
+		return storage.getInstancesMatchingAtPosition(probes[nextProbe()], 0);
+	}
+
+	@Benchmark
+	public List<Instance> matchAtSecondPosition() {
+		return storage.getInstancesMatchingAtPosition(probes[nextProbe()], 1);
+	}
+
+	@Benchmark
+	public List<Instance> matchPartiallyGroundAtom() {
+		return storage.getInstancesFromPartiallyGroundAtom(partiallyGroundAtoms[nextProbe()]);
+	}
+
+	@Benchmark
+	public boolean containsInstance() {
+		return storage.containsInstance(instances[nextProbe()]);
+	}
+}
@@ -0,0 +1,95 @@
+package at.ac.tuwien.kr.alpha.grounder;
+
+import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
+import at.ac.tuwien.kr.alpha.common.terms.ConstantTerm;
+import at.ac.tuwien.kr.alpha.common.terms.FunctionTerm;
+import at.ac.tuwien.kr.alpha.common.terms.VariableTerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Substitution} and {@link Unification} on a single non-ground atom p(X, f(Y), Z): extending a partial
+ * substitution by a ground instance as done when binding a body literal, applying a substitution, and unifying with
+ * and instantiating to a ground atom.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnificationBenchmark {
+
+	private Atom nonGroundAtom;
+	private Atom groundAtom;
+	private Atom nonMatchingGroundAtom;
+	private Instance instance;
+	private Substitution partialSubstitution;
+	private Substitution fullSubstitution;
+
+	@Setup
+	public void setUp() {
+		Predicate p = Predicate.getInstance("p", 3);
+		VariableTerm x = VariableTerm.getInstance("X");
+		VariableTerm y = VariableTerm.getInstance("Y");
+		VariableTerm z = VariableTerm.getInstance("Z");
+		ConstantTerm<String> a = ConstantTerm.getSymbolicInstance("a");
+		ConstantTerm<String> b = ConstantTerm.getSymbolicInstance("b");
+		ConstantTerm<Integer> one = ConstantTerm.getInstance(1);
+
+		nonGroundAtom = new BasicAtom(p, x, FunctionTerm.getInstance("f", y), z);
+		groundAtom = new BasicAtom(p, a, FunctionTerm.getInstance("f", b), one);
+		nonMatchingGroundAtom = new BasicAtom(p, a, FunctionTerm.getInstance("g", b), one);
+		instance = Instance.fromAtom(groundAtom);
+
+		partialSubstitution = new Substitution();
+		partialSubstitution.put(x, a);
+		fullSubstitution = new Substitution(partialSubstitution);
+		fullSubstitution.put(y, b);
+		fullSubstitution.put(z, one);
+	}
+
+	@Benchmark
+	public Substitution specializeEmptySubstitution() {
+		return Substitution.specializeSubstitution(nonGroundAtom, instance, Substitution.EMPTY_SUBSTITUTION);
+	}
+
+	@Benchmark
+	public Substitution specializePartialSubstitution() {
+		return Substitution.specializeSubstitution(nonGroundAtom, instance, partialSubstitution);
+	}
+
+	@Benchmark
+	public Atom substitute() {
+		return nonGroundAtom.substitute(fullSubstitution);
+	}
+
+	@Benchmark
+	public Unifier unifyAtoms() {
+		return Unification.unifyAtoms(nonGroundAtom, groundAtom);
+	}
+
+	@Benchmark
+	public Unifier unifyNonMatchingAtoms() {
+		return Unification.unifyAtoms(nonGroundAtom, nonMatchingGroundAtom);
+	}
+
+	@Benchmark
+	public Unifier instantiate() {
+		return Unification.instantiate(nonGroundAtom, groundAtom);
+	}
+}
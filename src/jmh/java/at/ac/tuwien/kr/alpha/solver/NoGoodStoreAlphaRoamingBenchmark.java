@@ -0,0 +1,82 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
+import at.ac.tuwien.kr.alpha.common.terms.ConstantTerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static at.ac.tuwien.kr.alpha.common.Literals.atomToLiteral;
+import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.TRUE;
+
+/**
+ * Measures unit propagation in {@link NoGoodStoreAlphaRoaming}. The store holds a chain of binary nogoods
+ * {a_i, -a_(i+1)} and ternary nogoods {a_i, a_(i+1), -c_i}, so choosing a_1 propagates all other atoms, going through
+ * both binary and ternary watches. Each invocation chooses a_1, propagates and backtracks again.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoGoodStoreAlphaRoamingBenchmark {
+
+	@Param({"1000", "10000"})
+	private int chainLength;
+
+	private TrailAssignment assignment;
+	private NoGoodStoreAlphaRoaming store;
+
+	@Setup
+	public void setUp() {
+		// Atoms a_1 to a_n have ids 1 to n, atoms c_1 to c_(n-1) have ids n+1 to 2n-1.
+		int numberOfAtoms = 2 * chainLength - 1;
+		AtomStore atomStore = new AtomStoreImpl();
+		Predicate predicate = Predicate.getInstance("a", 1);
+		for (int i = 0; i < numberOfAtoms; i++) {
+			atomStore.putIfAbsent(new BasicAtom(predicate, ConstantTerm.getInstance(i)));
+		}
+		assignment = new TrailAssignment(atomStore);
+		assignment.growForMaxAtomId();
+		store = new NoGoodStoreAlphaRoaming(assignment);
+		store.growForMaxAtomId(numberOfAtoms);
+
+		int noGoodId = 1;
+		for (int a = 1; a < chainLength; a++) {
+			int c = chainLength + a;
+			store.add(noGoodId++, new NoGood(atomToLiteral(a, true), atomToLiteral(a + 1, false)));
+			store.add(noGoodId++, new NoGood(atomToLiteral(a, true), atomToLiteral(a + 1, true), atomToLiteral(c, false)));
+		}
+		if (store.propagate() != null) {
+			throw new IllegalStateException("Benchmark nogoods are conflicting.");
+		}
+	}
+
+	@Benchmark
+	public int chooseAndPropagate() {
+		assignment.choose(1, TRUE);
+		if (store.propagate() != null) {
+			throw new IllegalStateException("Propagation ran into a conflict.");
+		}
+		int assigned = assignment.getNumberOfAssignedAtoms();
+		store.backtrack();
+		return assigned;
+	}
+}
@@ -0,0 +1,77 @@
+package at.ac.tuwien.kr.alpha.solver.heuristics;
+
+import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.solver.ChoiceManager;
+import at.ac.tuwien.kr.alpha.solver.NoGoodStoreAlphaRoaming;
+import at.ac.tuwien.kr.alpha.solver.TrailAssignment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations VSIDS performs on {@link HeapOfActiveAtoms}: bumping the activity of the atoms occurring in
+ * a learned nogood (followed by a decay check, as after each conflict), and draining the heap for choices.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeapOfActiveAtomsBenchmark {
+
+	private static final int BUMPED_ATOMS_PER_CONFLICT = 16;
+
+	@Param({"10000", "100000"})
+	private int numberOfAtoms;
+
+	private HeapOfActiveAtoms heap;
+	private int[] bumpOrder;
+	private int next;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		TrailAssignment assignment = new TrailAssignment(new AtomStoreImpl());
+		ChoiceManager choiceManager = new ChoiceManager(assignment, new NoGoodStoreAlphaRoaming(assignment));
+		heap = new HeapOfActiveAtoms(VSIDS.DEFAULT_DECAY_PERIOD, VSIDS.DEFAULT_DECAY_FACTOR, choiceManager);
+		heap.growToCapacity(numberOfAtoms + 1);
+		for (int atom = 1; atom <= numberOfAtoms; atom++) {
+			heap.incrementActivity(atom);
+		}
+		// Bump atoms in a fixed pseudo-random order, so that they move up the heap by varying distances.
+		bumpOrder = new int[numberOfAtoms];
+		for (int i = 0; i < numberOfAtoms; i++) {
+			bumpOrder[i] = 1 + (int) ((i * 7919L) % numberOfAtoms);
+		}
+		next = 0;
+	}
+
+	@Benchmark
+	public void bumpAfterConflict() {
+		for (int i = 0; i < BUMPED_ATOMS_PER_CONFLICT; i++) {
+			heap.incrementActivity(bumpOrder[next]);
+			next = next + 1 == numberOfAtoms ? 0 : next + 1;
+		}
+		heap.decayIfTimeHasCome();
+	}
+
+	@Benchmark
+	public int removeMostActiveAndReinsert() {
+		int atom = heap.getMostActiveAtom();
+		heap.incrementActivity(atom);
+		return atom;
+	}
+}
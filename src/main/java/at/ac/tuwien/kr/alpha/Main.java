@@ -30,7 +30,9 @@
 import at.ac.tuwien.kr.alpha.api.Alpha;
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
 import at.ac.tuwien.kr.alpha.common.AnswerSetFormatter;
+import at.ac.tuwien.kr.alpha.common.Metrics;
 import at.ac.tuwien.kr.alpha.common.SimpleAnswerSetFormatter;
+import at.ac.tuwien.kr.alpha.common.WeightedAnswerSet;
 import at.ac.tuwien.kr.alpha.common.depgraph.ComponentGraph;
 import at.ac.tuwien.kr.alpha.common.depgraph.DependencyGraph;
 import at.ac.tuwien.kr.alpha.common.graphio.ComponentGraphWriter;
@@ -57,7 +59,6 @@
 import java.nio.file.Paths;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -183,12 +184,19 @@ private static void computeAndConsumeAnswerSets(Alpha alpha, InputConfig inputCf
 			stream = stream.limit(limit);
 		}
 
-		if (!alpha.getConfig().isQuiet()) {
+		if (alpha.getConfig().isCountAnswerSets()) {
+			long count = solver.countAnswerSets(limit);
+			System.out.println("Answer sets: " + count);
+			System.out.println(count == 0 ? "UNSATISFIABLE" : "SATISFIABLE");
+		} else if (!alpha.getConfig().isQuiet()) {
 			AtomicInteger counter = new AtomicInteger(0);
 			final BiConsumer<Integer, AnswerSet> answerSetHandler;
 			final AnswerSetFormatter<String> fmt = new SimpleAnswerSetFormatter(alpha.getConfig().getAtomSeparator());
 			BiConsumer<Integer, AnswerSet> stdoutPrinter = (n, as) -> {
 				System.out.println("Answer set " + Integer.toString(n) + ":" + System.lineSeparator() + fmt.format(as));
+				if (as instanceof WeightedAnswerSet) {
+					System.out.println("Optimization: " + ((WeightedAnswerSet) as).getWeightsAsString());
+				}
 			};
 			if (inputCfg.isWriteAnswerSetsAsXlsx()) {
 				BiConsumer<Integer, AnswerSet> xlsxWriter = new AnswerSetToXlsxWriter(inputCfg.getAnswerSetFileOutputPath());
@@ -214,11 +222,41 @@ private static void computeAndConsumeAnswerSets(Alpha alpha, InputConfig inputCf
 			}
 		} else {
 			// Note: Even though we are not consuming the result, we will still compute
-			// answer sets.
-			stream.collect(Collectors.toList());
+			// answer sets, but without constructing them.
+			solver.countAnswerSets(limit);
 		}
+		// Stops solvers that enumerate answer sets in the background.
+		stream.close();
 		if (alpha.getConfig().isPrintStats()) {
-			((SolverMaintainingStatistics) solver).printStatistics();
+			if (solver instanceof SolverMaintainingStatistics) {
+				((SolverMaintainingStatistics) solver).printStatistics();
+			} else {
+				System.err.println("Solver does not maintain statistics.");
+			}
+		}
+		if (alpha.getConfig().isProfileGrounding()) {
+			solver.getGroundingProfile().printReport(System.out);
+		}
+		if (inputCfg.isWriteMetrics()) {
+			Metrics metrics = new Metrics(false);
+			metrics.addAll(alpha.getMetrics());
+			metrics.addAll(solver.getMetrics());
+			Main.writeMetrics(metrics, inputCfg.getMetricsPath());
+		}
+	}
+
+	/**
+	 * Writes the given {@link Metrics} as JSON to the destination passed as the second parameter
+	 * 
+	 * @param metrics the metrics to write
+	 * @param path    the path to write the metrics to
+	 */
+	private static void writeMetrics(Metrics metrics, String path) {
+		LOGGER.debug("Writing metrics to {}", path);
+		try (PrintStream ps = new PrintStream(new File(path))) {
+			ps.println(metrics.toJson());
+		} catch (IOException ex) {
+			Main.bailOut("Error writing metrics: " + ex.getMessage());
 		}
 	}
 
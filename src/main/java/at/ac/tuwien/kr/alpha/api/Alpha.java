@@ -28,9 +28,9 @@
 package at.ac.tuwien.kr.alpha.api;
 
 import at.ac.tuwien.kr.alpha.Util;
+import at.ac.tuwien.kr.alpha.antlr.ASPCore2Parser;
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
-import at.ac.tuwien.kr.alpha.common.AtomStore;
-import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.common.Metrics;
 import at.ac.tuwien.kr.alpha.common.Predicate;
 import at.ac.tuwien.kr.alpha.common.fixedinterpretations.PredicateInterpretation;
 import at.ac.tuwien.kr.alpha.common.program.AnalyzedProgram;
@@ -39,9 +39,6 @@
 import at.ac.tuwien.kr.alpha.common.program.NormalProgram;
 import at.ac.tuwien.kr.alpha.config.InputConfig;
 import at.ac.tuwien.kr.alpha.config.SystemConfig;
-import at.ac.tuwien.kr.alpha.grounder.Grounder;
-import at.ac.tuwien.kr.alpha.grounder.GrounderFactory;
-import at.ac.tuwien.kr.alpha.grounder.heuristics.GrounderHeuristicsConfiguration;
 import at.ac.tuwien.kr.alpha.grounder.parser.ProgramParser;
 import at.ac.tuwien.kr.alpha.grounder.transformation.NormalizeProgramTransformation;
 import at.ac.tuwien.kr.alpha.grounder.transformation.StratifiedEvaluation;
@@ -54,10 +51,12 @@
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.CodingErrorAction;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -68,52 +67,98 @@ public class Alpha {
 	private static final Logger LOGGER = LoggerFactory.getLogger(Alpha.class);
 
 	private SystemConfig config = new SystemConfig(); // The config is initialized with default values.
+	private Metrics metrics = new Metrics(SystemConfig.DEFAULT_COLLECT_METRICS);
 
 	public Alpha(SystemConfig cfg) {
 		this.config = cfg;
+		this.metrics = new Metrics(cfg.isCollectMetrics());
 	}
 
 	public Alpha() {
 	}
 
 	public InputProgram readProgram(InputConfig cfg) throws IOException {
-		InputProgram.Builder prgBuilder = InputProgram.builder();
-		InputProgram tmpProg;
-		if (!cfg.getFiles().isEmpty()) {
-			tmpProg = readProgramFiles(cfg.isLiterate(), cfg.getPredicateMethods(), cfg.getFiles());
-			prgBuilder.accumulate(tmpProg);
-		}
-		if (!cfg.getAspStrings().isEmpty()) {
-			tmpProg = readProgramString(StringUtils.join(cfg.getAspStrings(), System.lineSeparator()), cfg.getPredicateMethods());
-			prgBuilder.accumulate(tmpProg);
+		metrics.begin(Metrics.Phase.PARSE);
+		try {
+			InputProgram.Builder prgBuilder = InputProgram.builder();
+			InputProgram tmpProg;
+			if (!cfg.getFiles().isEmpty()) {
+				tmpProg = readProgramFiles(cfg.isLiterate(), cfg.getPredicateMethods(), cfg.getFiles());
+				prgBuilder.accumulate(tmpProg);
+			}
+			if (!cfg.getAspStrings().isEmpty()) {
+				tmpProg = readProgramString(StringUtils.join(cfg.getAspStrings(), System.lineSeparator()), cfg.getPredicateMethods());
+				prgBuilder.accumulate(tmpProg);
+			}
+			return prgBuilder.build();
+		} finally {
+			metrics.end(Metrics.Phase.PARSE);
 		}
-		return prgBuilder.build();
 	}
 
 	public InputProgram readProgramFiles(boolean literate, Map<String, PredicateInterpretation> externals, List<String> paths) throws IOException {
 		return readProgramFiles(literate, externals, paths.stream().map(Paths::get).collect(Collectors.toList()).toArray(new Path[] {}));
 	}
 
+	/**
+	 * Parses the given files and accumulates them into one {@link InputProgram}. Files are independent of each other
+	 * at parse time, so if there is more than one, they are parsed in parallel. The resulting program contains the
+	 * rules and facts of all files in the order in which the paths are given.
+	 */
 	public InputProgram readProgramFiles(boolean literate, Map<String, PredicateInterpretation> externals, Path... paths) throws IOException {
+		metrics.begin(Metrics.Phase.PARSE);
+		try {
+			return parseProgramFiles(literate, externals, paths);
+		} finally {
+			metrics.end(Metrics.Phase.PARSE);
+		}
+	}
+
+	private static InputProgram parseProgramFiles(boolean literate, Map<String, PredicateInterpretation> externals, Path... paths) throws IOException {
 		ProgramParser parser = new ProgramParser(externals);
 		InputProgram.Builder prgBuilder = InputProgram.builder();
-		InputProgram tmpProg;
-		for (Path path : paths) {
-			CharStream stream;
-			if (!literate) {
-				stream = CharStreams.fromPath(path);
-			} else {
-				stream = CharStreams.fromChannel(Util.streamToChannel(Util.literate(Files.lines(path))), 4096, CodingErrorAction.REPLACE, path.toString());
-			}
-			tmpProg = parser.parse(stream);
-			prgBuilder.accumulate(tmpProg);
+		if (paths.length == 1) {
+			return prgBuilder.accumulate(readProgramFile(parser, literate, paths[0])).build();
+		}
+		// Only parse trees are built in parallel. Translating them into programs names anonymous variables, which is done
+		// in file order such that the names do not depend on thread scheduling.
+		List<ASPCore2Parser.ProgramContext> parseTrees;
+		try {
+			parseTrees = Arrays.stream(paths).parallel().map((path) -> {
+				try {
+					return parser.parseTree(readCharStream(literate, path));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}).collect(Collectors.toList());
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		for (ASPCore2Parser.ProgramContext parseTree : parseTrees) {
+			prgBuilder.accumulate(parser.translate(parseTree));
 		}
 		return prgBuilder.build();
 	}
 
+	private static InputProgram readProgramFile(ProgramParser parser, boolean literate, Path path) throws IOException {
+		return parser.parse(readCharStream(literate, path));
+	}
+
+	private static CharStream readCharStream(boolean literate, Path path) throws IOException {
+		if (!literate) {
+			return CharStreams.fromPath(path);
+		}
+		return CharStreams.fromChannel(Util.streamToChannel(Util.literate(Files.lines(path))), 4096, CodingErrorAction.REPLACE, path.toString());
+	}
+
 	public InputProgram readProgramString(String aspString, Map<String, PredicateInterpretation> externals) {
-		ProgramParser parser = new ProgramParser(externals);
-		return parser.parse(aspString);
+		metrics.begin(Metrics.Phase.PARSE);
+		try {
+			ProgramParser parser = new ProgramParser(externals);
+			return parser.parse(aspString);
+		} finally {
+			metrics.end(Metrics.Phase.PARSE);
+		}
 	}
 
 	public InputProgram readProgramString(String aspString) {
@@ -121,7 +166,12 @@ public InputProgram readProgramString(String aspString) {
 	}
 
 	public NormalProgram normalizeProgram(InputProgram program) {
-		return new NormalizeProgramTransformation(config.isUseNormalizationGrid()).apply(program);
+		metrics.begin(Metrics.Phase.NORMALIZE);
+		try {
+			return new NormalizeProgramTransformation(config.isUseNormalizationGrid()).apply(program);
+		} finally {
+			metrics.end(Metrics.Phase.NORMALIZE);
+		}
 	}
 
 	public InternalProgram performProgramPreprocessing(InternalProgram program) {
@@ -129,7 +179,7 @@ public InternalProgram performProgramPreprocessing(InternalProgram program) {
 		InternalProgram retVal = program;
 		if (config.isEvaluateStratifiedPart()) {
 			AnalyzedProgram analyzed = new AnalyzedProgram(program.getRules(), program.getFacts());
-			retVal = new StratifiedEvaluation().apply(analyzed);
+			retVal = evaluateStratifiedPart(analyzed);
 		}
 		return retVal;
 	}
@@ -138,11 +188,20 @@ public InternalProgram performProgramPreprocessing(AnalyzedProgram program) {
 		LOGGER.debug("Preprocessing AnalyzedProgram!");
 		InternalProgram retVal = program;
 		if (config.isEvaluateStratifiedPart()) {
-			retVal = new StratifiedEvaluation().apply(program);
+			retVal = evaluateStratifiedPart(program);
 		}
 		return retVal;
 	}
 
+	private InternalProgram evaluateStratifiedPart(AnalyzedProgram program) {
+		metrics.begin(Metrics.Phase.STRATIFIED_EVALUATION);
+		try {
+			return new StratifiedEvaluation().apply(program);
+		} finally {
+			metrics.end(Metrics.Phase.STRATIFIED_EVALUATION);
+		}
+	}
+
 	/**
 	 * Convenience method - overloaded version of solve({@link InternalProgram}) for cases where details of the
 	 * program analysis and normalization aren't of interest.
@@ -202,17 +261,7 @@ public Stream<AnswerSet> solve(InternalProgram program, java.util.function.Predi
 	 * @return a solver (and accompanying grounder) instance pre-loaded with the given program.
 	 */
 	public Solver prepareSolverFor(InternalProgram program, java.util.function.Predicate<Predicate> filter) {
-		String grounderName = config.getGrounderName();
-		boolean doDebugChecks = config.isDebugInternalChecks();
-
-		GrounderHeuristicsConfiguration grounderHeuristicConfiguration = GrounderHeuristicsConfiguration
-				.getInstance(config.getGrounderToleranceConstraints(), config.getGrounderToleranceRules());
-		grounderHeuristicConfiguration.setAccumulatorEnabled(config.isGrounderAccumulatorEnabled());
-
-		AtomStore atomStore = new AtomStoreImpl();
-		Grounder grounder = GrounderFactory.getInstance(grounderName, program, atomStore, filter, grounderHeuristicConfiguration, doDebugChecks);
-
-		return SolverFactory.getInstance(config, atomStore, grounder);
+		return SolverFactory.getInstance(config, program, filter);
 	}
 
 	public SystemConfig getConfig() {
@@ -221,6 +270,16 @@ public SystemConfig getConfig() {
 
 	public void setConfig(SystemConfig config) {
 		this.config = config;
+		this.metrics = new Metrics(config.isCollectMetrics());
+	}
+
+	/**
+	 * Returns the metrics of parsing, normalization and stratified evaluation done by this instance, which are only
+	 * collected if enabled by {@link SystemConfig#isCollectMetrics()}. Metrics of solving are kept by the solver, see
+	 * {@link Solver#getMetrics()}.
+	 */
+	public Metrics getMetrics() {
+		return metrics;
 	}
 
 }
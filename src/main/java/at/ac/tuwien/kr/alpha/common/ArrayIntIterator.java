@@ -0,0 +1,32 @@
+package at.ac.tuwien.kr.alpha.common;
+
+/**
+ * An {@link IntIterator} over the first elements of an int array. The array is not copied, hence it must not be
+ * modified while iterating.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public final class ArrayIntIterator implements IntIterator {
+	private final int[] values;
+	private final int size;
+	private int position;
+
+	/**
+	 * @param values the array to iterate over.
+	 * @param size the number of elements of the array to iterate over, starting at index 0.
+	 */
+	public ArrayIntIterator(int[] values, int size) {
+		this.values = values;
+		this.size = size;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < size;
+	}
+
+	@Override
+	public int next() {
+		return values[position++];
+	}
+}
@@ -30,12 +30,13 @@
 import at.ac.tuwien.kr.alpha.solver.Antecedent;
 import at.ac.tuwien.kr.alpha.solver.ThriceTruth;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import static at.ac.tuwien.kr.alpha.common.Literals.atomOf;
 import static at.ac.tuwien.kr.alpha.common.Literals.isNegated;
 
-public interface Assignment {
+public interface Assignment extends TruthView {
 	Entry get(int atom);
 
 	/**
@@ -43,6 +44,7 @@ public interface Assignment {
 	 * @param atom the id of the atom.
 	 * @return the truth value; null if atomId is not assigned.
 	 */
+	@Override
 	default ThriceTruth getTruth(int atom) {
 		final Entry entry = get(atom);
 		return entry == null ? null : entry.getTruth();
@@ -62,6 +64,7 @@ default ThriceTruth getTruth(int atom) {
 	 */
 	int getStrongDecisionLevel(int atom);
 
+	@Override
 	boolean isAssigned(int atom);
 
 	/**
@@ -144,11 +147,32 @@ default boolean violates(NoGood noGood) {
 		return true;
 	}
 
+	/**
+	 * Returns an iterator over all atomIds that are assigned TRUE in the current assignment. The iterator must not be
+	 * used after the assignment changed.
+	 * @return an iterator over all true assigned atoms.
+	 */
+	IntIterator getTrueAtoms();
+
+	/**
+	 * Returns an iterator over all atomIds over the given predicate that are assigned (to any truth value) in the
+	 * current assignment, in no particular order. The iterator must not be used after the assignment changed.
+	 * @param predicate the predicate of the atoms.
+	 * @return an iterator over all assigned atoms over the predicate.
+	 */
+	IntIterator getAssignedAtoms(Predicate predicate);
+
 	/**
 	 * Returns all atomIds that are assigned TRUE in the current assignment.
-	 * @return a list of all true assigned atoms.
+	 * @return a set of all true assigned atoms.
 	 */
-	Set<Integer> getTrueAssignments();
+	default Set<Integer> getTrueAssignments() {
+		Set<Integer> result = new HashSet<>();
+		for (IntIterator it = getTrueAtoms(); it.hasNext();) {
+			result.add(it.next());
+		}
+		return result;
+	}
 
 	/**
 	 * Reports how many atoms are assigned to must-be-true currently. If this method returns
@@ -160,6 +184,13 @@ default boolean violates(NoGood noGood) {
 
 	void backtrack();
 
+	/**
+	 * Returns the current epoch of the assignment, which changes whenever the truth value of some atom changes. Hence
+	 * results computed from the assignment may be cached for as long as its epoch remains the same.
+	 * @return the current epoch.
+	 */
+	long getEpoch();
+
 	/**
 	 * Grows all internal data structures to accommodate for all atoms known.
 	 */
@@ -33,18 +33,26 @@
 import at.ac.tuwien.kr.alpha.solver.AtomCounter;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
 import static at.ac.tuwien.kr.alpha.Util.oops;
 
 /**
  * This class stores ground atoms and provides the translation from an (integer) atomId to a (structured) predicate instance.
+ *
+ * Atoms are added by one thread (the one grounding), but may be looked up by other threads concurrently, e.g., by the
+ * solver while an asynchronous grounder adds atoms. A new atom is published by a volatile write of the number of atoms
+ * after it has been stored, hence every thread reading the number of atoms (as all lookups do) sees all atoms up to it.
  */
 public class AtomStoreImpl implements AtomStore {
-	private final List<Atom> atomIdsToInternalBasicAtoms = new ArrayList<>();
-	private final Map<Atom, Integer> predicateInstancesToAtomIds = new HashMap<>();
+	private volatile Atom[] atomIdsToInternalBasicAtoms = new Atom[16];
+	// The number of atomIds in use, including the one of falsum.
+	private volatile int numberOfAtomIds;
+	private final Map<Atom, Integer> predicateInstancesToAtomIds = new ConcurrentHashMap<>();
 	private final IntIdGenerator atomIdGenerator = new IntIdGenerator(1);
 	private final AtomCounter atomCounter = new AtomCounter();
 
@@ -52,7 +60,7 @@ public class AtomStoreImpl implements AtomStore {
 
 	public AtomStoreImpl() {
 		// Create atomId for falsum (currently not needed, but it gets atomId 0, which cannot represent a negated literal).
-		atomIdsToInternalBasicAtoms.add(null);
+		numberOfAtomIds = 1;
 	}
 
 	@Override
@@ -65,8 +73,15 @@ public int putIfAbsent(Atom groundAtom) {
 
 		if (id == null) {
 			id = atomIdGenerator.getNextId();
+			Atom[] atoms = atomIdsToInternalBasicAtoms;
+			if (id >= atoms.length) {
+				atoms = Arrays.copyOf(atoms, arrayGrowthSize(atoms.length));
+				atomIdsToInternalBasicAtoms = atoms;
+			}
+			atoms[id] = groundAtom;
+			// Publish the atom before its atomId can be found.
+			numberOfAtomIds = id + 1;
 			predicateInstancesToAtomIds.put(groundAtom, id);
-			atomIdsToInternalBasicAtoms.add(id, groundAtom);
 			atomCounter.add(groundAtom);
 		}
 
@@ -107,16 +122,16 @@ public boolean isAtomChoicePoint(int atom) {
 
 	@Override
 	public int getMaxAtomId() {
-		return atomIdsToInternalBasicAtoms.size() - 1;
+		return numberOfAtomIds - 1;
 	}
 
 	@Override
 	public Atom get(int atom) {
-		try {
-			return atomIdsToInternalBasicAtoms.get(atom);
-		} catch (IndexOutOfBoundsException e) {
-			throw oops("Unknown atom ID encountered: " + atom, e);
+		// Read the number of atoms first, such that all atoms up to it are visible.
+		if (atom < 0 || atom >= numberOfAtomIds) {
+			throw oops("Unknown atom ID encountered: " + atom);
 		}
+		return atomIdsToInternalBasicAtoms[atom];
 	}
 
 	@Override
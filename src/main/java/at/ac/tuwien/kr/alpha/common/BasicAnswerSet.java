@@ -76,7 +76,8 @@ public boolean equals(Object o) {
 			return true;
 		}
 		if (!(o instanceof BasicAnswerSet)) {
-			return false;
+			// Other implementations (e.g. LazyAnswerSet) compare by contents.
+			return o instanceof AnswerSet && o.equals(this);
 		}
 
 		BasicAnswerSet that = (BasicAnswerSet) o;
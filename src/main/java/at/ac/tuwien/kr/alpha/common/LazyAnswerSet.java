@@ -0,0 +1,166 @@
+package at.ac.tuwien.kr.alpha.common;
+
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * An {@link AnswerSet} that is backed by the ids of the atoms that are true in a model and by atoms stemming from facts
+ * of the program, which are shared among all answer sets of that program. Nothing is resolved upon construction: the
+ * set of predicates is computed when it is first requested, the (sorted) instances of a predicate are only computed
+ * when that predicate is accessed. The cost of an answer set hence is proportional to what is actually read from it.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class LazyAnswerSet implements AnswerSet {
+	private final int[] trueAtoms;
+	private final int numTrueAtoms;
+	private final AtomStore atomStore;
+	private final java.util.function.Predicate<Predicate> filter;
+	private final Map<Predicate, SortedSet<Atom>> factInstances;
+
+	private SortedSet<Predicate> predicates;
+	private Map<Predicate, List<Atom>> trueAtomsByPredicate;
+	private final Map<Predicate, SortedSet<Atom>> predicateInstances = new HashMap<>();
+
+	/**
+	 * @param trueAtoms     the ids of the atoms true in the answer set, only the first numTrueAtoms entries are used.
+	 * @param numTrueAtoms  the number of valid entries in trueAtoms.
+	 * @param atomStore     the {@link AtomStore} used to resolve atom ids.
+	 * @param filter        the filter which predicates must pass in order to show up in the answer set.
+	 * @param factInstances the (already filtered) atoms stemming from facts, per predicate. These sets are shared
+	 *                      and hence never modified.
+	 */
+	public LazyAnswerSet(int[] trueAtoms, int numTrueAtoms, AtomStore atomStore, java.util.function.Predicate<Predicate> filter,
+			Map<Predicate, SortedSet<Atom>> factInstances) {
+		this.trueAtoms = trueAtoms;
+		this.numTrueAtoms = numTrueAtoms;
+		this.atomStore = atomStore;
+		this.filter = filter;
+		this.factInstances = factInstances;
+	}
+
+	@Override
+	public SortedSet<Predicate> getPredicates() {
+		if (predicates == null) {
+			resolvePredicates();
+		}
+		return predicates;
+	}
+
+	private void resolvePredicates() {
+		trueAtomsByPredicate = new HashMap<>();
+		predicates = new TreeSet<>(factInstances.keySet());
+		for (int i = 0; i < numTrueAtoms; i++) {
+			final Atom atom = atomStore.get(trueAtoms[i]);
+			final Predicate predicate = atom.getPredicate();
+			// Skip atoms over internal predicates and filtered predicates.
+			if (predicate.isInternal() || !filter.test(predicate)) {
+				continue;
+			}
+			trueAtomsByPredicate.computeIfAbsent(predicate, p -> new ArrayList<>()).add(atom);
+			predicates.add(predicate);
+		}
+	}
+
+	@Override
+	public SortedSet<Atom> getPredicateInstances(Predicate predicate) {
+		SortedSet<Atom> instances = predicateInstances.get(predicate);
+		if (instances != null) {
+			return instances;
+		}
+		if (trueAtomsByPredicate == null) {
+			resolvePredicates();
+		}
+		final List<Atom> derivedInstances = trueAtomsByPredicate.get(predicate);
+		final SortedSet<Atom> factsOfPredicate = factInstances.get(predicate);
+		if (derivedInstances == null) {
+			return factsOfPredicate;
+		}
+		instances = new TreeSet<>(derivedInstances);
+		if (factsOfPredicate != null) {
+			instances.addAll(factsOfPredicate);
+		}
+		predicateInstances.put(predicate, instances);
+		return instances;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return getPredicates().isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		if (isEmpty()) {
+			return "{}";
+		}
+
+		final StringBuilder sb = new StringBuilder("{ ");
+		for (Iterator<Predicate> iterator = getPredicates().iterator(); iterator.hasNext();) {
+			Predicate predicate = iterator.next();
+			Set<Atom> instances = getPredicateInstances(predicate);
+
+			if (instances == null || instances.isEmpty()) {
+				sb.append(predicate.getName());
+				continue;
+			}
+
+			for (Iterator<Atom> instanceIterator = instances.iterator(); instanceIterator.hasNext();) {
+				sb.append(instanceIterator.next());
+				if (instanceIterator.hasNext()) {
+					sb.append(", ");
+				}
+			}
+
+			if (iterator.hasNext()) {
+				sb.append(", ");
+			}
+		}
+		sb.append(" }");
+		return sb.toString();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof AnswerSet)) {
+			return false;
+		}
+
+		AnswerSet that = (AnswerSet) o;
+
+		if (!getPredicates().equals(that.getPredicates())) {
+			return false;
+		}
+
+		for (Predicate predicate : getPredicates()) {
+			if (!Objects.equals(getPredicateInstances(predicate), that.getPredicateInstances(predicate))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the same hash code as {@link BasicAnswerSet#hashCode()} does for an answer set of equal contents.
+	 */
+	@Override
+	public int hashCode() {
+		int instancesHashCode = 0;
+		for (Predicate predicate : getPredicates()) {
+			instancesHashCode += Objects.hashCode(predicate) ^ Objects.hashCode(getPredicateInstances(predicate));
+		}
+		return 31 * getPredicates().hashCode() + instancesHashCode;
+	}
+}
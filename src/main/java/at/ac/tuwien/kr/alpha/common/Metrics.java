@@ -0,0 +1,150 @@
+package at.ac.tuwien.kr.alpha.common;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Records wall time, number of calls, and an estimate of the bytes allocated for each {@link Phase} of solving a
+ * program. A phase is measured from {@link #begin(Phase)} to the matching {@link #end(Phase)}; nested calls for the
+ * same phase are counted as one call of the outermost one. Allocations are those of the measuring thread, as reported
+ * by the JVM if it supports this (see {@link #isAllocationTrackingSupported()}).
+ *
+ * Metrics are recorded only if enabled, otherwise {@link #begin(Phase)} and {@link #end(Phase)} do nothing. Recorded
+ * metrics of several registries can be summed up by {@link #addAll(Metrics)} regardless of this. A registry is not
+ * thread-safe, hence each solver records into its own one.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class Metrics {
+	private static final com.sun.management.ThreadMXBean ALLOCATION_TRACKER = getAllocationTracker();
+
+	public enum Phase {
+		PARSE,
+		NORMALIZE,
+		STRATIFIED_EVALUATION,
+		BOOTSTRAP_GROUNDING,
+		INCREMENTAL_GROUNDING,
+		PROPAGATION,
+		CONFLICT_ANALYSIS,
+		JUSTIFICATION,
+		ANSWER_SET_TRANSLATION;
+
+		public String getName() {
+			return name().toLowerCase(Locale.ROOT);
+		}
+	}
+
+	private final boolean enabled;
+	private final long[] calls = new long[Phase.values().length];
+	private final long[] wallTimeNanos = new long[Phase.values().length];
+	private final long[] allocatedBytes = new long[Phase.values().length];
+
+	// Nesting depth and start values of phases currently measured.
+	private final int[] depths = new int[Phase.values().length];
+	private final long[] startNanos = new long[Phase.values().length];
+	private final long[] startAllocatedBytes = new long[Phase.values().length];
+
+	public Metrics(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	private static com.sun.management.ThreadMXBean getAllocationTracker() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+			return null;
+		}
+		com.sun.management.ThreadMXBean allocationTracker = (com.sun.management.ThreadMXBean) threadMXBean;
+		if (!allocationTracker.isThreadAllocatedMemorySupported() || !allocationTracker.isThreadAllocatedMemoryEnabled()) {
+			return null;
+		}
+		return allocationTracker;
+	}
+
+	/**
+	 * @return true iff the JVM reports the bytes allocated by a thread, otherwise no allocations are recorded.
+	 */
+	public static boolean isAllocationTrackingSupported() {
+		return ALLOCATION_TRACKER != null;
+	}
+
+	private static long currentThreadAllocatedBytes() {
+		return ALLOCATION_TRACKER == null ? 0 : ALLOCATION_TRACKER.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void begin(Phase phase) {
+		if (!enabled) {
+			return;
+		}
+		int i = phase.ordinal();
+		if (depths[i]++ == 0) {
+			startAllocatedBytes[i] = currentThreadAllocatedBytes();
+			startNanos[i] = System.nanoTime();
+		}
+	}
+
+	public void end(Phase phase) {
+		if (!enabled) {
+			return;
+		}
+		int i = phase.ordinal();
+		if (depths[i] == 0) {
+			throw new IllegalStateException("Phase " + phase.getName() + " ended without having begun.");
+		}
+		if (--depths[i] == 0) {
+			wallTimeNanos[i] += System.nanoTime() - startNanos[i];
+			allocatedBytes[i] += currentThreadAllocatedBytes() - startAllocatedBytes[i];
+			calls[i]++;
+		}
+	}
+
+	public long getCalls(Phase phase) {
+		return calls[phase.ordinal()];
+	}
+
+	public long getWallTimeNanos(Phase phase) {
+		return wallTimeNanos[phase.ordinal()];
+	}
+
+	public long getAllocatedBytes(Phase phase) {
+		return allocatedBytes[phase.ordinal()];
+	}
+
+	/**
+	 * Adds the metrics recorded by the given registry to the ones of this registry.
+	 */
+	public void addAll(Metrics other) {
+		for (int i = 0; i < calls.length; i++) {
+			calls[i] += other.calls[i];
+			wallTimeNanos[i] += other.wallTimeNanos[i];
+			allocatedBytes[i] += other.allocatedBytes[i];
+		}
+	}
+
+	/**
+	 * @return a JSON object holding, for each phase, the number of calls, the wall time (in nanoseconds) and the
+	 *         allocated bytes.
+	 */
+	public String toJson() {
+		StringBuilder sb = new StringBuilder("{\n");
+		sb.append("\t\"allocationTracking\": ").append(isAllocationTrackingSupported()).append(",\n");
+		sb.append("\t\"phases\": {\n");
+		for (Phase phase : Phase.values()) {
+			sb.append("\t\t\"").append(phase.getName()).append("\": {");
+			sb.append("\"calls\": ").append(getCalls(phase));
+			sb.append(", \"wallTimeNanos\": ").append(getWallTimeNanos(phase));
+			sb.append(", \"allocatedBytes\": ").append(getAllocatedBytes(phase));
+			sb.append(phase.ordinal() < Phase.values().length - 1 ? "},\n" : "}\n");
+		}
+		return sb.append("\t}\n}").toString();
+	}
+
+	@Override
+	public String toString() {
+		return toJson();
+	}
+}
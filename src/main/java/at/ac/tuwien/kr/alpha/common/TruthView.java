@@ -0,0 +1,22 @@
+package at.ac.tuwien.kr.alpha.common;
+
+import at.ac.tuwien.kr.alpha.solver.ThriceTruth;
+
+/**
+ * A read-only view on the truth values of atoms, which is all a {@link at.ac.tuwien.kr.alpha.grounder.Grounder} needs
+ * of the assignment to ground new nogoods. Atoms created after the assignment last grew (e.g., by the current grounding
+ * run) are unassigned.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public interface TruthView {
+
+	/**
+	 * Returns the truth value assigned to an atom.
+	 * @param atom the id of the atom.
+	 * @return the truth value; null if the atom is not assigned.
+	 */
+	ThriceTruth getTruth(int atom);
+
+	boolean isAssigned(int atom);
+}
@@ -0,0 +1,90 @@
+package at.ac.tuwien.kr.alpha.common;
+
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * An {@link AnswerSet} of a program with weak constraints, which additionally carries the weights of the violated
+ * weak constraints per level. Equality only considers the atoms of the answer set, as for any other answer set.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class WeightedAnswerSet implements AnswerSet {
+	private final AnswerSet answerSet;
+	private final SortedMap<Integer, Long> weights;
+
+	/**
+	 * @param answerSet the answer set.
+	 * @param weights   the sum of weights per level, levels without weight may be omitted.
+	 */
+	public WeightedAnswerSet(AnswerSet answerSet, SortedMap<Integer, Long> weights) {
+		this.answerSet = answerSet;
+		this.weights = Collections.unmodifiableSortedMap(weights);
+	}
+
+	/**
+	 * @return the sum of weights per level, in ascending order of levels.
+	 */
+	public SortedMap<Integer, Long> getWeights() {
+		return weights;
+	}
+
+	/**
+	 * @return the weights in the form weight@level, starting at the highest level.
+	 */
+	public String getWeightsAsString() {
+		if (weights.isEmpty()) {
+			return "0@0";
+		}
+		StringBuilder sb = new StringBuilder();
+		for (Iterator<Map.Entry<Integer, Long>> iterator = weights.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<Integer, Long> weightAtLevel = iterator.next();
+			sb.insert(0, weightAtLevel.getValue() + "@" + weightAtLevel.getKey());
+			if (iterator.hasNext()) {
+				sb.insert(0, " ");
+			}
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public SortedSet<Predicate> getPredicates() {
+		return answerSet.getPredicates();
+	}
+
+	@Override
+	public SortedSet<Atom> getPredicateInstances(Predicate predicate) {
+		return answerSet.getPredicateInstances(predicate);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return answerSet.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return answerSet.toString();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o instanceof WeightedAnswerSet) {
+			return answerSet.equals(((WeightedAnswerSet) o).answerSet);
+		}
+		return answerSet.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		return answerSet.hashCode();
+	}
+}
@@ -0,0 +1,26 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+/**
+ * Creates and commits the events of {@link FlightRecorderEvents}. The implementation refers to the JFR API and lives in
+ * the source set {@code src/jfr}, which is only compiled by JDKs providing that API, hence it is loaded by name.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+interface EventEmitter {
+
+	Object beginGroundingRound();
+
+	void endGroundingRound(Object begun, boolean bootstrap, int noGoods);
+
+	void commitConflict(int learnedNoGoodSize, int lbd, int backjumpDistance);
+
+	Object beginNoGoodDeletion();
+
+	void endNoGoodDeletion(Object begun, int deletedNoGoods, int coreTierSize, int midTierSize, int localTierSize);
+
+	Object beginJustification();
+
+	void endJustification(Object begun, int mbtAtoms, int reasons);
+
+	void commitAnswerSet(int decisionLevel, int choices, int backjumps);
+}
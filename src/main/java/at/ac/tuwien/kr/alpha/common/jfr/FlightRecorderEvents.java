@@ -0,0 +1,106 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+/**
+ * Emits Java Flight Recorder events for grounding rounds, conflicts, runs of learned nogood deletion, justifications
+ * and answer sets found, such that slow phases in a recording can be related to what the solver was doing. Events
+ * are named {@code at.ac.tuwien.kr.alpha.*} and belong to the category "Alpha".
+ *
+ * The JFR API is part of JDK 11 and later and of JDK 8 from update 262 on. The event classes are therefore built
+ * from the source set {@code src/jfr} only by a JDK providing the API. All methods do nothing if the event classes
+ * were not built or the JVM lacks the API. If no recording is running (or a recording disables the events), a method
+ * costs a check whether the event is enabled and one short-lived object.
+ *
+ * Events with a duration are begun by a {@code begin*} method that returns the event to pass to the matching
+ * {@code end*} method, or null if the event is not recorded, such that callers need not refer to any JFR type.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public final class FlightRecorderEvents {
+	private static final String EMITTER_CLASS = "at.ac.tuwien.kr.alpha.common.jfr.JfrEventEmitter";
+	private static final EventEmitter EMITTER = loadEmitter();
+
+	private FlightRecorderEvents() {
+	}
+
+	private static EventEmitter loadEmitter() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return (EventEmitter) Class.forName(EMITTER_CLASS).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return true iff the JVM provides the JFR API and the event classes are present, otherwise no events are emitted.
+	 */
+	public static boolean isAvailable() {
+		return EMITTER != null;
+	}
+
+	public static Object beginGroundingRound() {
+		return EMITTER != null ? EMITTER.beginGroundingRound() : null;
+	}
+
+	/**
+	 * @param bootstrap whether the grounding round grounded the rules that need no assignment.
+	 * @param noGoods   the number of new nogoods derived.
+	 */
+	public static void endGroundingRound(Object event, boolean bootstrap, int noGoods) {
+		if (event != null) {
+			EMITTER.endGroundingRound(event, bootstrap, noGoods);
+		}
+	}
+
+	/**
+	 * @param learnedNoGoodSize the size of the learned nogood, 0 if none was learned.
+	 * @param lbd               the literals blocks distance of the learned nogood.
+	 * @param backjumpDistance  the number of decision levels the solver backjumps.
+	 */
+	public static void conflict(int learnedNoGoodSize, int lbd, int backjumpDistance) {
+		if (EMITTER != null) {
+			EMITTER.commitConflict(learnedNoGoodSize, lbd, backjumpDistance);
+		}
+	}
+
+	public static Object beginNoGoodDeletion() {
+		return EMITTER != null ? EMITTER.beginNoGoodDeletion() : null;
+	}
+
+	/**
+	 * @param deletedNoGoods the number of learned nogoods deleted by the run.
+	 * @param coreTierSize   the number of learned nogoods in the core tier after the run.
+	 * @param midTierSize    the number of learned nogoods in the mid tier after the run.
+	 * @param localTierSize  the number of learned nogoods in the local tier after the run.
+	 */
+	public static void endNoGoodDeletion(Object event, int deletedNoGoods, int coreTierSize, int midTierSize, int localTierSize) {
+		if (event != null) {
+			EMITTER.endNoGoodDeletion(event, deletedNoGoods, coreTierSize, midTierSize, localTierSize);
+		}
+	}
+
+	public static Object beginJustification() {
+		return EMITTER != null ? EMITTER.beginJustification() : null;
+	}
+
+	/**
+	 * @param mbtAtoms the number of atoms assigned must-be-true.
+	 * @param reasons  the number of literals why the atom to justify is unjustified.
+	 */
+	public static void endJustification(Object event, int mbtAtoms, int reasons) {
+		if (event != null) {
+			EMITTER.endJustification(event, mbtAtoms, reasons);
+		}
+	}
+
+	/**
+	 * @param decisionLevel the decision level the answer set was found at.
+	 * @param choices       the number of choices made so far.
+	 * @param backjumps     the number of backjumps made so far.
+	 */
+	public static void answerSet(int decisionLevel, int choices, int backjumps) {
+		if (EMITTER != null) {
+			EMITTER.commitAnswerSet(decisionLevel, choices, backjumps);
+		}
+	}
+}
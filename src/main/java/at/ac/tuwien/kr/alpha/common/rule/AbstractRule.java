@@ -23,9 +23,19 @@
 	private final H head;
 	private final Set<Literal> bodyLiteralsPositive;
 	private final Set<Literal> bodyLiteralsNegative;
+	private final SourcePosition sourcePosition;
 
 	public AbstractRule(H head, List<Literal> body) {
+		this(head, body, null);
+	}
+
+	/**
+	 * @param sourcePosition the position of the rule in the input (or of the rule it is derived from), null if the rule
+	 *                       does not stem from the input. The position is not part of the rule's identity.
+	 */
+	public AbstractRule(H head, List<Literal> body, SourcePosition sourcePosition) {
 		this.head = head;
+		this.sourcePosition = sourcePosition;
 		Set<Literal> positiveBody = new LinkedHashSet<>();
 		Set<Literal> negativeBody = new LinkedHashSet<>();
 		for (Literal bodyLiteral : body) {
@@ -105,6 +115,13 @@ public Set<Literal> getNegativeBody() {
 		return this.bodyLiteralsNegative;
 	}
 
+	/**
+	 * @return the position of the rule in the input (or of the rule it is derived from), null if unknown.
+	 */
+	public SourcePosition getSourcePosition() {
+		return this.sourcePosition;
+	}
+
 	@Override
 	public int hashCode() {
 		return Objects.hash(bodyLiteralsNegative, bodyLiteralsPositive, head);
@@ -42,4 +42,8 @@ public BasicRule(Head head, List<Literal> body) {
 		super(head, body);
 	}
 
+	public BasicRule(Head head, List<Literal> body, SourcePosition sourcePosition) {
+		super(head, body, sourcePosition);
+	}
+
 }
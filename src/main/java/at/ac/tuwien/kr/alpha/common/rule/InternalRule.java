@@ -57,7 +57,11 @@ public class InternalRule extends NormalRule {
 	private final RuleGroundingOrders groundingOrders;
 
 	public InternalRule(NormalHead head, List<Literal> body) {
-		super(head, body);
+		this(head, body, null);
+	}
+
+	public InternalRule(NormalHead head, List<Literal> body, SourcePosition sourcePosition) {
+		super(head, body, sourcePosition);
 		if (body.isEmpty()) {
 			throw new IllegalArgumentException(
 					"Empty bodies are not supported for InternalRule! (Head = " + (head == null ? "NULL" : head.getAtom().toString()) + ")");
@@ -90,7 +94,8 @@ public static void resetIdGenerator() {
 	}
 
 	public static InternalRule fromNormalRule(NormalRule rule) {
-		return new InternalRule(rule.isConstraint() ? null : new NormalHead(rule.getHeadAtom()), new ArrayList<>(rule.getBody()));
+		return new InternalRule(rule.isConstraint() ? null : new NormalHead(rule.getHeadAtom()), new ArrayList<>(rule.getBody()),
+				rule.getSourcePosition());
 	}
 
 	/**
@@ -117,7 +122,7 @@ public InternalRule renameVariables(String newVariablePostfix) {
 		for (Literal literal : this.getBody()) {
 			renamedBody.add(literal.substitute(variableReplacement));
 		}
-		return new InternalRule(new NormalHead(renamedHeadAtom), renamedBody);
+		return new InternalRule(new NormalHead(renamedHeadAtom), renamedBody, getSourcePosition());
 	}
 
 	/**
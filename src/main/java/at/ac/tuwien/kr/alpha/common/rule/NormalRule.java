@@ -20,6 +20,10 @@ public NormalRule(NormalHead head, List<Literal> body) {
 		super(head, body);
 	}
 
+	public NormalRule(NormalHead head, List<Literal> body, SourcePosition sourcePosition) {
+		super(head, body, sourcePosition);
+	}
+
 	public static NormalRule fromBasicRule(BasicRule rule) {
 		Atom headAtom = null;
 		if (!rule.isConstraint()) {
@@ -28,7 +32,7 @@ public static NormalRule fromBasicRule(BasicRule rule) {
 			}
 			headAtom = ((NormalHead) rule.getHead()).getAtom();
 		}
-		return new NormalRule(headAtom != null ? new NormalHead(headAtom) : null, new ArrayList<>(rule.getBody()));
+		return new NormalRule(headAtom != null ? new NormalHead(headAtom) : null, new ArrayList<>(rule.getBody()), rule.getSourcePosition());
 	}
 
 	public boolean isGround() {
@@ -0,0 +1,41 @@
+package at.ac.tuwien.kr.alpha.common.rule;
+
+/**
+ * The position in the input at which a rule starts. Rules derived from a rule during normalization keep its position,
+ * hence every rule a grounder works on can be traced back to the input.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public final class SourcePosition {
+	private final String sourceName;
+	private final int line;
+	private final int column;
+
+	/**
+	 * @param sourceName the name of the input (e.g., a file name), null if unknown.
+	 * @param line       the line, starting at 1.
+	 * @param column     the column, starting at 1.
+	 */
+	public SourcePosition(String sourceName, int line, int column) {
+		this.sourceName = sourceName;
+		this.line = line;
+		this.column = column;
+	}
+
+	public String getSourceName() {
+		return sourceName;
+	}
+
+	public int getLine() {
+		return line;
+	}
+
+	public int getColumn() {
+		return column;
+	}
+
+	@Override
+	public String toString() {
+		return (sourceName != null ? sourceName + ":" : "") + line + ":" + column;
+	}
+}
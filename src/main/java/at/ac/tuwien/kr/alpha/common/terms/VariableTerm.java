@@ -27,7 +27,12 @@ public static VariableTerm getInstance(String variableName) {
 	}
 
 	public static VariableTerm getAnonymousInstance() {
-		return getInstance(ANONYMOUS_VARIABLE_PREFIX + ANONYMOUS_VARIABLE_COUNTER.getNextId());
+		// Several programs may be parsed by concurrent threads, hence obtaining the next id must not race.
+		int id;
+		synchronized (ANONYMOUS_VARIABLE_COUNTER) {
+			id = ANONYMOUS_VARIABLE_COUNTER.getNextId();
+		}
+		return getInstance(ANONYMOUS_VARIABLE_PREFIX + id);
 	}
 
 	@Override
@@ -29,6 +29,8 @@
 
 import at.ac.tuwien.kr.alpha.solver.BinaryNoGoodPropagationEstimation;
 import at.ac.tuwien.kr.alpha.solver.heuristics.BranchingHeuristicFactory.Heuristic;
+import at.ac.tuwien.kr.alpha.solver.heuristics.PhaseSavingHeuristic;
+import at.ac.tuwien.kr.alpha.solver.restarts.RestartStrategyFactory;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.HelpFormatter;
@@ -85,6 +87,9 @@ public class CommandLineParser {
 			.desc("Write a dot file with the input program's dependency graph").build();
 	private static final Option OPT_WRITE_COMPGRAPH = Option.builder("wcg").longOpt("writeComponentGraph").hasArg(true).argName("target")
 			.desc("Write a dot file with the input program's component graph").build();
+	private static final Option OPT_WRITE_METRICS = Option.builder("wm").longOpt("writeMetrics").hasArg(true).argName("target")
+			.desc("Write wall time, call counts and allocations of the phases of solving to a JSON file (default target: "
+					+ InputConfig.DEFAULT_METRICS_TARGET_FILE + ")").build();
 	private static final Option OPT_WRITE_XSLX = Option.builder("wx").longOpt("write-xlsx").hasArg(true).argName("path").type(String.class)
 			.desc("Write answer sets to excel files, i.e. xlsx workbooks (one workbook per answer set)").build();
 
@@ -92,7 +97,28 @@ public class CommandLineParser {
 	private static final Option OPT_GROUNDER = Option.builder("g").longOpt("grounder").hasArg(true).argName("grounder")
 			.desc("the grounder implementation to use (default: " + SystemConfig.DEFAULT_GROUNDER_NAME + ")").build();
 	private static final Option OPT_SOLVER = Option.builder("s").longOpt("solver").hasArg(true).argName("solver")
-			.desc("the solver implementation to use (default: " + SystemConfig.DEFAULT_SOLVER_NAME + ")").build();
+			.desc("the solver implementation to use, portfolio runs several differently configured default solvers in parallel, "
+					+ "parallel enumerates disjoint parts of the search space in parallel (default: "
+					+ SystemConfig.DEFAULT_SOLVER_NAME + ")").build();
+	private static final Option OPT_PORTFOLIO_WORKERS = Option.builder("pw").longOpt("portfolioWorkers").hasArg(true).argName("number")
+			.type(Integer.class).desc("the number of solvers run in parallel by the portfolio solver (default: number of available processors)")
+			.build();
+	private static final Option OPT_ENUMERATION_WORKERS = Option.builder("ew").longOpt("enumerationWorkers").hasArg(true).argName("number")
+			.type(Integer.class).desc("the number of threads used by the parallel solver (default: number of available processors)")
+			.build();
+	private static final Option OPT_SHARED_NOGOOD_MAX_SIZE = Option.builder("shs").longOpt("sharedNoGoodMaxSize").hasArg(true).argName("size")
+			.type(Integer.class).desc("the maximum size of learned nogoods shared between portfolio workers, 0 to disable sharing (default: "
+					+ SystemConfig.DEFAULT_SHARED_NOGOOD_MAX_SIZE + ")")
+			.build();
+	private static final Option OPT_SHARED_NOGOOD_MAX_LBD = Option.builder("shl").longOpt("sharedNoGoodMaxLbd").hasArg(true).argName("lbd")
+			.type(Integer.class).desc("the maximum literals block distance of learned nogoods shared between portfolio workers (default: "
+					+ SystemConfig.DEFAULT_SHARED_NOGOOD_MAX_LBD + ")")
+			.build();
+	private static final Option OPT_ASYNC_GROUNDING = Option.builder("ag").longOpt("asyncGrounding")
+			.desc("ground on a separate thread while the default solver keeps propagating and choosing, not used for programs with "
+					+ "weak constraints or when solvers exchange nogoods or split the search space (default: "
+					+ SystemConfig.DEFAULT_ASYNC_GROUNDING + ")")
+			.build();
 	private static final Option OPT_NOGOOD_STORE = Option.builder("r").longOpt("store").hasArg(true).argName("store")
 			.desc("the nogood store to use (default: " + SystemConfig.DEFAULT_NOGOOD_STORE_NAME + ")").build();
 	private static final Option OPT_SORT = Option.builder("sort").longOpt("sort").hasArg(false)
@@ -108,11 +134,30 @@ public class CommandLineParser {
 	private static final Option OPT_MOMS_STRATEGY = Option.builder("ms").longOpt("momsStrategy").hasArg(true).argName("strategy")
 			.desc("strategy for mom's heuristic (CountBinaryWatches or BinaryNoGoodPropagation, default: " + SystemConfig.DEFAULT_MOMS_STRATEGY.name() + ")")
 			.build();
+	private static final Option OPT_RESTART_STRATEGY = Option.builder("rs").longOpt("restarts").hasArg(true).argName("strategy")
+			.desc("the restart strategy to use (" + RestartStrategyFactory.Strategy.listAllowedValues() + ", default: "
+					+ SystemConfig.DEFAULT_RESTART_STRATEGY.name() + ")")
+			.build();
+	private static final Option OPT_PHASE_SAVING = Option.builder("ph").longOpt("phaseSaving").hasArg(true).argName("mode")
+			.desc("the phase saving mode to use (" + PhaseSavingHeuristic.Mode.listAllowedValues() + ", default: "
+					+ SystemConfig.DEFAULT_PHASE_SAVING.name() + ")")
+			.build();
+	private static final Option OPT_REPHASE_INTERVAL = Option.builder("rph").longOpt("rephaseInterval").hasArg(true).argName("conflicts")
+			.type(Integer.class).desc("forget saved phases after the given number of conflicts, 0 to never forget them (default: "
+					+ SystemConfig.DEFAULT_REPHASE_INTERVAL + ")")
+			.build();
 	private static final Option OPT_REPLAY_CHOICES = Option.builder("rc").longOpt("replayChoices").hasArg().argName("choices")
 			.desc("comma-separated list of choices to be replayed (each choice is represented by a signed integer whose absolute value designates an atom ID and whose sign designates a truth value)")
 			.build();
 	private static final Option OPT_QUIET = Option.builder("q").longOpt("quiet").desc("do not print answer sets (default: " + SystemConfig.DEFAULT_QUIET)
 			.build();
+	private static final Option OPT_COUNT = Option.builder("cnt").longOpt("count")
+			.desc("only count answer sets instead of printing them (default: " + SystemConfig.DEFAULT_COUNT_ANSWER_SETS + ")")
+			.build();
+	private static final Option OPT_PROJECTED_ENUMERATION = Option.builder("proj").longOpt("projectedEnumeration")
+			.desc("report each distinct projection of answer sets onto the filtered predicates only once, requires a filter (default: "
+					+ SystemConfig.DEFAULT_PROJECTED_ENUMERATION + ")")
+			.build();
 	private static final Option OPT_STATS = Option.builder("st").longOpt("stats").desc("print statistics (default: " + SystemConfig.DEFAULT_PRINT_STATS + ")")
 			.build();
 	private static final Option OPT_NO_JUSTIFICATION = Option.builder("dj").longOpt("disableJustifications")
@@ -129,6 +174,10 @@ public class CommandLineParser {
 			.desc("disable the deletion of (learned, little active) nogoods (default: " 
 					+ SystemConfig.DEFAULT_DISABLE_NOGOOD_DELETION + ")")
 			.build();
+	private static final Option OPT_NO_RECURSIVE_MINIMIZATION = Option.builder("drm").longOpt("disableRecursiveMinimization")
+			.desc("only minimize learned nogoods locally instead of recursively (default: "
+					+ SystemConfig.DEFAULT_DISABLE_RECURSIVE_MINIMIZATION + ")")
+			.build();
 	private static final Option OPT_GROUNDER_TOLERANCE_CONSTRAINTS = Option.builder("gtc").longOpt("grounderToleranceConstraints")
 			.desc("grounder tolerance for constraints (default: " + SystemConfig.DEFAULT_GROUNDER_TOLERANCE_CONSTRAINTS + ")")
 			.hasArg().argName("tolerance")
@@ -141,6 +190,15 @@ public class CommandLineParser {
 			.desc("activates the accumulator grounding strategy by disabling removal of instances from grounder memory in certain cases (default: " 
 					+ SystemConfig.DEFAULT_GROUNDER_ACCUMULATOR_ENABLED + ")")
 			.build();
+	private static final Option OPT_GROUNDER_BATCH_SIZE = Option.builder("gbs").longOpt("grounderBatchSize").hasArg(true).argName("number")
+			.type(Integer.class).desc("the number of new assignments from which on the grounder is called before choosing, the grounder is "
+					+ "always called before closing, 0 calls it whenever the assignment changed (default: "
+					+ SystemConfig.DEFAULT_GROUNDER_BATCH_SIZE + ")")
+			.build();
+	private static final Option OPT_PROFILE_GROUNDING = Option.builder("pg").longOpt("profileGrounding")
+			.desc("count the substitutions tried and produced, nogoods generated, push-backs and time spent binding for each rule and grounding "
+					+ "order, and print the rules ranked by grounding time after solving (default: " + SystemConfig.DEFAULT_PROFILE_GROUNDING + ")")
+			.build();
 	private static final Option OPT_OUTPUT_ATOM_SEPARATOR = Option.builder("sep").longOpt("atomSeparator").hasArg(true).argName("separator")
 			.desc("a character (sequence) to use as separator for atoms in printed answer sets (default: "
 					+ SystemConfig.DEFAULT_ATOM_SEPARATOR + ")")
@@ -164,9 +222,15 @@ public class CommandLineParser {
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_WRITE_PREPROCESSED);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_WRITE_DEPGRAPH);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_WRITE_COMPGRAPH);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_WRITE_METRICS);
 
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_SOLVER);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_PORTFOLIO_WORKERS);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_ENUMERATION_WORKERS);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_SHARED_NOGOOD_MAX_SIZE);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_SHARED_NOGOOD_MAX_LBD);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_ASYNC_GROUNDING);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_NOGOOD_STORE);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_SORT);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_DETERMINISTIC);
@@ -174,17 +238,25 @@ public class CommandLineParser {
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_DEBUG_INTERNAL_CHECKS);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_BRANCHING_HEURISTIC);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_MOMS_STRATEGY);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_RESTART_STRATEGY);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_PHASE_SAVING);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_REPHASE_INTERVAL);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_REPLAY_CHOICES);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_QUIET);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_COUNT);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_PROJECTED_ENUMERATION);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_STATS);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_NO_JUSTIFICATION);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_NORMALIZATION_GRID);
 
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_NO_EVAL_STRATIFIED);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_NO_NOGOOD_DELETION);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_NO_RECURSIVE_MINIMIZATION);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER_TOLERANCE_CONSTRAINTS);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER_TOLERANCE_RULES);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER_ACCUMULATOR_ENABLED);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER_BATCH_SIZE);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_PROFILE_GROUNDING);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_OUTPUT_ATOM_SEPARATOR);
 	}
 
@@ -224,6 +296,11 @@ private void initializeGlobalOptionHandlers() {
 		this.globalOptionHandlers.put(CommandLineParser.OPT_HELP.getOpt(), (o, c) -> { });
 		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER.getOpt(), this::handleGrounder);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_SOLVER.getOpt(), this::handleSolver);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_PORTFOLIO_WORKERS.getOpt(), this::handlePortfolioWorkers);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_ENUMERATION_WORKERS.getOpt(), this::handleEnumerationWorkers);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_SHARED_NOGOOD_MAX_SIZE.getOpt(), this::handleSharedNoGoodMaxSize);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_SHARED_NOGOOD_MAX_LBD.getOpt(), this::handleSharedNoGoodMaxLbd);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_ASYNC_GROUNDING.getOpt(), this::handleAsyncGrounding);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_NOGOOD_STORE.getOpt(), this::handleNogoodStore);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_SORT.getOpt(), this::handleSort);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_DETERMINISTIC.getOpt(), this::handleDeterministic);
@@ -231,16 +308,24 @@ private void initializeGlobalOptionHandlers() {
 		this.globalOptionHandlers.put(CommandLineParser.OPT_DEBUG_INTERNAL_CHECKS.getOpt(), this::handleInternalChecks);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_BRANCHING_HEURISTIC.getOpt(), this::handleBranchingHeuristic);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_MOMS_STRATEGY.getOpt(), this::handleMomsStrategy);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_RESTART_STRATEGY.getOpt(), this::handleRestartStrategy);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_PHASE_SAVING.getOpt(), this::handlePhaseSaving);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_REPHASE_INTERVAL.getOpt(), this::handleRephaseInterval);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_REPLAY_CHOICES.getOpt(), this::handleReplayChoices);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_QUIET.getOpt(), this::handleQuiet);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_COUNT.getOpt(), this::handleCount);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_PROJECTED_ENUMERATION.getOpt(), this::handleProjectedEnumeration);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_STATS.getOpt(), this::handleStats);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_NO_JUSTIFICATION.getOpt(), this::handleNoJustification);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_NORMALIZATION_GRID.getOpt(), this::handleNormalizationGrid);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_NO_EVAL_STRATIFIED.getOpt(), this::handleDisableStratifedEval);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_NO_NOGOOD_DELETION.getOpt(), this::handleNoNoGoodDeletion);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_NO_RECURSIVE_MINIMIZATION.getOpt(), this::handleNoRecursiveMinimization);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER_TOLERANCE_CONSTRAINTS.getOpt(), this::handleGrounderToleranceConstraints);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER_TOLERANCE_RULES.getOpt(), this::handleGrounderToleranceRules);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER_ACCUMULATOR_ENABLED.getOpt(), this::handleGrounderNoInstanceRemoval);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER_BATCH_SIZE.getOpt(), this::handleGrounderBatchSize);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_PROFILE_GROUNDING.getOpt(), this::handleProfileGrounding);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_OUTPUT_ATOM_SEPARATOR.getOpt(), this::handleAtomSeparator);
 	}
 
@@ -254,6 +339,7 @@ private void initializeInputOptionHandlers() {
 		this.inputOptionHandlers.put(CommandLineParser.OPT_WRITE_PREPROCESSED.getOpt(), this::handleWritePreprocessed);
 		this.inputOptionHandlers.put(CommandLineParser.OPT_WRITE_DEPGRAPH.getOpt(), this::handleWriteDepgraph);
 		this.inputOptionHandlers.put(CommandLineParser.OPT_WRITE_COMPGRAPH.getOpt(), this::handleWriteCompgraph);
+		this.inputOptionHandlers.put(CommandLineParser.OPT_WRITE_METRICS.getOpt(), this::handleWriteMetrics);
 	}
 
 	public AlphaConfig parseCommandLine(String[] args) throws ParseException {
@@ -273,6 +359,10 @@ public AlphaConfig parseCommandLine(String[] args) throws ParseException {
 		for (Option opt : commandLine.getOptions()) {
 			this.handleOption(opt, sysConf, inputConf);
 		}
+		if (inputConf.isWriteMetrics()) {
+			// Metrics must be collected in order to be written.
+			sysConf.setCollectMetrics(true);
+		}
 		retVal.setSystemConfig(sysConf);
 		retVal.setInputConfig(inputConf);
 		return retVal;
@@ -311,6 +401,10 @@ private void validate(CommandLine commandLine) throws ParseException {
 			throw new ParseException("Missing input source - need to specifiy either a file (" + CommandLineParser.OPT_INPUT.getOpt() + ") or a string ("
 					+ CommandLineParser.OPT_ASPSTRING.getOpt() + " - or both)!");
 		}
+		if (commandLine.hasOption(CommandLineParser.OPT_PROJECTED_ENUMERATION.getOpt()) && !commandLine.hasOption(CommandLineParser.OPT_FILTER.getOpt())) {
+			throw new ParseException("Projected enumeration (" + CommandLineParser.OPT_PROJECTED_ENUMERATION.getOpt() + ") requires a filter ("
+					+ CommandLineParser.OPT_FILTER.getOpt() + ") to project onto!");
+		}
 	}
 
 	private void handleNumAnswerSets(Option opt, InputConfig cfg) {
@@ -341,6 +435,52 @@ private void handleSolver(Option opt, SystemConfig cfg) {
 		cfg.setSolverName(opt.getValue(SystemConfig.DEFAULT_SOLVER_NAME));
 	}
 
+	private void handlePortfolioWorkers(Option opt, SystemConfig cfg) throws ParseException {
+		String portfolioWorkers = opt.getValue(Integer.toString(SystemConfig.DEFAULT_PORTFOLIO_WORKERS));
+		try {
+			cfg.setPortfolioWorkers(Integer.parseInt(portfolioWorkers));
+		} catch (NumberFormatException e) {
+			throw new ParseException("Number of portfolio workers must be an integer, but is: " + portfolioWorkers);
+		}
+		if (cfg.getPortfolioWorkers() < 1) {
+			throw new ParseException("Number of portfolio workers must be positive, but is: " + portfolioWorkers);
+		}
+	}
+
+	private void handleEnumerationWorkers(Option opt, SystemConfig cfg) throws ParseException {
+		String enumerationWorkers = opt.getValue(Integer.toString(SystemConfig.DEFAULT_ENUMERATION_WORKERS));
+		try {
+			cfg.setEnumerationWorkers(Integer.parseInt(enumerationWorkers));
+		} catch (NumberFormatException e) {
+			throw new ParseException("Number of enumeration workers must be an integer, but is: " + enumerationWorkers);
+		}
+		if (cfg.getEnumerationWorkers() < 1) {
+			throw new ParseException("Number of enumeration workers must be positive, but is: " + enumerationWorkers);
+		}
+	}
+
+	private void handleSharedNoGoodMaxSize(Option opt, SystemConfig cfg) throws ParseException {
+		String maxSize = opt.getValue(Integer.toString(SystemConfig.DEFAULT_SHARED_NOGOOD_MAX_SIZE));
+		try {
+			cfg.setSharedNoGoodMaxSize(Integer.parseInt(maxSize));
+		} catch (NumberFormatException e) {
+			throw new ParseException("Maximum size of shared nogoods must be an integer, but is: " + maxSize);
+		}
+	}
+
+	private void handleSharedNoGoodMaxLbd(Option opt, SystemConfig cfg) throws ParseException {
+		String maxLbd = opt.getValue(Integer.toString(SystemConfig.DEFAULT_SHARED_NOGOOD_MAX_LBD));
+		try {
+			cfg.setSharedNoGoodMaxLbd(Integer.parseInt(maxLbd));
+		} catch (NumberFormatException e) {
+			throw new ParseException("Maximum LBD of shared nogoods must be an integer, but is: " + maxLbd);
+		}
+	}
+
+	private void handleAsyncGrounding(Option opt, SystemConfig cfg) {
+		cfg.setAsyncGrounding(true);
+	}
+
 	private void handleNogoodStore(Option opt, SystemConfig cfg) {
 		cfg.setNogoodStoreName(opt.getValue(SystemConfig.DEFAULT_NOGOOD_STORE_NAME));
 	}
@@ -400,6 +540,35 @@ private void handleMomsStrategy(Option opt, SystemConfig cfg) throws ParseExcept
 		}
 	}
 
+	private void handleRestartStrategy(Option opt, SystemConfig cfg) throws ParseException {
+		String restartStrategyName = opt.getValue(SystemConfig.DEFAULT_RESTART_STRATEGY.name());
+		try {
+			cfg.setRestartStrategyName(restartStrategyName);
+		} catch (IllegalArgumentException e) {
+			throw new ParseException("Unknown restart strategy: " + restartStrategyName + ". Please try one of the following: "
+					+ RestartStrategyFactory.Strategy.listAllowedValues());
+		}
+	}
+
+	private void handlePhaseSaving(Option opt, SystemConfig cfg) throws ParseException {
+		String phaseSavingName = opt.getValue(SystemConfig.DEFAULT_PHASE_SAVING.name());
+		try {
+			cfg.setPhaseSavingName(phaseSavingName);
+		} catch (IllegalArgumentException e) {
+			throw new ParseException("Unknown phase saving mode: " + phaseSavingName + ". Please try one of the following: "
+					+ PhaseSavingHeuristic.Mode.listAllowedValues());
+		}
+	}
+
+	private void handleRephaseInterval(Option opt, SystemConfig cfg) throws ParseException {
+		String rephaseInterval = opt.getValue(Integer.toString(SystemConfig.DEFAULT_REPHASE_INTERVAL));
+		try {
+			cfg.setRephaseInterval(Integer.parseInt(rephaseInterval));
+		} catch (NumberFormatException e) {
+			throw new ParseException("Rephase interval must be an integer, but is: " + rephaseInterval);
+		}
+	}
+
 	private void handleReplayChoices(Option opt, SystemConfig cfg) throws ParseException {
 		String replayChoices = opt.getValue(SystemConfig.DEFAULT_REPLAY_CHOICES.toString());
 		try {
@@ -413,6 +582,14 @@ private void handleQuiet(Option opt, SystemConfig cfg) {
 		cfg.setQuiet(true);
 	}
 
+	private void handleCount(Option opt, SystemConfig cfg) {
+		cfg.setCountAnswerSets(true);
+	}
+
+	private void handleProjectedEnumeration(Option opt, SystemConfig cfg) {
+		cfg.setProjectedEnumeration(true);
+	}
+
 	private void handleLiterate(Option opt, InputConfig cfg) {
 		cfg.setLiterate(true);
 	}
@@ -457,10 +634,20 @@ private void handleWriteCompgraph(Option opt, InputConfig cfg) {
 		cfg.setCompgraphPath(compgraphPath);
 	}
 
+	private void handleWriteMetrics(Option opt, InputConfig cfg) {
+		cfg.setWriteMetrics(true);
+		String metricsPath = opt.getValue(InputConfig.DEFAULT_METRICS_TARGET_FILE);
+		cfg.setMetricsPath(metricsPath);
+	}
+
 	private void handleNoNoGoodDeletion(Option opt, SystemConfig cfg) {
 		cfg.setDisableNoGoodDeletion(true);
 	}
 
+	private void handleNoRecursiveMinimization(Option opt, SystemConfig cfg) {
+		cfg.setDisableRecursiveMinimization(true);
+	}
+
 	private void handleGrounderToleranceConstraints(Option opt, SystemConfig cfg) {
 		String grounderToleranceConstraints = opt.getValue(SystemConfig.DEFAULT_GROUNDER_TOLERANCE_CONSTRAINTS);
 		cfg.setGrounderToleranceConstraints(grounderToleranceConstraints);
@@ -475,6 +662,19 @@ private void handleGrounderNoInstanceRemoval(Option opt, SystemConfig cfg) {
 		cfg.setGrounderAccumulatorEnabled(true);
 	}
 
+	private void handleProfileGrounding(Option opt, SystemConfig cfg) {
+		cfg.setProfileGrounding(true);
+	}
+
+	private void handleGrounderBatchSize(Option opt, SystemConfig cfg) throws ParseException {
+		String batchSize = opt.getValue(Integer.toString(SystemConfig.DEFAULT_GROUNDER_BATCH_SIZE));
+		try {
+			cfg.setGrounderBatchSize(Integer.parseInt(batchSize));
+		} catch (NumberFormatException e) {
+			throw new ParseException("Grounder batch size must be an integer, but is: " + batchSize);
+		}
+	}
+
 	private void handleAtomSeparator(Option opt, SystemConfig cfg) {
 		cfg.setAtomSeparator(StringEscapeUtils.unescapeJava(opt.getValue(SystemConfig.DEFAULT_ATOM_SEPARATOR)));
 	}
@@ -24,6 +24,8 @@ public class InputConfig {
 	public static final String PREPROC_STDOUT_PATH = "---"; // indicator preprocessed program should be written to stdout
 	public static final boolean DEFAULT_WRITE_XLSX = false;
 	public static final String DEFAULT_XLSX_OUTFILE_PATH = "alphaAnswerSet"; // current directory, files named "alphaAnswerSet.{num}.{ext}"
+	public static final boolean DEFAULT_WRITE_METRICS = false;
+	public static final String DEFAULT_METRICS_TARGET_FILE = "metrics.json";
 
 	private List<String> aspStrings = new ArrayList<>();
 	private List<String> files = new ArrayList<>();
@@ -36,6 +38,8 @@ public class InputConfig {
 	private String compgraphPath = InputConfig.DEFAULT_COMPGRAPH_TARGET_FILE;
 	private boolean writePreprocessed = InputConfig.DEFAULT_WRITE_PREPROCESSED_PROG;
 	private String preprocessedPath = InputConfig.DEFAULT_PREPROC_TARGET_FILE;
+	private boolean writeMetrics = InputConfig.DEFAULT_WRITE_METRICS;
+	private String metricsPath = InputConfig.DEFAULT_METRICS_TARGET_FILE;
 	// standard library externals are always loaded
 	private Map<String, PredicateInterpretation> predicateMethods = Externals.getStandardLibraryExternals();
 	private boolean writeAnswerSetsAsXlsx = InputConfig.DEFAULT_WRITE_XLSX;
@@ -156,6 +160,22 @@ public void setPreprocessedPath(String preprocessedPath) {
 		this.preprocessedPath = preprocessedPath;
 	}
 
+	public boolean isWriteMetrics() {
+		return this.writeMetrics;
+	}
+
+	public void setWriteMetrics(boolean writeMetrics) {
+		this.writeMetrics = writeMetrics;
+	}
+
+	public String getMetricsPath() {
+		return this.metricsPath;
+	}
+
+	public void setMetricsPath(String metricsPath) {
+		this.metricsPath = metricsPath;
+	}
+
 	public boolean isWriteAnswerSetsAsXlsx() {
 		return this.writeAnswerSetsAsXlsx;
 	}
@@ -30,6 +30,8 @@
 import at.ac.tuwien.kr.alpha.grounder.heuristics.GrounderHeuristicsConfiguration;
 import at.ac.tuwien.kr.alpha.solver.BinaryNoGoodPropagationEstimation;
 import at.ac.tuwien.kr.alpha.solver.heuristics.BranchingHeuristicFactory.Heuristic;
+import at.ac.tuwien.kr.alpha.solver.heuristics.PhaseSavingHeuristic;
+import at.ac.tuwien.kr.alpha.solver.restarts.RestartStrategyFactory;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,10 +49,15 @@ public class SystemConfig {
 	public static final String DEFAULT_NOGOOD_STORE_NAME = "alphaRoaming";
 	public static final Heuristic DEFAULT_BRANCHING_HEURISTIC = Heuristic.VSIDS;
 	public static final BinaryNoGoodPropagationEstimation.Strategy DEFAULT_MOMS_STRATEGY = BinaryNoGoodPropagationEstimation.Strategy.CountBinaryWatches;
+	public static final RestartStrategyFactory.Strategy DEFAULT_RESTART_STRATEGY = RestartStrategyFactory.Strategy.NONE;
+	public static final PhaseSavingHeuristic.Mode DEFAULT_PHASE_SAVING = PhaseSavingHeuristic.Mode.NONE;
+	public static final int DEFAULT_REPHASE_INTERVAL = 0;
 	public static final long DEFAULT_SEED = System.nanoTime();
 	public static final boolean DEFAULT_DETERMINISTIC = false;
 	public static final boolean DEFAULT_PRINT_STATS = false;
 	public static final boolean DEFAULT_QUIET = false;
+	public static final boolean DEFAULT_COUNT_ANSWER_SETS = false;
+	public static final boolean DEFAULT_PROJECTED_ENUMERATION = false;
 	public static final boolean DEFAULT_DISABLE_JUSTIFICATION_SEARCH = false;
 	public static final boolean DEFAULT_DEBUG_INTERNAL_CHECKS = false;
 	public static final boolean DEFAULT_USE_NORMALIZATION_GRID = false;
@@ -58,10 +65,19 @@ public class SystemConfig {
 	public static final List<Integer> DEFAULT_REPLAY_CHOICES = Collections.emptyList();
 	public static final boolean DEFAULT_STRATIFIED_EVALUATION = true;
 	public static final boolean DEFAULT_DISABLE_NOGOOD_DELETION = false;
+	public static final boolean DEFAULT_DISABLE_RECURSIVE_MINIMIZATION = false;
 	public static final String DEFAULT_GROUNDER_TOLERANCE_CONSTRAINTS = GrounderHeuristicsConfiguration.STRICT_STRING;
 	public static final String DEFAULT_GROUNDER_TOLERANCE_RULES = GrounderHeuristicsConfiguration.STRICT_STRING;
 	public static final boolean DEFAULT_GROUNDER_ACCUMULATOR_ENABLED = false;
+	public static final int DEFAULT_GROUNDER_BATCH_SIZE = 0;
 	public static final String DEFAULT_ATOM_SEPARATOR = ", ";
+	public static final int DEFAULT_PORTFOLIO_WORKERS = Runtime.getRuntime().availableProcessors();
+	public static final int DEFAULT_ENUMERATION_WORKERS = Runtime.getRuntime().availableProcessors();
+	public static final int DEFAULT_SHARED_NOGOOD_MAX_SIZE = 8;
+	public static final int DEFAULT_SHARED_NOGOOD_MAX_LBD = 3;
+	public static final boolean DEFAULT_ASYNC_GROUNDING = false;
+	public static final boolean DEFAULT_COLLECT_METRICS = false;
+	public static final boolean DEFAULT_PROFILE_GROUNDING = false;
 
 	private String grounderName = SystemConfig.DEFAULT_GROUNDER_NAME;
 	private String solverName = SystemConfig.DEFAULT_SOLVER_NAME;
@@ -71,7 +87,12 @@ public class SystemConfig {
 	private boolean debugInternalChecks = SystemConfig.DEFAULT_DEBUG_INTERNAL_CHECKS;
 	private Heuristic branchingHeuristic = SystemConfig.DEFAULT_BRANCHING_HEURISTIC;
 	private BinaryNoGoodPropagationEstimation.Strategy momsStrategy = SystemConfig.DEFAULT_MOMS_STRATEGY;
+	private RestartStrategyFactory.Strategy restartStrategy = SystemConfig.DEFAULT_RESTART_STRATEGY;
+	private PhaseSavingHeuristic.Mode phaseSaving = SystemConfig.DEFAULT_PHASE_SAVING;
+	private int rephaseInterval = SystemConfig.DEFAULT_REPHASE_INTERVAL;
 	private boolean quiet = SystemConfig.DEFAULT_QUIET;
+	private boolean countAnswerSets = SystemConfig.DEFAULT_COUNT_ANSWER_SETS;
+	private boolean projectedEnumeration = SystemConfig.DEFAULT_PROJECTED_ENUMERATION;
 	private boolean printStats = SystemConfig.DEFAULT_PRINT_STATS;
 	private boolean disableJustificationSearch = SystemConfig.DEFAULT_DISABLE_JUSTIFICATION_SEARCH;
 	private boolean useNormalizationGrid = SystemConfig.DEFAULT_USE_NORMALIZATION_GRID;
@@ -79,10 +100,62 @@ public class SystemConfig {
 	private List<Integer> replayChoices = SystemConfig.DEFAULT_REPLAY_CHOICES;
 	private boolean evaluateStratifiedPart = SystemConfig.DEFAULT_STRATIFIED_EVALUATION;
 	private boolean disableNoGoodDeletion = SystemConfig.DEFAULT_DISABLE_NOGOOD_DELETION;
+	private boolean disableRecursiveMinimization = SystemConfig.DEFAULT_DISABLE_RECURSIVE_MINIMIZATION;
 	private String grounderToleranceConstraints = DEFAULT_GROUNDER_TOLERANCE_CONSTRAINTS;
 	private String grounderToleranceRules = DEFAULT_GROUNDER_TOLERANCE_RULES;
 	private boolean grounderAccumulatorEnabled = DEFAULT_GROUNDER_ACCUMULATOR_ENABLED;
+	private int grounderBatchSize = DEFAULT_GROUNDER_BATCH_SIZE;
 	private String atomSeparator = DEFAULT_ATOM_SEPARATOR;
+	private int portfolioWorkers = DEFAULT_PORTFOLIO_WORKERS;
+	private int enumerationWorkers = DEFAULT_ENUMERATION_WORKERS;
+	private int sharedNoGoodMaxSize = DEFAULT_SHARED_NOGOOD_MAX_SIZE;
+	private int sharedNoGoodMaxLbd = DEFAULT_SHARED_NOGOOD_MAX_LBD;
+	private boolean asyncGrounding = DEFAULT_ASYNC_GROUNDING;
+	private boolean collectMetrics = DEFAULT_COLLECT_METRICS;
+	private boolean profileGrounding = DEFAULT_PROFILE_GROUNDING;
+
+	public SystemConfig() {
+	}
+
+	/**
+	 * Creates a copy of the given configuration, e.g. in order to derive configurations that differ in a few settings.
+	 */
+	public SystemConfig(SystemConfig other) {
+		this.grounderName = other.grounderName;
+		this.solverName = other.solverName;
+		this.nogoodStoreName = other.nogoodStoreName;
+		this.deterministic = other.deterministic;
+		this.seed = other.seed;
+		this.debugInternalChecks = other.debugInternalChecks;
+		this.branchingHeuristic = other.branchingHeuristic;
+		this.momsStrategy = other.momsStrategy;
+		this.restartStrategy = other.restartStrategy;
+		this.phaseSaving = other.phaseSaving;
+		this.rephaseInterval = other.rephaseInterval;
+		this.quiet = other.quiet;
+		this.countAnswerSets = other.countAnswerSets;
+		this.projectedEnumeration = other.projectedEnumeration;
+		this.printStats = other.printStats;
+		this.disableJustificationSearch = other.disableJustificationSearch;
+		this.useNormalizationGrid = other.useNormalizationGrid;
+		this.sortAnswerSets = other.sortAnswerSets;
+		this.replayChoices = other.replayChoices;
+		this.evaluateStratifiedPart = other.evaluateStratifiedPart;
+		this.disableNoGoodDeletion = other.disableNoGoodDeletion;
+		this.disableRecursiveMinimization = other.disableRecursiveMinimization;
+		this.grounderToleranceConstraints = other.grounderToleranceConstraints;
+		this.grounderToleranceRules = other.grounderToleranceRules;
+		this.grounderAccumulatorEnabled = other.grounderAccumulatorEnabled;
+		this.grounderBatchSize = other.grounderBatchSize;
+		this.atomSeparator = other.atomSeparator;
+		this.portfolioWorkers = other.portfolioWorkers;
+		this.enumerationWorkers = other.enumerationWorkers;
+		this.sharedNoGoodMaxSize = other.sharedNoGoodMaxSize;
+		this.sharedNoGoodMaxLbd = other.sharedNoGoodMaxLbd;
+		this.asyncGrounding = other.asyncGrounding;
+		this.collectMetrics = other.collectMetrics;
+		this.profileGrounding = other.profileGrounding;
+	}
 
 	public String getGrounderName() {
 		return this.grounderName;
@@ -156,6 +229,38 @@ public void setMomsStrategyName(String momsStrategyName) {
 		this.momsStrategy = BinaryNoGoodPropagationEstimation.Strategy.valueOf(momsStrategyName);
 	}
 
+	public RestartStrategyFactory.Strategy getRestartStrategy() {
+		return restartStrategy;
+	}
+
+	public void setRestartStrategy(RestartStrategyFactory.Strategy restartStrategy) {
+		this.restartStrategy = restartStrategy;
+	}
+
+	public void setRestartStrategyName(String restartStrategyName) {
+		this.restartStrategy = RestartStrategyFactory.Strategy.valueOf(restartStrategyName.replace("-", "_").toUpperCase());
+	}
+
+	public PhaseSavingHeuristic.Mode getPhaseSaving() {
+		return phaseSaving;
+	}
+
+	public void setPhaseSaving(PhaseSavingHeuristic.Mode phaseSaving) {
+		this.phaseSaving = phaseSaving;
+	}
+
+	public void setPhaseSavingName(String phaseSavingName) {
+		this.phaseSaving = PhaseSavingHeuristic.Mode.valueOf(phaseSavingName.toUpperCase());
+	}
+
+	public int getRephaseInterval() {
+		return rephaseInterval;
+	}
+
+	public void setRephaseInterval(int rephaseInterval) {
+		this.rephaseInterval = rephaseInterval;
+	}
+
 	public boolean isQuiet() {
 		return this.quiet;
 	}
@@ -164,6 +269,22 @@ public void setQuiet(boolean quiet) {
 		this.quiet = quiet;
 	}
 
+	public boolean isCountAnswerSets() {
+		return this.countAnswerSets;
+	}
+
+	public void setCountAnswerSets(boolean countAnswerSets) {
+		this.countAnswerSets = countAnswerSets;
+	}
+
+	public boolean isProjectedEnumeration() {
+		return this.projectedEnumeration;
+	}
+
+	public void setProjectedEnumeration(boolean projectedEnumeration) {
+		this.projectedEnumeration = projectedEnumeration;
+	}
+
 	public boolean isPrintStats() {
 		return this.printStats;
 	}
@@ -224,6 +345,14 @@ public void setDisableNoGoodDeletion(boolean disableNoGoodDeletion) {
 		this.disableNoGoodDeletion = disableNoGoodDeletion;
 	}
 
+	public boolean isDisableRecursiveMinimization() {
+		return this.disableRecursiveMinimization;
+	}
+
+	public void setDisableRecursiveMinimization(boolean disableRecursiveMinimization) {
+		this.disableRecursiveMinimization = disableRecursiveMinimization;
+	}
+
 	public String getGrounderToleranceConstraints() {
 		return grounderToleranceConstraints;
 	}
@@ -248,6 +377,14 @@ public void setGrounderAccumulatorEnabled(boolean grounderAccumulatorEnabled) {
 		this.grounderAccumulatorEnabled = grounderAccumulatorEnabled;
 	}
 
+	public int getGrounderBatchSize() {
+		return this.grounderBatchSize;
+	}
+
+	public void setGrounderBatchSize(int grounderBatchSize) {
+		this.grounderBatchSize = grounderBatchSize;
+	}
+
 	public String getAtomSeparator() {
 		return this.atomSeparator;
 	}
@@ -255,4 +392,60 @@ public String getAtomSeparator() {
 	public void setAtomSeparator(String atomSeparator) {
 		this.atomSeparator = atomSeparator;
 	}
+
+	public int getPortfolioWorkers() {
+		return this.portfolioWorkers;
+	}
+
+	public void setPortfolioWorkers(int portfolioWorkers) {
+		this.portfolioWorkers = portfolioWorkers;
+	}
+
+	public int getSharedNoGoodMaxSize() {
+		return this.sharedNoGoodMaxSize;
+	}
+
+	public void setSharedNoGoodMaxSize(int sharedNoGoodMaxSize) {
+		this.sharedNoGoodMaxSize = sharedNoGoodMaxSize;
+	}
+
+	public int getSharedNoGoodMaxLbd() {
+		return this.sharedNoGoodMaxLbd;
+	}
+
+	public void setSharedNoGoodMaxLbd(int sharedNoGoodMaxLbd) {
+		this.sharedNoGoodMaxLbd = sharedNoGoodMaxLbd;
+	}
+
+	public int getEnumerationWorkers() {
+		return this.enumerationWorkers;
+	}
+
+	public void setEnumerationWorkers(int enumerationWorkers) {
+		this.enumerationWorkers = enumerationWorkers;
+	}
+
+	public boolean isAsyncGrounding() {
+		return this.asyncGrounding;
+	}
+
+	public void setAsyncGrounding(boolean asyncGrounding) {
+		this.asyncGrounding = asyncGrounding;
+	}
+
+	public boolean isCollectMetrics() {
+		return this.collectMetrics;
+	}
+
+	public void setCollectMetrics(boolean collectMetrics) {
+		this.collectMetrics = collectMetrics;
+	}
+
+	public boolean isProfileGrounding() {
+		return this.profileGrounding;
+	}
+
+	public void setProfileGrounding(boolean profileGrounding) {
+		this.profileGrounding = profileGrounding;
+	}
 }
@@ -12,6 +12,11 @@ protected AbstractGrounder(java.util.function.Predicate<Predicate> filter) {
 		this.filter = filter;
 	}
 
+	@Override
+	public java.util.function.Predicate<Predicate> getFilter() {
+		return filter;
+	}
+
 	protected AbstractGrounder() {
 		this(p -> true);
 	}
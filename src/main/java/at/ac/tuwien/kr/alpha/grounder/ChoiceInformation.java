@@ -0,0 +1,120 @@
+package at.ac.tuwien.kr.alpha.grounder;
+
+import java.util.Arrays;
+
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
+
+/**
+ * Choice information handed from the grounder to the solver: choice points with their enabling and disabling atoms,
+ * and mappings from head atoms to the {@link at.ac.tuwien.kr.alpha.grounder.atoms.RuleAtom}s deriving them.
+ * All atoms are kept in primitive arrays, one entry after the other, such that no atom is boxed on its way to the
+ * solver.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class ChoiceInformation {
+	private static final int INITIAL_SIZE = 8;
+
+	// Triples (atom, enabler, disabler) of choice points.
+	private int[] choicePoints = new int[0];
+	private int numberOfChoicePoints;
+
+	// Pairs (head, body) of heads and rule bodies deriving them.
+	private int[] headsToBodies = new int[0];
+	private int numberOfHeadsToBodies;
+
+	public void addChoicePoint(int atom, int enabler, int disabler) {
+		choicePoints = ensureCapacity(choicePoints, 3 * (numberOfChoicePoints + 1));
+		int index = 3 * numberOfChoicePoints++;
+		choicePoints[index] = atom;
+		choicePoints[index + 1] = enabler;
+		choicePoints[index + 2] = disabler;
+	}
+
+	public void addHeadToBody(int head, int body) {
+		headsToBodies = ensureCapacity(headsToBodies, 2 * (numberOfHeadsToBodies + 1));
+		int index = 2 * numberOfHeadsToBodies++;
+		headsToBodies[index] = head;
+		headsToBodies[index + 1] = body;
+	}
+
+	/**
+	 * Appends all choice points and heads of the given choice information to this one.
+	 */
+	public void addAll(ChoiceInformation other) {
+		choicePoints = ensureCapacity(choicePoints, 3 * (numberOfChoicePoints + other.numberOfChoicePoints));
+		System.arraycopy(other.choicePoints, 0, choicePoints, 3 * numberOfChoicePoints, 3 * other.numberOfChoicePoints);
+		numberOfChoicePoints += other.numberOfChoicePoints;
+		headsToBodies = ensureCapacity(headsToBodies, 2 * (numberOfHeadsToBodies + other.numberOfHeadsToBodies));
+		System.arraycopy(other.headsToBodies, 0, headsToBodies, 2 * numberOfHeadsToBodies, 2 * other.numberOfHeadsToBodies);
+		numberOfHeadsToBodies += other.numberOfHeadsToBodies;
+	}
+
+	private static int[] ensureCapacity(int[] array, int capacity) {
+		if (capacity <= array.length) {
+			return array;
+		}
+		return Arrays.copyOf(array, Math.max(capacity, Math.max(INITIAL_SIZE, arrayGrowthSize(array.length))));
+	}
+
+	public boolean isEmpty() {
+		return numberOfChoicePoints == 0 && numberOfHeadsToBodies == 0;
+	}
+
+	public int getNumberOfChoicePoints() {
+		return numberOfChoicePoints;
+	}
+
+	/**
+	 * @return the atom of the i-th choice point, i.e., the atom representing the body of the choice rule.
+	 */
+	public int getChoiceAtom(int i) {
+		checkIndex(i, numberOfChoicePoints);
+		return choicePoints[3 * i];
+	}
+
+	public int getEnabler(int i) {
+		checkIndex(i, numberOfChoicePoints);
+		return choicePoints[3 * i + 1];
+	}
+
+	public int getDisabler(int i) {
+		checkIndex(i, numberOfChoicePoints);
+		return choicePoints[3 * i + 2];
+	}
+
+	public int getNumberOfHeadsToBodies() {
+		return numberOfHeadsToBodies;
+	}
+
+	public int getHead(int i) {
+		checkIndex(i, numberOfHeadsToBodies);
+		return headsToBodies[2 * i];
+	}
+
+	/**
+	 * @return the {@link at.ac.tuwien.kr.alpha.grounder.atoms.RuleAtom} deriving the i-th head.
+	 */
+	public int getBody(int i) {
+		checkIndex(i, numberOfHeadsToBodies);
+		return headsToBodies[2 * i + 1];
+	}
+
+	private static void checkIndex(int i, int size) {
+		if (i < 0 || i >= size) {
+			throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[choice points (atom/enabler/disabler): ");
+		for (int i = 0; i < numberOfChoicePoints; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(getChoiceAtom(i)).append("/").append(getEnabler(i)).append("/").append(getDisabler(i));
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -30,10 +30,9 @@
 import at.ac.tuwien.kr.alpha.common.AtomStore;
 import at.ac.tuwien.kr.alpha.common.NoGood;
 import at.ac.tuwien.kr.alpha.grounder.atoms.RuleAtom;
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 import static at.ac.tuwien.kr.alpha.common.Literals.*;
 import static at.ac.tuwien.kr.alpha.grounder.atoms.ChoiceAtom.off;
@@ -44,29 +43,20 @@ public class ChoiceRecorder {
 	private static final IntIdGenerator ID_GENERATOR = new IntIdGenerator();
 
 	private final AtomStore atomStore;
-	private Pair<Map<Integer, Integer>, Map<Integer, Integer>> newChoiceAtoms = new ImmutablePair<>(new LinkedHashMap<>(), new LinkedHashMap<>());
-	private Map<Integer, Set<Integer>> newHeadsToBodies = new LinkedHashMap<>();
+	private ChoiceInformation newChoiceInformation = new ChoiceInformation();
 
 	public ChoiceRecorder(AtomStore atomStore) {
 		this.atomStore = atomStore;
 	}
 
 	/**
-	 * @return new choice points and their enablers and disablers.
+	 * @return new choice points with their enablers and disablers, and new mappings from head atoms to
+	 * {@link RuleAtom}s deriving them.
 	 */
-	public Pair<Map<Integer, Integer>, Map<Integer, Integer>> getAndResetChoices() {
-		Pair<Map<Integer, Integer>, Map<Integer, Integer>> currentChoiceAtoms = newChoiceAtoms;
-		newChoiceAtoms = new ImmutablePair<>(new LinkedHashMap<>(), new LinkedHashMap<>());
-		return currentChoiceAtoms;
-	}
-
-	/**
-	 * @return a set of new mappings from head atoms to {@link RuleAtom}s deriving it.
-	 */
-	public Map<Integer, Set<Integer>> getAndResetHeadsToBodies() {
-		Map<Integer, Set<Integer>> currentHeadsToBodies = newHeadsToBodies;
-		newHeadsToBodies = new LinkedHashMap<>();
-		return currentHeadsToBodies;
+	public ChoiceInformation getAndResetChoiceInformation() {
+		ChoiceInformation currentChoiceInformation = newChoiceInformation;
+		newChoiceInformation = new ChoiceInformation();
+		return currentChoiceInformation;
 	}
 
 	
@@ -76,9 +66,8 @@ public List<NoGood> generateChoiceNoGoods(final List<Integer> posLiterals, final
 		final int bodyRepresentingAtom = atomOf(bodyRepresentingLiteral);
 		// Create ChoiceOn and ChoiceOff atoms.
 		final int choiceOnAtom = atomStore.putIfAbsent(on(choiceId));
-		newChoiceAtoms.getLeft().put(bodyRepresentingAtom, choiceOnAtom);
 		final int choiceOffAtom = atomStore.putIfAbsent(off(choiceId));
-		newChoiceAtoms.getRight().put(bodyRepresentingAtom, choiceOffAtom);
+		newChoiceInformation.addChoicePoint(bodyRepresentingAtom, choiceOnAtom, choiceOffAtom);
 
 		final List<NoGood> noGoods = generateNeg(choiceOffAtom, negLiterals);
 		noGoods.add(generatePos(choiceOnAtom, posLiterals));
@@ -105,24 +94,11 @@ private List<NoGood> generateNeg(final int atomOff, List<Integer> negLiterals)
 	}
 
 	public void addHeadToBody(int headId, int bodyId) {
-		Set<Integer> existingBodies = newHeadsToBodies.get(headId);
-		if (existingBodies == null) {
-			existingBodies = new HashSet<>();
-			newHeadsToBodies.put(headId, existingBodies);
-		}
-		existingBodies.add(bodyId);
+		newChoiceInformation.addHeadToBody(headId, bodyId);
 	}
 
 	@Override
 	public String toString() {
-		StringBuilder sb = new StringBuilder("[enablers: ");
-		for (Map.Entry<Integer, Integer> enablers : newChoiceAtoms.getLeft().entrySet()) {
-			sb.append(enablers.getKey()).append("/").append(enablers.getValue()).append(", ");
-		}
-		sb.append(" disablers: ");
-		for (Map.Entry<Integer, Integer> disablers : newChoiceAtoms.getRight().entrySet()) {
-			sb.append(disablers.getKey()).append("/").append(disablers.getValue());
-		}
-		return sb.append("]").toString();
+		return newChoiceInformation.toString();
 	}
 }
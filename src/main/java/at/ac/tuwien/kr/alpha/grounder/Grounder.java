@@ -28,37 +28,56 @@
 package at.ac.tuwien.kr.alpha.grounder;
 
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
-import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.IntIterator;
 import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.TruthView;
 import at.ac.tuwien.kr.alpha.grounder.atoms.RuleAtom;
-import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.Map;
-import java.util.Set;
 
 public interface Grounder {
 	/**
 	 * Translates an answer-set represented by true atom IDs into its logical representation.
-	 * @param trueAtoms
+	 * @param trueAtoms an iterator over the IDs of all true atoms.
 	 * @return
 	 */
-	AnswerSet assignmentToAnswerSet(Iterable<Integer> trueAtoms);
+	AnswerSet assignmentToAnswerSet(IntIterator trueAtoms);
+
+	/**
+	 * Returns the filter that decides which (non-internal) predicates show up in answer sets.
+	 */
+	default java.util.function.Predicate<Predicate> getFilter() {
+		return p -> true;
+	}
+
+	/**
+	 * Returns whether the program contains weak constraints, i.e., whether answer sets are subject to optimization.
+	 */
+	default boolean hasWeakConstraints() {
+		return false;
+	}
+
+	/**
+	 * Returns the work spent on grounding each non-ground rule, which is only recorded if enabled by
+	 * {@link at.ac.tuwien.kr.alpha.config.SystemConfig#isProfileGrounding()}. Grounders that do not profile return an
+	 * empty profile.
+	 */
+	default GroundingProfile getGroundingProfile() {
+		return new GroundingProfile();
+	}
 
 	/**
 	 * Applies lazy grounding and returns all newly derived (fully ground) NoGoods.
-	 * @return a mapping of nogood IDs to NoGoods.
+	 * @return the new NoGoods with their IDs.
 	 */
-	Map<Integer, NoGood> getNoGoods(Assignment assignment);
+	NoGoodBatch getNoGoods(TruthView assignment);
 
 	/**
-	 * Return choice points and their enablers and disablers.
-	 * Must be preceeded by a call to getNoGoods().
-	 * @return a pair (choiceOn, choiceOff) of two maps from atomIds to atomIds,
-	 * choiceOn maps atoms (choice points) to their enabling atoms
-	 * and choiceOff maps atoms (choice points) to their disabling atoms.
+	 * Returns new choice points with their enablers and disablers, and new mappings from head atoms to
+	 * {@link RuleAtom}s deriving them. Must be preceeded by a call to getNoGoods().
+	 * @return the choice information obtained since the last call.
 	 */
-	Pair<Map<Integer, Integer>, Map<Integer, Integer>> getChoiceAtoms();
+	ChoiceInformation getChoiceInformation();
 
 	/**
 	 * Updates the grounder with atoms assigned a positive truth value.
@@ -66,11 +85,6 @@ public interface Grounder {
 	 */
 	void updateAssignment(IntIterator it);
 
-	/**
-	 * Returns a set of new mappings from head atoms to {@link RuleAtom}s deriving it.
-	 */
-	Map<Integer, Set<Integer>> getHeadsToBodies();
-
 	void forgetAssignment(int[] atomIds);
 
 	/**
@@ -31,18 +31,24 @@
 import at.ac.tuwien.kr.alpha.common.Predicate;
 import at.ac.tuwien.kr.alpha.common.program.InternalProgram;
 import at.ac.tuwien.kr.alpha.config.InputConfig;
+import at.ac.tuwien.kr.alpha.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.grounder.bridges.Bridge;
 import at.ac.tuwien.kr.alpha.grounder.heuristics.GrounderHeuristicsConfiguration;
 
 public final class GrounderFactory {
-	public static Grounder getInstance(String name, InternalProgram program, AtomStore atomStore, java.util.function.Predicate<Predicate> filter, GrounderHeuristicsConfiguration heuristicsConfiguration, boolean debugInternalChecks, Bridge... bridges) {
+	public static Grounder getInstance(String name, InternalProgram program, AtomStore atomStore, java.util.function.Predicate<Predicate> filter,
+			GrounderHeuristicsConfiguration heuristicsConfiguration, boolean debugInternalChecks, boolean profileGrounding, Bridge... bridges) {
 		switch (name.toLowerCase()) {
 			case "naive":
-				return new NaiveGrounder(program, atomStore, filter, heuristicsConfiguration, debugInternalChecks, bridges);
+				return new NaiveGrounder(program, atomStore, filter, heuristicsConfiguration, debugInternalChecks, profileGrounding, bridges);
 		}
 		throw new IllegalArgumentException("Unknown grounder requested.");
 	}
 
+	public static Grounder getInstance(String name, InternalProgram program, AtomStore atomStore, java.util.function.Predicate<Predicate> filter, GrounderHeuristicsConfiguration heuristicsConfiguration, boolean debugInternalChecks, Bridge... bridges) {
+		return getInstance(name, program, atomStore, filter, heuristicsConfiguration, debugInternalChecks, SystemConfig.DEFAULT_PROFILE_GROUNDING, bridges);
+	}
+
 	public static Grounder getInstance(String name, InternalProgram program, AtomStore atomStore, java.util.function.Predicate<Predicate> filter,
 			GrounderHeuristicsConfiguration heuristicsConfiguration, boolean debugInternalChecks) {
 		return getInstance(name, program, atomStore, filter, heuristicsConfiguration, debugInternalChecks, new Bridge[] {});
@@ -0,0 +1,192 @@
+package at.ac.tuwien.kr.alpha.grounder;
+
+import at.ac.tuwien.kr.alpha.common.atoms.Literal;
+import at.ac.tuwien.kr.alpha.common.rule.InternalRule;
+import at.ac.tuwien.kr.alpha.common.rule.SourcePosition;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records, for each non-ground rule and each of its grounding orders, the work a grounder spends on grounding it: the
+ * (partial) substitutions tried while binding body literals, the ground substitutions produced, the nogoods generated
+ * from them, the literals pushed back in the grounding order, and the time spent binding. A grounding order is
+ * identified by its starting literal.
+ *
+ * The report identifies a rule by its id, the position in the input of the rule it stems from, and its (normalized)
+ * textual form. A profile is not thread-safe, it must only be read once grounding has finished.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class GroundingProfile {
+
+	/**
+	 * The counters of a rule, or of one of its grounding orders.
+	 */
+	public static class Counters {
+		private long instantiations;
+		private long substitutionsTried;
+		private long substitutionsProduced;
+		private long noGoodsGenerated;
+		private long pushBacks;
+		private long bindingNanos;
+
+		/**
+		 * @return the number of times grounding the rule started from a (partial) substitution.
+		 */
+		public long getInstantiations() {
+			return instantiations;
+		}
+
+		/**
+		 * @return the number of (partial) substitutions for which a body literal was instantiated.
+		 */
+		public long getSubstitutionsTried() {
+			return substitutionsTried;
+		}
+
+		/**
+		 * @return the number of ground substitutions of the whole rule body.
+		 */
+		public long getSubstitutionsProduced() {
+			return substitutionsProduced;
+		}
+
+		/**
+		 * @return the number of nogoods generated from the produced substitutions, including ones known already.
+		 */
+		public long getNoGoodsGenerated() {
+			return noGoodsGenerated;
+		}
+
+		public long getPushBacks() {
+			return pushBacks;
+		}
+
+		public long getBindingNanos() {
+			return bindingNanos;
+		}
+
+		void recordInstantiation(long nanos, int substitutionsProduced) {
+			this.instantiations++;
+			this.bindingNanos += nanos;
+			this.substitutionsProduced += substitutionsProduced;
+		}
+
+		void recordSubstitutionTried() {
+			substitutionsTried++;
+		}
+
+		void recordPushBack() {
+			pushBacks++;
+		}
+
+		void recordNoGoodsGenerated(int noGoods) {
+			noGoodsGenerated += noGoods;
+		}
+
+		void addAll(Counters other) {
+			instantiations += other.instantiations;
+			substitutionsTried += other.substitutionsTried;
+			substitutionsProduced += other.substitutionsProduced;
+			noGoodsGenerated += other.noGoodsGenerated;
+			pushBacks += other.pushBacks;
+			bindingNanos += other.bindingNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%.3f ms, %d instantiations, %d substitutions tried, %d produced, %d nogoods, %d push-backs",
+				bindingNanos / 1_000_000.0, instantiations, substitutionsTried, substitutionsProduced, noGoodsGenerated, pushBacks);
+		}
+	}
+
+	private final Map<InternalRule, Map<Literal, Counters>> countersByRule = new LinkedHashMap<>();
+
+	/**
+	 * Returns the counters of the given grounding order of the given rule, creating them if the rule was not grounded
+	 * in that order yet.
+	 */
+	Counters getOrCreateCounters(InternalRule rule, RuleGroundingOrder groundingOrder) {
+		return countersByRule.computeIfAbsent(rule, r -> new LinkedHashMap<>())
+			.computeIfAbsent(groundingOrder.getStartingLiteral(), l -> new Counters());
+	}
+
+	public boolean isEmpty() {
+		return countersByRule.isEmpty();
+	}
+
+	public Set<InternalRule> getProfiledRules() {
+		return Collections.unmodifiableSet(countersByRule.keySet());
+	}
+
+	/**
+	 * @return the counters of each grounding order (identified by its starting literal) the given rule was grounded in.
+	 */
+	public Map<Literal, Counters> getCountersByGroundingOrder(InternalRule rule) {
+		return Collections.unmodifiableMap(countersByRule.getOrDefault(rule, Collections.emptyMap()));
+	}
+
+	/**
+	 * @return the counters of the given rule summed up over all its grounding orders.
+	 */
+	public Counters getCounters(InternalRule rule) {
+		Counters total = new Counters();
+		for (Counters counters : countersByRule.getOrDefault(rule, Collections.emptyMap()).values()) {
+			total.addAll(counters);
+		}
+		return total;
+	}
+
+	/**
+	 * Adds the counters recorded by the given profile to the ones of this profile.
+	 */
+	public void addAll(GroundingProfile other) {
+		for (Map.Entry<InternalRule, Map<Literal, Counters>> ruleEntry : other.countersByRule.entrySet()) {
+			Map<Literal, Counters> ordersOfRule = countersByRule.computeIfAbsent(ruleEntry.getKey(), r -> new LinkedHashMap<>());
+			for (Map.Entry<Literal, Counters> orderEntry : ruleEntry.getValue().entrySet()) {
+				ordersOfRule.computeIfAbsent(orderEntry.getKey(), l -> new Counters()).addAll(orderEntry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * @return the profiled rules, ranked by the time spent binding them and, for equal times, by the number of
+	 *         substitutions tried.
+	 */
+	public List<InternalRule> getRankedRules() {
+		List<InternalRule> rules = new ArrayList<>(countersByRule.keySet());
+		Map<InternalRule, Counters> totals = new LinkedHashMap<>();
+		for (InternalRule rule : rules) {
+			totals.put(rule, getCounters(rule));
+		}
+		rules.sort(Comparator.comparingLong((InternalRule rule) -> totals.get(rule).getBindingNanos())
+			.thenComparingLong(rule -> totals.get(rule).getSubstitutionsTried())
+			.reversed());
+		return rules;
+	}
+
+	/**
+	 * Prints the profiled rules ranked by {@link #getRankedRules()}, each followed by the counters of its grounding
+	 * orders.
+	 */
+	public void printReport(PrintStream out) {
+		out.println("Grounding profile (rules ranked by time spent binding):");
+		int rank = 1;
+		for (InternalRule rule : getRankedRules()) {
+			SourcePosition sourcePosition = rule.getSourcePosition();
+			out.println(String.format("%4d. rule %d%s: %s", rank++, rule.getRuleId(),
+				sourcePosition != null ? " at " + sourcePosition : " (added by Alpha)", rule));
+			out.println("      total: " + getCounters(rule));
+			for (Map.Entry<Literal, Counters> orderEntry : countersByRule.get(rule).entrySet()) {
+				out.println("      starting from " + orderEntry.getKey() + ": " + orderEntry.getValue());
+			}
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package at.ac.tuwien.kr.alpha.grounder;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static at.ac.tuwien.kr.alpha.Util.oops;
 
 /**
@@ -7,27 +9,29 @@
  * Copyright (c) 2016, the Alpha Team.
  */
 public class IntIdGenerator {
-	private int highestId;
+	// Atomic since some generators are static and hence shared by solvers running in parallel.
+	private final AtomicInteger highestId = new AtomicInteger();
 
 	public IntIdGenerator() {
 		this(0);
 	}
 
 	public IntIdGenerator(int initial) {
-		this.highestId = initial;
+		this.highestId.set(initial);
 	}
 
 	public int getNextId() {
-		if (highestId == Integer.MAX_VALUE) {
+		int id = highestId.getAndIncrement();
+		if (id == Integer.MAX_VALUE) {
 			throw oops("Ran out of IDs (integer overflow)");
 		}
-		return highestId++;
+		return id;
 	}
 
 	/**
 	 * Resets the internal counter. Useful for resetting before each test.
 	 */
 	public void resetGenerator() {
-		highestId = 0;
+		highestId.set(0);
 	}
 }
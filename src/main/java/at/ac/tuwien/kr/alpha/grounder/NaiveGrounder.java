@@ -31,19 +31,22 @@
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
 import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
-import at.ac.tuwien.kr.alpha.common.BasicAnswerSet;
 import at.ac.tuwien.kr.alpha.common.IntIterator;
+import at.ac.tuwien.kr.alpha.common.LazyAnswerSet;
 import at.ac.tuwien.kr.alpha.common.NoGood;
 import at.ac.tuwien.kr.alpha.common.NoGoodInterface;
 import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.TruthView;
 import at.ac.tuwien.kr.alpha.common.atoms.Atom;
 import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
 import at.ac.tuwien.kr.alpha.common.atoms.Literal;
+import at.ac.tuwien.kr.alpha.common.jfr.FlightRecorderEvents;
 import at.ac.tuwien.kr.alpha.common.program.InternalProgram;
 import at.ac.tuwien.kr.alpha.common.rule.InternalRule;
 import at.ac.tuwien.kr.alpha.common.terms.VariableTerm;
 import at.ac.tuwien.kr.alpha.grounder.atoms.ChoiceAtom;
 import at.ac.tuwien.kr.alpha.grounder.atoms.RuleAtom;
+import at.ac.tuwien.kr.alpha.grounder.atoms.WeakConstraintAtom;
 import at.ac.tuwien.kr.alpha.grounder.bridges.Bridge;
 import at.ac.tuwien.kr.alpha.grounder.heuristics.GrounderHeuristicsConfiguration;
 import at.ac.tuwien.kr.alpha.grounder.instantiation.AssignmentStatus;
@@ -53,16 +56,16 @@
 import at.ac.tuwien.kr.alpha.grounder.instantiation.LiteralInstantiator;
 import at.ac.tuwien.kr.alpha.grounder.structure.AnalyzeUnjustified;
 import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +75,7 @@
 
 import static at.ac.tuwien.kr.alpha.Util.oops;
 import static at.ac.tuwien.kr.alpha.common.Literals.atomOf;
+import static at.ac.tuwien.kr.alpha.common.Literals.atomToNegatedLiteral;
 
 /**
  * A semi-naive grounder.
@@ -96,6 +100,7 @@ public class NaiveGrounder extends BridgedGrounder implements ProgramAnalyzingGr
 	private ArrayList<InternalRule> fixedRules = new ArrayList<>();
 	private LinkedHashSet<Atom> removeAfterObtainingNewNoGoods = new LinkedHashSet<>();
 	private final boolean debugInternalChecks;
+	private Map<Predicate, SortedSet<Atom>> factInstancesForAnswerSets;
 
 	private final GrounderHeuristicsConfiguration heuristicsConfiguration;
 
@@ -104,6 +109,11 @@ public class NaiveGrounder extends BridgedGrounder implements ProgramAnalyzingGr
 	private final LiteralInstantiator ruleInstantiator;
 	private final DefaultLazyGroundingInstantiationStrategy instantiationStrategy;
 
+	// Counts the work spent per rule and grounding order if profiling is enabled, otherwise profiledCounters stays null.
+	private final boolean profileGrounding;
+	private final GroundingProfile groundingProfile = new GroundingProfile();
+	private GroundingProfile.Counters profiledCounters;
+
 	public NaiveGrounder(InternalProgram program, AtomStore atomStore, boolean debugInternalChecks, Bridge... bridges) {
 		this(program, atomStore, new GrounderHeuristicsConfiguration(), debugInternalChecks, bridges);
 	}
@@ -115,6 +125,11 @@ private NaiveGrounder(InternalProgram program, AtomStore atomStore, GrounderHeur
 
 	NaiveGrounder(InternalProgram program, AtomStore atomStore, java.util.function.Predicate<Predicate> filter,
 			GrounderHeuristicsConfiguration heuristicsConfiguration, boolean debugInternalChecks, Bridge... bridges) {
+		this(program, atomStore, filter, heuristicsConfiguration, debugInternalChecks, false, bridges);
+	}
+
+	NaiveGrounder(InternalProgram program, AtomStore atomStore, java.util.function.Predicate<Predicate> filter,
+			GrounderHeuristicsConfiguration heuristicsConfiguration, boolean debugInternalChecks, boolean profileGrounding, Bridge... bridges) {
 		super(filter, bridges);
 		this.atomStore = atomStore;
 		this.heuristicsConfiguration = heuristicsConfiguration;
@@ -134,6 +149,7 @@ private NaiveGrounder(InternalProgram program, AtomStore atomStore, GrounderHeur
 		noGoodGenerator = new NoGoodGenerator(atomStore, choiceRecorder, factsFromProgram, this.program, uniqueGroundRulePerGroundHead);
 
 		this.debugInternalChecks = debugInternalChecks;
+		this.profileGrounding = profileGrounding;
 
 		// Initialize RuleInstantiator and instantiation strategy. Note that the instantiation strategy also
 		// needs the current assignment, which is set with every call of getGroundInstantiations.
@@ -230,32 +246,33 @@ private void registerLiteralAtWorkingMemory(Literal literal, InternalRule nonGro
 	}
 
 	@Override
-	public AnswerSet assignmentToAnswerSet(Iterable<Integer> trueAtoms) {
-		Map<Predicate, SortedSet<Atom>> predicateInstances = new LinkedHashMap<>();
-		SortedSet<Predicate> knownPredicates = new TreeSet<>();
-
-		// Iterate over all true atomIds, computeNextAnswerSet instances from atomStore and add them if not filtered.
-		for (int trueAtom : trueAtoms) {
-			final Atom atom = atomStore.get(trueAtom);
-			Predicate predicate = atom.getPredicate();
-
-			// Skip atoms over internal predicates.
-			if (predicate.isInternal()) {
-				continue;
+	public AnswerSet assignmentToAnswerSet(IntIterator trueAtoms) {
+		int[] trueAtomIds = new int[16];
+		int numTrueAtoms = 0;
+		while (trueAtoms.hasNext()) {
+			int trueAtom = trueAtoms.next();
+			if (numTrueAtoms == trueAtomIds.length) {
+				trueAtomIds = Arrays.copyOf(trueAtomIds, Util.arrayGrowthSize(trueAtomIds.length));
 			}
+			trueAtomIds[numTrueAtoms++] = trueAtom;
+		}
+		return new LazyAnswerSet(trueAtomIds, numTrueAtoms, atomStore, filter, getFactInstancesForAnswerSets());
+	}
 
-			// Skip filtered predicates.
-			if (!filter.test(predicate)) {
-				continue;
-			}
+	@Override
+	public boolean hasWeakConstraints() {
+		return factsFromProgram.containsKey(WeakConstraintAtom.PREDICATE) || program.getPredicateDefiningRules().containsKey(WeakConstraintAtom.PREDICATE);
+	}
 
-			knownPredicates.add(predicate);
-			predicateInstances.putIfAbsent(predicate, new TreeSet<>());
-			Set<Atom> instances = predicateInstances.get(predicate);
-			instances.add(atom);
+	/**
+	 * Returns the atoms stemming from facts that show up in every answer set, i.e., those over non-internal predicates
+	 * that pass the filter. These are computed once and shared among all answer sets.
+	 */
+	private Map<Predicate, SortedSet<Atom>> getFactInstancesForAnswerSets() {
+		if (factInstancesForAnswerSets != null) {
+			return factInstancesForAnswerSets;
 		}
-
-		// Add true atoms from facts.
+		factInstancesForAnswerSets = new HashMap<>();
 		for (Map.Entry<Predicate, LinkedHashSet<Instance>> facts : factsFromProgram.entrySet()) {
 			Predicate factPredicate = facts.getKey();
 			// Skip atoms over internal predicates.
@@ -270,19 +287,13 @@ public AnswerSet assignmentToAnswerSet(Iterable<Integer> trueAtoms) {
 			if (facts.getValue().isEmpty()) {
 				continue;
 			}
-			knownPredicates.add(factPredicate);
-			predicateInstances.putIfAbsent(factPredicate, new TreeSet<>());
+			SortedSet<Atom> instances = new TreeSet<>();
 			for (Instance factInstance : facts.getValue()) {
-				SortedSet<Atom> instances = predicateInstances.get(factPredicate);
 				instances.add(new BasicAtom(factPredicate, factInstance.terms));
 			}
+			factInstancesForAnswerSets.put(factPredicate, Collections.unmodifiableSortedSet(instances));
 		}
-
-		if (knownPredicates.isEmpty()) {
-			return BasicAnswerSet.EMPTY;
-		}
-
-		return new BasicAnswerSet(knownPredicates, predicateInstances);
+		return factInstancesForAnswerSets;
 	}
 
 	/**
@@ -290,19 +301,29 @@ public AnswerSet assignmentToAnswerSet(Iterable<Integer> trueAtoms) {
 	 * 
 	 * @return
 	 */
-	protected HashMap<Integer, NoGood> bootstrap() {
-		final HashMap<Integer, NoGood> groundNogoods = new LinkedHashMap<>();
+	protected NoGoodBatch bootstrap() {
+		final NoGoodBatch groundNogoods = new NoGoodBatch();
 
 		for (Predicate predicate : factsFromProgram.keySet()) {
 			// Instead of generating NoGoods, add instance to working memories directly.
 			workingMemory.addInstances(predicate, true, factsFromProgram.get(predicate));
 		}
 
+		// Weak constraints that hold by facts alone must still be known to the solver, since it accounts for their weights.
+		LinkedHashSet<Instance> weakConstraintFacts = factsFromProgram.get(WeakConstraintAtom.PREDICATE);
+		if (weakConstraintFacts != null) {
+			for (Instance instance : weakConstraintFacts) {
+				int atomId = atomStore.putIfAbsent(new BasicAtom(WeakConstraintAtom.PREDICATE, instance.terms));
+				registry.register(Collections.singletonList(NoGood.fact(atomToNegatedLiteral(atomId))), groundNogoods);
+			}
+		}
+
 		for (InternalRule nonGroundRule : fixedRules) {
 			// Generate NoGoods for all rules that have a fixed grounding.
 			RuleGroundingOrder groundingOrder = nonGroundRule.getGroundingOrders().getFixedGroundingOrder();
 			BindingResult bindingResult = getGroundInstantiations(nonGroundRule, groundingOrder, new Substitution(), null);
 			groundAndRegister(nonGroundRule, bindingResult.getGeneratedSubstitutions(), groundNogoods);
+			profiledCounters = null;
 		}
 
 		fixedRules = null;
@@ -311,9 +332,11 @@ protected HashMap<Integer, NoGood> bootstrap() {
 	}
 
 	@Override
-	public Map<Integer, NoGood> getNoGoods(Assignment currentAssignment) {
+	public NoGoodBatch getNoGoods(TruthView currentAssignment) {
+		final Object groundingRoundEvent = FlightRecorderEvents.beginGroundingRound();
+		final boolean bootstrapping = fixedRules != null;
 		// In first call, prepare facts and ground rules.
-		final Map<Integer, NoGood> newNoGoods = fixedRules != null ? bootstrap() : new LinkedHashMap<>();
+		final NoGoodBatch newNoGoods = bootstrapping ? bootstrap() : new NoGoodBatch();
 
 		// Compute new ground rule (evaluate joins with newly changed atoms)
 		for (IndexedInstanceStorage modifiedWorkingMemory : workingMemory.modified()) {
@@ -353,6 +376,7 @@ public Map<Integer, NoGood> getNoGoods(Assignment currentAssignment) {
 							currentAssignment);
 
 					groundAndRegister(nonGroundRule, bindingResult.getGeneratedSubstitutions(), newNoGoods);
+					profiledCounters = null;
 				}
 			}
 
@@ -375,16 +399,17 @@ public Map<Integer, NoGood> getNoGoods(Assignment currentAssignment) {
 		instantiationStrategy.setStaleWorkingMemoryEntries(removeAfterObtainingNewNoGoods);
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Grounded NoGoods are:");
-			for (Map.Entry<Integer, NoGood> noGoodEntry : newNoGoods.entrySet()) {
-				LOGGER.debug("{} == {}", noGoodEntry.getValue(), atomStore.noGoodToString(noGoodEntry.getValue()));
+			for (NoGood noGood : newNoGoods.getNoGoods()) {
+				LOGGER.debug("{} == {}", noGood, atomStore.noGoodToString(noGood));
 			}
 			LOGGER.debug("{}", choiceRecorder);
 		}
 
 		if (debugInternalChecks) {
-			checkTypesOfNoGoods(newNoGoods.values());
+			checkTypesOfNoGoods(newNoGoods.getNoGoods());
 		}
 
+		FlightRecorderEvents.endGroundingRound(groundingRoundEvent, bootstrapping, newNoGoods.size());
 		return newNoGoods;
 	}
 
@@ -396,10 +421,13 @@ public Map<Integer, NoGood> getNoGoods(Assignment currentAssignment) {
 	 * @param substitutions the substitutions to be applied.
 	 * @param newNoGoods    a set of nogoods to which newly generated nogoods will be added.
 	 */
-	private void groundAndRegister(final InternalRule nonGroundRule, final List<Substitution> substitutions, final Map<Integer, NoGood> newNoGoods) {
+	private void groundAndRegister(final InternalRule nonGroundRule, final List<Substitution> substitutions, final NoGoodBatch newNoGoods) {
 		for (Substitution substitution : substitutions) {
 			List<NoGood> generatedNoGoods = noGoodGenerator.generateNoGoodsFromGroundSubstitution(nonGroundRule, substitution);
 			registry.register(generatedNoGoods, newNoGoods);
+			if (profiledCounters != null) {
+				profiledCounters.recordNoGoodsGenerated(generatedNoGoods.size());
+			}
 		}
 	}
 
@@ -410,7 +438,7 @@ public int register(NoGood noGood) {
 
 	// Ideally, this method should be private. It's only visible because NaiveGrounderTest needs to access it.
 	BindingResult getGroundInstantiations(InternalRule rule, RuleGroundingOrder groundingOrder, Substitution partialSubstitution,
-			Assignment currentAssignment) {
+			TruthView currentAssignment) {
 		int tolerance = heuristicsConfiguration.getTolerance(rule.isConstraint());
 		if (tolerance < 0) {
 			tolerance = Integer.MAX_VALUE;
@@ -420,7 +448,18 @@ BindingResult getGroundInstantiations(InternalRule rule, RuleGroundingOrder grou
 		// Note: Actually the assignment could be an instance variable of the grounder (shared with solver),
 		// but this would have a larger impact on grounder/solver communication design as a whole.
 		instantiationStrategy.setCurrentAssignment(currentAssignment);
+		if (!profileGrounding) {
+			return logBindingResult(rule, bindNextAtomInRule(groundingOrder, 0, tolerance, tolerance, partialSubstitution));
+		}
+		// Counters stay set until the substitutions obtained are grounded, such that generated nogoods are counted as well.
+		profiledCounters = groundingProfile.getOrCreateCounters(rule, groundingOrder);
+		long start = System.nanoTime();
 		BindingResult bindingResult = bindNextAtomInRule(groundingOrder, 0, tolerance, tolerance, partialSubstitution);
+		profiledCounters.recordInstantiation(System.nanoTime() - start, bindingResult.size());
+		return logBindingResult(rule, bindingResult);
+	}
+
+	private static BindingResult logBindingResult(InternalRule rule, BindingResult bindingResult) {
 		if (LOGGER.isDebugEnabled()) {
 			for (int i = 0; i < bindingResult.size(); i++) {
 				Integer numberOfUnassignedPositiveBodyAtoms = bindingResult.getNumbersOfUnassignedPositiveBodyAtoms().get(i);
@@ -481,6 +520,9 @@ private BindingResult advanceAndBindNextAtomInRule(RuleGroundingOrder groundingO
 
 	private BindingResult pushBackAndBindNextAtomInRule(RuleGroundingOrder groundingOrder, int orderPosition, int originalTolerance, int remainingTolerance,
 			Substitution partialSubstitution) {
+		if (profiledCounters != null) {
+			profiledCounters.recordPushBack();
+		}
 		RuleGroundingOrder modifiedGroundingOrder = groundingOrder.pushBack(orderPosition);
 		if (modifiedGroundingOrder == null) {
 			return BindingResult.empty();
@@ -513,6 +555,9 @@ private BindingResult bindNextAtomInRule(RuleGroundingOrder groundingOrder, int
 		}
 		LOGGER.trace("Binding current literal {} with remaining tolerance {} and partial substitution {}.", currentLiteral,
 				remainingTolerance, partialSubstitution);
+		if (profiledCounters != null) {
+			profiledCounters.recordSubstitutionTried();
+		}
 		LiteralInstantiationResult instantiationResult = ruleInstantiator.instantiateLiteral(currentLiteral, partialSubstitution);
 		switch (instantiationResult.getType()) {
 			case CONTINUE:
@@ -562,13 +607,8 @@ private BindingResult bindNextAtomInRule(RuleGroundingOrder groundingOrder, int
 	}
 
 	@Override
-	public Pair<Map<Integer, Integer>, Map<Integer, Integer>> getChoiceAtoms() {
-		return choiceRecorder.getAndResetChoices();
-	}
-
-	@Override
-	public Map<Integer, Set<Integer>> getHeadsToBodies() {
-		return choiceRecorder.getAndResetHeadsToBodies();
+	public ChoiceInformation getChoiceInformation() {
+		return choiceRecorder.getAndResetChoiceInformation();
 	}
 
 	@Override
@@ -583,6 +623,11 @@ public void forgetAssignment(int[] atomIds) {
 		throw new UnsupportedOperationException("Forgetting assignments is not implemented");
 	}
 
+	@Override
+	public GroundingProfile getGroundingProfile() {
+		return groundingProfile;
+	}
+
 	@Override
 	public InternalRule getNonGroundRule(Integer ruleId) {
 		return knownNonGroundRules.get(ruleId);
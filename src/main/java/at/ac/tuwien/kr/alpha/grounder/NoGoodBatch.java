@@ -0,0 +1,93 @@
+package at.ac.tuwien.kr.alpha.grounder;
+
+import at.ac.tuwien.kr.alpha.common.NoGood;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
+
+/**
+ * NoGoods handed from the grounder to the solver in one batch, in the order they were registered. Identifiers are
+ * kept in a primitive array alongside the nogoods, such that no identifier is boxed and no map entry is created on the
+ * way to the solver.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class NoGoodBatch {
+	private static final int INITIAL_SIZE = 8;
+
+	private int[] ids = new int[0];
+	private NoGood[] noGoods = new NoGood[0];
+	private int size;
+
+	public void add(int id, NoGood noGood) {
+		ensureCapacity(size + 1);
+		ids[size] = id;
+		noGoods[size] = noGood;
+		size++;
+	}
+
+	/**
+	 * Appends all nogoods of the given batch to this one.
+	 */
+	public void addAll(NoGoodBatch other) {
+		ensureCapacity(size + other.size);
+		System.arraycopy(other.ids, 0, ids, size, other.size);
+		System.arraycopy(other.noGoods, 0, noGoods, size, other.size);
+		size += other.size;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= ids.length) {
+			return;
+		}
+		int newLength = Math.max(capacity, Math.max(INITIAL_SIZE, arrayGrowthSize(ids.length)));
+		ids = Arrays.copyOf(ids, newLength);
+		noGoods = Arrays.copyOf(noGoods, newLength);
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int getId(int i) {
+		checkIndex(i);
+		return ids[i];
+	}
+
+	public NoGood getNoGood(int i) {
+		checkIndex(i);
+		return noGoods[i];
+	}
+
+	/**
+	 * @return an unmodifiable view on the nogoods of this batch, valid until nogoods are added.
+	 */
+	public List<NoGood> getNoGoods() {
+		return Collections.unmodifiableList(Arrays.asList(noGoods).subList(0, size));
+	}
+
+	private void checkIndex(int i) {
+		if (i < 0 || i >= size) {
+			throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(ids[i]).append("=").append(noGoods[i]);
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -5,6 +5,10 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * Assigns unique identifiers to nogoods. Registering is synchronized, since nogoods learned by the solver may be
+ * registered while the grounder registers freshly grounded nogoods on another thread.
+ */
 public class NogoodRegistry {
 	private static final IntIdGenerator ID_GENERATOR = new IntIdGenerator();
 
@@ -14,7 +18,7 @@ public class NogoodRegistry {
 	 * Helper methods to analyze average nogood length.
 	 * @return
 	 */
-	public float computeAverageNoGoodLength() {
+	public synchronized float computeAverageNoGoodLength() {
 		int totalSizes = 0;
 		for (Map.Entry<NoGood, Integer> noGoodEntry : registeredIdentifiers.entrySet()) {
 			totalSizes += noGoodEntry.getKey().size();
@@ -22,18 +26,18 @@ public float computeAverageNoGoodLength() {
 		return ((float) totalSizes) / registeredIdentifiers.size();
 	}
 
-	void register(Iterable<NoGood> noGoods, Map<Integer, NoGood> difference) {
+	synchronized void register(Iterable<NoGood> noGoods, NoGoodBatch difference) {
 		for (NoGood noGood : noGoods) {
 			// Check if noGood was already derived earlier, add if it is new
 			if (!registeredIdentifiers.containsKey(noGood)) {
 				int noGoodId = ID_GENERATOR.getNextId();
 				registeredIdentifiers.put(noGood, noGoodId);
-				difference.put(noGoodId, noGood);
+				difference.add(noGoodId, noGood);
 			}
 		}
 	}
 
-	int register(NoGood noGood) {
+	synchronized int register(NoGood noGood) {
 		if (!registeredIdentifiers.containsKey(noGood)) {
 			int noGoodId = ID_GENERATOR.getNextId();
 			registeredIdentifiers.put(noGood, noGoodId);
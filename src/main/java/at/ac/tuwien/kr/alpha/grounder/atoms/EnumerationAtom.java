@@ -37,11 +37,11 @@ public EnumerationAtom(List<Term> terms) {
 		}
 	}
 
-	public static void resetEnumerations() {
+	public static synchronized void resetEnumerations() {
 		ENUMERATIONS.clear();
 	}
 
-	private Integer getEnumerationIndex(Term identifier, Term enumerationTerm) {
+	private static synchronized Integer getEnumerationIndex(Term identifier, Term enumerationTerm) {
 		ENUMERATIONS.putIfAbsent(identifier, new HashMap<>());
 		HashMap<Term, Integer> enumeratedTerms = ENUMERATIONS.get(identifier);
 		Integer assignedInteger = enumeratedTerms.get(enumerationTerm);
@@ -0,0 +1,74 @@
+package at.ac.tuwien.kr.alpha.grounder.atoms;
+
+import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
+import at.ac.tuwien.kr.alpha.common.terms.ConstantTerm;
+import at.ac.tuwien.kr.alpha.common.terms.FunctionTerm;
+import at.ac.tuwien.kr.alpha.common.terms.Term;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents the head of a weak constraint :~ body. [weight@level, terms] that is rewritten into the rule
+ * _weak_constraint(weight, level, (terms)) :- body.
+ *
+ * Since all terms of the weak constraint are part of the atom, two ground weak constraints are represented by the same
+ * atom iff their weight, level, and terms coincide, which yields the ASP-Core-2 semantics of counting the weight of
+ * each such tuple only once. The weight and level of a ground instance are obtained via {@link #getWeight(Atom)} and
+ * {@link #getLevel(Atom)}. Note that instances are identified by their predicate only, since grounding yields plain
+ * {@link BasicAtom}s.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class WeakConstraintAtom extends BasicAtom {
+	public static final Predicate PREDICATE = Predicate.getInstance("_weak_constraint", 3, true);
+
+	private static final String TUPLE_SYMBOL = "";
+
+	/**
+	 * Creates the head of a weak constraint. A ground weight that is not a non-negative integer is rejected right away,
+	 * a non-ground one once a ground instance of the weak constraint is registered with the solver.
+	 */
+	public WeakConstraintAtom(Term weight, Term level, List<Term> terms) {
+		super(PREDICATE, Arrays.asList(weight, level, FunctionTerm.getInstance(TUPLE_SYMBOL, terms)));
+		if (weight.isGround()) {
+			getWeight(this);
+		}
+	}
+
+	public static boolean isWeakConstraintAtom(Atom atom) {
+		return PREDICATE.equals(atom.getPredicate());
+	}
+
+	/**
+	 * Returns the weight of a ground weak constraint atom.
+	 * @param atom a ground atom over {@link #PREDICATE}.
+	 * @return the (non-negative) weight.
+	 */
+	public static int getWeight(Atom atom) {
+		int weight = getIntegerTerm(atom, 0, "weight");
+		if (weight < 0) {
+			throw new IllegalArgumentException("Weak constraints with negative weights are not supported: " + atom);
+		}
+		return weight;
+	}
+
+	/**
+	 * Returns the level of a ground weak constraint atom.
+	 * @param atom a ground atom over {@link #PREDICATE}.
+	 * @return the level.
+	 */
+	public static int getLevel(Atom atom) {
+		return getIntegerTerm(atom, 1, "level");
+	}
+
+	private static int getIntegerTerm(Atom atom, int position, String name) {
+		Term term = atom.getTerms().get(position);
+		if (!(term instanceof ConstantTerm) || !(((ConstantTerm<?>) term).getObject() instanceof Integer)) {
+			throw new IllegalArgumentException("The " + name + " of a weak constraint must be an integer, but is " + term + " in: " + atom);
+		}
+		return (Integer) ((ConstantTerm<?>) term).getObject();
+	}
+}
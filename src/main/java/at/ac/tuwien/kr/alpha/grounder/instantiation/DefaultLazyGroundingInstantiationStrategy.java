@@ -29,9 +29,9 @@
 import java.util.Map;
 
 import at.ac.tuwien.kr.alpha.Util;
-import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
 import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.TruthView;
 import at.ac.tuwien.kr.alpha.common.atoms.Atom;
 import at.ac.tuwien.kr.alpha.common.atoms.Literal;
 import at.ac.tuwien.kr.alpha.grounder.IndexedInstanceStorage;
@@ -44,18 +44,18 @@
 /**
  * Implementation of {@link AbstractLiteralInstantiationStrategy} designed for use in {@link NaiveGrounder}.
  * 
- * The instantiation strategy shares a {@link WorkingMemory}, an {@link AtomStore}, an {@link Assignment}, a {@link Map} of atoms that were
+ * The instantiation strategy shares a {@link WorkingMemory}, an {@link AtomStore}, a {@link TruthView}, a {@link Map} of atoms that were
  * facts of the currently grounded program, as well as a list of {@link Atom}s that should be lazily deleted from the working memory, with
  * the grounder.
  * 
  * The working memory and the facts map are maintained by the grounder and are being read by
  * {@link DefaultLazyGroundingInstantiationStrategy} in order to determine {@link AssignmentStatus}es for atoms. The {@link AtomStore} is
  * maintained by {@link DefaultLazyGroundingInstantiationStrategy} in the sense that atoms created from newly encountered ground instances
- * are added by the instantiation strategy. The {@link Assignment} reflects the {@link Solver}s "current view of the world". It is used by
+ * are added by the instantiation strategy. The {@link TruthView} reflects the {@link Solver}s "current view of the world". It is used by
  * {@link DefaultLazyGroundingInstantiationStrategy} to determine {@link AssignmentStatus}es for atoms.
  * 
  * A specialty of this implementation is that - since deletion of obsolete {@link Atom}s from {@link NaiveGrounder}s {@link WorkingMemory}
- * happens lazily (i.e. at the end of each run of {@link NaiveGrounder#getNoGoods(Assignment)}) - it maintains a set of "stale" atoms that
+ * happens lazily (i.e. at the end of each run of {@link NaiveGrounder#getNoGoods(TruthView)}) - it maintains a set of "stale" atoms that
  * is shared with the grounder. Specifically, whenever {@link DefaultLazyGroundingInstantiationStrategy#getAssignmentStatusForAtom(Atom)}
  * determines that an {@link Atom} is {@link AssignmentStatus#UNASSIGNED} or {@link AssignmentStatus#FALSE}, that {@link Atom} is added to
  * the stale atom set, which in turn is processed by the grounder, which then deletes the respective atoms from the working memory.
@@ -66,7 +66,7 @@ public class DefaultLazyGroundingInstantiationStrategy extends AbstractLiteralIn
 
 	private WorkingMemory workingMemory;
 	private AtomStore atomStore;
-	private Assignment currentAssignment;
+	private TruthView currentAssignment;
 	private LinkedHashSet<Atom> staleWorkingMemoryEntries;
 	private Map<Predicate, LinkedHashSet<Instance>> facts;
 	private boolean accumulatorEnabled;
@@ -126,7 +126,6 @@ protected AssignmentStatus getAssignmentStatusForAtom(Atom atom) {
 		// First, make sure that the Atom in question exists in the AtomStore.
 		if (atomStore.contains(atom)) {
 			int atomId = this.atomStore.get(atom);
-			this.currentAssignment.growForMaxAtomId();
 			if (currentAssignment.isAssigned(atomId)) {
 				retVal = currentAssignment.getTruth(atomId).toBoolean() ? AssignmentStatus.TRUE : AssignmentStatus.FALSE;
 			} else {
@@ -173,7 +172,7 @@ protected boolean assignmentStatusAccepted(AssignmentStatus assignmentStatus) {
 		}
 	}
 
-	public void setCurrentAssignment(Assignment currentAssignment) {
+	public void setCurrentAssignment(TruthView currentAssignment) {
 		this.currentAssignment = currentAssignment;
 	}
 
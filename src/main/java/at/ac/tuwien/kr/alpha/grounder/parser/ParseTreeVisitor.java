@@ -47,6 +47,7 @@
 import at.ac.tuwien.kr.alpha.common.fixedinterpretations.PredicateInterpretation;
 import at.ac.tuwien.kr.alpha.common.program.InputProgram;
 import at.ac.tuwien.kr.alpha.common.rule.BasicRule;
+import at.ac.tuwien.kr.alpha.common.rule.SourcePosition;
 import at.ac.tuwien.kr.alpha.common.rule.head.ChoiceHead;
 import at.ac.tuwien.kr.alpha.common.rule.head.Head;
 import at.ac.tuwien.kr.alpha.common.rule.head.NormalHead;
@@ -56,7 +57,11 @@
 import at.ac.tuwien.kr.alpha.common.terms.IntervalTerm;
 import at.ac.tuwien.kr.alpha.common.terms.Term;
 import at.ac.tuwien.kr.alpha.common.terms.VariableTerm;
+import at.ac.tuwien.kr.alpha.grounder.atoms.WeakConstraintAtom;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
 import java.util.ArrayList;
@@ -172,6 +177,16 @@ public Object visitStatements(ASPCore2Parser.StatementsContext ctx) {
 		return null;
 	}
 
+	/**
+	 * Returns the position at which the given statement starts, ANTLR counts columns from 0.
+	 */
+	private static SourcePosition sourcePositionOf(ParserRuleContext ctx) {
+		Token start = ctx.getStart();
+		String sourceName = start.getInputStream().getSourceName();
+		return new SourcePosition(IntStream.UNKNOWN_SOURCE_NAME.equals(sourceName) ? null : sourceName, start.getLine(),
+			start.getCharPositionInLine() + 1);
+	}
+
 	@Override
 	public Object visitStatement_fact(ASPCore2Parser.Statement_factContext ctx) {
 		// head DOT
@@ -180,7 +195,7 @@ public Object visitStatement_fact(ASPCore2Parser.Statement_factContext ctx) {
 			programBuilder.addFact(((NormalHead) head).getAtom());
 		} else {
 			// Treat facts with choice or disjunction in the head like a rule.
-			programBuilder.addRule(new BasicRule(head, emptyList()));
+			programBuilder.addRule(new BasicRule(head, emptyList(), sourcePositionOf(ctx)));
 		}
 		return null;
 	}
@@ -188,21 +203,37 @@ public Object visitStatement_fact(ASPCore2Parser.Statement_factContext ctx) {
 	@Override
 	public Object visitStatement_constraint(ASPCore2Parser.Statement_constraintContext ctx) {
 		// CONS body DOT
-		programBuilder.addRule(new BasicRule(null, visitBody(ctx.body())));
+		programBuilder.addRule(new BasicRule(null, visitBody(ctx.body()), sourcePositionOf(ctx)));
 		return null;
 	}
 
 	@Override
 	public Object visitStatement_rule(ASPCore2Parser.Statement_ruleContext ctx) {
 		// head CONS body DOT
-		programBuilder.addRule(new BasicRule(visitHead(ctx.head()), visitBody(ctx.body())));
+		programBuilder.addRule(new BasicRule(visitHead(ctx.head()), visitBody(ctx.body()), sourcePositionOf(ctx)));
 		return null;
 	}
 
 	@Override
 	public Object visitStatement_weightConstraint(ASPCore2Parser.Statement_weightConstraintContext ctx) {
 		// WCONS body? DOT SQUARE_OPEN weight_at_level SQUARE_CLOSE
-		throw notSupported(ctx);
+		// Weak constraints are rewritten into rules deriving an internal atom that carries weight, level, and terms.
+		WeakConstraintAtom head = visitWeight_at_level(ctx.weight_at_level());
+		List<Literal> body = visitBody(ctx.body());
+		if (body.isEmpty()) {
+			programBuilder.addFact(head);
+		} else {
+			programBuilder.addRule(new BasicRule(new NormalHead(head), body, sourcePositionOf(ctx)));
+		}
+		return null;
+	}
+
+	@Override
+	public WeakConstraintAtom visitWeight_at_level(ASPCore2Parser.Weight_at_levelContext ctx) {
+		// weight_at_level : term (AT term)? (COMMA terms)?;
+		Term weight = (Term) visit(ctx.term(0));
+		Term level = ctx.AT() != null ? (Term) visit(ctx.term(1)) : ConstantTerm.getInstance(0);
+		return new WeakConstraintAtom(weight, level, visitTerms(ctx.terms()));
 	}
 
 	@Override
@@ -19,6 +19,16 @@
 import at.ac.tuwien.kr.alpha.common.fixedinterpretations.PredicateInterpretation;
 import at.ac.tuwien.kr.alpha.common.program.InputProgram;
 
+/**
+ * Parses ASP-Core-2 input into {@link InputProgram}s.
+ *
+ * Parsing is done in two stages: the parser first runs in ANTLR's SLL prediction mode with a bailing error strategy,
+ * which is considerably faster and succeeds for virtually all real-world inputs. Only if that fails, the input is
+ * parsed again using full LL prediction, which is guaranteed to either succeed or report a genuine syntax error.
+ *
+ * A {@link ProgramParser} holds no mutable state, hence one instance may be used to build the parse trees of several
+ * inputs concurrently, see {@link #parseTree(CharStream)}.
+ */
 public class ProgramParser {
 	private final Map<String, PredicateInterpretation> externals;
 
@@ -47,6 +57,14 @@ public InputProgram parse(String s) {
 	}
 
 	public InputProgram parse(CharStream stream) throws IOException {
+		return translate(parseTree(stream));
+	}
+
+	/**
+	 * Runs the first phase of {@link #parse(CharStream)}, i.e., builds the parse tree of the given input. This phase
+	 * touches no global state, hence several inputs may be parsed concurrently.
+	 */
+	public ASPCore2Parser.ProgramContext parseTree(CharStream stream) throws IOException {
 		//@formatter:off
 		/*
 		 * // In order to require less memory: use unbuffered streams and avoid constructing a full parse tree. 
@@ -74,7 +92,9 @@ public InputProgram parse(CharStream stream) throws IOException {
 			// Recognition exception may be caused simply by SLL parsing failing,
 			// retry with LL parser and DefaultErrorStrategy printing errors to console.
 			if (e.getCause() instanceof RecognitionException) {
-				tokens.seek(0);
+				// Note that a full reset of the parser (which also rewinds the token stream) is necessary here, otherwise
+				// the LL pass would start out with the context left behind by the failed SLL pass.
+				parser.reset();
 				parser.addErrorListener(errorListener);
 				parser.setErrorHandler(new DefaultErrorStrategy());
 				parser.getInterpreter().setPredictionMode(PredictionMode.LL);
@@ -104,7 +124,15 @@ public InputProgram parse(CharStream stream) throws IOException {
 			throw new ParseCancellationException();
 		}
 
-		// Construct internal program representation.
+		return programContext;
+	}
+
+	/**
+	 * Runs the second phase of {@link #parse(CharStream)}, i.e., constructs the internal program representation from a
+	 * parse tree. This phase names anonymous variables by a global counter, hence inputs must be translated one after
+	 * another (and in a fixed order) for the names not to depend on thread scheduling.
+	 */
+	public InputProgram translate(ASPCore2Parser.ProgramContext programContext) {
 		ParseTreeVisitor visitor = new ParseTreeVisitor(externals);
 		return visitor.translate(programContext);
 	}
@@ -7,9 +7,9 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +18,7 @@
 
 import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.IntIterator;
 import at.ac.tuwien.kr.alpha.common.Predicate;
 import at.ac.tuwien.kr.alpha.common.atoms.Atom;
 import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
@@ -40,8 +41,18 @@ public class AnalyzeUnjustified {
 	private final InternalProgram programAnalysis;
 	private final AtomStore atomStore;
 	private final Map<Predicate, LinkedHashSet<Instance>> factsFromProgram;
-	private int renamingCounter;
 	private int padDepth;
+	/**
+	 * Renamed copies of rules per rule, see {@link #nextRenamedCopy(InternalRule)}.
+	 */
+	private final Map<InternalRule, RenamedRuleCopies> renamedRules = new HashMap<>();
+	/**
+	 * Results of {@link #explainUnjust(LitSet, Assignment)} computed within the current epoch.
+	 */
+	private final Map<LitSet, ReturnExplainUnjust> explanationsInEpoch = new HashMap<>();
+	private Assignment epochAssignment;
+	private long epoch;
+	private int epochMaxAtomId;
 
 	public AnalyzeUnjustified(InternalProgram programAnalysis, AtomStore atomStore, Map<Predicate, LinkedHashSet<Instance>> factsFromProgram) {
 		this.programAnalysis = programAnalysis;
@@ -50,8 +61,6 @@ public AnalyzeUnjustified(InternalProgram programAnalysis, AtomStore atomStore,
 		padDepth = 0;
 	}
 
-	private Map<Predicate, List<Atom>> assignedAtoms;
-
 	public Set<Literal> analyze(int atomToJustify, Assignment currentAssignment) {
 		padDepth = 0;
 		Atom atom = atomStore.get(atomToJustify);
@@ -65,19 +74,28 @@ public Set<Literal> analyze(int atomToJustify, Assignment currentAssignment) {
 		// If atom instanceof ChoiceAtom and atom is MBT, then the corresponding rule body has a BasicAtom that is MBT.
 		// If atom instanceof RuleAtom and atom is FALSE, then this comes from a violated constraint in the end and the corresponding rule body can be taken as the single rule deriving the RuleAtom.
 		//@formatter:on
-		assignedAtoms = new LinkedHashMap<>();
-		for (int i = 1; i <= atomStore.getMaxAtomId(); i++) {
-			ThriceTruth truth = currentAssignment.getTruth(i);
-			if (truth == null) {
-				continue;
-			}
-			Atom assignedAtom = atomStore.get(i);
-			assignedAtoms.putIfAbsent(assignedAtom.getPredicate(), new ArrayList<>());
-			assignedAtoms.get(assignedAtom.getPredicate()).add(assignedAtom);
-		}
+		startEpochIfChanged(currentAssignment);
 		return analyze((BasicAtom) atom, currentAssignment);
 	}
 
+	/**
+	 * Starts a new epoch if the assignment or the atom store changed since the last analysis. Results of
+	 * {@link #explainUnjust(LitSet, Assignment)} are only reused within one epoch. Variables of all rule copies used
+	 * within one epoch are distinct, hence copies are reused across epochs only.
+	 */
+	private void startEpochIfChanged(Assignment currentAssignment) {
+		if (currentAssignment == epochAssignment && currentAssignment.getEpoch() == epoch && atomStore.getMaxAtomId() == epochMaxAtomId) {
+			return;
+		}
+		epochAssignment = currentAssignment;
+		epoch = currentAssignment.getEpoch();
+		epochMaxAtomId = atomStore.getMaxAtomId();
+		explanationsInEpoch.clear();
+		for (RenamedRuleCopies copies : renamedRules.values()) {
+			copies.usedInEpoch = 0;
+		}
+	}
+
 	private Set<Literal> analyze(BasicAtom atom, Assignment currentAssignment) {
 		log(pad("Starting analyze, current assignment is: {}"), currentAssignment);
 		LinkedHashSet<Literal> vL = new LinkedHashSet<>();
@@ -104,6 +122,17 @@ private Set<Literal> analyze(BasicAtom atom, Assignment currentAssignment) {
 	}
 
 	private ReturnExplainUnjust explainUnjust(LitSet x, Assignment currentAssignment) {
+		ReturnExplainUnjust memoized = explanationsInEpoch.get(x);
+		if (memoized != null) {
+			log("Reusing explanation of {}", x);
+			return memoized;
+		}
+		ReturnExplainUnjust ret = computeExplainUnjust(x, currentAssignment);
+		explanationsInEpoch.put(x, ret);
+		return ret;
+	}
+
+	private ReturnExplainUnjust computeExplainUnjust(LitSet x, Assignment currentAssignment) {
 		padDepth += 2;
 		log("Begin explainUnjust(): {}", x);
 		Atom p = x.getAtom();
@@ -116,8 +145,8 @@ private ReturnExplainUnjust explainUnjust(LitSet x, Assignment currentAssignment
 		rulesLoop:
 		for (RuleAndUnifier ruleUnifier : rulesUnifyingWithP) {
 			Unifier sigma = ruleUnifier.unifier;
-			Set<Literal> bodyR = ruleUnifier.ruleBody;
-			Atom sigmaHr = ruleUnifier.originalHead.substitute(sigma);
+			RenamedRule rule = ruleUnifier.rule;
+			Atom sigmaHr = rule.head.substitute(sigma);
 			log("Considering now: {}", ruleUnifier);
 			Set<Unifier> vN = new LinkedHashSet<>(x.getComplementSubstitutions());
 			for (Unifier sigmaN : vN) {
@@ -137,14 +166,11 @@ private ReturnExplainUnjust explainUnjust(LitSet x, Assignment currentAssignment
 			}
 			log("Adapting N to N'. Original N is {}", vN);
 			log("Adapted N' is {}", vNp);
-			log("Searching for falsified negated literals in the body: {}", bodyR);
-			for (Literal lit : bodyR) {
-				if (!lit.isNegated()) {
-					continue;
-				}
+			log("Searching for falsified negated literals in the body: {}", rule.negativeBody);
+			for (Literal lit : rule.negativeBody) {
 				Atom lb = lit.getAtom().substitute(sigma);
 				log("Found: {}, searching falsifying ground instances of {} (with unifier from the head) now.", lit, lb);
-				AssignedAtomsIterator assignedAtomsOverPredicate = getAssignedAtomsOverPredicate(lb.getPredicate());
+				AssignedAtomsIterator assignedAtomsOverPredicate = getAssignedAtomsOverPredicate(lb.getPredicate(), currentAssignment);
 				while (assignedAtomsOverPredicate.hasNext()) {
 					Atom lg = assignedAtomsOverPredicate.next();
 					log("Considering: {}", lg);
@@ -180,14 +206,8 @@ private ReturnExplainUnjust explainUnjust(LitSet x, Assignment currentAssignment
 				}
 
 			}
-			List<Literal> bodyPos = new ArrayList<>();
-			for (Literal literal : bodyR) {
-				if (!literal.isNegated()) {
-					bodyPos.add(literal);
-				}
-			}
 			log("Calling UnjustCover() for positive body.");
-			ret.vToDo.addAll(unjustCover(bodyPos, Collections.singleton(sigma), vNp, currentAssignment));
+			ret.vToDo.addAll(unjustCover(rule.positiveBody, Collections.singleton(sigma), vNp, currentAssignment));
 		}
 		log("End explainUnjust().");
 		padDepth -= 2;
@@ -220,7 +240,7 @@ private Set<LitSet> unjustCover(List<Literal> vB, Set<Unifier> vY, Set<Unifier>
 			Set<Unifier> vYp = new LinkedHashSet<>();
 
 			log("Checking atoms over predicate: {}", b.getPredicate());
-			AssignedAtomsIterator assignedAtomsOverPredicate = getAssignedAtomsOverPredicate(b.getPredicate());
+			AssignedAtomsIterator assignedAtomsOverPredicate = getAssignedAtomsOverPredicate(b.getPredicate(), currentAssignment);
 			atomLoop:
 			while (assignedAtomsOverPredicate.hasNext()) {
 				Atom atom = assignedAtomsOverPredicate.next();
@@ -291,34 +311,34 @@ private String pad(String string) {
 		return sb.toString();
 	}
 
-	private AssignedAtomsIterator getAssignedAtomsOverPredicate(Predicate predicate) {
+	private AssignedAtomsIterator getAssignedAtomsOverPredicate(Predicate predicate, Assignment currentAssignment) {
 		// Find more substitutions, consider currentAssignment.
-		List<Atom> assignedAtoms = this.assignedAtoms.get(predicate);
+		IntIterator assignedAtoms = currentAssignment.getAssignedAtoms(predicate);
 		// Consider instances from facts.
 		LinkedHashSet<Instance> factsOverPredicate = factsFromProgram.get(predicate);
 		return new AssignedAtomsIterator(predicate, assignedAtoms, factsOverPredicate);
 	}
 
-	private static class AssignedAtomsIterator implements Iterator<Atom> {
+	private class AssignedAtomsIterator implements Iterator<Atom> {
 		private final Predicate predicate;
-		private final Iterator<Atom> assignedAtomsIterator;
+		private final IntIterator assignedAtoms;
 		private final Iterator<Instance> factsIterator;
 
-		public AssignedAtomsIterator(Predicate predicate, List<Atom> assignedAtoms, Set<Instance> facts) {
+		AssignedAtomsIterator(Predicate predicate, IntIterator assignedAtoms, Set<Instance> facts) {
 			this.predicate = predicate;
-			this.assignedAtomsIterator = assignedAtoms == null ? Collections.emptyIterator() : assignedAtoms.iterator();
+			this.assignedAtoms = assignedAtoms;
 			this.factsIterator = facts == null ? Collections.emptyIterator() : facts.iterator();
 		}
 
 		@Override
 		public boolean hasNext() {
-			return assignedAtomsIterator.hasNext() || factsIterator.hasNext();
+			return assignedAtoms.hasNext() || factsIterator.hasNext();
 		}
 
 		@Override
 		public Atom next() {
-			if (assignedAtomsIterator.hasNext()) {
-				return assignedAtomsIterator.next();
+			if (assignedAtoms.hasNext()) {
+				return atomStore.get(assignedAtoms.next());
 			}
 			if (factsIterator.hasNext()) {
 				return new BasicAtom(predicate, factsIterator.next().terms);
@@ -349,30 +369,40 @@ private List<RuleAndUnifier> rulesHeadUnifyingWith(Atom p) {
 		}
 		for (FactOrNonGroundRule factOrNonGroundRule : definingRulesAndFacts) {
 			boolean isNonGroundRule = factOrNonGroundRule.nonGroundRule != null;
-			Set<Literal> renamedBody;
-			Atom headAtom;
+			RenamedRule rule;
 			if (isNonGroundRule) {
 				// First rename all variables in the rule.
-				InternalRule rule = factOrNonGroundRule.nonGroundRule.renameVariables("_" + renamingCounter++);
-				renamedBody = rule.getBody();
-				headAtom = rule.getHeadAtom();
+				rule = nextRenamedCopy(factOrNonGroundRule.nonGroundRule);
 			} else {
 				// Create atom and empty rule body out of instance.
-				headAtom = new BasicAtom(p.getPredicate(), factOrNonGroundRule.factInstance.terms);
-				renamedBody = Collections.emptySet();
+				rule = new RenamedRule(new BasicAtom(p.getPredicate(), factOrNonGroundRule.factInstance.terms));
 			}
 			// Unify rule head with literal to justify.
-			Unifier unifier = Unification.unifyAtoms(p, headAtom);
+			Unifier unifier = Unification.unifyAtoms(p, rule.head);
 			// Note: maybe it is faster to first check unification and only rename the whole rule afterwards?
 			// Skip if unification failed.
 			if (unifier == null) {
 				continue;
 			}
-			rulesWithUnifier.add(new RuleAndUnifier(renamedBody, unifier, headAtom));
+			rulesWithUnifier.add(new RuleAndUnifier(rule, unifier));
 		}
 		return rulesWithUnifier;
 	}
 
+	/**
+	 * Returns a copy of the given rule whose variables are distinct from those of all other copies used within the
+	 * current epoch. The k-th copy of a rule is created once and then reused as the k-th copy in later epochs.
+	 */
+	private RenamedRule nextRenamedCopy(InternalRule nonGroundRule) {
+		RenamedRuleCopies copies = renamedRules.computeIfAbsent(nonGroundRule, r -> new RenamedRuleCopies());
+		int k = copies.usedInEpoch++;
+		if (k == copies.copies.size()) {
+			InternalRule renamed = nonGroundRule.renameVariables("_" + nonGroundRule.getRuleId() + "_" + k);
+			copies.copies.add(new RenamedRule(renamed.getHeadAtom(), renamed.getBody()));
+		}
+		return copies.copies.get(k);
+	}
+
 	private void log(String msg, Object... refs) {
 		LOGGER.trace(pad(msg), refs);
 	}
@@ -387,20 +417,58 @@ private static class ReturnExplainUnjust {
 		}
 	}
 
+	/**
+	 * A rule with renamed variables (or a fact), whose body is split into positive and negative literals.
+	 */
+	private static class RenamedRule {
+		final Atom head;
+		final List<Literal> positiveBody;
+		final List<Literal> negativeBody;
+
+		private RenamedRule(Atom head) {
+			this.head = head;
+			this.positiveBody = Collections.emptyList();
+			this.negativeBody = Collections.emptyList();
+		}
+
+		private RenamedRule(Atom head, Set<Literal> body) {
+			this.head = head;
+			List<Literal> positiveBody = new ArrayList<>();
+			List<Literal> negativeBody = new ArrayList<>();
+			for (Literal literal : body) {
+				if (literal.isNegated()) {
+					negativeBody.add(literal);
+				} else {
+					positiveBody.add(literal);
+				}
+			}
+			this.positiveBody = Collections.unmodifiableList(positiveBody);
+			this.negativeBody = Collections.unmodifiableList(negativeBody);
+		}
+
+		@Override
+		public String toString() {
+			return head + " :- " + positiveBody + ", " + negativeBody;
+		}
+	}
+
+	private static class RenamedRuleCopies {
+		final List<RenamedRule> copies = new ArrayList<>();
+		int usedInEpoch;
+	}
+
 	private static class RuleAndUnifier {
-		final Set<Literal> ruleBody;
+		final RenamedRule rule;
 		final Unifier unifier;
-		final Atom originalHead;
 
-		private RuleAndUnifier(Set<Literal> ruleBody, Unifier unifier, Atom originalHead) {
-			this.ruleBody = ruleBody;
+		private RuleAndUnifier(RenamedRule rule, Unifier unifier) {
+			this.rule = rule;
 			this.unifier = unifier;
-			this.originalHead = originalHead;
 		}
 
 		@Override
 		public String toString() {
-			return unifier + "@" + originalHead + " :- " + ruleBody;
+			return unifier + "@" + rule;
 		}
 	}
 
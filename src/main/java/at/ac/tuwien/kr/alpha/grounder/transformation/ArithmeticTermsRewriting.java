@@ -78,7 +78,7 @@ private NormalRule rewriteRule(NormalRule inputProgramRule) {
 			}
 			rewrittenBodyLiterals.add(rewriteAtom(literal.getAtom(), rewrittenBodyLiterals).toLiteral(!literal.isNegated()));
 		}
-		return new NormalRule(rewrittenHead, rewrittenBodyLiterals);
+		return new NormalRule(rewrittenHead, rewrittenBodyLiterals, inputProgramRule.getSourcePosition());
 	}
 
 	/**
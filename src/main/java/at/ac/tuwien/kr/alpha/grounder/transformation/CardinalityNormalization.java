@@ -220,18 +220,18 @@ private List<BasicRule> rewriteAggregatesInRule(BasicRule rule) {
 				if (!globalVariables.isEmpty()) {
 					elementLiterals.addAll(rewrittenBody);
 				}
-				BasicRule inputRule = new BasicRule(new NormalHead(inputHeadAtom), elementLiterals);
+				BasicRule inputRule = new BasicRule(new NormalHead(inputHeadAtom), elementLiterals, rule.getSourcePosition());
 				additionalRules.add(inputRule);
 			}
 
 			// Create lower bound for the aggregate.
 			BasicAtom lowerBoundHeadAtom = lowerBoundAtom.substitute(aggregateSubstitution);
 			List<Literal> lowerBoundBody = rewrittenBody; // Note: this is only correct if no other aggregate occurs in the rule.
-			additionalRules.add(new BasicRule(new NormalHead(lowerBoundHeadAtom), lowerBoundBody));
+			additionalRules.add(new BasicRule(new NormalHead(lowerBoundHeadAtom), lowerBoundBody, rule.getSourcePosition()));
 
 		}
 		rewrittenBody.addAll(aggregateOutputAtoms);
-		BasicRule rewrittenSrcRule = new BasicRule(rule.getHead(), rewrittenBody);
+		BasicRule rewrittenSrcRule = new BasicRule(rule.getHead(), rewrittenBody, rule.getSourcePosition());
 		additionalRules.add(rewrittenSrcRule);
 		return additionalRules;
 	}
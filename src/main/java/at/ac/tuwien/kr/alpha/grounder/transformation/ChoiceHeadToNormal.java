@@ -100,11 +100,11 @@ public InputProgram apply(InputProgram inputProgram) {
 				// Construct two guessing rules.
 				List<Literal> guessingRuleBodyWithNegHead = new ArrayList<>(ruleBody);
 				guessingRuleBodyWithNegHead.add(new BasicAtom(head.getPredicate(), head.getTerms()).toLiteral(false));
-				additionalRules.add(new BasicRule(new NormalHead(negHead), guessingRuleBodyWithNegHead));
+				additionalRules.add(new BasicRule(new NormalHead(negHead), guessingRuleBodyWithNegHead, rule.getSourcePosition()));
 
 				List<Literal> guessingRuleBodyWithHead = new ArrayList<>(ruleBody);
 				guessingRuleBodyWithHead.add(new BasicAtom(negPredicate, headTerms).toLiteral(false));
-				additionalRules.add(new BasicRule(new NormalHead(head), guessingRuleBodyWithHead));
+				additionalRules.add(new BasicRule(new NormalHead(head), guessingRuleBodyWithHead, rule.getSourcePosition()));
 
 				// TODO: when cardinality constraints are possible, process the boundaries by adding a constraint with a cardinality check.
 			}
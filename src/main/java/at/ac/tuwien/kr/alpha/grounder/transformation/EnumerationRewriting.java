@@ -78,7 +78,7 @@ private List<BasicRule> rewriteRules(List<BasicRule> srcRules, Predicate enumPre
 				rewrittenLiterals.add(new EnumerationAtom(basicLiteral.getAtom().getTerms()).toLiteral());
 			}
 			modifiedBodyLiterals.addAll(rewrittenLiterals);
-			rewrittenRules.add(new BasicRule(rule.getHead(), modifiedBodyLiterals));
+			rewrittenRules.add(new BasicRule(rule.getHead(), modifiedBodyLiterals, rule.getSourcePosition()));
 		}
 		return rewrittenRules;
 	}
@@ -77,7 +77,7 @@ private static NormalRule rewriteIntervalSpecifications(NormalRule rule) {
 		for (Map.Entry<VariableTerm, IntervalTerm> interval : intervalReplacements.entrySet()) {
 			rewrittenBody.add(new IntervalAtom(interval.getValue(), interval.getKey()).toLiteral());
 		}
-		return new NormalRule(rewrittenHead, rewrittenBody);
+		return new NormalRule(rewrittenHead, rewrittenBody, rule.getSourcePosition());
 	}
 
 	/**
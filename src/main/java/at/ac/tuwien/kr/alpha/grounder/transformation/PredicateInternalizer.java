@@ -51,6 +51,7 @@ private static BasicRule makePredicateInternal(BasicRule rule) {
 				newBody.add(bodyElement);
 			}
 		}
+		// Predicates are made internal in encodings Alpha adds to the input, whose positions mean nothing to the user.
 		return new BasicRule(newHead, newBody);
 	}
 
@@ -180,18 +180,18 @@ private List<BasicRule> rewriteAggregatesInRule(BasicRule rule) {
 				if (!globalVariables.isEmpty()) {
 					elementLiterals.addAll(rewrittenBody);
 				}
-				BasicRule inputRule = new BasicRule(new NormalHead(inputHeadAtom), elementLiterals);
+				BasicRule inputRule = new BasicRule(new NormalHead(inputHeadAtom), elementLiterals, rule.getSourcePosition());
 				additionalRules.add(inputRule);
 			}
 
 			// Create lower bound for the aggregate.
 			BasicAtom lowerBoundHeadAtom = lowerBoundAtom.substitute(aggregateUnifier);
 			List<Literal> lowerBoundBody = rewrittenBody; // Note: this is only correct if no other aggregate occurs in the rule.
-			additionalRules.add(new BasicRule(new NormalHead(lowerBoundHeadAtom), lowerBoundBody));
+			additionalRules.add(new BasicRule(new NormalHead(lowerBoundHeadAtom), lowerBoundBody, rule.getSourcePosition()));
 		}
 		if (aggregatesInRule > 0) {
 			rewrittenBody.addAll(aggregateOutputAtoms);
-			additionalRules.add(new BasicRule(rule.getHead(), rewrittenBody));
+			additionalRules.add(new BasicRule(rule.getHead(), rewrittenBody, rule.getSourcePosition()));
 		} else {
 			// Return original rule if no aggregate occurs in it.
 			additionalRules.add(rule);
@@ -141,6 +141,6 @@ private NormalRule findAndReplaceVariableEquality(NormalRule rule) {
 				headAtom.getTerms().set(i, replaced);
 			}
 		}
-		return new NormalRule(rewrittenHead, rewrittenBody);
+		return new NormalRule(rewrittenHead, rewrittenBody, rule.getSourcePosition());
 	}
 }
@@ -2,7 +2,9 @@
 
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.IntIterator;
 import at.ac.tuwien.kr.alpha.grounder.Grounder;
+import at.ac.tuwien.kr.alpha.grounder.GroundingProfile;
 
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -20,10 +22,15 @@ protected AbstractSolver(AtomStore atomStore, Grounder grounder) {
 		this.grounder = grounder;
 	}
 
-	protected AnswerSet translate(Iterable<Integer> assignment) {
+	protected AnswerSet translate(IntIterator assignment) {
 		return grounder.assignmentToAnswerSet(assignment);
 	}
 
+	@Override
+	public GroundingProfile getGroundingProfile() {
+		return grounder.getGroundingProfile();
+	}
+
 	protected abstract boolean tryAdvance(Consumer<? super AnswerSet> action);
 
 	@Override
@@ -0,0 +1,350 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.common.ArrayIntIterator;
+import at.ac.tuwien.kr.alpha.common.Assignment;
+import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.IntIterator;
+import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.TruthView;
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+import at.ac.tuwien.kr.alpha.common.atoms.Literal;
+import at.ac.tuwien.kr.alpha.common.rule.InternalRule;
+import at.ac.tuwien.kr.alpha.grounder.ChoiceInformation;
+import at.ac.tuwien.kr.alpha.grounder.GroundingProfile;
+import at.ac.tuwien.kr.alpha.grounder.NoGoodBatch;
+import at.ac.tuwien.kr.alpha.grounder.ProgramAnalyzingGrounder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
+
+/**
+ * Runs a grounder on a thread of its own, such that the solver may keep propagating and choosing on the nogoods known
+ * so far while new ones are grounded. The solver submits the changes of its {@link TrailAssignment} since the last
+ * submission (see {@link #submit()}) and later polls the nogoods grounded from them (see {@link #pollNoGoods()}).
+ *
+ * The grounding thread never reads the assignment of the solver, which changes all the time, but a snapshot of it
+ * that is updated from the submitted changes only. Hence the grounder always sees an assignment the solver actually
+ * had at some point, just like when grounding synchronously. The snapshot only is a {@link TruthView}, so the
+ * compiler ensures the grounder reads nothing but truth values from it. Choice information is handed out by
+ * {@link #getChoiceInformation()} only once the nogoods it belongs to have been polled.
+ *
+ * All other methods of {@link ProgramAnalyzingGrounder} wait for the grounding thread to finish and then run on the
+ * calling thread, except for {@link #register(NoGood)}, which is thread-safe anyway. The {@link AtomStore} is written
+ * by the grounding thread while the solver looks up atoms (e.g., to index its assignment by predicate), which
+ * {@link at.ac.tuwien.kr.alpha.common.AtomStoreImpl} allows. Still, the solver may only rely on atoms occurring in
+ * nogoods it polled.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+final class AsynchronousGrounder implements ProgramAnalyzingGrounder {
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+	private static final long KEEP_ALIVE_SECONDS = 1;
+
+	private final ProgramAnalyzingGrounder grounder;
+	private final TrailAssignment assignment;
+	private final AssignmentSnapshot snapshot;
+	private final ExecutorService executor;
+
+	// Guarded by this: changes not yet taken by the grounding thread, and nogoods grounded but not polled yet.
+	private final List<Changes> submitted = new ArrayList<>();
+	private final List<GroundingResult> results = new ArrayList<>();
+	private boolean grounding;
+	private RuntimeException failure;
+
+	// Only accessed by the solver thread: choice information belonging to polled nogoods.
+	private ChoiceInformation choiceInformation = new ChoiceInformation();
+
+	AsynchronousGrounder(ProgramAnalyzingGrounder grounder, TrailAssignment assignment) {
+		this.grounder = grounder;
+		this.assignment = assignment;
+		this.snapshot = new AssignmentSnapshot();
+		this.executor = new ThreadPoolExecutor(0, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread = new Thread(runnable, "alpha-grounder-" + THREAD_COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		assignment.enableChangedAtomsRecording();
+	}
+
+	/**
+	 * @return true iff the assignment changed since the last submission.
+	 */
+	boolean hasUnsubmittedChanges() {
+		return assignment.hasChangedAtoms();
+	}
+
+	/**
+	 * @return true iff all changes of the assignment have been grounded and all nogoods grounded from them polled.
+	 */
+	synchronized boolean isUpToDate() {
+		return !grounding && results.isEmpty() && failure == null && !assignment.hasChangedAtoms();
+	}
+
+	/**
+	 * Hands all changes of the assignment since the last submission to the grounding thread.
+	 */
+	void submit() {
+		IntIterator newPositiveAssignments = assignment.getNewPositiveAssignmentsIterator();
+		int[] positiveAtoms = new int[0];
+		int numPositiveAtoms = 0;
+		while (newPositiveAssignments.hasNext()) {
+			if (numPositiveAtoms == positiveAtoms.length) {
+				positiveAtoms = Arrays.copyOf(positiveAtoms, Math.max(8, arrayGrowthSize(numPositiveAtoms)));
+			}
+			positiveAtoms[numPositiveAtoms++] = newPositiveAssignments.next();
+		}
+		int[] changedAtoms = assignment.pollChangedAtoms();
+		ThriceTruth[] truths = new ThriceTruth[changedAtoms.length];
+		for (int i = 0; i < changedAtoms.length; i++) {
+			truths[i] = assignment.getTruth(changedAtoms[i]);
+		}
+		Changes changes = new Changes(changedAtoms, truths, Arrays.copyOf(positiveAtoms, numPositiveAtoms));
+		synchronized (this) {
+			submitted.add(changes);
+			if (!grounding) {
+				grounding = true;
+				executor.execute(this::ground);
+			}
+		}
+	}
+
+	/**
+	 * @return true iff there are grounded nogoods (or a failure of the grounding thread) to poll.
+	 */
+	synchronized boolean hasResults() {
+		return !results.isEmpty() || failure != null;
+	}
+
+	/**
+	 * Returns all nogoods grounded since the last poll, without waiting for the grounding thread.
+	 */
+	NoGoodBatch pollNoGoods() {
+		List<GroundingResult> polled;
+		synchronized (this) {
+			if (failure != null) {
+				throw failure;
+			}
+			polled = new ArrayList<>(results);
+			results.clear();
+		}
+		NoGoodBatch noGoods = new NoGoodBatch();
+		for (GroundingResult result : polled) {
+			noGoods.addAll(result.noGoods);
+			choiceInformation.addAll(result.choiceInformation);
+		}
+		return noGoods;
+	}
+
+	/**
+	 * Waits for the grounding thread to finish all submitted changes and returns all nogoods grounded since the last
+	 * poll.
+	 */
+	NoGoodBatch awaitNoGoods() {
+		awaitGrounding();
+		return pollNoGoods();
+	}
+
+	private synchronized void awaitGrounding() {
+		while (grounding) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Search was interrupted.");
+			}
+		}
+	}
+
+	private void ground() {
+		while (true) {
+			List<Changes> taken;
+			synchronized (this) {
+				if (submitted.isEmpty()) {
+					grounding = false;
+					notifyAll();
+					return;
+				}
+				taken = new ArrayList<>(submitted);
+				submitted.clear();
+			}
+			GroundingResult result;
+			try {
+				result = ground(taken);
+			} catch (RuntimeException | Error e) {
+				synchronized (this) {
+					failure = e instanceof RuntimeException ? (RuntimeException) e : new IllegalStateException("Grounding failed.", e);
+					submitted.clear();
+					grounding = false;
+					notifyAll();
+				}
+				return;
+			}
+			synchronized (this) {
+				results.add(result);
+			}
+		}
+	}
+
+	private GroundingResult ground(List<Changes> taken) {
+		for (Changes changes : taken) {
+			snapshot.apply(changes);
+		}
+		// Atoms that became positive in earlier changes may have been unassigned again by later ones.
+		int[] positiveAtoms = new int[0];
+		int numPositiveAtoms = 0;
+		for (Changes changes : taken) {
+			for (int atom : changes.positiveAtoms) {
+				ThriceTruth truth = snapshot.getTruth(atom);
+				if (truth != null && truth.toBoolean()) {
+					if (numPositiveAtoms == positiveAtoms.length) {
+						positiveAtoms = Arrays.copyOf(positiveAtoms, Math.max(8, arrayGrowthSize(numPositiveAtoms)));
+					}
+					positiveAtoms[numPositiveAtoms++] = atom;
+				}
+			}
+		}
+		grounder.updateAssignment(new ArrayIntIterator(positiveAtoms, numPositiveAtoms));
+		NoGoodBatch noGoods = grounder.getNoGoods(snapshot);
+		return new GroundingResult(noGoods, grounder.getChoiceInformation());
+	}
+
+	/**
+	 * Grounds synchronously on the calling thread, after all submitted changes have been grounded. Nogoods grounded
+	 * asynchronously but not polled yet are returned as well.
+	 */
+	@Override
+	public NoGoodBatch getNoGoods(TruthView assignment) {
+		NoGoodBatch noGoods = awaitNoGoods();
+		noGoods.addAll(grounder.getNoGoods(assignment));
+		choiceInformation.addAll(grounder.getChoiceInformation());
+		return noGoods;
+	}
+
+	@Override
+	public ChoiceInformation getChoiceInformation() {
+		ChoiceInformation polledChoiceInformation = choiceInformation;
+		choiceInformation = new ChoiceInformation();
+		return polledChoiceInformation;
+	}
+
+	@Override
+	public void updateAssignment(IntIterator it) {
+		awaitGrounding();
+		grounder.updateAssignment(it);
+	}
+
+	@Override
+	public void forgetAssignment(int[] atomIds) {
+		awaitGrounding();
+		grounder.forgetAssignment(atomIds);
+	}
+
+	@Override
+	public int register(NoGood noGood) {
+		return grounder.register(noGood);
+	}
+
+	@Override
+	public AnswerSet assignmentToAnswerSet(IntIterator trueAtoms) {
+		awaitGrounding();
+		return grounder.assignmentToAnswerSet(trueAtoms);
+	}
+
+	@Override
+	public java.util.function.Predicate<Predicate> getFilter() {
+		return grounder.getFilter();
+	}
+
+	@Override
+	public boolean hasWeakConstraints() {
+		return grounder.hasWeakConstraints();
+	}
+
+	@Override
+	public GroundingProfile getGroundingProfile() {
+		awaitGrounding();
+		return grounder.getGroundingProfile();
+	}
+
+	@Override
+	public Set<Literal> justifyAtom(int atomToJustify, Assignment currentAssignment) {
+		awaitGrounding();
+		return grounder.justifyAtom(atomToJustify, currentAssignment);
+	}
+
+	@Override
+	public boolean isFact(Atom atom) {
+		awaitGrounding();
+		return grounder.isFact(atom);
+	}
+
+	@Override
+	public InternalRule getNonGroundRule(Integer ruleId) {
+		awaitGrounding();
+		return grounder.getNonGroundRule(ruleId);
+	}
+
+	/**
+	 * The truth values of all atoms that changed in a part of the search, and the atoms that became TRUE or MBT in it.
+	 */
+	private static final class Changes {
+		private final int[] atoms;
+		private final ThriceTruth[] truths;
+		private final int[] positiveAtoms;
+
+		private Changes(int[] atoms, ThriceTruth[] truths, int[] positiveAtoms) {
+			this.atoms = atoms;
+			this.truths = truths;
+			this.positiveAtoms = positiveAtoms;
+		}
+	}
+
+	private static final class GroundingResult {
+		private final NoGoodBatch noGoods;
+		private final ChoiceInformation choiceInformation;
+
+		private GroundingResult(NoGoodBatch noGoods, ChoiceInformation choiceInformation) {
+			this.noGoods = noGoods;
+			this.choiceInformation = choiceInformation;
+		}
+	}
+
+	/**
+	 * The view of the grounding thread on the assignment of the solver, i.e., only truth values are available.
+	 */
+	private static final class AssignmentSnapshot implements TruthView {
+		private ThriceTruth[] truths = new ThriceTruth[0];
+
+		private void apply(Changes changes) {
+			for (int i = 0; i < changes.atoms.length; i++) {
+				int atom = changes.atoms[i];
+				if (atom >= truths.length) {
+					truths = Arrays.copyOf(truths, Math.max(atom + 1, arrayGrowthSize(truths.length)));
+				}
+				truths[atom] = changes.truths[i];
+			}
+		}
+
+		@Override
+		public ThriceTruth getTruth(int atom) {
+			return atom < truths.length ? truths[atom] : null;
+		}
+
+		@Override
+		public boolean isAssigned(int atom) {
+			return getTruth(atom) != null;
+		}
+	}
+}
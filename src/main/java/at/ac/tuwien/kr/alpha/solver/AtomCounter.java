@@ -29,21 +29,22 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Counts the number of ground atoms stored for each type (i.e., subclass of {@link Atom}.
  * For every atom, only the counter for one class (the most specific one) is incremented,
  * not the counters for more general classes of which the atom is also an instance.
+ * Counts may be read while atoms are added by another thread.
  */
 public class AtomCounter {
 
-	private final Map<Class<? extends Atom>, Integer> countByType = new HashMap<>();
+	private final Map<Class<? extends Atom>, Integer> countByType = new ConcurrentHashMap<>();
 
 	public void add(Atom atom) {
-		countByType.compute(atom.getClass(), (k, v) -> (v == null) ? 1 : v + 1);
+		countByType.merge(atom.getClass(), 1, Integer::sum);
 	}
 
 	/**
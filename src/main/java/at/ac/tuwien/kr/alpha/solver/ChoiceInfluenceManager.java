@@ -27,7 +27,7 @@
  */
 package at.ac.tuwien.kr.alpha.solver;
 
-import org.apache.commons.lang3.tuple.Pair;
+import at.ac.tuwien.kr.alpha.grounder.ChoiceInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,29 +65,17 @@ public ChoiceInfluenceManager(WritableAssignment assignment) {
 		this.assignment = assignment;
 	}
 
-	void addInformation(Pair<Map<Integer, Integer>, Map<Integer, Integer>> choiceAtoms) {
-		// Assumption: we get all enabler/disabler pairs in one call.
-		Map<Integer, Integer> enablers = choiceAtoms.getLeft();
-		Map<Integer, Integer> disablers = choiceAtoms.getRight();
-		for (Map.Entry<Integer, Integer> atomToEnabler : enablers.entrySet()) {
-			addInformation(atomToEnabler, disablers);
+	void addInformation(ChoiceInformation choiceInformation) {
+		for (int i = 0; i < choiceInformation.getNumberOfChoicePoints(); i++) {
+			addInformation(choiceInformation.getChoiceAtom(i), choiceInformation.getEnabler(i), choiceInformation.getDisabler(i));
 		}
 	}
 
-	private void addInformation(Map.Entry<Integer, Integer> atomToEnabler, Map<Integer, Integer> disablers) {
+	private void addInformation(int atom, int enabler, int disabler) {
 		// Construct and record ChoicePoint.
-		Integer atom = atomToEnabler.getKey();
-		if (atom == null) {
-			throw oops("Incomplete choice point description found (no atom)");
-		}
 		if (influencers[atom] != null) {
 			throw oops("Received choice information repeatedly");
 		}
-		Integer enabler = atomToEnabler.getValue();
-		Integer disabler = disablers.get(atom);
-		if (enabler == null || disabler == null) {
-			throw oops("Incomplete choice point description found (no enabler or disabler)");
-		}
 		assignment.registerCallbackOnChange(atom);
 		assignment.registerCallbackOnChange(enabler);
 		assignment.registerCallbackOnChange(disabler);
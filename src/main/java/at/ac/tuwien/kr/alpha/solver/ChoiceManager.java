@@ -29,14 +29,14 @@
 
 import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.NoGood;
-import org.apache.commons.lang3.tuple.Pair;
+import at.ac.tuwien.kr.alpha.grounder.ChoiceInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
 import static at.ac.tuwien.kr.alpha.Util.oops;
 import static at.ac.tuwien.kr.alpha.common.Literals.atomToLiteral;
 
@@ -51,8 +51,8 @@ public class ChoiceManager implements Checkable {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ChoiceManager.class);
 	private final WritableAssignment assignment;
 	private final Stack<Choice> choiceStack;
-	private final Map<Integer, Set<Integer>> headsToBodies = new HashMap<>();
-	private final Map<Integer, Integer> bodiesToHeads = new HashMap<>();
+	// Maps the atom of each rule body to the head derived by the rule, or DEFAULT_CHOICE_ATOM if there is none.
+	private int[] bodiesToHeads = new int[0];
 
 	// An "influence manager" managing active choice points and heuristics.
 	private final ChoiceInfluenceManager choicePointInfluenceManager;
@@ -62,6 +62,7 @@ public class ChoiceManager implements Checkable {
 
 	private boolean checksEnabled;
 	private DebugWatcher debugWatcher;
+	private WeakConstraintsManager weakConstraintsManager;
 
 	private int choices;
 	private int backtracks;
@@ -110,6 +111,16 @@ public boolean isChecksEnabled() {
 
 	public void callbackOnChanged(int atom) {
 		choicePointInfluenceManager.callbackOnChanged(atom);
+		if (weakConstraintsManager != null) {
+			weakConstraintsManager.callbackOnChanged(atom);
+		}
+	}
+
+	/**
+	 * Sets the manager to inform about changes of the weak constraint atoms it registered for callbacks.
+	 */
+	void setWeakConstraintsManager(WeakConstraintsManager weakConstraintsManager) {
+		this.weakConstraintsManager = weakConstraintsManager;
 	}
 
 	public int getBackjumps() {
@@ -229,36 +240,17 @@ private void backtrack() {
 		backtracks++;
 	}
 
-	void addChoiceInformation(Pair<Map<Integer, Integer>, Map<Integer, Integer>> choiceAtoms, Map<Integer, Set<Integer>> headsToBodies) {
-		choicePointInfluenceManager.addInformation(choiceAtoms);
-		addHeadsToBodies(headsToBodies);
+	void addChoiceInformation(ChoiceInformation choiceInformation) {
+		choicePointInfluenceManager.addInformation(choiceInformation);
+		for (int i = 0; i < choiceInformation.getNumberOfHeadsToBodies(); i++) {
+			bodiesToHeads[choiceInformation.getBody(i)] = choiceInformation.getHead(i);
+		}
 	}
 
 	public void growForMaxAtomId(int maxAtomId) {
 		choicePointInfluenceManager.growForMaxAtomId(maxAtomId);
-	}
-
-	private void addHeadsToBodies(Map<Integer, Set<Integer>> headsToBodies) {
-		for (Entry<Integer, Set<Integer>> entry : headsToBodies.entrySet()) {
-			Integer head = entry.getKey();
-			Set<Integer> newBodies = entry.getValue();
-			addHeadsToBodies(head, newBodies);
-			addBodiesToHeads(head, newBodies);
-		}
-	}
-
-	private void addHeadsToBodies(Integer head, Set<Integer> bodies) {
-		Set<Integer> existingBodies = this.headsToBodies.get(head);
-		if (existingBodies == null) {
-			existingBodies = new HashSet<>();
-			this.headsToBodies.put(head, existingBodies);
-		}
-		existingBodies.addAll(bodies);
-	}
-
-	private void addBodiesToHeads(Integer head, Set<Integer> bodies) {
-		for (Integer body : bodies) {
-			bodiesToHeads.put(body, head);
+		if (maxAtomId >= bodiesToHeads.length) {
+			bodiesToHeads = Arrays.copyOf(bodiesToHeads, Math.max(maxAtomId + 1, arrayGrowthSize(bodiesToHeads.length)));
 		}
 	}
 
@@ -278,8 +270,12 @@ public void setChoicePointActivityListener(ChoiceInfluenceManager.ActivityListen
 		choicePointInfluenceManager.setActivityListener(activityListener);
 	}
 	
-	public Integer getHeadDerivedByChoiceAtom(int choiceAtomId) {
-		return bodiesToHeads.get(choiceAtomId);
+	/**
+	 * @return the head derived by the rule whose body is represented by the given atom, or {@link #DEFAULT_CHOICE_ATOM}
+	 * if the atom does not represent a rule body.
+	 */
+	public int getHeadDerivedByChoiceAtom(int choiceAtomId) {
+		return choiceAtomId < bodiesToHeads.length ? bodiesToHeads[choiceAtomId] : DEFAULT_CHOICE_ATOM;
 	}
 
 	public BinaryNoGoodPropagationEstimation getBinaryNoGoodPropagationEstimation() {
@@ -40,28 +40,34 @@
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.function.Consumer;
 
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
 import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.Metrics;
 import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.common.WeightedAnswerSet;
 import at.ac.tuwien.kr.alpha.common.atoms.Atom;
 import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
 import at.ac.tuwien.kr.alpha.common.atoms.ComparisonAtom;
 import at.ac.tuwien.kr.alpha.common.atoms.Literal;
+import at.ac.tuwien.kr.alpha.common.jfr.FlightRecorderEvents;
 import at.ac.tuwien.kr.alpha.common.rule.InternalRule;
 import at.ac.tuwien.kr.alpha.common.terms.ConstantTerm;
 import at.ac.tuwien.kr.alpha.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.grounder.Grounder;
+import at.ac.tuwien.kr.alpha.grounder.NoGoodBatch;
 import at.ac.tuwien.kr.alpha.grounder.ProgramAnalyzingGrounder;
 import at.ac.tuwien.kr.alpha.grounder.Substitution;
 import at.ac.tuwien.kr.alpha.grounder.atoms.RuleAtom;
@@ -71,6 +77,8 @@
 import at.ac.tuwien.kr.alpha.solver.heuristics.HeuristicsConfiguration;
 import at.ac.tuwien.kr.alpha.solver.heuristics.NaiveHeuristic;
 import at.ac.tuwien.kr.alpha.solver.learning.GroundConflictNoGoodLearner;
+import at.ac.tuwien.kr.alpha.solver.restarts.RestartStrategy;
+import at.ac.tuwien.kr.alpha.solver.restarts.RestartStrategyFactory;
 
 /**
  * The new default solver employed in Alpha.
@@ -94,8 +102,20 @@ public class DefaultSolver extends AbstractSolver implements SolverMaintainingSt
 	private final boolean disableJustifications;
 	private boolean disableJustificationAfterClosing = true;	// Keep disabled for now, case not fully worked out yet.
 	private final boolean disableNoGoodDeletion;
+	private final ProjectionRecorder projectionRecorder;
+	private final WeakConstraintsManager weakConstraintsManager;
+	private final RestartStrategy restartStrategy;
+	private int restarts;
+	private final int grounderBatchSize;
+	private int grounderRoundTrips;
+	private NoGoodExchange.Endpoint noGoodExchange;
+	private boolean exportLearnedNoGoods = true;
+	private final Map<Atom, Boolean> pendingAssumptions = new LinkedHashMap<>();
 
 	private final PerformanceLog performanceLog;
+	private final Metrics metrics;
+	// Null if the grounder runs synchronously on the thread of this solver.
+	private final AsynchronousGrounder asynchronousGrounder;
 	
 	public DefaultSolver(AtomStore atomStore, Grounder grounder, NoGoodStore store, WritableAssignment assignment, Random random, SystemConfig config, HeuristicsConfiguration heuristicsConfiguration) {
 		super(atomStore, grounder);
@@ -103,11 +123,18 @@ public DefaultSolver(AtomStore atomStore, Grounder grounder, NoGoodStore store,
 		this.assignment = assignment;
 		this.store = store;
 		this.choiceManager = new ChoiceManager(assignment, store);
-		this.learner = new GroundConflictNoGoodLearner(assignment, atomStore);
+		this.learner = new GroundConflictNoGoodLearner(assignment, atomStore, !config.isDisableRecursiveMinimization());
 		this.branchingHeuristic = chainFallbackHeuristic(grounder, assignment, random, heuristicsConfiguration);
 		this.disableJustifications = config.isDisableJustificationSearch();
 		this.disableNoGoodDeletion = config.isDisableNoGoodDeletion();
+		this.projectionRecorder = config.isProjectedEnumeration() ? new ProjectionRecorder(atomStore, grounder.getFilter()) : null;
+		this.weakConstraintsManager = grounder.hasWeakConstraints() ? new WeakConstraintsManager(atomStore, assignment) : null;
+		choiceManager.setWeakConstraintsManager(weakConstraintsManager);
+		this.restartStrategy = RestartStrategyFactory.getInstance(config.getRestartStrategy());
+		this.grounderBatchSize = config.getGrounderBatchSize();
 		this.performanceLog = new PerformanceLog(choiceManager, (TrailAssignment) assignment, 1000);
+		this.metrics = new Metrics(config.isCollectMetrics());
+		this.asynchronousGrounder = grounder instanceof AsynchronousGrounder ? (AsynchronousGrounder) grounder : null;
 	}
 
 	private BranchingHeuristic chainFallbackHeuristic(Grounder grounder, WritableAssignment assignment, Random random, HeuristicsConfiguration heuristicsConfiguration) {
@@ -121,14 +148,136 @@ private BranchingHeuristic chainFallbackHeuristic(Grounder grounder, WritableAss
 		return ChainedBranchingHeuristics.chainOf(branchingHeuristic, new NaiveHeuristic(choiceManager));
 	}
 
+	/**
+	 * Lets this solver share short learned nogoods with other solvers working on the same program. Shared nogoods
+	 * are imported whenever the solver is at decision level 0, in particular after restarts.
+	 */
+	void setNoGoodExchange(NoGoodExchange.Endpoint noGoodExchange) {
+		this.noGoodExchange = noGoodExchange;
+	}
+
+	/**
+	 * Restricts the search to answer sets in which the given atom has the given truth value. The assumption is added
+	 * as soon as the atom is known to the grounder, which must happen before the first choice, i.e., the atom must
+	 * be derived by grounding and propagation at decision level 0 (as atoms returned by
+	 * {@link #computeSplittingAtoms(int)} are).
+	 */
+	void assume(Atom atom, boolean truth) {
+		pendingAssumptions.put(atom, truth);
+	}
+
+	/**
+	 * @return true iff answer sets of disjoint parts of the search space can be enumerated independently, which is
+	 *         not the case for optimization and projected enumeration.
+	 */
+	boolean supportsSplitting() {
+		return weakConstraintsManager == null && projectionRecorder == null;
+	}
+
+	/**
+	 * Grounds and propagates at decision level 0 until a fixpoint is reached, without making any choice, and returns
+	 * active choice atoms, i.e., atoms over which the search space may be split. This solver should not be used for
+	 * searching afterwards.
+	 * @param maxAtoms the maximum number of atoms to return.
+	 * @return the choice atoms active at the fixpoint, in the order they were created, or null if the program was
+	 *         found to be unsatisfiable.
+	 */
+	List<Atom> computeSplittingAtoms(int maxAtoms) {
+		if (!initialize) {
+			throw oops("Splitting atoms can only be computed before searching");
+		}
+		initialize = false;
+		NoGoodBatch obtained = obtainInitialNoGoodsFromGrounder();
+		if (!ingest(obtained)) {
+			return null;
+		}
+		boolean didChange = !obtained.isEmpty();
+		while (true) {
+			if (store.propagate() != null) {
+				// A conflict at decision level 0.
+				return null;
+			}
+			didChange |= store.didPropagate();
+			if (!didChange) {
+				break;
+			}
+			obtained = obtainNoGoodsFromGrounder();
+			didChange = !obtained.isEmpty();
+			if (!ingest(obtained)) {
+				return null;
+			}
+		}
+		choiceManager.addChoiceInformation(grounder.getChoiceInformation());
+		choiceManager.updateAssignments();
+		List<Atom> splittingAtoms = new ArrayList<>();
+		for (int atom = 1; atom <= atomStore.getMaxAtomId() && splittingAtoms.size() < maxAtoms; atom++) {
+			if (choiceManager.isActiveChoiceAtom(atom) && !assignment.isAssigned(atom)) {
+				splittingAtoms.add(atomStore.get(atom));
+			}
+		}
+		return splittingAtoms;
+	}
+
 	@Override
 	protected boolean tryAdvance(Consumer<? super AnswerSet> action) {
+		if (!searchNextReportedAnswerSet()) {
+			return false;
+		}
+		AnswerSet as;
+		metrics.begin(Metrics.Phase.ANSWER_SET_TRANSLATION);
+		try {
+			as = translate(assignment.getTrueAtoms());
+		} finally {
+			metrics.end(Metrics.Phase.ANSWER_SET_TRANSLATION);
+		}
+		FlightRecorderEvents.answerSet(assignment.getDecisionLevel(), getNumberOfChoices(), getNumberOfBackjumps());
+		if (weakConstraintsManager != null) {
+			as = new WeightedAnswerSet(as, weakConstraintsManager.getWeightsOfBestModel());
+		}
+		LOGGER.debug("Answer-Set found: {}", as);
+		action.accept(as);
+		return true;
+	}
+
+	@Override
+	public long countAnswerSets(long limit) {
+		long count = 0;
+		while ((limit <= 0 || count < limit) && searchNextReportedAnswerSet()) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Searches for the next answer set to report. If projected enumeration is enabled, answer sets whose projection
+	 * was already reported are skipped. If the program has weak constraints, every reported answer set is strictly
+	 * better than the previous one, hence the last one reported is optimal.
+	 * @return true iff another answer set was found, false if the search space is exhausted.
+	 */
+	private boolean searchNextReportedAnswerSet() {
+		while (searchNextAnswerSet()) {
+			if (projectionRecorder == null || projectionRecorder.recordIfNew(assignment.getTrueAtoms())) {
+				if (weakConstraintsManager != null) {
+					weakConstraintsManager.updateBound();
+				}
+				return true;
+			}
+			LOGGER.debug("Skipping answer set whose projection was already reported.");
+		}
+		return false;
+	}
+
+	/**
+	 * Searches for the next answer set. If one is found, the current assignment represents it until the next call.
+	 * @return true iff another answer set was found, false if the search space is exhausted.
+	 */
+	private boolean searchNextAnswerSet() {
 		boolean didChange = false;
 
 		// Initially, get NoGoods from grounder.
 		if (initialize) {
 			performanceLog.initialize();
-			Map<Integer, NoGood> obtained = grounder.getNoGoods(assignment);
+			NoGoodBatch obtained = obtainInitialNoGoodsFromGrounder();
 			didChange = !obtained.isEmpty();
 			if (!ingest(obtained)) {
 				logStats();
@@ -140,6 +289,8 @@ protected boolean tryAdvance(Consumer<? super AnswerSet> action) {
 			return false;
 		} else {
 			// We already found one Answer-Set and are requested to find another one.
+			// From now on, learned nogoods may depend on enumeration nogoods, hence they must not be shared.
+			exportLearnedNoGoods = false;
 			// Create enumeration NoGood to avoid finding the same Answer-Set twice.
 			final NoGood enumerationNoGood = choiceManager.computeEnumeration();
 			final int backjumpLevel = assignment.minimumConflictLevel(enumerationNoGood);
@@ -159,11 +310,30 @@ protected boolean tryAdvance(Consumer<? super AnswerSet> action) {
 		}
 
 		boolean afterAllAtomsAssigned = false;
+		NoGood boundNoGood;
 
 		// Try all assignments until grounder reports no more NoGoods and all of them are satisfied
 		while (true) {
+			if (Thread.currentThread().isInterrupted()) {
+				// E.g., another worker of a portfolio solver was faster.
+				throw new CancellationException("Search was interrupted.");
+			}
+			if (noGoodExchange != null && assignment.getDecisionLevel() == 0 && !noGoodExchange.importNoGoods(this::addImportedNoGood)) {
+				logStats();
+				return false;
+			}
+			if (!pendingAssumptions.isEmpty() && assignment.getDecisionLevel() == 0 && !addKnownAssumptions()) {
+				logStats();
+				return false;
+			}
 			performanceLog.infoIfTimeForOutput(LOGGER);
-			ConflictCause conflictCause = store.propagate();
+			ConflictCause conflictCause;
+			metrics.begin(Metrics.Phase.PROPAGATION);
+			try {
+				conflictCause = store.propagate();
+			} finally {
+				metrics.end(Metrics.Phase.PROPAGATION);
+			}
 			didChange |= store.didPropagate();
 			LOGGER.trace("Assignment after propagation is: {}", assignment);
 			if (!disableNoGoodDeletion && conflictCause == null) {
@@ -178,10 +348,18 @@ protected boolean tryAdvance(Consumer<? super AnswerSet> action) {
 				// TODO: The violatedNoGood should not be necessary here, but this requires major type changes in heuristics.
 				branchingHeuristic.violatedNoGood(violatedNoGood);
 				if (!afterAllAtomsAssigned) {
-					if (!learnBackjumpAddFromConflict(conflictCause)) {
+					boolean learned;
+					metrics.begin(Metrics.Phase.CONFLICT_ANALYSIS);
+					try {
+						learned = learnBackjumpAddFromConflict(conflictCause);
+					} finally {
+						metrics.end(Metrics.Phase.CONFLICT_ANALYSIS);
+					}
+					if (!learned) {
 						logStats();
 						return false;
 					}
+					restartIfNecessary();
 				} else {
 					LOGGER.debug("Assignment is violated after all unassigned atoms have been assigned false.");
 					conflictsAfterClosing++;
@@ -190,34 +368,83 @@ protected boolean tryAdvance(Consumer<? super AnswerSet> action) {
 					}
 					afterAllAtomsAssigned = false;
 				}
-			} else if (didChange) {
+			} else if (weakConstraintsManager != null && (boundNoGood = weakConstraintsManager.checkBound()) != null) {
+				// The current assignment cannot be extended to a model that is better than the best one so far.
+				if (!addBoundNoGood(boundNoGood)) {
+					logStats();
+					return false;
+				}
+				afterAllAtomsAssigned = false;
+			} else if (asynchronousGrounder != null && asynchronousGrounder.hasResults()) {
+				// Add NoGoods grounded in the meantime, then propagate (again).
+				NoGoodBatch obtained = asynchronousGrounder.pollNoGoods();
+				didChange |= !obtained.isEmpty();
+				if (!ingest(obtained)) {
+					logStats();
+					return false;
+				}
+			} else if (didChange && asynchronousGrounder != null) {
+				// Let the grounder work on the changes while propagating and choosing on the NoGoods known so far.
+				if (asynchronousGrounder.hasUnsubmittedChanges() && isGrounderBatchComplete()) {
+					submitToAsynchronousGrounder();
+				}
+				didChange = false;
+			} else if (didChange && (isGrounderBatchComplete() || !pendingAssumptions.isEmpty())) {
 				// Ask the grounder for new NoGoods, then propagate (again).
 				LOGGER.trace("Doing propagation step.");
 
-				grounder.updateAssignment(assignment.getNewPositiveAssignmentsIterator());
-
-				Map<Integer, NoGood> obtained = grounder.getNoGoods(assignment);
+				NoGoodBatch obtained = obtainNoGoodsFromGrounder();
 				didChange = !obtained.isEmpty();
 				if (!ingest(obtained)) {
 					logStats();
 					return false;
 				}
+			} else if (!pendingAssumptions.isEmpty()) {
+				throw oops("Assumptions over atoms unknown at decision level 0: " + pendingAssumptions.keySet());
 			} else if (choose()) {
 				LOGGER.debug("Did choice.");
 				didChange = true;
+			} else if (didChange) {
+				// Grounding has been deferred, but the grounder must know the assignment before closing it.
+				NoGoodBatch obtained = obtainNoGoodsFromGrounder();
+				didChange = !obtained.isEmpty();
+				if (!ingest(obtained)) {
+					logStats();
+					return false;
+				}
+			} else if (asynchronousGrounder != null && !asynchronousGrounder.isUpToDate()) {
+				// Nothing left to choose, the grounder must catch up with the assignment before closing it.
+				if (asynchronousGrounder.hasUnsubmittedChanges()) {
+					submitToAsynchronousGrounder();
+				}
+				NoGoodBatch obtained;
+				metrics.begin(Metrics.Phase.INCREMENTAL_GROUNDING);
+				try {
+					obtained = asynchronousGrounder.awaitNoGoods();
+				} finally {
+					metrics.end(Metrics.Phase.INCREMENTAL_GROUNDING);
+				}
+				didChange = !obtained.isEmpty();
+				if (!ingest(obtained)) {
+					logStats();
+					return false;
+				}
 			} else if (close()) {
 				LOGGER.debug("Closed unassigned known atoms (assigning FALSE).");
 				afterAllAtomsAssigned = true;
 			} else if (assignment.getMBTCount() == 0) {
-				// NOTE: If we would do optimization, we would now have a guaranteed upper bound.
-				AnswerSet as = translate(assignment.getTrueAssignments());
-				LOGGER.debug("Answer-Set found: {}", as);
-				action.accept(as);
 				logStats();
 				return true;
 			} else {
 				LOGGER.debug("Backtracking from wrong choices ({} MBTs).", assignment.getMBTCount());
-				if (!justifyMbtAndBacktrack()) {
+				boolean justified;
+				metrics.begin(Metrics.Phase.JUSTIFICATION);
+				try {
+					justified = justifyMbtAndBacktrack();
+				} finally {
+					metrics.end(Metrics.Phase.JUSTIFICATION);
+				}
+				if (!justified) {
 					return false;
 				}
 				afterAllAtomsAssigned = false;
@@ -225,6 +452,60 @@ protected boolean tryAdvance(Consumer<? super AnswerSet> action) {
 		}
 	}
 
+	/**
+	 * @return true iff enough new assignments accumulated for calling the grounder before the next choice, see
+	 *         {@link SystemConfig#getGrounderBatchSize()}.
+	 */
+	private boolean isGrounderBatchComplete() {
+		return assignment.getNumberOfNewAssignments() >= grounderBatchSize;
+	}
+
+	/**
+	 * Obtains the NoGoods the grounder derives before the search starts, i.e., while bootstrapping. The time spent is
+	 * accounted for as {@link Metrics.Phase#BOOTSTRAP_GROUNDING}.
+	 */
+	private NoGoodBatch obtainInitialNoGoodsFromGrounder() {
+		grounderRoundTrips++;
+		metrics.begin(Metrics.Phase.BOOTSTRAP_GROUNDING);
+		try {
+			return grounder.getNoGoods(assignment);
+		} finally {
+			metrics.end(Metrics.Phase.BOOTSTRAP_GROUNDING);
+		}
+	}
+
+	/**
+	 * Informs the grounder about all new positive assignments and returns the NoGoods it derived from them.
+	 */
+	private NoGoodBatch obtainNoGoodsFromGrounder() {
+		grounderRoundTrips++;
+		metrics.begin(Metrics.Phase.INCREMENTAL_GROUNDING);
+		try {
+			grounder.updateAssignment(assignment.getNewPositiveAssignmentsIterator());
+			return grounder.getNoGoods(assignment);
+		} finally {
+			metrics.end(Metrics.Phase.INCREMENTAL_GROUNDING);
+		}
+	}
+
+	private void submitToAsynchronousGrounder() {
+		grounderRoundTrips++;
+		asynchronousGrounder.submit();
+	}
+
+	/**
+	 * Adds a nogood cutting off assignments that cannot improve on the best model found so far and backjumps such
+	 * that it is no longer violated.
+	 * @return false iff no better model exists.
+	 */
+	private boolean addBoundNoGood(NoGood boundNoGood) {
+		if (NoGood.UNSAT.equals(boundNoGood)) {
+			return false;
+		}
+		LOGGER.debug("Adding bound nogood: {}", boundNoGood);
+		return addAndBackjumpIfNecessary(grounder.register(boundNoGood), boundNoGood, Integer.MAX_VALUE);
+	}
+
 	/**
 	 * Adds a noGood to the store and in case of out-of-order literals causing another conflict, triggers further backjumping.
 	 * @param noGoodId the unique identifier of the NoGood to add.
@@ -261,7 +542,12 @@ private boolean learnBackjumpAddFromConflict(ConflictCause conflictCause) {
 			return false;
 		}
 
+		FlightRecorderEvents.conflict(analysisResult.learnedNoGood != null ? analysisResult.learnedNoGood.size() : 0,
+			analysisResult.learnedNoGood != null ? analysisResult.lbd : LBD_NO_VALUE, assignment.getDecisionLevel() - analysisResult.backjumpLevel);
 		branchingHeuristic.analyzedConflict(analysisResult);
+		if (restartStrategy != null) {
+			restartStrategy.newConflict(analysisResult.learnedNoGood != null ? analysisResult.lbd : NoGoodStore.LBD_NO_VALUE);
+		}
 
 		if (analysisResult.learnedNoGood != null) {
 			choiceManager.backjump(analysisResult.backjumpLevel);
@@ -271,6 +557,9 @@ private boolean learnBackjumpAddFromConflict(ConflictCause conflictCause) {
 			if (!addAndBackjumpIfNecessary(noGoodId, learnedNoGood, analysisResult.lbd)) {
 				return false;
 			}
+			if (noGoodExchange != null && exportLearnedNoGoods) {
+				noGoodExchange.export(learnedNoGood, analysisResult.lbd);
+			}
 			return true;
 		}
 
@@ -287,6 +576,49 @@ private boolean learnBackjumpAddFromConflict(ConflictCause conflictCause) {
 		return true;
 	}
 
+	/**
+	 * Adds all pending assumptions over atoms known by now as unary nogoods.
+	 * @return false iff the assumptions are contradictory.
+	 */
+	private boolean addKnownAssumptions() {
+		for (Iterator<Map.Entry<Atom, Boolean>> iterator = pendingAssumptions.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<Atom, Boolean> assumption = iterator.next();
+			if (!atomStore.contains(assumption.getKey())) {
+				continue;
+			}
+			iterator.remove();
+			// Assuming an atom to be true forbids it to be false (and vice versa).
+			NoGood noGood = new NoGood(atomToLiteral(atomStore.get(assumption.getKey()), !assumption.getValue()));
+			LOGGER.debug("Adding assumption: {}", noGood);
+			if (!addAndBackjumpIfNecessary(grounder.register(noGood), noGood, Integer.MAX_VALUE)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean addImportedNoGood(NoGood noGood, int lbd) {
+		LOGGER.debug("Adding imported nogood: {}", noGood);
+		return addAndBackjumpIfNecessary(grounder.register(noGood), noGood, lbd);
+	}
+
+	/**
+	 * Restarts the search if the restart strategy demands it, i.e., backjumps to decision level 0. Learned nogoods and
+	 * the state of the branching heuristic are kept.
+	 */
+	private void restartIfNecessary() {
+		if (restartStrategy == null || !restartStrategy.shouldRestart()) {
+			return;
+		}
+		restartStrategy.restarted();
+		if (assignment.getDecisionLevel() == 0) {
+			return;
+		}
+		LOGGER.debug("Restarting search.");
+		restarts++;
+		choiceManager.backjump(0);
+	}
+
 	private boolean justifyMbtAndBacktrack() {
 		mbtAtFixpoint++;
 		// Run justification only if enabled and possible.
@@ -302,15 +634,17 @@ private boolean justifyMbtAndBacktrack() {
 		int atomToJustify = assignment.getBasicAtomAssignedMBT();
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Searching for justification of {} / {}", atomToJustify, atomStore.atomToString(atomToJustify));
-			LOGGER.debug("Assignment is (TRUE part only): {}", translate(assignment.getTrueAssignments()));
+			LOGGER.debug("Assignment is (TRUE part only): {}", translate(assignment.getTrueAtoms()));
 		}
+		Object justificationEvent = FlightRecorderEvents.beginJustification();
 		Set<Literal> reasonsForUnjustified = analyzingGrounder.justifyAtom(atomToJustify, assignment);
+		FlightRecorderEvents.endJustification(justificationEvent, assignment.getMBTCount(), reasonsForUnjustified.size());
 		NoGood noGood = noGoodFromJustificationReasons(atomToJustify, reasonsForUnjustified);
 
 
 		int noGoodID = grounder.register(noGood);
-		Map<Integer, NoGood> obtained = new LinkedHashMap<>();
-		obtained.put(noGoodID, noGood);
+		NoGoodBatch obtained = new NoGoodBatch();
+		obtained.add(noGoodID, noGood);
 		LOGGER.debug("Learned NoGood is: {}", atomStore.noGoodToString(noGood));
 		// Add NoGood and trigger backjumping.
 		if (!ingest(obtained)) {
@@ -351,7 +685,8 @@ private boolean treatConflictAfterClosing(Antecedent violatedNoGood) {
 			}
 		}
 		// Since the violatedNoGood may contain atoms other than BasicAtom, these have to be treated.
-		Map<Integer, NoGood> obtained = new LinkedHashMap<>();
+		NoGoodBatch obtained = new NoGoodBatch();
+		Set<Integer> obtainedIds = new HashSet<>();
 		Iterator<Integer> toJustifyIterator = toJustify.iterator();
 		ArrayList<Integer> ruleAtomReplacements = new ArrayList<>();
 		while (toJustifyIterator.hasNext()) {
@@ -393,7 +728,10 @@ private boolean treatConflictAfterClosing(Antecedent violatedNoGood) {
 			Set<Literal> reasonsForUnjustified = analyzingGrounder.justifyAtom(atomOf(literalToJustify), assignment);
 			NoGood noGood = noGoodFromJustificationReasons(atomOf(literalToJustify), reasonsForUnjustified);
 			int noGoodID = grounder.register(noGood);
-			obtained.put(noGoodID, noGood);
+			// Different atoms may be justified by the same reasons, each NoGood is added once.
+			if (obtainedIds.add(noGoodID)) {
+				obtained.add(noGoodID, noGood);
+			}
 			LOGGER.debug("Learned NoGood is: {}", atomStore.noGoodToString(noGood));
 		}
 		// Backtrack to remove the violation.
@@ -461,29 +799,34 @@ private boolean backtrack() {
 		return assignment.getDecisionLevel() != 0;
 	}
 
-	private boolean ingest(Map<Integer, NoGood> obtained) {
-		assignment.growForMaxAtomId();
+	private boolean ingest(NoGoodBatch obtained) {
+		// Read the maximum atom id before growing the assignment, since an asynchronous grounder may add atoms
+		// concurrently and the assignment must accommodate for all atoms known to the other components.
 		int maxAtomId = atomStore.getMaxAtomId();
+		assignment.growForMaxAtomId(maxAtomId);
+		if (weakConstraintsManager != null) {
+			weakConstraintsManager.growForMaxAtomId(maxAtomId);
+		}
 		store.growForMaxAtomId(maxAtomId);
 		choiceManager.growForMaxAtomId(maxAtomId);
 		branchingHeuristic.growForMaxAtomId(maxAtomId);
-		branchingHeuristic.newNoGoods(obtained.values());
+		branchingHeuristic.newNoGoods(obtained.getNoGoods());
 
-		LinkedList<Map.Entry<Integer, NoGood>> noGoodsToAdd = new LinkedList<>(obtained.entrySet());
-		Map.Entry<Integer, NoGood> entry;
-		while ((entry = noGoodsToAdd.poll()) != null) {
-			if (NoGood.UNSAT.equals(entry.getValue())) {
+		for (int i = 0; i < obtained.size(); i++) {
+			final int noGoodId = obtained.getId(i);
+			final NoGood noGood = obtained.getNoGood(i);
+			if (NoGood.UNSAT.equals(noGood)) {
 				// Empty NoGood cannot be satisfied, program is unsatisfiable.
 				return false;
 			}
 
-			final ConflictCause conflictCause = store.add(entry.getKey(), entry.getValue(), Integer.MAX_VALUE);
+			final ConflictCause conflictCause = store.add(noGoodId, noGood, Integer.MAX_VALUE);
 			if (conflictCause == null) {
 				// There is no conflict, all is fine. Just skip conflict treatment and carry on.
 				continue;
 			}
 
-			if (!fixContradiction(entry, conflictCause)) {
+			if (!fixContradiction(noGoodId, noGood, conflictCause)) {
 				return false;
 			}
 		}
@@ -492,13 +835,14 @@ private boolean ingest(Map<Integer, NoGood> obtained) {
 
 	/**
 	 * Attempts to fix a given conflict that arose from adding a nogood.
-	 * @param noGoodEntry the description of the NoGood that caused the conflict.
+	 * @param noGoodId the id of the NoGood that caused the conflict.
+	 * @param noGood the NoGood that caused the conflict.
 	 * @param conflictCause a description of the cause of the conflict.
 	 * @return true if the contradiction could be resolved (by backjumping) and the NoGood was added.
 	 * 	   False otherwise, i.e., iff the program is UNSAT.
 	 */
-	private boolean fixContradiction(Map.Entry<Integer, NoGood> noGoodEntry, ConflictCause conflictCause) {
-		LOGGER.debug("Attempting to fix violation of {} caused by {}", noGoodEntry.getValue(), conflictCause);
+	private boolean fixContradiction(int noGoodId, NoGood noGood, ConflictCause conflictCause) {
+		LOGGER.debug("Attempting to fix violation of {} caused by {}", noGood, conflictCause);
 
 		GroundConflictNoGoodLearner.ConflictAnalysisResult conflictAnalysisResult = learner.analyzeConflictFromAddingNoGood(conflictCause.getAntecedent());
 		if (conflictAnalysisResult == UNSAT) {
@@ -514,12 +858,12 @@ private boolean fixContradiction(Map.Entry<Integer, NoGood> noGoodEntry, Conflic
 		// If NoGood was learned, add it to the store.
 		// Note that the learned NoGood may cause further conflicts, since propagation on lower decision levels is lazy,
 		// hence backtracking once might not be enough to remove the real conflict cause.
-		return addAndBackjumpIfNecessary(noGoodEntry.getKey(), noGoodEntry.getValue(), LBD_NO_VALUE);
+		return addAndBackjumpIfNecessary(noGoodId, noGood, LBD_NO_VALUE);
 
 	}
 
 	private boolean choose() {
-		choiceManager.addChoiceInformation(grounder.getChoiceAtoms(), grounder.getHeadsToBodies());
+		choiceManager.addChoiceInformation(grounder.getChoiceInformation());
 		choiceManager.updateAssignments();
 
 		// Hint: for custom heuristics, evaluate them here and pick a value if the heuristics suggests one.
@@ -562,11 +906,26 @@ public int getNumberOfBacktracksDueToRemnantMBTs() {
 		return mbtAtFixpoint;
 	}
 
+	@Override
+	public int getNumberOfRestarts() {
+		return restarts;
+	}
+
 	@Override
 	public int getNumberOfConflictsAfterClosing() {
 		return conflictsAfterClosing;
 	}
 
+	@Override
+	public int getNumberOfGrounderRoundTrips() {
+		return grounderRoundTrips;
+	}
+
+	@Override
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
 	@Override
 	public int getNumberOfDeletedNoGoods() {
 		if (!(store instanceof NoGoodStoreAlphaRoaming)) {
@@ -575,6 +934,15 @@ public int getNumberOfDeletedNoGoods() {
 		return ((NoGoodStoreAlphaRoaming)store).getLearnedNoGoodDeletion().getNumberOfDeletedNoGoods();
 	}
 
+	@Override
+	public int[] getLearnedNoGoodTierSizes() {
+		if (!(store instanceof NoGoodStoreAlphaRoaming)) {
+			return new int[3];
+		}
+		LearnedNoGoodDeletion learnedNoGoodDeletion = ((NoGoodStoreAlphaRoaming)store).getLearnedNoGoodDeletion();
+		return new int[] {learnedNoGoodDeletion.getCoreTierSize(), learnedNoGoodDeletion.getMidTierSize(), learnedNoGoodDeletion.getLocalTierSize()};
+	}
+
 	@Override
 	public NoGoodCounter getNoGoodCounter() {
 		return store.getNoGoodCounter();
@@ -594,6 +962,9 @@ private void logStats() {
 			LOGGER.debug("Number of NoGoods by cardinality: {}", noGoodCounter.getStatsByCardinality());
 			AtomCounter atomCounter = atomStore.getAtomCounter();
 			LOGGER.debug("Number of atoms by type: {}", atomCounter.getStatsByType());
+			if (projectionRecorder != null) {
+				LOGGER.debug("Number of answer sets skipped due to already reported projection: {}", projectionRecorder.getNumberOfDuplicates());
+			}
 		}
 	}
 }
@@ -1,11 +1,13 @@
 package at.ac.tuwien.kr.alpha.solver;
 
 import at.ac.tuwien.kr.alpha.common.Assignment;
+import at.ac.tuwien.kr.alpha.common.jfr.FlightRecorderEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
@@ -14,17 +16,38 @@
 /**
  * Realizes a learned NoGood deletion strategy based on LBD and activity of NoGoods.
  *
- * Copyright (c) 2019, the Alpha Team.
+ * Learned NoGoods are kept in three tiers, depending on their LBD:
+ * <ul>
+ *     <li>core (LBD at most {@link #CORE_TIER_MAX_LBD}): kept unless the tier exceeds {@link #CORE_TIER_MAX_SIZE},
+ *     then its least active NoGoods are demoted to the mid tier.</li>
+ *     <li>mid (LBD at most {@link #MID_TIER_MAX_LBD}): reduced every {@link #MID_TIER_REDUCTION_INTERVAL} conflicts,
+ *     where NoGoods not involved in a conflict since the last reduction are demoted to the local tier.</li>
+ *     <li>local (all others): reduced after {@link #RUN_AFTER_AT_LEAST} conflicts (growing by {@link #GROWTH_FACTOR}
+ *     for each reduction), where up to half of the NoGoods are deleted unless they are locked or highly active.</li>
+ * </ul>
+ * The LBD of a learned NoGood is re-computed whenever it takes part in conflict analysis, NoGoods whose LBD improved
+ * are promoted to a better tier on the next reduction.
+ *
+ * Copyright (c) 2019-2020, the Alpha Team.
  */
 class LearnedNoGoodDeletion {
 	private static final Logger LOGGER = LoggerFactory.getLogger(LearnedNoGoodDeletion.class);
 	public static final int RESET_SEQUENCE_AFTER = 20;
 	public static final int RUN_AFTER_AT_LEAST = 2000;
 	public static final int GROWTH_FACTOR = 100;
-	private final ArrayList<WatchedNoGood> learnedNoGoods = new ArrayList<>();	// List of learned NoGoods that can be removed again. Note: should only contain NoGoods of size > 2.
+	public static final int CORE_TIER_MAX_LBD = 2;
+	public static final int MID_TIER_MAX_LBD = 6;
+	public static final int MID_TIER_REDUCTION_INTERVAL = 10000;
+	public static final int CORE_TIER_MAX_SIZE = 50000;
+	public static final int MID_TIER_MAX_SIZE = 20000;
+	// Lists of learned NoGoods that can be removed again. Note: should only contain NoGoods of size > 2.
+	private final ArrayList<WatchedNoGood> coreTier = new ArrayList<>();
+	private final ArrayList<WatchedNoGood> midTier = new ArrayList<>();
+	private final ArrayList<WatchedNoGood> localTier = new ArrayList<>();
 	private final NoGoodStoreAlphaRoaming store;
 	private final Assignment assignment;
 	private int conflictCounter;
+	private int midTierConflictCounter;
 	private int cleanupCounter;
 	private int numberOfDeletedNoGoods;
 
@@ -34,34 +57,118 @@ class LearnedNoGoodDeletion {
 	}
 
 	void reset() {
-		learnedNoGoods.clear();
+		coreTier.clear();
+		midTier.clear();
+		localTier.clear();
 		conflictCounter = 0;
+		midTierConflictCounter = 0;
 		cleanupCounter = 0;
 		numberOfDeletedNoGoods = 0;
 	}
 
 	/**
-	 * Returns WatchedNoGoods known to {@link LearnedNoGoodDeletion}.
+	 * Returns WatchedNoGoods known to {@link LearnedNoGoodDeletion}, ordered by tier (core, mid, local).
 	 * Note: this is likely just a subset of all learned nogoods.
 	 * @return an unmodifiable list of {@link WatchedNoGood}s.
 	 */
 	public List<WatchedNoGood> inspectLearnedNoGoods() {
+		List<WatchedNoGood> learnedNoGoods = new ArrayList<>(coreTier);
+		learnedNoGoods.addAll(midTier);
+		learnedNoGoods.addAll(localTier);
 		return Collections.unmodifiableList(learnedNoGoods);
 	}
 
 	void recordLearnedNoGood(WatchedNoGood learnedWatchedNoGood) {
-		learnedNoGoods.add(learnedWatchedNoGood);
+		tierFor(learnedWatchedNoGood.getLBD()).add(learnedWatchedNoGood);
+	}
+
+	private List<WatchedNoGood> tierFor(int lbd) {
+		if (lbd <= CORE_TIER_MAX_LBD) {
+			return coreTier;
+		}
+		if (lbd <= MID_TIER_MAX_LBD) {
+			return midTier;
+		}
+		return localTier;
 	}
 
 	void increaseConflictCounter() {
 		conflictCounter++;
+		midTierConflictCounter++;
 	}
 
 	boolean needToRunNoGoodDeletion() {
+		return needToReduceLocalTier() || midTierConflictCounter >= MID_TIER_REDUCTION_INTERVAL;
+	}
+
+	private boolean needToReduceLocalTier() {
 		return conflictCounter > RUN_AFTER_AT_LEAST + (GROWTH_FACTOR * cleanupCounter);
 	}
 
 	void runNoGoodDeletion() {
+		Object noGoodDeletionEvent = FlightRecorderEvents.beginNoGoodDeletion();
+		int deletedBefore = numberOfDeletedNoGoods;
+		promoteNoGoodsWithImprovedLbd(localTier);
+		promoteNoGoodsWithImprovedLbd(midTier);
+		if (midTierConflictCounter >= MID_TIER_REDUCTION_INTERVAL) {
+			reduceCoreAndMidTier();
+		}
+		if (needToReduceLocalTier()) {
+			reduceLocalTier();
+		}
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Learned NoGoods per tier: core={}, mid={}, local={}.", coreTier.size(), midTier.size(), localTier.size());
+		}
+		FlightRecorderEvents.endNoGoodDeletion(noGoodDeletionEvent, numberOfDeletedNoGoods - deletedBefore, coreTier.size(), midTier.size(),
+			localTier.size());
+	}
+
+	private void promoteNoGoodsWithImprovedLbd(ArrayList<WatchedNoGood> tier) {
+		int kept = 0;
+		for (int i = 0; i < tier.size(); i++) {
+			WatchedNoGood learnedNoGood = tier.get(i);
+			List<WatchedNoGood> targetTier = learnedNoGood.pollLbdImproved() ? tierFor(learnedNoGood.getLBD()) : tier;
+			if (targetTier == tier) {
+				tier.set(kept++, learnedNoGood);
+			} else {
+				targetTier.add(learnedNoGood);
+			}
+		}
+		tier.subList(kept, tier.size()).clear();
+	}
+
+	private void reduceCoreAndMidTier() {
+		midTierConflictCounter = 0;
+		if (coreTier.size() > CORE_TIER_MAX_SIZE) {
+			demoteLeastActive(coreTier, midTier, coreTier.size() - CORE_TIER_MAX_SIZE);
+		}
+		int kept = 0;
+		int demoted = 0;
+		for (int i = 0; i < midTier.size(); i++) {
+			WatchedNoGood learnedNoGood = midTier.get(i);
+			if (learnedNoGood.pollUsedSinceReduction() || isLocked(learnedNoGood, assignment)) {
+				midTier.set(kept++, learnedNoGood);
+			} else {
+				localTier.add(learnedNoGood);
+				demoted++;
+			}
+		}
+		midTier.subList(kept, midTier.size()).clear();
+		if (midTier.size() > MID_TIER_MAX_SIZE) {
+			demoted += midTier.size() - MID_TIER_MAX_SIZE;
+			demoteLeastActive(midTier, localTier, midTier.size() - MID_TIER_MAX_SIZE);
+		}
+		LOGGER.debug("Demoted {} NoGoods from mid to local tier.", demoted);
+	}
+
+	private static void demoteLeastActive(ArrayList<WatchedNoGood> from, ArrayList<WatchedNoGood> to, int count) {
+		from.sort(Comparator.comparingInt(WatchedNoGood::getActivity).reversed());
+		List<WatchedNoGood> leastActive = from.subList(from.size() - count, from.size());
+		to.addAll(leastActive);
+		leastActive.clear();
+	}
+
+	private void reduceLocalTier() {
 		conflictCounter = 0;
 		cleanupCounter++;
 		// Reset the sequence after enough growth cycles.
@@ -69,25 +176,24 @@ void runNoGoodDeletion() {
 			cleanupCounter = 0;
 		}
 		int deletedNoGoods = 0;
-		int originalSize = learnedNoGoods.size();
+		int originalSize = localTier.size();
 		if (originalSize == 0) {
 			return;
 		}
 		int toDeleteMax = originalSize / 2;
 		long activitySum = 0;
-		for (WatchedNoGood learnedNoGood : learnedNoGoods) {
+		for (WatchedNoGood learnedNoGood : localTier) {
 			activitySum += learnedNoGood.getActivity();
 		}
 		double avgActivity = (double) activitySum / originalSize;
 		double scoreThreshold = avgActivity * 1.5;
-		for (Iterator<WatchedNoGood> iterator = learnedNoGoods.iterator(); iterator.hasNext();) {
+		for (Iterator<WatchedNoGood> iterator = localTier.iterator(); iterator.hasNext();) {
 			WatchedNoGood learnedNoGood = iterator.next();
 			if (deletedNoGoods >= toDeleteMax) {
 				break;
 			}
 			boolean keepNoGood = isLocked(learnedNoGood, assignment)
-				|| learnedNoGood.getActivity() > scoreThreshold
-				|| learnedNoGood.isLbdLessOrEqual2();
+				|| learnedNoGood.getActivity() > scoreThreshold;
 			if (!keepNoGood) {
 				iterator.remove();
 				store.removeFromWatches(learnedNoGood);
@@ -113,4 +219,16 @@ private boolean isLocked(WatchedNoGood noGood, Assignment assignment) {
 	public int getNumberOfDeletedNoGoods() {
 		return numberOfDeletedNoGoods;
 	}
+
+	public int getCoreTierSize() {
+		return coreTier.size();
+	}
+
+	public int getMidTierSize() {
+		return midTier.size();
+	}
+
+	public int getLocalTierSize() {
+		return localTier.size();
+	}
 }
@@ -28,11 +28,13 @@
 package at.ac.tuwien.kr.alpha.solver;
 
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.common.ArrayIntIterator;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
 import at.ac.tuwien.kr.alpha.common.IntIterator;
 import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.grounder.ChoiceInformation;
 import at.ac.tuwien.kr.alpha.grounder.Grounder;
-import org.apache.commons.lang3.tuple.Pair;
+import at.ac.tuwien.kr.alpha.grounder.NoGoodBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -193,13 +195,14 @@ private boolean propagationFixpointReached() {
 	}
 
 	private AnswerSet getAnswerSetFromAssignment() {
-		ArrayList<Integer> trueAtoms = new ArrayList<>();
+		int[] trueAtoms = new int[truthAssignments.size()];
+		int numTrueAtoms = 0;
 		for (Map.Entry<Integer, Boolean> atomAssignment : truthAssignments.entrySet()) {
 			if (atomAssignment.getValue()) {
-				trueAtoms.add(atomAssignment.getKey());
+				trueAtoms[numTrueAtoms++] = atomAssignment.getKey();
 			}
 		}
-		return translate(trueAtoms);
+		return translate(new ArrayIntIterator(trueAtoms, numTrueAtoms));
 	}
 
 	private void doChoice() {
@@ -300,16 +303,21 @@ private void updateGrounderAssignments() {
 
 	private void obtainNoGoodsFromGrounder() {
 		final int oldSize = knownNoGoods.size();
-		knownNoGoods.putAll(grounder.getNoGoods(null));
+		NoGoodBatch obtained = grounder.getNoGoods(null);
+		for (int i = 0; i < obtained.size(); i++) {
+			knownNoGoods.put(obtained.getId(i), obtained.getNoGood(i));
+		}
 		if (oldSize != knownNoGoods.size()) {
 			// Record to detect propagation fixpoint, checking if new NoGoods were reported would be better here.
 			didChange = true;
 		}
 
 		// Record choice atoms
-		final Pair<Map<Integer, Integer>, Map<Integer, Integer>> choiceAtoms = grounder.getChoiceAtoms();
-		choiceOn.putAll(choiceAtoms.getKey());
-		choiceOff.putAll(choiceAtoms.getValue());
+		final ChoiceInformation choiceInformation = grounder.getChoiceInformation();
+		for (int i = 0; i < choiceInformation.getNumberOfChoicePoints(); i++) {
+			choiceOn.put(choiceInformation.getChoiceAtom(i), choiceInformation.getEnabler(i));
+			choiceOff.put(choiceInformation.getChoiceAtom(i), choiceInformation.getDisabler(i));
+		}
 	}
 
 	private boolean isSearchSpaceExhausted() {
@@ -62,6 +62,19 @@ void remove(NoGoodInterface noGood) {
 		countByCardinality[getAbstractCardinality(noGood)]--;
 	}
 
+	/**
+	 * Increases counters by the counts of another counter
+	 * @param other
+	 */
+	void addAll(NoGoodCounter other) {
+		for (int i = 0; i < countByType.length; i++) {
+			countByType[i] += other.countByType[i];
+		}
+		for (int i = 0; i < countByCardinality.length; i++) {
+			countByCardinality[i] += other.countByCardinality[i];
+		}
+	}
+
 	private int getAbstractCardinality(NoGoodInterface noGood) {
 		if (noGood.isUnary()) {
 			return CARD_UNARY;
@@ -0,0 +1,163 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+import at.ac.tuwien.kr.alpha.grounder.atoms.ChoiceAtom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static at.ac.tuwien.kr.alpha.common.Literals.atomOf;
+import static at.ac.tuwien.kr.alpha.common.Literals.atomToLiteral;
+import static at.ac.tuwien.kr.alpha.common.Literals.isPositive;
+
+/**
+ * Exchanges short learned nogoods between solvers working on the same program in parallel, e.g. the workers of a
+ * {@link PortfolioSolver}. Every worker has its own lock-free inbox, exporting a nogood appends it to the inboxes of
+ * all other workers.
+ *
+ * Since every worker has its own {@link AtomStore}, atom ids differ between workers. Shared nogoods are therefore
+ * represented by their (ground) atoms and translated back into the atom ids of the importing worker. A nogood is
+ * dropped on import if one of its atoms is not known to the importing worker yet. Nogoods over choice atoms are never
+ * shared, since those are identified by ids local to each grounder.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class NoGoodExchange {
+	private final int maxSize;
+	private final int maxLbd;
+	private final List<Queue<SharedNoGood>> inboxes = new ArrayList<>();
+
+	/**
+	 * @param numWorkers the number of workers taking part in the exchange.
+	 * @param maxSize    the maximum number of literals of a shared nogood.
+	 * @param maxLbd     the maximum literals block distance of a shared nogood.
+	 */
+	public NoGoodExchange(int numWorkers, int maxSize, int maxLbd) {
+		this.maxSize = maxSize;
+		this.maxLbd = maxLbd;
+		for (int i = 0; i < numWorkers; i++) {
+			inboxes.add(new ConcurrentLinkedQueue<>());
+		}
+	}
+
+	/**
+	 * Returns the endpoint through which the given worker exports and imports nogoods. Each endpoint must only be
+	 * used by the thread running its worker.
+	 */
+	public Endpoint getEndpoint(int worker, AtomStore atomStore) {
+		return new Endpoint(worker, atomStore);
+	}
+
+	@FunctionalInterface
+	public interface ImportedNoGoodHandler {
+		/**
+		 * @return false iff the nogood made the program unsatisfiable and importing should stop.
+		 */
+		boolean handle(NoGood noGood, int lbd);
+	}
+
+	public class Endpoint {
+		private final int worker;
+		private final AtomStore atomStore;
+		private int exported;
+		private int imported;
+		private int dropped;
+
+		private Endpoint(int worker, AtomStore atomStore) {
+			this.worker = worker;
+			this.atomStore = atomStore;
+		}
+
+		/**
+		 * Shares the given learned nogood with all other workers if it is short enough and has a low enough LBD.
+		 * @return true iff the nogood was shared.
+		 */
+		public boolean export(NoGood learnedNoGood, int lbd) {
+			if (learnedNoGood.size() > maxSize || lbd > maxLbd || learnedNoGood.hasHead()) {
+				return false;
+			}
+			Atom[] atoms = new Atom[learnedNoGood.size()];
+			boolean[] positive = new boolean[learnedNoGood.size()];
+			for (int i = 0; i < learnedNoGood.size(); i++) {
+				int literal = learnedNoGood.getLiteral(i);
+				atoms[i] = atomStore.get(atomOf(literal));
+				if (atoms[i] instanceof ChoiceAtom) {
+					return false;
+				}
+				positive[i] = isPositive(literal);
+			}
+			SharedNoGood sharedNoGood = new SharedNoGood(atoms, positive, lbd);
+			for (int i = 0; i < inboxes.size(); i++) {
+				if (i != worker) {
+					inboxes.get(i).offer(sharedNoGood);
+				}
+			}
+			exported++;
+			return true;
+		}
+
+		/**
+		 * Translates all nogoods shared by other workers since the last call and passes them to the given handler.
+		 * @return false iff the handler reported unsatisfiability.
+		 */
+		public boolean importNoGoods(ImportedNoGoodHandler handler) {
+			Queue<SharedNoGood> inbox = inboxes.get(worker);
+			SharedNoGood sharedNoGood;
+			while ((sharedNoGood = inbox.poll()) != null) {
+				NoGood noGood = translate(sharedNoGood);
+				if (noGood == null) {
+					dropped++;
+					continue;
+				}
+				imported++;
+				if (!handler.handle(noGood, sharedNoGood.lbd)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private NoGood translate(SharedNoGood sharedNoGood) {
+			int[] literals = new int[sharedNoGood.atoms.length];
+			for (int i = 0; i < literals.length; i++) {
+				if (!atomStore.contains(sharedNoGood.atoms[i])) {
+					return null;
+				}
+				literals[i] = atomToLiteral(atomStore.get(sharedNoGood.atoms[i]), sharedNoGood.positive[i]);
+			}
+			return NoGood.learnt(literals);
+		}
+
+		public int getNumberOfExportedNoGoods() {
+			return exported;
+		}
+
+		public int getNumberOfImportedNoGoods() {
+			return imported;
+		}
+
+		public int getNumberOfDroppedNoGoods() {
+			return dropped;
+		}
+	}
+
+	/**
+	 * A nogood in a representation that is independent of the {@link AtomStore} of any worker. Immutable, hence
+	 * safely published through the inboxes.
+	 */
+	private static final class SharedNoGood {
+		private final Atom[] atoms;
+		private final boolean[] positive;
+		private final int lbd;
+
+		SharedNoGood(Atom[] atoms, boolean[] positive, int lbd) {
+			this.atoms = atoms;
+			this.positive = positive;
+			this.lbd = lbd;
+		}
+	}
+}
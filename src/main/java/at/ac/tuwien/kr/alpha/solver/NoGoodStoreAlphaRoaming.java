@@ -34,10 +34,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
@@ -64,6 +62,9 @@
  *  point to unassigned literals. Observe that for an assignment to TRUE the (potentially lower) decision level of MBT
  *  is taken.
  *
+ *  NoGoods of size three or more are kept in a {@link WatchedNoGoodArena}, such that their literals are stored
+ *  contiguously and watch lists only hold ints.
+ *
  *  Copyright (c) 2017-2020, the Alpha Team.
  */
 public class NoGoodStoreAlphaRoaming implements NoGoodStore, BinaryNoGoodPropagationEstimation, Checkable {
@@ -72,10 +73,9 @@ public class NoGoodStoreAlphaRoaming implements NoGoodStore, BinaryNoGoodPropaga
 
 	private final WritableAssignment assignment;
 	private final LearnedNoGoodDeletion learnedNoGoodDeletion;
-	@SuppressWarnings("unchecked")
-	private ArrayList<WatchedNoGood>[] watches = new ArrayList[0];
-	@SuppressWarnings("unchecked")
-	private ArrayList<WatchedNoGood>[] watchesAlpha = new ArrayList[0];
+	private WatchedNoGoodArena arena = new WatchedNoGoodArena();
+	private WatchList[] watches = new WatchList[0];
+	private WatchList[] watchesAlpha = new WatchList[0];
 	private BinaryWatchList[] binaryWatches = new BinaryWatchList[0];
 	private int maxAtomId;
 
@@ -95,13 +95,13 @@ public NoGoodStoreAlphaRoaming(WritableAssignment assignment) {
 		this(assignment, false);
 	}
 
-	@SuppressWarnings("unchecked")
 	void clear() {
 		assignment.clear();
 		learnedNoGoodDeletion.reset();
+		arena = new WatchedNoGoodArena();
 		binaryWatches = new BinaryWatchList[0];
-		watches = new ArrayList[0];
-		watchesAlpha = new ArrayList[0];
+		watches = new WatchList[0];
+		watchesAlpha = new WatchList[0];
 		maxAtomId = 0;
 	}
 
@@ -139,11 +139,11 @@ public void growForMaxAtomId(int maxAtomId) {
 		}
 		watches = Arrays.copyOf(watches, newCapacity);
 		for (int i = oldlength; i < watches.length; i++) {
-			watches[i] = new ArrayList<>();
+			watches[i] = new WatchList();
 		}
 		watchesAlpha = Arrays.copyOf(watchesAlpha, newCapacity);
 		for (int i = oldlength; i < watchesAlpha.length; i++) {
-			watchesAlpha[i] = new ArrayList<>();
+			watchesAlpha[i] = new WatchList();
 		}
 		this.maxAtomId = maxAtomId;
 	}
@@ -164,31 +164,34 @@ void removeFromWatches(WatchedNoGood toRemove) {
 		counter.remove(toRemove);
 		int watchedLiteral1 = toRemove.getLiteral(0);
 		int watchedLiteral2 = toRemove.getLiteral(1);
-		if (!watches(watchedLiteral2).remove(toRemove)
-			|| !watches(watchedLiteral1).remove(toRemove)) {
+		if (!watches(watchedLiteral2).remove(toRemove.getId())
+			|| !watches(watchedLiteral1).remove(toRemove.getId())) {
 			throw oops("Could not remove learned NoGood from watch lists.");
 		}
 		if (toRemove.hasHead()) {
 			throw oops("NoGood has a head.");	// If this occurs, we need to remove the alpha watch too.
 		}
+		arena.remove(toRemove);
 	}
 
-	private ArrayList<WatchedNoGood> watches(int literal) {
+	private WatchList watches(int literal) {
 		return watches[literal];
 	}
 
-	private ArrayList<WatchedNoGood> watchesAlpha(int literal) {
+	private WatchList watchesAlpha(int literal) {
 		return watchesAlpha[literal];
 	}
 
 	private void addOrdinaryWatch(WatchedNoGood wng, int pointer) {
 		final int literal = wng.getLiteral(pointer);
-		watches(literal).add(wng);
+		// The other watched literal serves as blocker.
+		watches(literal).add(wng.getId(), wng.getLiteral(1 - pointer));
 	}
 
 	private void addAlphaWatch(WatchedNoGood wng) {
 		final int literal = wng.getLiteralAtAlpha();
-		watchesAlpha(literal).add(wng);
+		// The head serves as blocker, since it is the only literal a strongly watched NoGood can be satisfied by.
+		watchesAlpha(literal).add(wng.getId(), wng.getHead());
 	}
 
 	@Override
@@ -371,7 +374,7 @@ private ConflictCause addAndWatch(final NoGood noGood, int lbd) {
 				watchAlpha = posStrongHighestAssigned;
 			}
 		}
-		WatchedNoGood wng = new WatchedNoGood(noGood, watch1, watch2, watchAlpha);
+		WatchedNoGood wng = arena.add(noGood, watch1, watch2, watchAlpha);
 		LOGGER.trace("WatchedNoGood is {}.", wng);
 
 		// Record for eventual removal if this NoGood is learned.
@@ -448,35 +451,64 @@ private ConflictCause assignTruth(int atom, ThriceTruth truth, Antecedent implie
 	 * @param literal the literal that triggers the propagation.
 	 */
 	private ConflictCause propagateWeakly(int literal, int currentDecisionLevel, boolean restrictToBinaryNoGoods) {
-		final ArrayList<WatchedNoGood> watchesOfAssignedAtom = watches(literal);
-
 		// Propagate binary watches.
 		ConflictCause conflictCause = binaryWatches[literal].propagateWeakly();
 		if (conflictCause != null || restrictToBinaryNoGoods) {
 			return conflictCause;
 		}
 
-		// Check all watched multi-ary NoGoods.
-		Iterator<WatchedNoGood> watchIterator = watchesOfAssignedAtom.iterator();
-		clearOrdinaryWatchList(literal);
-		while (watchIterator.hasNext()) {
-			WatchedNoGood nextNoGood = watchIterator.next();
-			conflictCause = processWeaklyWatchedNoGood(literal, nextNoGood, currentDecisionLevel);
+		// Check all watched multi-ary NoGoods, compacting the watch list in place.
+		final WatchList watchList = watches(literal);
+		final int assignedDecisionLevel = assignment.getWeakDecisionLevel(atomOf(literal));
+		final int size = watchList.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			final int noGoodId = watchList.getNoGoodId(i);
+			final int blocker = watchList.getBlocker(i);
+			// Skip the NoGood without looking at its literals if the blocker satisfies it.
+			if (isSatisfiedByBlocker(blocker, assignedDecisionLevel)) {
+				watchList.set(kept++, noGoodId, blocker);
+				continue;
+			}
+			final WatchedNoGood watchedNoGood = arena.get(noGoodId);
+			final int assignedWatch = watchedNoGood.getLiteral(0) == literal ? 0 : 1;
+			final int otherLiteral = watchedNoGood.getLiteral(1 - assignedWatch);
+			conflictCause = processWeaklyWatchedNoGood(assignedWatch, watchedNoGood, currentDecisionLevel);
+			if (watchedNoGood.getLiteral(assignedWatch) != literal) {
+				// Watch moved to another literal.
+				continue;
+			}
+			watchList.set(kept++, noGoodId, otherLiteral);
 			if (conflictCause != null) {
-				// Copy over all non-treated NoGoods, so that they can be treated after backtracking.
-				ArrayList<WatchedNoGood> watchlist = watches(literal);
-				watchlist.add(nextNoGood);
-				while (watchIterator.hasNext()) {
-					watchlist.add(watchIterator.next());
+				// Keep all non-treated NoGoods, so that they can be treated after backtracking.
+				for (int j = i + 1; j < size; j++) {
+					watchList.set(kept++, watchList.getNoGoodId(j), watchList.getBlocker(j));
 				}
+				watchList.truncate(kept);
 				return conflictCause;
 			}
 		}
+		watchList.truncate(kept);
 		return null;
 	}
 
-	private ConflictCause processWeaklyWatchedNoGood(int assignedLiteral, WatchedNoGood watchedNoGood, int currentDecisionLevel) {
-		final int assignedWatch = watchedNoGood.getLiteral(0) == assignedLiteral ? 0 : 1;
+	/**
+	 * Returns true iff the given blocker literal of a NoGood is assigned such that it satisfies the NoGood, at a
+	 * decision level not above the one of the watched literal that triggered the propagation. The latter guarantees
+	 * that backtracking does not unassign the blocker without also unassigning the watched literal.
+	 */
+	private boolean isSatisfiedByBlocker(int blocker, int assignedDecisionLevel) {
+		final int blockerAtom = atomOf(blocker);
+		final ThriceTruth blockerTruth = assignment.getTruth(blockerAtom);
+		return blockerTruth != null && blockerTruth.toBoolean() != isPositive(blocker)
+			&& assignment.getWeakDecisionLevel(blockerAtom) <= assignedDecisionLevel;
+	}
+
+	/**
+	 * Processes a NoGood whose ordinary watch at the given index got assigned. Either moves the watch to another
+	 * literal (and registers it there) or keeps the watch, in which case the caller must keep it in the watch list.
+	 */
+	private ConflictCause processWeaklyWatchedNoGood(int assignedWatch, WatchedNoGood watchedNoGood, int currentDecisionLevel) {
 		final int otherWatch = 1 - assignedWatch;
 
 		final int otherLiteral = watchedNoGood.getLiteral(otherWatch);
@@ -487,7 +519,6 @@ private ConflictCause processWeaklyWatchedNoGood(int assignedLiteral, WatchedNoG
 		// Check if the other watch already satisfies the noGood.
 		if (otherAtomTruth != null && otherAtomTruth.toBoolean() != isPositive(otherLiteral)) {
 			// Keep this watch and return early.
-			addOrdinaryWatch(watchedNoGood, assignedWatch);
 			return null;
 		} else {
 			for (int i = 2; i < watchedNoGood.size(); i++) {
@@ -514,14 +545,8 @@ private ConflictCause processWeaklyWatchedNoGood(int assignedLiteral, WatchedNoG
 			LOGGER.trace("Nogood is unit:");
 			logNoGoodAndAssignment(watchedNoGood, assignment);
 		}
-		ConflictCause conflictCause = assignWeakComplement(otherWatch, watchedNoGood, currentDecisionLevel);
-		// Return conflict if noGood is violated.
-		if (conflictCause != null) {
-			return conflictCause;
-		}
-		// Watch same literal again.
-		addOrdinaryWatch(watchedNoGood, assignedWatch);
-		return null;
+		// Return conflict if noGood is violated, otherwise watch same literal again.
+		return assignWeakComplement(otherWatch, watchedNoGood, currentDecisionLevel);
 	}
 
 	private void logNoGoodAndAssignment(WatchedNoGood noGood, Assignment assignment) {
@@ -547,39 +572,46 @@ private ConflictCause propagateStrongly(int literal, int currentDecisionLevel, b
 			return conflictCause;
 		}
 
-		// Check all watched multi-ary NoGoods.
-		Iterator<WatchedNoGood> watchIterator = watchesAlpha(literal).iterator();
-		clearAlphaWatchList(literal);
-		while (watchIterator.hasNext()) {
-			WatchedNoGood nextNoGood = watchIterator.next();
-			if (!nextNoGood.hasHead()) {
+		// Check all watched multi-ary NoGoods, compacting the watch list in place.
+		final WatchList watchList = watchesAlpha(literal);
+		final int size = watchList.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			final int noGoodId = watchList.getNoGoodId(i);
+			final int head = watchList.getBlocker(i);
+			// Check if the other watch, i.e., the head, already satisfies the noGood.
+			if (assignment.getTruth(atomOf(head)) == TRUE) {
+				watchList.set(kept++, noGoodId, head);
+				continue;
+			}
+			final WatchedNoGood watchedNoGood = arena.get(noGoodId);
+			if (!watchedNoGood.hasHead()) {
 				throw oops("Strong propagation encountered NoGood without head");
 			}
-			conflictCause = processStronglyWatchedNoGood(nextNoGood, currentDecisionLevel);
+			conflictCause = processStronglyWatchedNoGood(watchedNoGood, currentDecisionLevel);
+			if (watchedNoGood.getLiteralAtAlpha() != literal) {
+				// Watch moved to another literal.
+				continue;
+			}
+			watchList.set(kept++, noGoodId, head);
 			if (conflictCause != null) {
-				// Copy over all non-treated NoGoods, so that they can be treated after backtracking.
-				ArrayList<WatchedNoGood> watchlist = watchesAlpha(literal);
-				watchlist.add(nextNoGood);
-				while (watchIterator.hasNext()) {
-					watchlist.add(watchIterator.next());
+				// Keep all non-treated NoGoods, so that they can be treated after backtracking.
+				for (int j = i + 1; j < size; j++) {
+					watchList.set(kept++, watchList.getNoGoodId(j), watchList.getBlocker(j));
 				}
+				watchList.truncate(kept);
 				return conflictCause;
 			}
 		}
+		watchList.truncate(kept);
 		return null;
 	}
 
+	/**
+	 * Processes a NoGood whose alpha watch got assigned and whose head is not TRUE. Either moves the watch to another
+	 * literal (and registers it there) or keeps the watch, in which case the caller must keep it in the watch list.
+	 */
 	private ConflictCause processStronglyWatchedNoGood(WatchedNoGood watchedNoGood, int currentDecisionLevel) {
-
-		final int headAtom = atomOf(watchedNoGood.getHead());
-		final ThriceTruth headAtomTruth = assignment.getTruth(headAtom);
-		// Check if the other watch, i.e., the head, already satisfies the noGood.
-		if (headAtomTruth != null && TRUE == headAtomTruth) {
-			// Keep this watch and return early.
-			addAlphaWatch(watchedNoGood);
-			return null;
-		}
-
 		final int assignedIndex = watchedNoGood.getAlphaPointer();
 
 		// Find new literal to watch.
@@ -601,13 +633,8 @@ private ConflictCause processStronglyWatchedNoGood(WatchedNoGood watchedNoGood,
 		}
 
 		// NoGood is unit, propagate.
-		ConflictCause conflictCause = assignStrongComplement(watchedNoGood, currentDecisionLevel);
-		if (conflictCause != null) {
-			return conflictCause;
-		}
-		// Watch same literal again.
-		addAlphaWatch(watchedNoGood);
-		return null;
+		// Return conflict if noGood is violated, otherwise watch same literal again.
+		return assignStrongComplement(watchedNoGood, currentDecisionLevel);
 	}
 
 	@Override
@@ -807,12 +834,59 @@ public String toString() {
 		}
 	}
 
-	private void clearOrdinaryWatchList(int literal) {
-		watches[literal] = new ArrayList<>();
-	}
+	/**
+	 * A list of watched NoGoods, each with a blocker literal. The blocker is a literal of the NoGood that is checked
+	 * first when the watched literal gets assigned; if it satisfies the NoGood, the NoGood itself need not be visited.
+	 * Entries are pairs of the id of the NoGood in the {@link WatchedNoGoodArena} and the blocker, stored next to each
+	 * other in a single int array. The list is compacted in place during propagation.
+	 */
+	private static final class WatchList {
+		private static final int[] NO_WATCHES = new int[0];
+
+		private int[] watches = NO_WATCHES;
+		private int size;
+
+		void add(int noGoodId, int blocker) {
+			if (2 * size == watches.length) {
+				watches = Arrays.copyOf(watches, 2 * Math.max(4, arrayGrowthSize(size)));
+			}
+			set(size++, noGoodId, blocker);
+		}
+
+		int getNoGoodId(int index) {
+			return watches[2 * index];
+		}
+
+		int getBlocker(int index) {
+			return watches[2 * index + 1];
+		}
+
+		void set(int index, int noGoodId, int blocker) {
+			watches[2 * index] = noGoodId;
+			watches[2 * index + 1] = blocker;
+		}
+
+		/**
+		 * Drops all entries from the given index on.
+		 */
+		void truncate(int newSize) {
+			size = newSize;
+		}
+
+		boolean remove(int noGoodId) {
+			for (int i = 0; i < size; i++) {
+				if (getNoGoodId(i) == noGoodId) {
+					System.arraycopy(watches, 2 * (i + 1), watches, 2 * i, 2 * (size - i - 1));
+					size--;
+					return true;
+				}
+			}
+			return false;
+		}
 
-	private void clearAlphaWatchList(int literal) {
-		watchesAlpha[literal] = new ArrayList<>();
+		int size() {
+			return size;
+		}
 	}
 
 	@Override
@@ -910,7 +984,9 @@ private void checkAlphaWatchesInvariant(int atom, boolean truth) {
 				}
 				throw oops("Watch invariant (alpha) violated");
 			}
-			for (WatchedNoGood watchedNoGood : watchesAlpha(atomLiteral)) {
+			WatchList alphaWatchList = watchesAlpha(atomLiteral);
+			for (int i = 0; i < alphaWatchList.size(); i++) {
+				WatchedNoGood watchedNoGood = arena.get(alphaWatchList.getNoGoodId(i));
 				int headLiteral = watchedNoGood.getHead();
 				if (headLiteral == atomLiteral) {
 					throw oops("Watch invariant violated: alpha watch points at head.");
@@ -941,7 +1017,9 @@ private void checkOrdinaryWatchesInvariant(int atom, boolean truth) {
 				int otherLiteral = binaryWatchList.noGoodsWithHead[i];
 				checkBinaryWatch(atomSatisfies, atomDecisionLevel, atomReplayLevel, otherLiteral);
 			}
-			for (WatchedNoGood watchedNoGood : watches(atomLiteral)) {
+			WatchList watchList = watches(atomLiteral);
+			for (int i = 0; i < watchList.size(); i++) {
+				WatchedNoGood watchedNoGood = arena.get(watchList.getNoGoodId(i));
 				// Ensure both watches are either unassigned, or one satisfies NoGood, or both are on highest decision level.
 				int otherPointer = atom ==  atomOf(watchedNoGood.getLiteral(1)) ? 0 : 1;
 				int otherLiteral = watchedNoGood.getLiteral(otherPointer);
@@ -954,13 +1032,32 @@ private void checkOrdinaryWatchesInvariant(int atom, boolean truth) {
 				int otherDecisionLevel = weakDecisionLevel(otherEntry);
 				int otherReplayLevel = weakReplayLevel(otherAtom);
 				boolean otherSatisfies = otherEntry != null && isPositive(otherLiteral) != otherEntry.getTruth().toBoolean();
-				if (watchInvariant(atomSatisfies, otherSatisfies, atomDecisionLevel, atomReplayLevel, otherDecisionLevel, otherReplayLevel)) {
+				if (watchInvariant(atomSatisfies, otherSatisfies, atomDecisionLevel, atomReplayLevel, otherDecisionLevel, otherReplayLevel)
+					|| isSatisfiedBelowWatches(watchedNoGood)) {
 					continue;
 				}
 				throw oops("Watch invariant violated");
 			}
 		}
 
+		/**
+		 * Propagation skips a NoGood if its blocker satisfies it, the blocker need not be one of the watched literals,
+		 * however. This is fine as long as the satisfying literal is assigned at a decision level not above the one of
+		 * any assigned watched literal, since then backtracking unassigns the watched literals no later than the
+		 * satisfying one.
+		 */
+		private boolean isSatisfiedBelowWatches(WatchedNoGood watchedNoGood) {
+			int watchDecisionLevel = Math.min(weakDecisionLevel(assignment.get(atomOf(watchedNoGood.getLiteral(0)))),
+				weakDecisionLevel(assignment.get(atomOf(watchedNoGood.getLiteral(1)))));
+			for (int literal : watchedNoGood.getReasonLiterals()) {
+				Assignment.Entry entry = assignment.get(atomOf(literal));
+				if (entry != null && isPositive(literal) != entry.getTruth().toBoolean() && weakDecisionLevel(entry) <= watchDecisionLevel) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		private void checkBinaryWatch(boolean atomSatisfies, int atomDecisionLevel, int atomReplayLevel, int otherLiteral) {
 			int otherAtom = atomOf(otherLiteral);
 			Assignment.Entry otherEntry = assignment.get(otherAtom);
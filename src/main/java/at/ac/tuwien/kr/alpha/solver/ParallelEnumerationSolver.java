@@ -0,0 +1,467 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.common.Metrics;
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+import at.ac.tuwien.kr.alpha.grounder.GroundingProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Enumerates all answer sets in parallel by splitting the search space into disjoint cubes. A cube assigns a truth
+ * value to each of a few choice atoms that are active after grounding and propagating at decision level 0, hence
+ * every answer set lies in exactly one cube. Each cube is solved by a separate {@link DefaultSolver} (with its own
+ * grounder) that assumes the cube.
+ *
+ * Cubes are generated lazily as the leaves of a binary tree of fork/join tasks, such that idle threads of the
+ * {@link ForkJoinPool} steal (sub-trees of) pending cubes from busy ones. There are several times more cubes than
+ * threads in order to balance cubes of uneven difficulty. All answer sets are passed through one bounded queue, the
+ * order in which they are reported is not deterministic.
+ *
+ * Metrics, grounding profiles and statistics are summed up over the solver splitting the search space and all
+ * solvers that finished their cube.
+ *
+ * Since workers block while the queue is full, a consumer that stops before all answer sets are reported must close
+ * the stream obtained from {@link #stream()} (or call {@link #cancel()}), which stops all workers.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class ParallelEnumerationSolver implements Solver, SolverMaintainingStatistics {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ParallelEnumerationSolver.class);
+
+	/**
+	 * The number of cubes per thread (if there are enough choice atoms).
+	 */
+	private static final int CUBES_PER_WORKER = 8;
+	private static final int MAX_SPLITTING_ATOMS = 16;
+	private static final int QUEUE_CAPACITY = 1024;
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private static final Object END_OF_ENUMERATION = new Object();
+
+	private final Supplier<DefaultSolver> solverSupplier;
+	private final int numWorkers;
+	private final BlockingQueue<Object> results = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private boolean started;
+	private boolean finished;
+	private volatile boolean cancelled;
+	private ForkJoinPool pool;
+	private Spliterator<AnswerSet> sequentialEnumeration;
+	private DefaultSolver prober;
+	// Guarded by itself: metrics of all solvers that finished a cube.
+	private final Metrics cubeMetrics = new Metrics(false);
+	// Guarded by itself: grounding profiles of all solvers that finished a cube.
+	private final GroundingProfile cubeGroundingProfile = new GroundingProfile();
+	// Guarded by itself: statistics of all solvers that finished a cube.
+	private final SummedStatistics cubeStatistics = new SummedStatistics();
+
+	/**
+	 * @param solverSupplier creates a new solver (with its own grounder and atom store) for the program on each call.
+	 * @param numWorkers     the number of threads to solve cubes with.
+	 */
+	public ParallelEnumerationSolver(Supplier<DefaultSolver> solverSupplier, int numWorkers) {
+		this.solverSupplier = solverSupplier;
+		this.numWorkers = numWorkers;
+	}
+
+	/**
+	 * Returns a stream of all answer sets that stops all workers when closed.
+	 */
+	@Override
+	public Stream<AnswerSet> stream() {
+		return Solver.super.stream().onClose(this::cancel);
+	}
+
+	@Override
+	public long countAnswerSets(long limit) {
+		try (Stream<AnswerSet> answerSets = stream()) {
+			return (limit > 0 ? answerSets.limit(limit) : answerSets).count();
+		}
+	}
+
+	/**
+	 * Stops all workers, no further answer sets are reported afterwards.
+	 */
+	public synchronized void cancel() {
+		cancelled = true;
+		finished = true;
+		if (pool != null) {
+			pool.shutdownNow();
+		}
+		// Release a consumer that may be waiting for results.
+		results.clear();
+		results.offer(END_OF_ENUMERATION);
+	}
+
+	/**
+	 * Waits until all workers stopped, used in tests.
+	 * @return true iff all workers stopped within the given time.
+	 */
+	boolean awaitTermination(long timeoutMillis) throws InterruptedException {
+		ForkJoinPool workers;
+		synchronized (this) {
+			workers = pool;
+		}
+		return workers == null || workers.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Spliterator<AnswerSet> spliterator() {
+		return new Spliterators.AbstractSpliterator<AnswerSet>(Long.MAX_VALUE, 0) {
+			@Override
+			public boolean tryAdvance(Consumer<? super AnswerSet> action) {
+				return ParallelEnumerationSolver.this.tryAdvance(action);
+			}
+		};
+	}
+
+	private boolean tryAdvance(Consumer<? super AnswerSet> action) {
+		if (finished || cancelled) {
+			return false;
+		}
+		if (!started) {
+			started = true;
+			start();
+		}
+		if (sequentialEnumeration != null) {
+			return sequentialEnumeration.tryAdvance(action);
+		}
+		Object result;
+		try {
+			result = results.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for answer sets.", e);
+		}
+		if (result == END_OF_ENUMERATION) {
+			finished = true;
+			return false;
+		}
+		if (result instanceof Throwable) {
+			finished = true;
+			if (result instanceof RuntimeException) {
+				throw (RuntimeException) result;
+			}
+			if (result instanceof Error) {
+				throw (Error) result;
+			}
+			throw new IllegalStateException("Enumeration of answer sets failed.", (Throwable) result);
+		}
+		action.accept((AnswerSet) result);
+		return true;
+	}
+
+	private void start() {
+		prober = solverSupplier.get();
+		if (!prober.supportsSplitting()) {
+			LOGGER.warn("Search space cannot be split for optimization or projected enumeration, enumerating sequentially.");
+			sequentialEnumeration = prober.spliterator();
+			return;
+		}
+		List<Atom> splittingAtoms = prober.computeSplittingAtoms(splittingDepth());
+		if (splittingAtoms == null) {
+			LOGGER.debug("Program is unsatisfiable at decision level 0.");
+			put(END_OF_ENUMERATION);
+			return;
+		}
+		LOGGER.debug("Splitting search space into {} cubes over: {}", 1 << splittingAtoms.size(), splittingAtoms);
+		synchronized (this) {
+			if (cancelled) {
+				return;
+			}
+			pool = new ForkJoinPool(numWorkers, forkJoinPool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+				thread.setDaemon(true);
+				return thread;
+			}, null, false);
+			pool.execute(() -> {
+				try {
+					new CubeTask(splittingAtoms, new boolean[splittingAtoms.size()], 0).invoke();
+					put(END_OF_ENUMERATION);
+				} catch (Throwable t) {
+					// Whatever happens, release the consumer waiting for results.
+					put(t);
+				}
+			});
+			// Already submitted tasks still run to completion.
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Returns the metrics of the solver splitting the search space and of all solvers that finished their cube.
+	 */
+	@Override
+	public Metrics getMetrics() {
+		Metrics metrics = new Metrics(false);
+		if (prober != null) {
+			metrics.addAll(prober.getMetrics());
+		}
+		synchronized (cubeMetrics) {
+			metrics.addAll(cubeMetrics);
+		}
+		return metrics;
+	}
+
+	/**
+	 * Returns the grounding profile of the solver splitting the search space and of all solvers that finished their
+	 * cube.
+	 */
+	@Override
+	public GroundingProfile getGroundingProfile() {
+		GroundingProfile groundingProfile = new GroundingProfile();
+		if (prober != null) {
+			groundingProfile.addAll(prober.getGroundingProfile());
+		}
+		synchronized (cubeGroundingProfile) {
+			groundingProfile.addAll(cubeGroundingProfile);
+		}
+		return groundingProfile;
+	}
+
+	/**
+	 * Statistics are the sums of those of the solver splitting the search space and of all solvers that finished their
+	 * cube.
+	 */
+	private SolverMaintainingStatistics getStatistics() {
+		SummedStatistics statistics = new SummedStatistics();
+		if (prober != null) {
+			statistics.add(prober);
+		}
+		synchronized (cubeStatistics) {
+			statistics.add(cubeStatistics);
+		}
+		return statistics;
+	}
+
+	@Override
+	public int getNumberOfChoices() {
+		return getStatistics().getNumberOfChoices();
+	}
+
+	@Override
+	public int getNumberOfBacktracks() {
+		return getStatistics().getNumberOfBacktracks();
+	}
+
+	@Override
+	public int getNumberOfBacktracksWithinBackjumps() {
+		return getStatistics().getNumberOfBacktracksWithinBackjumps();
+	}
+
+	@Override
+	public int getNumberOfBackjumps() {
+		return getStatistics().getNumberOfBackjumps();
+	}
+
+	@Override
+	public int getNumberOfBacktracksDueToRemnantMBTs() {
+		return getStatistics().getNumberOfBacktracksDueToRemnantMBTs();
+	}
+
+	@Override
+	public int getNumberOfDeletedNoGoods() {
+		return getStatistics().getNumberOfDeletedNoGoods();
+	}
+
+	@Override
+	public int getNumberOfRestarts() {
+		return getStatistics().getNumberOfRestarts();
+	}
+
+	@Override
+	public int getNumberOfConflictsAfterClosing() {
+		return getStatistics().getNumberOfConflictsAfterClosing();
+	}
+
+	@Override
+	public int getNumberOfGrounderRoundTrips() {
+		return getStatistics().getNumberOfGrounderRoundTrips();
+	}
+
+	@Override
+	public int[] getLearnedNoGoodTierSizes() {
+		return getStatistics().getLearnedNoGoodTierSizes();
+	}
+
+	@Override
+	public NoGoodCounter getNoGoodCounter() {
+		return getStatistics().getNoGoodCounter();
+	}
+
+	private int splittingDepth() {
+		int depth = 0;
+		while ((1 << depth) < numWorkers * CUBES_PER_WORKER && depth < MAX_SPLITTING_ATOMS) {
+			depth++;
+		}
+		return numWorkers > 1 ? depth : 0;
+	}
+
+	/**
+	 * Passes the given result to the consumer, waiting while the queue is full.
+	 * @return false if enumeration was cancelled before the result could be passed on.
+	 */
+	private boolean put(Object result) {
+		try {
+			while (!cancelled) {
+				if (results.offer(result, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
+	/**
+	 * Solves all cubes that extend the truth values given for the first {@code depth} splitting atoms.
+	 */
+	private class CubeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<Atom> splittingAtoms;
+		private final boolean[] truths;
+		private final int depth;
+
+		CubeTask(List<Atom> splittingAtoms, boolean[] truths, int depth) {
+			this.splittingAtoms = splittingAtoms;
+			this.truths = truths;
+			this.depth = depth;
+		}
+
+		@Override
+		protected void compute() {
+			if (cancelled) {
+				return;
+			}
+			if (depth < splittingAtoms.size()) {
+				boolean[] truthsWithFalse = truths.clone();
+				boolean[] truthsWithTrue = truths.clone();
+				truthsWithTrue[depth] = true;
+				invokeAll(new CubeTask(splittingAtoms, truthsWithFalse, depth + 1), new CubeTask(splittingAtoms, truthsWithTrue, depth + 1));
+				return;
+			}
+			DefaultSolver solver = solverSupplier.get();
+			for (int i = 0; i < splittingAtoms.size(); i++) {
+				solver.assume(splittingAtoms.get(i), truths[i]);
+			}
+			Spliterator<AnswerSet> answerSets = solver.spliterator();
+			boolean found = true;
+			while (found && !cancelled) {
+				found = answerSets.tryAdvance(ParallelEnumerationSolver.this::put);
+			}
+			synchronized (cubeMetrics) {
+				cubeMetrics.addAll(solver.getMetrics());
+			}
+			synchronized (cubeGroundingProfile) {
+				cubeGroundingProfile.addAll(solver.getGroundingProfile());
+			}
+			synchronized (cubeStatistics) {
+				cubeStatistics.add(solver);
+			}
+		}
+	}
+
+	/**
+	 * Sums up the statistics of several solvers.
+	 */
+	private static final class SummedStatistics implements SolverMaintainingStatistics {
+		private int choices;
+		private int backtracks;
+		private int backtracksWithinBackjumps;
+		private int backjumps;
+		private int backtracksDueToRemnantMBTs;
+		private int deletedNoGoods;
+		private int restarts;
+		private int conflictsAfterClosing;
+		private int grounderRoundTrips;
+		private final int[] learnedNoGoodTierSizes = new int[3];
+		private final NoGoodCounter noGoodCounter = new NoGoodCounter();
+
+		void add(SolverMaintainingStatistics statistics) {
+			choices += statistics.getNumberOfChoices();
+			backtracks += statistics.getNumberOfBacktracks();
+			backtracksWithinBackjumps += statistics.getNumberOfBacktracksWithinBackjumps();
+			backjumps += statistics.getNumberOfBackjumps();
+			backtracksDueToRemnantMBTs += statistics.getNumberOfBacktracksDueToRemnantMBTs();
+			deletedNoGoods += statistics.getNumberOfDeletedNoGoods();
+			restarts += statistics.getNumberOfRestarts();
+			conflictsAfterClosing += statistics.getNumberOfConflictsAfterClosing();
+			grounderRoundTrips += statistics.getNumberOfGrounderRoundTrips();
+			int[] tierSizes = statistics.getLearnedNoGoodTierSizes();
+			for (int i = 0; i < learnedNoGoodTierSizes.length; i++) {
+				learnedNoGoodTierSizes[i] += tierSizes[i];
+			}
+			noGoodCounter.addAll(statistics.getNoGoodCounter());
+		}
+
+		@Override
+		public int getNumberOfChoices() {
+			return choices;
+		}
+
+		@Override
+		public int getNumberOfBacktracks() {
+			return backtracks;
+		}
+
+		@Override
+		public int getNumberOfBacktracksWithinBackjumps() {
+			return backtracksWithinBackjumps;
+		}
+
+		@Override
+		public int getNumberOfBackjumps() {
+			return backjumps;
+		}
+
+		@Override
+		public int getNumberOfBacktracksDueToRemnantMBTs() {
+			return backtracksDueToRemnantMBTs;
+		}
+
+		@Override
+		public int getNumberOfDeletedNoGoods() {
+			return deletedNoGoods;
+		}
+
+		@Override
+		public int getNumberOfRestarts() {
+			return restarts;
+		}
+
+		@Override
+		public int getNumberOfConflictsAfterClosing() {
+			return conflictsAfterClosing;
+		}
+
+		@Override
+		public int getNumberOfGrounderRoundTrips() {
+			return grounderRoundTrips;
+		}
+
+		@Override
+		public int[] getLearnedNoGoodTierSizes() {
+			return learnedNoGoodTierSizes.clone();
+		}
+
+		@Override
+		public NoGoodCounter getNoGoodCounter() {
+			return noGoodCounter;
+		}
+	}
+}
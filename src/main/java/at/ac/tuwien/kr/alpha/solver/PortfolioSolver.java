@@ -0,0 +1,229 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.common.Metrics;
+import at.ac.tuwien.kr.alpha.grounder.GroundingProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs several differently configured solvers (the workers) on the same program in parallel and takes the answer of
+ * the one that finishes first: the workers race for the first answer set (or for proving that there is none), then the
+ * others are interrupted and all further answer sets are enumerated by the winner alone.
+ *
+ * Every worker must own its grounder and {@link at.ac.tuwien.kr.alpha.common.AtomStore}, since these are not
+ * thread-safe. Hence workers are created by {@link SolverFactory#getInstance(at.ac.tuwien.kr.alpha.config.SystemConfig,
+ * at.ac.tuwien.kr.alpha.common.program.InternalProgram, java.util.function.Predicate)}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class PortfolioSolver implements Solver, SolverMaintainingStatistics {
+	private static final Logger LOGGER = LoggerFactory.getLogger(PortfolioSolver.class);
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+	/**
+	 * The workers racing for the first answer set, null once the race is decided such that the losers (each with its
+	 * own grounder, atom store and nogood store) can be garbage collected.
+	 */
+	private List<Solver> workers;
+	private Solver winner;
+
+	public PortfolioSolver(List<Solver> workers) {
+		if (workers.isEmpty()) {
+			throw new IllegalArgumentException("A portfolio solver needs at least one worker.");
+		}
+		this.workers = new ArrayList<>(workers);
+	}
+
+	@Override
+	public Spliterator<AnswerSet> spliterator() {
+		return new Spliterators.AbstractSpliterator<AnswerSet>(Long.MAX_VALUE, 0) {
+			@Override
+			public boolean tryAdvance(Consumer<? super AnswerSet> action) {
+				return PortfolioSolver.this.tryAdvance(action);
+			}
+		};
+	}
+
+	private boolean tryAdvance(Consumer<? super AnswerSet> action) {
+		if (winner != null) {
+			return winner.spliterator().tryAdvance(action);
+		}
+		AnswerSet firstAnswerSet = decideRace();
+		if (firstAnswerSet == null) {
+			return false;
+		}
+		action.accept(firstAnswerSet);
+		return true;
+	}
+
+	@Override
+	public long countAnswerSets(long limit) {
+		if (winner != null) {
+			return winner.countAnswerSets(limit);
+		}
+		if (decideRace() == null) {
+			return 0;
+		}
+		if (limit == 1) {
+			return 1;
+		}
+		return 1 + winner.countAnswerSets(limit > 0 ? limit - 1 : limit);
+	}
+
+	/**
+	 * Runs the race, keeps the winner and drops all other workers.
+	 * @return the first answer set found by the winner, or null if there is none.
+	 */
+	private AnswerSet decideRace() {
+		RaceResult result = race();
+		winner = result.worker;
+		workers = null;
+		return result.answerSet;
+	}
+
+	/**
+	 * Lets all workers search for their first answer set in parallel and interrupts the remaining ones as soon as one
+	 * of them has finished.
+	 */
+	private RaceResult race() {
+		if (workers.size() == 1) {
+			return searchFirstAnswerSet(workers.get(0));
+		}
+		List<Callable<RaceResult>> tasks = new ArrayList<>();
+		for (Solver worker : workers) {
+			tasks.add(() -> searchFirstAnswerSet(worker));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(workers.size(), runnable -> {
+			Thread thread = new Thread(runnable, "alpha-portfolio-" + THREAD_COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			// Returns the result of the first worker that finishes and cancels (i.e., interrupts) all others.
+			RaceResult result = executor.invokeAny(tasks);
+			LOGGER.debug("Portfolio worker {} finished first.", workers.indexOf(result.worker));
+			return result;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for portfolio workers.", e);
+		} catch (ExecutionException e) {
+			// All workers failed, report the cause of one of them.
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("All portfolio workers failed.", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static RaceResult searchFirstAnswerSet(Solver worker) {
+		AnswerSet[] firstAnswerSet = new AnswerSet[1];
+		worker.spliterator().tryAdvance(answerSet -> firstAnswerSet[0] = answerSet);
+		return new RaceResult(worker, firstAnswerSet[0]);
+	}
+
+	/**
+	 * Metrics are those of the winner, or of the first worker if the race did not take place yet.
+	 */
+	@Override
+	public Metrics getMetrics() {
+		return (winner != null ? winner : workers.get(0)).getMetrics();
+	}
+
+	/**
+	 * The grounding profile is the one of the winner, or of the first worker if the race did not take place yet.
+	 */
+	@Override
+	public GroundingProfile getGroundingProfile() {
+		return (winner != null ? winner : workers.get(0)).getGroundingProfile();
+	}
+
+	/**
+	 * Statistics are those of the winner, or of the first worker if the race did not take place yet.
+	 */
+	private SolverMaintainingStatistics getStatisticsSource() {
+		Solver solver = winner != null ? winner : workers.get(0);
+		if (!(solver instanceof SolverMaintainingStatistics)) {
+			throw new UnsupportedOperationException("Portfolio worker does not maintain statistics: " + solver.getClass().getSimpleName());
+		}
+		return (SolverMaintainingStatistics) solver;
+	}
+
+	@Override
+	public int getNumberOfChoices() {
+		return getStatisticsSource().getNumberOfChoices();
+	}
+
+	@Override
+	public int getNumberOfBacktracks() {
+		return getStatisticsSource().getNumberOfBacktracks();
+	}
+
+	@Override
+	public int getNumberOfBacktracksWithinBackjumps() {
+		return getStatisticsSource().getNumberOfBacktracksWithinBackjumps();
+	}
+
+	@Override
+	public int getNumberOfBackjumps() {
+		return getStatisticsSource().getNumberOfBackjumps();
+	}
+
+	@Override
+	public int getNumberOfBacktracksDueToRemnantMBTs() {
+		return getStatisticsSource().getNumberOfBacktracksDueToRemnantMBTs();
+	}
+
+	@Override
+	public int getNumberOfDeletedNoGoods() {
+		return getStatisticsSource().getNumberOfDeletedNoGoods();
+	}
+
+	@Override
+	public int getNumberOfRestarts() {
+		return getStatisticsSource().getNumberOfRestarts();
+	}
+
+	@Override
+	public int getNumberOfConflictsAfterClosing() {
+		return getStatisticsSource().getNumberOfConflictsAfterClosing();
+	}
+
+	@Override
+	public int getNumberOfGrounderRoundTrips() {
+		return getStatisticsSource().getNumberOfGrounderRoundTrips();
+	}
+
+	@Override
+	public int[] getLearnedNoGoodTierSizes() {
+		return getStatisticsSource().getLearnedNoGoodTierSizes();
+	}
+
+	@Override
+	public NoGoodCounter getNoGoodCounter() {
+		return getStatisticsSource().getNoGoodCounter();
+	}
+
+	private static final class RaceResult {
+		private final Solver worker;
+		private final AnswerSet answerSet;
+
+		RaceResult(Solver worker, AnswerSet answerSet) {
+			this.worker = worker;
+			this.answerSet = answerSet;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.Util;
+import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.IntIterator;
+import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.config.InputConfig;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Records the projections of answer sets onto their shown atoms, i.e., the atoms over non-internal predicates that
+ * pass the filter of the grounder, such that every projection is reported only once.
+ *
+ * Note that projections are recorded instead of being excluded by nogoods over the shown atoms: due to lazy grounding,
+ * shown atoms that do not exist yet may become true in later answer sets and such a nogood would wrongly exclude them.
+ * A recorded projection is just the sorted array of ids of its true shown atoms. Since nothing is pruned, the search
+ * still enumerates every answer set, and the recorder holds one such array for every reported answer set. Without a
+ * filter, the projection of an answer set is the answer set itself, so that recording would only cost memory; the
+ * recorder therefore requires a filter other than {@link InputConfig#DEFAULT_FILTER}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+class ProjectionRecorder {
+	private final AtomStore atomStore;
+	private final java.util.function.Predicate<Predicate> filter;
+	private final Set<Projection> recordedProjections = new HashSet<>();
+	private int duplicates;
+
+	ProjectionRecorder(AtomStore atomStore, java.util.function.Predicate<Predicate> filter) {
+		if (filter == InputConfig.DEFAULT_FILTER) {
+			throw new IllegalArgumentException("Projected enumeration requires a filter to project onto.");
+		}
+		this.atomStore = atomStore;
+		this.filter = filter;
+	}
+
+	/**
+	 * Records the projection of the answer set given by its true atoms.
+	 * @param trueAtoms the atoms true in the answer set.
+	 * @return true iff the projection was not recorded before.
+	 */
+	boolean recordIfNew(IntIterator trueAtoms) {
+		int[] shownAtoms = new int[16];
+		int numShownAtoms = 0;
+		while (trueAtoms.hasNext()) {
+			int trueAtom = trueAtoms.next();
+			Predicate predicate = atomStore.get(trueAtom).getPredicate();
+			if (predicate.isInternal() || !filter.test(predicate)) {
+				continue;
+			}
+			if (numShownAtoms == shownAtoms.length) {
+				shownAtoms = Arrays.copyOf(shownAtoms, Util.arrayGrowthSize(shownAtoms.length));
+			}
+			shownAtoms[numShownAtoms++] = trueAtom;
+		}
+		shownAtoms = Arrays.copyOf(shownAtoms, numShownAtoms);
+		Arrays.sort(shownAtoms);
+		if (recordedProjections.add(new Projection(shownAtoms))) {
+			return true;
+		}
+		duplicates++;
+		return false;
+	}
+
+	/**
+	 * @return the number of answer sets whose projection had already been recorded.
+	 */
+	int getNumberOfDuplicates() {
+		return duplicates;
+	}
+
+	private static final class Projection {
+		private final int[] shownAtoms;
+		private final int hashCode;
+
+		Projection(int[] shownAtoms) {
+			this.shownAtoms = shownAtoms;
+			this.hashCode = Arrays.hashCode(shownAtoms);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Projection)) {
+				return false;
+			}
+			return Arrays.equals(shownAtoms, ((Projection) o).shownAtoms);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package at.ac.tuwien.kr.alpha.solver;
 
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.common.Metrics;
+import at.ac.tuwien.kr.alpha.grounder.GroundingProfile;
 
 import java.util.List;
 import java.util.Set;
@@ -24,4 +26,37 @@ default Set<AnswerSet> collectSet() {
 	default List<AnswerSet> collectList() {
 		return stream().collect(Collectors.toList());
 	}
+
+	/**
+	 * Enumerates answer sets like {@link #stream()} does, but only counts them. Solvers override this in order to
+	 * avoid constructing (and keeping) an {@link AnswerSet} object for every model found.
+	 *
+	 * @param limit the maximum number of answer sets to count, a value of zero or less means no limit.
+	 * @return the number of answer sets found.
+	 */
+	default long countAnswerSets(long limit) {
+		Stream<AnswerSet> answerSets = stream();
+		if (limit > 0) {
+			answerSets = answerSets.limit(limit);
+		}
+		return answerSets.count();
+	}
+
+	/**
+	 * Returns the metrics of grounding, propagation, conflict analysis, justification and answer set translation
+	 * recorded so far, if enabled by {@link at.ac.tuwien.kr.alpha.config.SystemConfig#isCollectMetrics()}. Solvers
+	 * that do not record metrics return an empty registry.
+	 */
+	default Metrics getMetrics() {
+		return new Metrics(false);
+	}
+
+	/**
+	 * Returns the work spent on grounding each non-ground rule so far, if enabled by
+	 * {@link at.ac.tuwien.kr.alpha.config.SystemConfig#isProfileGrounding()}. Solvers whose grounders do not profile
+	 * return an empty profile.
+	 */
+	default GroundingProfile getGroundingProfile() {
+		return new GroundingProfile();
+	}
 }
@@ -28,14 +28,72 @@
 package at.ac.tuwien.kr.alpha.solver;
 
 import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.program.InternalProgram;
 import at.ac.tuwien.kr.alpha.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.grounder.Grounder;
+import at.ac.tuwien.kr.alpha.grounder.GrounderFactory;
+import at.ac.tuwien.kr.alpha.grounder.ProgramAnalyzingGrounder;
+import at.ac.tuwien.kr.alpha.grounder.heuristics.GrounderHeuristicsConfiguration;
+import at.ac.tuwien.kr.alpha.solver.heuristics.BranchingHeuristicFactory.Heuristic;
 import at.ac.tuwien.kr.alpha.solver.heuristics.HeuristicsConfiguration;
 import at.ac.tuwien.kr.alpha.solver.heuristics.HeuristicsConfigurationBuilder;
+import at.ac.tuwien.kr.alpha.solver.restarts.RestartStrategyFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 public final class SolverFactory {
+	public static final String PORTFOLIO_SOLVER_NAME = "portfolio";
+	public static final String PARALLEL_SOLVER_NAME = "parallel";
+
+	/**
+	 * The heuristics the workers of a portfolio solver cycle through, after the first worker which uses the configured one.
+	 */
+	private static final Heuristic[] PORTFOLIO_HEURISTICS = {Heuristic.VSIDS, Heuristic.BERKMIN, Heuristic.GDD_VSIDS, Heuristic.BERKMINLITERAL};
+
+	/**
+	 * Creates a solver together with the grounder(s) it needs for the given program. In contrast to
+	 * {@link #getInstance(SystemConfig, AtomStore, Grounder)}, this also supports the portfolio and parallel solvers,
+	 * which run several workers each of which owns an {@link AtomStore} and a grounder.
+	 */
+	public static Solver getInstance(SystemConfig config, InternalProgram program, java.util.function.Predicate<Predicate> filter) {
+		if (PARALLEL_SOLVER_NAME.equalsIgnoreCase(config.getSolverName())) {
+			SystemConfig workerConfig = new SystemConfig(config);
+			workerConfig.setSolverName(SystemConfig.DEFAULT_SOLVER_NAME);
+			// Splitting the search space looks up atoms while grounding, hence workers ground synchronously.
+			workerConfig.setAsyncGrounding(false);
+			return new ParallelEnumerationSolver(() -> {
+				AtomStore atomStore = new AtomStoreImpl();
+				return (DefaultSolver) getInstance(workerConfig, atomStore, buildGrounder(workerConfig, program, atomStore, filter));
+			}, config.getEnumerationWorkers());
+		}
+		if (!PORTFOLIO_SOLVER_NAME.equalsIgnoreCase(config.getSolverName())) {
+			AtomStore atomStore = new AtomStoreImpl();
+			return getInstance(config, atomStore, buildGrounder(config, program, atomStore, filter));
+		}
+		List<SystemConfig> workerConfigs = buildPortfolioConfigurations(config);
+		NoGoodExchange noGoodExchange = workerConfigs.size() > 1 && config.getSharedNoGoodMaxSize() > 0
+			? new NoGoodExchange(workerConfigs.size(), config.getSharedNoGoodMaxSize(), config.getSharedNoGoodMaxLbd())
+			: null;
+		List<Solver> workers = new ArrayList<>();
+		for (SystemConfig workerConfig : workerConfigs) {
+			if (noGoodExchange != null) {
+				// Importing shared nogoods looks up atoms while grounding, hence workers ground synchronously.
+				workerConfig.setAsyncGrounding(false);
+			}
+			AtomStore atomStore = new AtomStoreImpl();
+			Solver worker = getInstance(workerConfig, atomStore, buildGrounder(workerConfig, program, atomStore, filter));
+			if (noGoodExchange != null && worker instanceof DefaultSolver) {
+				((DefaultSolver) worker).setNoGoodExchange(noGoodExchange.getEndpoint(workers.size(), atomStore));
+			}
+			workers.add(worker);
+		}
+		return new PortfolioSolver(workers);
+	}
+
 	public static Solver getInstance(SystemConfig config, AtomStore atomStore, Grounder grounder) {
 		final String solverName = config.getSolverName();
 		final String nogoodStoreName = config.getNogoodStoreName();
@@ -61,7 +119,15 @@ public static Solver getInstance(SystemConfig config, AtomStore atomStore, Groun
 			case "naive" :
 				return new NaiveSolver(atomStore, grounder);
 			case "default":
+				if (config.isAsyncGrounding() && grounder instanceof ProgramAnalyzingGrounder && !grounder.hasWeakConstraints()) {
+					// Optimization needs all atoms of weak constraints as soon as they are known, hence grounds synchronously.
+					Grounder asynchronousGrounder = new AsynchronousGrounder((ProgramAnalyzingGrounder) grounder, (TrailAssignment) assignment);
+					return new DefaultSolver(atomStore, asynchronousGrounder, store, assignment, random, config, heuristicsConfiguration);
+				}
 				return new DefaultSolver(atomStore, grounder, store, assignment, random, config, heuristicsConfiguration);
+			case PORTFOLIO_SOLVER_NAME:
+			case PARALLEL_SOLVER_NAME:
+				throw new IllegalArgumentException("The " + solverName + " solver needs one grounder per worker, hence it must be created from a program.");
 		}
 		throw new IllegalArgumentException("Unknown solver requested.");
 	}
@@ -71,6 +137,46 @@ private static HeuristicsConfiguration buildHeuristicsConfiguration(SystemConfig
 		heuristicsConfigurationBuilder.setHeuristic(config.getBranchingHeuristic());
 		heuristicsConfigurationBuilder.setMomsStrategy(config.getMomsStrategy());
 		heuristicsConfigurationBuilder.setReplayChoices(config.getReplayChoices());
+		heuristicsConfigurationBuilder.setPhaseSaving(config.getPhaseSaving());
+		heuristicsConfigurationBuilder.setRephaseInterval(config.getRephaseInterval());
 		return heuristicsConfigurationBuilder.build();
 	}
+
+	private static Grounder buildGrounder(SystemConfig config, InternalProgram program, AtomStore atomStore, java.util.function.Predicate<Predicate> filter) {
+		GrounderHeuristicsConfiguration grounderHeuristicConfiguration = GrounderHeuristicsConfiguration
+				.getInstance(config.getGrounderToleranceConstraints(), config.getGrounderToleranceRules());
+		grounderHeuristicConfiguration.setAccumulatorEnabled(config.isGrounderAccumulatorEnabled());
+		return GrounderFactory.getInstance(config.getGrounderName(), program, atomStore, filter, grounderHeuristicConfiguration, config.isDebugInternalChecks(),
+			config.isProfileGrounding());
+	}
+
+	/**
+	 * Derives the configurations of the workers of a portfolio solver from the given one. The first worker uses the
+	 * given configuration unchanged, the others differ in seed and branching heuristic, every second one grounds
+	 * permissively and every fourth one keeps all learned nogoods. Since shared nogoods are imported at restarts, the
+	 * others also restart (according to the Luby series) unless a restart strategy is configured.
+	 */
+	static List<SystemConfig> buildPortfolioConfigurations(SystemConfig config) {
+		List<SystemConfig> configurations = new ArrayList<>();
+		for (int i = 0; i < config.getPortfolioWorkers(); i++) {
+			SystemConfig workerConfig = new SystemConfig(config);
+			workerConfig.setSolverName(SystemConfig.DEFAULT_SOLVER_NAME);
+			if (i > 0) {
+				workerConfig.setSeed(config.getSeed() + i);
+				workerConfig.setBranchingHeuristic(PORTFOLIO_HEURISTICS[(i - 1) % PORTFOLIO_HEURISTICS.length]);
+				if (i % 2 == 1) {
+					workerConfig.setGrounderToleranceConstraints(GrounderHeuristicsConfiguration.PERMISSIVE_STRING);
+					workerConfig.setGrounderToleranceRules(GrounderHeuristicsConfiguration.PERMISSIVE_STRING);
+				}
+				if (i % 4 == 3) {
+					workerConfig.setDisableNoGoodDeletion(!config.isDisableNoGoodDeletion());
+				}
+				if (config.getRestartStrategy() == RestartStrategyFactory.Strategy.NONE) {
+					workerConfig.setRestartStrategy(RestartStrategyFactory.Strategy.LUBY);
+				}
+			}
+			configurations.add(workerConfig);
+		}
+		return configurations;
+	}
 }
@@ -40,22 +40,40 @@ public interface SolverMaintainingStatistics {
 	int getNumberOfBacktracksDueToRemnantMBTs();
 
 	int getNumberOfDeletedNoGoods();
+
+	/**
+	 * @return the number of times the solver restarted its search
+	 */
+	int getNumberOfRestarts();
 	
 	/**
 	 * @return the number of times the solver had to backtrack after closing unassigned atoms
 	 */
 	int getNumberOfConflictsAfterClosing();
 
+	/**
+	 * @return the number of times the solver handed new assignments to the grounder and obtained nogoods from it
+	 */
+	int getNumberOfGrounderRoundTrips();
+
+	/**
+	 * @return the number of learned nogoods currently kept in the core, mid, and local tier of the learned nogood
+	 *         deletion, respectively
+	 */
+	int[] getLearnedNoGoodTierSizes();
+
 	NoGoodCounter getNoGoodCounter();
 
 	default String getStatisticsString() {
+		int[] tierSizes = getLearnedNoGoodTierSizes();
 		return "g=" + getNumberOfChoices() + ", bt=" + getNumberOfBacktracks() + ", bj=" + getNumberOfBackjumps() + ", bt_within_bj="
 				+ getNumberOfBacktracksWithinBackjumps() + ", mbt=" + getNumberOfBacktracksDueToRemnantMBTs() + ", cac=" + getNumberOfConflictsAfterClosing()
-				+ ", del_ng=" + getNumberOfDeletedNoGoods();
+				+ ", del_ng=" + getNumberOfDeletedNoGoods() + ", rs=" + getNumberOfRestarts() + ", tiers=" + tierSizes[0] + "/" + tierSizes[1] + "/" + tierSizes[2] + ", gr=" + getNumberOfGrounderRoundTrips();
 	}
 	
 	default String getStatisticsCSV() {
-		return String.format("%d,%d,%d,%d,%d,%d,%d", getNumberOfChoices(), getNumberOfBacktracks(), getNumberOfBackjumps(), getNumberOfBacktracksWithinBackjumps(), getNumberOfBacktracksDueToRemnantMBTs(), getNumberOfConflictsAfterClosing(), getNumberOfDeletedNoGoods());
+		int[] tierSizes = getLearnedNoGoodTierSizes();
+		return String.format("%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d", getNumberOfChoices(), getNumberOfBacktracks(), getNumberOfBackjumps(), getNumberOfBacktracksWithinBackjumps(), getNumberOfBacktracksDueToRemnantMBTs(), getNumberOfConflictsAfterClosing(), getNumberOfDeletedNoGoods(), getNumberOfRestarts(), tierSizes[0], tierSizes[1], tierSizes[2], getNumberOfGrounderRoundTrips());
 	}
 
 	default void printStatistics(PrintStream out) {
@@ -27,9 +27,11 @@
  */
 package at.ac.tuwien.kr.alpha.solver;
 
+import at.ac.tuwien.kr.alpha.common.ArrayIntIterator;
 import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
 import at.ac.tuwien.kr.alpha.common.IntIterator;
+import at.ac.tuwien.kr.alpha.common.Predicate;
 import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,6 +98,37 @@ public void decreaseActivity() {
 	private boolean checksEnabled;
 	long replayCounter;
 
+	/**
+	 * Phases of atoms, i.e., the truth values they had when they were last unassigned by backtracking. Each entry is
+	 * one of {@link #PHASE_NONE}, {@link #PHASE_TRUE}, or {@link #PHASE_FALSE}.
+	 */
+	private byte[] savedPhases = new byte[0];
+	/**
+	 * Phases of atoms in the largest trail seen since target phases were last reset, only maintained if enabled.
+	 */
+	private byte[] targetPhases = new byte[0];
+	private boolean targetPhasesEnabled;
+	private int largestTrailSize;
+	private long epoch;
+	// Atoms whose truth value changed since the changes have been polled last, recorded only if enabled.
+	private boolean recordChangedAtoms;
+	private boolean[] changed = new boolean[0];
+	private int[] changedAtoms = new int[0];
+	private int changedAtomsSize;
+	// Atoms assigned TRUE, in the order they became TRUE on the trail. Backtracking removes the TRUE atoms of each
+	// removed decision level from the end, just like for the trail.
+	private int[] trueAtoms = new int[0];
+	private int trueAtomsSize;
+	// Assigned atoms by predicate, only maintained from the first call of getAssignedAtoms on. For each atom, the
+	// assigned atoms of its predicate and its position there are recorded, such that unassigning is constant time.
+	private Map<Predicate, AssignedAtoms> assignedAtomsByPredicate;
+	private AssignedAtoms[] assignedAtomsOfPredicate = new AssignedAtoms[0];
+	private int[] positionInAssignedAtoms = new int[0];
+
+	public static final byte PHASE_NONE = 0;
+	public static final byte PHASE_TRUE = 1;
+	public static final byte PHASE_FALSE = 2;
+
 	public TrailAssignment(AtomStore atomStore, boolean checksEnabled) {
 		this.checksEnabled = checksEnabled;
 		this.atomStore = atomStore;
@@ -116,6 +149,9 @@ public TrailAssignment(AtomStore atomStore) {
 
 	@Override
 	public void clear() {
+		for (int i = 0; i < trailSize; i++) {
+			recordChange(atomOf(trail[i]));
+		}
 		mbtCount = 0;
 		Arrays.fill(values, 0);
 		Arrays.fill(strongDecisionLevels, -1);
@@ -125,12 +161,20 @@ public void clear() {
 		highestDecisionLevelContainingOutOfOrderLiterals = 0;
 		Arrays.fill(trail, 0);
 		trailSize = 0;
+		trueAtomsSize = 0;
+		if (assignedAtomsByPredicate != null) {
+			for (AssignedAtoms assignedAtoms : assignedAtomsByPredicate.values()) {
+				assignedAtoms.size = 0;
+			}
+		}
 		trailIndicesOfDecisionLevels = new ArrayList<>();
 		trailIndicesOfDecisionLevels.add(0);
 		nextPositionInTrail = 0;
 		newAssignmentsIterator = 0;
 		newAssignmentsPositionInTrail = 0;
 		assignmentsForChoicePosition = 0;
+		epoch++;
+		resetPhases();
 	}
 
 	@Override
@@ -145,7 +189,8 @@ public void setCallback(ChoiceManager choiceManager) {
 
 	@Override
 	public boolean isAssigned(int atom) {
-		return values[atom] != 0;
+		// Atoms created since the last growth are unassigned, see TruthView.
+		return atom < values.length && values[atom] != 0;
 	}
 
 	@Override
@@ -202,6 +247,45 @@ int getOutOfOrderStrongDecisionLevel(int atom) {
 		return lowestDecisionLevel;
 	}
 
+	private void recordChange(int atom) {
+		if (!recordChangedAtoms || changed[atom]) {
+			return;
+		}
+		changed[atom] = true;
+		if (changedAtomsSize == changedAtoms.length) {
+			changedAtoms = Arrays.copyOf(changedAtoms, Math.max(8, arrayGrowthSize(changedAtomsSize)));
+		}
+		changedAtoms[changedAtomsSize++] = atom;
+	}
+
+	/**
+	 * Enables recording of all atoms whose truth value changes (by assignment, backtracking, or clearing), such
+	 * that others may follow the assignment by applying only its changes, see {@link #pollChangedAtoms()}.
+	 */
+	public void enableChangedAtomsRecording() {
+		recordChangedAtoms = true;
+	}
+
+	/**
+	 * @return true iff the truth value of some atom changed since the last call of {@link #pollChangedAtoms()}.
+	 */
+	public boolean hasChangedAtoms() {
+		return changedAtomsSize > 0;
+	}
+
+	/**
+	 * Returns all atoms whose truth value changed since the last call, each at most once and in the order of their
+	 * first change. The current truth value of each may well be the same as before, e.g., after backtracking.
+	 */
+	public int[] pollChangedAtoms() {
+		int[] polled = Arrays.copyOf(changedAtoms, changedAtomsSize);
+		for (int atom : polled) {
+			changed[atom] = false;
+		}
+		changedAtomsSize = 0;
+		return polled;
+	}
+
 	private void informCallback(int atom) {
 		if (callbackUponChange[atom]) {
 			choiceManagerCallback.callbackOnChanged(atom);
@@ -209,6 +293,9 @@ private void informCallback(int atom) {
 	}
 
 	private void removeLastDecisionLevel() {
+		if (targetPhasesEnabled && trailSize > largestTrailSize) {
+			recordTargetPhases();
+		}
 		// Remove all atoms recorded in the highest decision level.
 		int start = trailIndicesOfDecisionLevels.get(getDecisionLevel());
 		for (int i = start; i < trailSize; i++) {
@@ -217,6 +304,10 @@ private void removeLastDecisionLevel() {
 			if (getTruth(backtrackAtom) == null) {
 				continue;
 			}
+			if (getTruth(backtrackAtom) == TRUE) {
+				// The atom became TRUE in this decision level, hence it is among the last true atoms.
+				trueAtomsSize--;
+			}
 			if (getWeakDecisionLevel(backtrackAtom) < getDecisionLevel()) {
 				// Restore TRUE to MBT if this was assigned at a lower level.
 				if (getTruth(backtrackAtom) != TRUE) {
@@ -228,16 +319,62 @@ private void removeLastDecisionLevel() {
 				if (getTruth(backtrackAtom) == MBT) {
 					mbtCount--;
 				}
+				savedPhases[backtrackAtom] = getTruth(backtrackAtom).toBoolean() ? PHASE_TRUE : PHASE_FALSE;
 				values[backtrackAtom] = 0;
+				removeFromAssignedAtoms(backtrackAtom);
 			}
 			strongDecisionLevels[backtrackAtom] = -1;
+			recordChange(backtrackAtom);
 			informCallback(backtrackAtom);
 		}
 		// Remove atoms from trail.
 		trailSize = start;
+		epoch++;
 		trailIndicesOfDecisionLevels.remove(trailIndicesOfDecisionLevels.size() - 1);
 	}
 
+	private void recordTargetPhases() {
+		largestTrailSize = trailSize;
+		for (int i = 0; i < trailSize; i++) {
+			int atom = atomOf(trail[i]);
+			ThriceTruth truth = getTruth(atom);
+			if (truth != null) {
+				targetPhases[atom] = truth.toBoolean() ? PHASE_TRUE : PHASE_FALSE;
+			}
+		}
+	}
+
+	/**
+	 * Returns the truth value the given atom had when it was last unassigned by backtracking.
+	 * @return {@link #PHASE_TRUE}, {@link #PHASE_FALSE}, or {@link #PHASE_NONE} if the atom was never unassigned.
+	 */
+	public byte getSavedPhase(int atom) {
+		return savedPhases[atom];
+	}
+
+	/**
+	 * Returns the truth value the given atom had in the largest trail seen since target phases were last reset.
+	 * @return {@link #PHASE_TRUE}, {@link #PHASE_FALSE}, or {@link #PHASE_NONE} if there is no such value or target
+	 *         phases are not enabled.
+	 */
+	public byte getTargetPhase(int atom) {
+		return targetPhasesEnabled ? targetPhases[atom] : PHASE_NONE;
+	}
+
+	public void enableTargetPhases() {
+		targetPhasesEnabled = true;
+		targetPhases = Arrays.copyOf(targetPhases, values.length);
+	}
+
+	/**
+	 * Forgets all saved and target phases.
+	 */
+	public void resetPhases() {
+		Arrays.fill(savedPhases, PHASE_NONE);
+		Arrays.fill(targetPhases, PHASE_NONE);
+		largestTrailSize = 0;
+	}
+
 	private void replayOutOfOrderLiterals() {
 		// Replay out-of-order assigned literals.
 		if (highestDecisionLevelContainingOutOfOrderLiterals >= getDecisionLevel()) {
@@ -359,7 +496,11 @@ private ConflictCause assignWithTrail(int atom, ThriceTruth value, Antecedent im
 			}
 			if (value == TRUE) {
 				strongDecisionLevels[atom] = getDecisionLevel();
+				trueAtoms[trueAtomsSize++] = atom;
 			}
+			addToAssignedAtoms(atom);
+			epoch++;
+			recordChange(atom);
 			informCallback(atom);
 			return null;
 		}
@@ -391,8 +532,11 @@ private ConflictCause assignWithTrail(int atom, ThriceTruth value, Antecedent im
 			values[atom] = (getWeakDecisionLevel(atom) << 2) | translateTruth(TRUE);
 			// Record strong decision level.
 			strongDecisionLevels[atom] = getDecisionLevel();
+			trueAtoms[trueAtomsSize++] = atom;
 			// Adjust MBT counter.
 			mbtCount--;
+			epoch++;
+			recordChange(atom);
 			informCallback(atom);
 			return null;
 		}
@@ -431,7 +575,7 @@ private int translateTruth(ThriceTruth value) {
 
 	@Override
 	public ThriceTruth getTruth(int atom) {
-		return translateTruth(values[atom]);
+		return atom < values.length ? translateTruth(values[atom]) : null;
 	}
 
 	@Override
@@ -455,14 +599,48 @@ public Antecedent getImpliedBy(int atom) {
 	}
 
 	@Override
-	public Set<Integer> getTrueAssignments() {
-		Set<Integer> result = new HashSet<>();
-		for (int i = 0; i < values.length; i++) {
-			if (getTruth(i) == TRUE) {
-				result.add(i);
+	public IntIterator getTrueAtoms() {
+		return new ArrayIntIterator(trueAtoms, trueAtomsSize);
+	}
+
+	@Override
+	public IntIterator getAssignedAtoms(Predicate predicate) {
+		if (assignedAtomsByPredicate == null) {
+			// Start maintaining the index with all currently assigned atoms.
+			assignedAtomsByPredicate = new HashMap<>();
+			for (int atom = 0; atom < values.length; atom++) {
+				if (values[atom] != 0) {
+					addToAssignedAtoms(atom);
+				}
 			}
 		}
-		return result;
+		AssignedAtoms assignedAtoms = assignedAtomsByPredicate.get(predicate);
+		if (assignedAtoms == null) {
+			return new ArrayIntIterator(new int[0], 0);
+		}
+		return new ArrayIntIterator(assignedAtoms.atoms, assignedAtoms.size);
+	}
+
+	private void addToAssignedAtoms(int atom) {
+		if (assignedAtomsByPredicate == null) {
+			return;
+		}
+		AssignedAtoms assignedAtoms = assignedAtomsOfPredicate[atom];
+		if (assignedAtoms == null) {
+			assignedAtoms = assignedAtomsByPredicate.computeIfAbsent(atomStore.get(atom).getPredicate(), p -> new AssignedAtoms());
+			assignedAtomsOfPredicate[atom] = assignedAtoms;
+		}
+		positionInAssignedAtoms[atom] = assignedAtoms.add(atom);
+	}
+
+	private void removeFromAssignedAtoms(int atom) {
+		if (assignedAtomsByPredicate == null) {
+			return;
+		}
+		AssignedAtoms assignedAtoms = assignedAtomsOfPredicate[atom];
+		int position = positionInAssignedAtoms[atom];
+		int movedAtom = assignedAtoms.removeAt(position);
+		positionInAssignedAtoms[movedAtom] = position;
 	}
 
 	@Override
@@ -486,6 +664,21 @@ private void runInternalChecks() {
 		} else {
 			LOGGER.trace("MBT count agrees with amount of MBT-assigned atoms.");
 		}
+		// Check that exactly the atoms assigned TRUE are recorded as true atoms.
+		int numTrueAtoms = 0;
+		for (int atom = 0; atom < values.length; atom++) {
+			if (getTruth(atom) == TRUE) {
+				numTrueAtoms++;
+			}
+		}
+		for (int i = 0; i < trueAtomsSize; i++) {
+			if (getTruth(trueAtoms[i]) != TRUE) {
+				throw oops("Recorded true atom is not assigned TRUE");
+			}
+		}
+		if (numTrueAtoms != trueAtomsSize) {
+			throw oops("Number of recorded true atoms and amount of actually TRUE-assigned atoms disagree");
+		}
 		// Check that out of order literals are actually assigned.
 		for (OutOfOrderLiteral outOfOrderLiteral : outOfOrderLiterals) {
 			if (outOfOrderLiteral.decisionLevel <= getDecisionLevel()) {
@@ -525,9 +718,18 @@ public boolean closeUnassignedAtoms() {
 		return didAssign;
 	}
 
+	@Override
+	public long getEpoch() {
+		return epoch;
+	}
+
 	@Override
 	public void growForMaxAtomId() {
-		int maxAtomId = atomStore.getMaxAtomId();
+		growForMaxAtomId(atomStore.getMaxAtomId());
+	}
+
+	@Override
+	public void growForMaxAtomId(int maxAtomId) {
 		// Grow arrays only if needed.
 		if (values.length > maxAtomId) {
 			return;
@@ -543,7 +745,15 @@ public void growForMaxAtomId() {
 		Arrays.fill(strongDecisionLevels, oldLength, strongDecisionLevels.length, -1);
 		impliedBy = Arrays.copyOf(impliedBy, newCapacity);
 		callbackUponChange = Arrays.copyOf(callbackUponChange, newCapacity);
+		changed = Arrays.copyOf(changed, newCapacity);
 		trail = Arrays.copyOf(trail, newCapacity * 2);	// Trail has at most 2 assignments (MBT+TRUE) for each atom.
+		trueAtoms = Arrays.copyOf(trueAtoms, newCapacity);
+		assignedAtomsOfPredicate = Arrays.copyOf(assignedAtomsOfPredicate, newCapacity);
+		positionInAssignedAtoms = Arrays.copyOf(positionInAssignedAtoms, newCapacity);
+		savedPhases = Arrays.copyOf(savedPhases, newCapacity);
+		if (targetPhasesEnabled) {
+			targetPhases = Arrays.copyOf(targetPhases, newCapacity);
+		}
 	}
 
 	public int getNumberOfAssignedAtoms() {
@@ -556,6 +766,11 @@ public int getNumberOfAssignedAtoms() {
 		return n;
 	}
 
+	@Override
+	public int getNumberOfNewAssignments() {
+		return trailSize - newAssignmentsIterator;
+	}
+
 	@Override
 	public int getNumberOfAtomsAssignedSinceLastDecision() {
 		Set<Integer> newlyAssignedAtoms = new HashSet<>();
@@ -703,6 +918,34 @@ public String toString() {
 		}
 	}
 
+	/**
+	 * The assigned atoms over one predicate, in no particular order.
+	 */
+	private static final class AssignedAtoms {
+		private int[] atoms = new int[8];
+		private int size;
+
+		/**
+		 * @return the position of the added atom.
+		 */
+		int add(int atom) {
+			if (size == atoms.length) {
+				atoms = Arrays.copyOf(atoms, arrayGrowthSize(size));
+			}
+			atoms[size] = atom;
+			return size++;
+		}
+
+		/**
+		 * Removes the atom at the given position by moving the last atom there.
+		 * @return the moved atom.
+		 */
+		int removeAt(int position) {
+			atoms[position] = atoms[--size];
+			return atoms[position];
+		}
+	}
+
 	private static final class Entry implements Assignment.Entry {
 		private final ThriceTruth value;
 		private final int decisionLevel;
@@ -30,28 +30,42 @@
 import at.ac.tuwien.kr.alpha.common.NoGood;
 import at.ac.tuwien.kr.alpha.common.NoGoodInterface;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 import static at.ac.tuwien.kr.alpha.Util.oops;
 import static at.ac.tuwien.kr.alpha.common.Literals.literalToString;
 
+/**
+ * A NoGood (of size three or more) stored in a {@link NoGoodStoreAlphaRoaming}. Its literals live in a slice of the
+ * {@link WatchedNoGoodArena}, the first two literals are the ordinary watches. This also serves as {@link Antecedent}
+ * of the assignments it propagates.
+ */
 public final class WatchedNoGood implements NoGoodInterface, Antecedent {
+	private final int id;
 	private int activity;
-	private final int[] literals;
+	private int[] literals;
+	private int offset;
+	private final int size;
+	private int[] reasonLiterals;
 	private int alpha;
 	private int head;
 	private final Type type;
-	private boolean isLbdLessOrEqual2;
+	private int lbd = Integer.MAX_VALUE;
+	private boolean lbdImproved;
+	private boolean usedSinceReduction;
 
-	WatchedNoGood(NoGood noGood, int a, int b, int alpha) {
+	WatchedNoGood(int id, int[] arena, int offset, NoGood noGood, int a, int b, int alpha) {
 		if (noGood.size() < 3) {
 			throw oops("WatchedNoGood should not be used for small NoGoods.");
 		}
-		literals = new int[noGood.size()];
+		this.id = id;
+		this.literals = arena;
+		this.offset = offset;
+		this.size = noGood.size();
 		checkPointers(a, b, alpha);
-		int i = 0;
-		for (Integer lit : noGood) {
-			literals[i++] = lit;
+		for (int i = 0; i < size; i++) {
+			literals[offset + i] = noGood.getLiteral(i);
 		}
 		this.alpha = alpha;
 		head = noGood.hasHead() ? 0 : -1;
@@ -69,15 +83,15 @@ private void checkPointers(int a, int b, int alpha) {
 		if (a == b) {
 			throw new IllegalArgumentException("First two pointers must not point at the same literal.");
 		}
-		if (a < 0 || b < 0 || alpha < -1 || a >= literals.length || b >= literals.length || alpha >= literals.length) {
+		if (a < 0 || b < 0 || alpha < -1 || a >= size || b >= size || alpha >= size) {
 			throw new IllegalArgumentException("Pointers must be within bounds.");
 		}
 	}
 
 	private void swap(int a, int b) {
-		int tmp = literals[a];
-		literals[a] = literals[b];
-		literals[b] = tmp;
+		int tmp = literals[offset + a];
+		literals[offset + a] = literals[offset + b];
+		literals[offset + b] = tmp;
 		if (hasHead()) {
 			// If WatchedNoGood has a head, ensure the head pointer and alpha watch follow the swap.
 			if (head == a) {
@@ -93,6 +107,21 @@ private void swap(int a, int b) {
 		}
 	}
 
+	int getId() {
+		return id;
+	}
+
+	/**
+	 * Copies the literals of this NoGood into the given arena at the given offset and uses them from there on.
+	 * @return the offset right after the copied literals.
+	 */
+	int relocate(int[] arena, int offset) {
+		System.arraycopy(literals, this.offset, arena, offset, size);
+		this.literals = arena;
+		this.offset = offset;
+		return offset + size;
+	}
+
 	@Override
 	public boolean hasHead() {
 		return head != -1;
@@ -100,7 +129,7 @@ public boolean hasHead() {
 
 	@Override
 	public int getHead() {
-		return literals[head];
+		return literals[offset + head];
 	}
 
 	int getHeadIndex() {
@@ -116,7 +145,7 @@ void setWatch(int index, int value) {
 
 	@Override
 	public int getLiteral(int index) {
-		return literals[index];
+		return literals[offset + index];
 	}
 
 	int getAlphaPointer() {
@@ -128,12 +157,12 @@ void setAlphaPointer(int value) {
 	}
 
 	int getLiteralAtAlpha() {
-		return literals[alpha];
+		return literals[offset + alpha];
 	}
 
 	@Override
 	public int size() {
-		return literals.length;
+		return size;
 	}
 
 	@Override
@@ -152,11 +181,11 @@ public Iterator<Integer> iterator() {
 			private int i;
 
 			public boolean hasNext() {
-				return literals.length > i;
+				return size > i;
 			}
 
 			public Integer next() {
-				return literals[i++];
+				return literals[offset + i++];
 			}
 		};
 	}
@@ -171,8 +200,8 @@ public String toString() {
 		sb.append("{ ");
 
 		int hcount = 0;
-		for (int literal : literals) {
-			sb.append(literalToString(literal));
+		for (int i = 0; i < size; i++) {
+			sb.append(literalToString(literals[offset + i]));
 			sb.append(hasHead() && head == hcount ? "h" : "");
 			sb.append(" ");
 			hcount++;
@@ -186,7 +215,11 @@ public String toString() {
 
 	@Override
 	public int[] getReasonLiterals() {
-		return literals;
+		// The set of literals never changes (only their order does), hence a copy taken once stays valid.
+		if (reasonLiterals == null) {
+			reasonLiterals = Arrays.copyOfRange(literals, offset, offset + size);
+		}
+		return reasonLiterals;
 	}
 
 	public int getActivity() {
@@ -201,13 +234,45 @@ public void decreaseActivity() {
 	@Override
 	public void bumpActivity() {
 		activity++;
+		usedSinceReduction = true;
 	}
 
 	void setLBD(int lbd) {
-		isLbdLessOrEqual2 = lbd <= 2;
+		// An unknown LBD is treated as the worst possible one.
+		this.lbd = lbd == NoGoodStore.LBD_NO_VALUE ? Integer.MAX_VALUE : lbd;
+	}
+
+	public int getLBD() {
+		return lbd;
+	}
+
+	/**
+	 * Returns true iff this is a learned nogood whose LBD may be improved such that it moves up to a better tier of
+	 * the {@link LearnedNoGoodDeletion}, i.e., re-computing its LBD during conflict analysis is worthwhile.
+	 */
+	public boolean isCandidateForPromotion() {
+		return type == Type.LEARNT && lbd > LearnedNoGoodDeletion.CORE_TIER_MAX_LBD;
+	}
+
+	/**
+	 * Sets the LBD of this nogood to the given value if it is lower than the current one.
+	 */
+	public void improveLBD(int lbd) {
+		if (lbd < this.lbd) {
+			this.lbd = lbd;
+			lbdImproved = true;
+		}
+	}
+
+	boolean pollLbdImproved() {
+		boolean improved = lbdImproved;
+		lbdImproved = false;
+		return improved;
 	}
 
-	boolean isLbdLessOrEqual2() {
-		return isLbdLessOrEqual2;
+	boolean pollUsedSinceReduction() {
+		boolean used = usedSinceReduction;
+		usedSinceReduction = false;
+		return used;
 	}
 }
@@ -0,0 +1,97 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.common.NoGood;
+
+import java.util.Arrays;
+
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
+import static at.ac.tuwien.kr.alpha.Util.oops;
+
+/**
+ * Holds the {@link WatchedNoGood}s of a {@link NoGoodStoreAlphaRoaming}. The literals of all NoGoods live contiguously
+ * in one growable int array, the arena, where each NoGood occupies a slice. NoGoods are identified by an int id, which
+ * allows watch lists to be primitive int arrays.
+ *
+ * Removing a NoGood turns its slice into garbage, the arena is compacted once garbage makes up more than half of it.
+ * Growing and compacting both copy all stored NoGoods into a fresh array, hence a removed NoGood still reads its old
+ * slice, which is never overwritten. Ids of removed NoGoods are handed out again.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+final class WatchedNoGoodArena {
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private int[] literals = new int[INITIAL_CAPACITY];
+	private int literalsSize;
+	private int garbage;
+
+	private WatchedNoGood[] noGoods = new WatchedNoGood[0];
+	private int noGoodsSize;
+	private int[] freeIds = new int[0];
+	private int freeIdsSize;
+
+	/**
+	 * Stores the given NoGood with the given watches (see {@link WatchedNoGood}).
+	 */
+	WatchedNoGood add(NoGood noGood, int a, int b, int alpha) {
+		ensureCapacity(noGood.size());
+		int id = nextId();
+		WatchedNoGood watchedNoGood = new WatchedNoGood(id, literals, literalsSize, noGood, a, b, alpha);
+		literalsSize += noGood.size();
+		noGoods[id] = watchedNoGood;
+		return watchedNoGood;
+	}
+
+	WatchedNoGood get(int id) {
+		return noGoods[id];
+	}
+
+	void remove(WatchedNoGood noGood) {
+		int id = noGood.getId();
+		if (noGoods[id] != noGood) {
+			throw oops("NoGood to remove is not stored in the arena.");
+		}
+		noGoods[id] = null;
+		if (freeIdsSize == freeIds.length) {
+			freeIds = Arrays.copyOf(freeIds, Math.max(16, arrayGrowthSize(freeIdsSize)));
+		}
+		freeIds[freeIdsSize++] = id;
+		garbage += noGood.size();
+		if (garbage > literalsSize / 2) {
+			relocate(Math.max(INITIAL_CAPACITY, arrayGrowthSize(literalsSize - garbage)));
+		}
+	}
+
+	private int nextId() {
+		if (freeIdsSize > 0) {
+			return freeIds[--freeIdsSize];
+		}
+		if (noGoodsSize == noGoods.length) {
+			noGoods = Arrays.copyOf(noGoods, Math.max(16, arrayGrowthSize(noGoodsSize)));
+		}
+		return noGoodsSize++;
+	}
+
+	private void ensureCapacity(int additionalLiterals) {
+		int requiredCapacity = literalsSize + additionalLiterals;
+		if (requiredCapacity > literals.length) {
+			relocate(Math.max(requiredCapacity, arrayGrowthSize(literals.length)));
+		}
+	}
+
+	/**
+	 * Copies the literals of all stored NoGoods into a fresh arena of the given capacity, dropping all garbage.
+	 */
+	private void relocate(int capacity) {
+		int[] relocated = new int[capacity];
+		int relocatedSize = 0;
+		for (int id = 0; id < noGoodsSize; id++) {
+			if (noGoods[id] != null) {
+				relocatedSize = noGoods[id].relocate(relocated, relocatedSize);
+			}
+		}
+		literals = relocated;
+		literalsSize = relocatedSize;
+		garbage = 0;
+	}
+}
@@ -0,0 +1,223 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.Util;
+import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+import at.ac.tuwien.kr.alpha.grounder.atoms.WeakConstraintAtom;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static at.ac.tuwien.kr.alpha.common.Literals.atomToLiteral;
+
+/**
+ * Keeps track of the weak constraint atoms known to the solver and implements branch-and-bound over their weights.
+ *
+ * The cost of an assignment is the sum of the weights of its TRUE or MBT weak constraint atoms, per level, where
+ * costs are compared lexicographically starting at the highest level. Since weights are non-negative and MBT atoms
+ * must eventually become TRUE, the cost of a partial assignment is a lower bound on the cost of every answer set
+ * extending it. Once a model is found, its cost becomes the bound and any partial assignment whose cost is not
+ * strictly below the bound is cut off by a nogood consisting of the weak constraint atoms responsible.
+ *
+ * The cost of the current assignment is kept up to date incrementally: the assignment informs the manager (via the
+ * {@link ChoiceManager}) of every change of a weak constraint atom, such that checking the bound does not depend on
+ * the number of weak constraint atoms.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+class WeakConstraintsManager {
+	private final AtomStore atomStore;
+	private final WritableAssignment assignment;
+
+	private int knownMaxAtomId;
+	private int[] weakAtoms = new int[0];
+	private int[] weakAtomWeights = new int[0];
+	private int[] weakAtomLevels = new int[0];
+	private int[] weakAtomLevelIndices = new int[0];
+	// Whether the weight of the weak constraint atom is included in currentCost, i.e., whether it was TRUE or MBT.
+	private boolean[] weakAtomCounted = new boolean[0];
+	private int numWeakAtoms;
+	// Maps each atom to its index among the weak constraint atoms, -1 for other atoms.
+	private int[] weakAtomIndices = new int[0];
+
+	// The distinct levels of all known weak constraint atoms, in descending order.
+	private int[] levels = new int[0];
+	// The cost per level (same order as levels) of the best model so far, null if no model was found yet.
+	private long[] bound;
+	private long[] currentCost = new long[0];
+
+	WeakConstraintsManager(AtomStore atomStore, WritableAssignment assignment) {
+		this.atomStore = atomStore;
+		this.assignment = assignment;
+	}
+
+	/**
+	 * Registers all weak constraint atoms among the atoms that were created since the last call. The assignment must
+	 * have grown to the given atom id already.
+	 */
+	void growForMaxAtomId(int maxAtomId) {
+		if (maxAtomId >= weakAtomIndices.length) {
+			int oldLength = weakAtomIndices.length;
+			weakAtomIndices = Arrays.copyOf(weakAtomIndices, Math.max(maxAtomId + 1, Util.arrayGrowthSize(oldLength)));
+			Arrays.fill(weakAtomIndices, oldLength, weakAtomIndices.length, -1);
+		}
+		for (int atomId = knownMaxAtomId + 1; atomId <= maxAtomId; atomId++) {
+			Atom atom = atomStore.get(atomId);
+			if (!WeakConstraintAtom.isWeakConstraintAtom(atom)) {
+				continue;
+			}
+			int weight = WeakConstraintAtom.getWeight(atom);
+			if (weight == 0) {
+				// Atoms without weight never influence the cost.
+				continue;
+			}
+			registerWeakAtom(atomId, weight, WeakConstraintAtom.getLevel(atom));
+		}
+		knownMaxAtomId = Math.max(knownMaxAtomId, maxAtomId);
+	}
+
+	private void registerWeakAtom(int atomId, int weight, int level) {
+		if (numWeakAtoms == weakAtoms.length) {
+			int newCapacity = Util.arrayGrowthSize(Math.max(weakAtoms.length, 8));
+			weakAtoms = Arrays.copyOf(weakAtoms, newCapacity);
+			weakAtomWeights = Arrays.copyOf(weakAtomWeights, newCapacity);
+			weakAtomLevels = Arrays.copyOf(weakAtomLevels, newCapacity);
+			weakAtomLevelIndices = Arrays.copyOf(weakAtomLevelIndices, newCapacity);
+			weakAtomCounted = Arrays.copyOf(weakAtomCounted, newCapacity);
+		}
+		weakAtoms[numWeakAtoms] = atomId;
+		weakAtomWeights[numWeakAtoms] = weight;
+		weakAtomLevels[numWeakAtoms] = level;
+		numWeakAtoms++;
+		if (levelIndex(level) < 0) {
+			addLevel(level);
+		}
+		weakAtomLevelIndices[numWeakAtoms - 1] = levelIndex(level);
+		weakAtomIndices[atomId] = numWeakAtoms - 1;
+		assignment.registerCallbackOnChange(atomId);
+		callbackOnChanged(atomId);
+	}
+
+	/**
+	 * Updates the cost of the current assignment if the given atom is a weak constraint atom whose truth changed.
+	 */
+	void callbackOnChanged(int atom) {
+		int weakAtomIndex = atom < weakAtomIndices.length ? weakAtomIndices[atom] : -1;
+		if (weakAtomIndex < 0) {
+			return;
+		}
+		boolean trueOrMbt = isTrueOrMbt(atom);
+		if (trueOrMbt == weakAtomCounted[weakAtomIndex]) {
+			return;
+		}
+		weakAtomCounted[weakAtomIndex] = trueOrMbt;
+		long weight = weakAtomWeights[weakAtomIndex];
+		currentCost[weakAtomLevelIndices[weakAtomIndex]] += trueOrMbt ? weight : -weight;
+	}
+
+	private int levelIndex(int level) {
+		for (int i = 0; i < levels.length; i++) {
+			if (levels[i] == level) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void addLevel(int level) {
+		int position = 0;
+		while (position < levels.length && levels[position] > level) {
+			position++;
+		}
+		levels = insertAt(levels, position, level);
+		// No atom of the new level was known so far, hence the cost of the current assignment and of every model
+		// found so far is zero there.
+		currentCost = insertAt(currentCost, position, 0);
+		if (bound != null) {
+			bound = insertAt(bound, position, 0);
+		}
+		for (int i = 0; i < numWeakAtoms; i++) {
+			weakAtomLevelIndices[i] = levelIndex(weakAtomLevels[i]);
+		}
+	}
+
+	private static int[] insertAt(int[] array, int position, int value) {
+		int[] result = new int[array.length + 1];
+		System.arraycopy(array, 0, result, 0, position);
+		result[position] = value;
+		System.arraycopy(array, position, result, position + 1, array.length - position);
+		return result;
+	}
+
+	private static long[] insertAt(long[] array, int position, long value) {
+		long[] result = new long[array.length + 1];
+		System.arraycopy(array, 0, result, 0, position);
+		result[position] = value;
+		System.arraycopy(array, position, result, position + 1, array.length - position);
+		return result;
+	}
+
+	private boolean isTrueOrMbt(int atom) {
+		ThriceTruth truth = assignment.getTruth(atom);
+		return truth != null && truth.toBoolean();
+	}
+
+	/**
+	 * Checks whether the current (partial) assignment can still be extended to a model that is strictly better than
+	 * the best model found so far.
+	 * @return null if this is possible, otherwise a nogood (violated by the current assignment) that cuts off all
+	 *         assignments that cannot improve on the bound. The nogood is {@link NoGood#UNSAT} if no better model
+	 *         exists at all.
+	 */
+	NoGood checkBound() {
+		if (bound == null) {
+			return null;
+		}
+		int firstDifferingLevelIndex = 0;
+		while (firstDifferingLevelIndex < levels.length && currentCost[firstDifferingLevelIndex] == bound[firstDifferingLevelIndex]) {
+			firstDifferingLevelIndex++;
+		}
+		if (firstDifferingLevelIndex < levels.length && currentCost[firstDifferingLevelIndex] < bound[firstDifferingLevelIndex]) {
+			return null;
+		}
+		// The cost reaches the bound, every extension of the true weak constraint atoms at the first differing level
+		// and above is at least as costly. If costs are equal, all true weak constraint atoms are responsible.
+		int[] literals = new int[numWeakAtoms];
+		int numLiterals = 0;
+		for (int i = 0; i < numWeakAtoms; i++) {
+			if (weakAtomLevelIndices[i] <= firstDifferingLevelIndex && isTrueOrMbt(weakAtoms[i])) {
+				literals[numLiterals++] = atomToLiteral(weakAtoms[i]);
+			}
+		}
+		if (numLiterals == 0) {
+			return NoGood.UNSAT;
+		}
+		return new NoGood(Arrays.copyOf(literals, numLiterals));
+	}
+
+	/**
+	 * Takes the cost of the current assignment, which must be a model, as the new bound.
+	 */
+	void updateBound() {
+		bound = currentCost.clone();
+	}
+
+	/**
+	 * Returns the weights per level of the best model found so far, only levels with non-zero weight are included.
+	 */
+	SortedMap<Integer, Long> getWeightsOfBestModel() {
+		if (bound == null) {
+			return Collections.emptySortedMap();
+		}
+		SortedMap<Integer, Long> weights = new TreeMap<>();
+		for (int i = 0; i < levels.length; i++) {
+			if (bound[i] != 0) {
+				weights.put(levels[i], bound[i]);
+			}
+		}
+		return weights;
+	}
+}
@@ -52,6 +52,13 @@ public interface WritableAssignment extends Assignment {
 	 */
 	void backjump(int decisionLevel);
 
+	/**
+	 * Grows all internal data structures to accommodate for all atoms up to the given one, which the caller read from
+	 * the atom store before.
+	 * @param maxAtomId the largest atom id to accommodate for.
+	 */
+	void growForMaxAtomId(int maxAtomId);
+
 	/**
 	 * Assigns an atom some value on a lower decision level than the current one.
 	 * @param atom
@@ -76,6 +83,13 @@ default ConflictCause assign(int atom, ThriceTruth value) {
 
 	void setCallback(ChoiceManager choiceManager);
 
+	/**
+	 * Returns the number of assignments recorded since the last iteration over
+	 * {@link #getNewPositiveAssignmentsIterator()}, which is an upper bound on the number of atoms the grounder has
+	 * not been informed about yet.
+	 */
+	int getNumberOfNewAssignments();
+
 	default ConflictCause choose(int atom, boolean value) {
 		return choose(atom, ThriceTruth.valueOf(value));
 	}
@@ -0,0 +1,95 @@
+package at.ac.tuwien.kr.alpha.solver.heuristics;
+
+import java.util.Arrays;
+
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
+
+/**
+ * Maps atoms to sets of ints (e.g. atoms or literals) that are stored as primitive adjacency lists indexed by atom id.
+ * Values are kept in the order they have been added in and each value occurs at most once in the list of an atom.
+ * Atoms with a non-empty list are remembered in the order in which their first value has been added.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public final class AtomAdjacencyLists {
+	private static final int[] EMPTY = new int[0];
+
+	private int[][] lists = new int[0][];
+	private int[] sizes = new int[0];
+	private int[] keys = new int[0];
+	private int numKeys;
+
+	/**
+	 * Adds the given value to the list of the given atom, unless it is already contained in it.
+	 * @return true iff the value has been added.
+	 */
+	public boolean put(int atom, int value) {
+		growForMaxAtomId(atom);
+		int[] list = lists[atom];
+		int size = sizes[atom];
+		// Search from the end since duplicates usually stem from recently added nogoods.
+		for (int i = size - 1; i >= 0; i--) {
+			if (list[i] == value) {
+				return false;
+			}
+		}
+		if (size == list.length) {
+			list = Arrays.copyOf(list, Math.max(4, arrayGrowthSize(size)));
+			lists[atom] = list;
+		}
+		list[size] = value;
+		sizes[atom] = size + 1;
+		if (size == 0) {
+			if (numKeys == keys.length) {
+				keys = Arrays.copyOf(keys, Math.max(8, arrayGrowthSize(numKeys)));
+			}
+			keys[numKeys++] = atom;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of values in the list of the given atom.
+	 */
+	public int size(int atom) {
+		return atom < sizes.length ? sizes[atom] : 0;
+	}
+
+	/**
+	 * Returns the value at the given position in the list of the given atom.
+	 */
+	public int get(int atom, int index) {
+		if (index >= size(atom)) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for atom " + atom + " with " + size(atom) + " values.");
+		}
+		return lists[atom][index];
+	}
+
+	/**
+	 * Returns the number of atoms with a non-empty list.
+	 */
+	public int getNumberOfAtoms() {
+		return numKeys;
+	}
+
+	/**
+	 * Returns the atom with a non-empty list at the given position, {@code 0 <= index < getNumberOfAtoms()}.
+	 */
+	public int getAtom(int index) {
+		if (index >= numKeys) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + numKeys + " atoms.");
+		}
+		return keys[index];
+	}
+
+	public void growForMaxAtomId(int maxAtomId) {
+		if (lists.length > maxAtomId) {
+			return;
+		}
+		int oldCapacity = lists.length;
+		int newCapacity = Math.max(maxAtomId + 1, arrayGrowthSize(oldCapacity));
+		lists = Arrays.copyOf(lists, newCapacity);
+		Arrays.fill(lists, oldCapacity, newCapacity, EMPTY);
+		sizes = Arrays.copyOf(sizes, newCapacity);
+	}
+}
@@ -26,7 +26,6 @@
 package at.ac.tuwien.kr.alpha.solver.heuristics;
 
 import at.ac.tuwien.kr.alpha.common.Assignment;
-import at.ac.tuwien.kr.alpha.common.Literals;
 import at.ac.tuwien.kr.alpha.common.NoGood;
 import at.ac.tuwien.kr.alpha.solver.ChoiceManager;
 import at.ac.tuwien.kr.alpha.solver.ThriceTruth;
@@ -34,9 +33,12 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
-import java.util.stream.Stream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Random;
 
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
 import static at.ac.tuwien.kr.alpha.common.Literals.atomOf;
 import static at.ac.tuwien.kr.alpha.common.Literals.atomToLiteral;
 import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.FALSE;
@@ -62,8 +64,9 @@ public class BerkMin implements ActivityBasedBranchingHeuristic {
 	final ChoiceManager choiceManager;
 	final Random rand;
 
-	private Map<Integer, Double> activityCounters = new LinkedHashMap<>();
-	private Map<Integer, Integer> signCounters = new LinkedHashMap<>();
+	// Activity counters indexed by atom, sign counters indexed by literal.
+	private double[] activityCounters = new double[0];
+	private int[] signCounters = new int[0];
 	private Deque<NoGood> stackOfNoGoods = new ArrayDeque<>();
 	private int decayPeriod;
 	private double decayFactor;
@@ -134,7 +137,7 @@ public void analyzedConflict(ConflictAnalysisResult analysisResult) {
 	@Override
 	public void newNoGood(NoGood newNoGood) {
 		pushToStack(newNoGood);
-		for (Integer literal : newNoGood) {
+		for (int literal : newNoGood) {
 			incrementSignCounter(literal);
 		}
 	}
@@ -151,7 +154,33 @@ private int numChoicePoints(NoGood noGood) {
 
 	@Override
 	public double getActivity(int literal) {
-		return activityCounters.getOrDefault(atomOf(literal), DEFAULT_ACTIVITY);
+		return getAtomActivity(atomOf(literal));
+	}
+
+	double getAtomActivity(int atom) {
+		return atom < activityCounters.length ? activityCounters[atom] : DEFAULT_ACTIVITY;
+	}
+
+	private int getSignCounter(int literal) {
+		return literal < signCounters.length ? signCounters[literal] : DEFAULT_SIGN_COUNTER;
+	}
+
+	@Override
+	public void growForMaxAtomId(int maxAtomId) {
+		// Grow arrays only if needed.
+		if (activityCounters.length > maxAtomId) {
+			return;
+		}
+		// Grow to default size, except if bigger array is required due to maxAtomId.
+		int newCapacity = arrayGrowthSize(activityCounters.length);
+		if (newCapacity < maxAtomId + 1) {
+			newCapacity = maxAtomId + 1;
+		}
+		int oldCapacity = activityCounters.length;
+		activityCounters = Arrays.copyOf(activityCounters, newCapacity);
+		Arrays.fill(activityCounters, oldCapacity, newCapacity, DEFAULT_ACTIVITY);
+		signCounters = Arrays.copyOf(signCounters, 2 * newCapacity);
+		Arrays.fill(signCounters, 2 * oldCapacity, 2 * newCapacity, DEFAULT_SIGN_COUNTER);
 	}
 
 	/**
@@ -185,8 +214,8 @@ private boolean chooseSign(int atom) {
 			return true;
 		}
 
-		int positiveCounter = signCounters.getOrDefault(+atom, DEFAULT_SIGN_COUNTER);
-		int negativeCounter = signCounters.getOrDefault(-atom, DEFAULT_SIGN_COUNTER);
+		int positiveCounter = getSignCounter(atomToLiteral(atom, true));
+		int negativeCounter = getSignCounter(atomToLiteral(atom, false));
 
 		if (positiveCounter > negativeCounter) {
 			return false;
@@ -206,7 +235,8 @@ protected void pushToStack(NoGood noGood) {
 	private void incrementActivityCounter(int literal) {
 		int atom = atomOf(literal);
 		if (choiceManager.isAtomChoice(atom)) {
-			activityCounters.compute(atom, (k, v) -> (v == null ? DEFAULT_ACTIVITY : v) + 1);
+			growForMaxAtomId(atom);
+			activityCounters[atom]++;
 		}
 		// TODO: check performance
 		// note that here (and in incrementSignCounter) we only count atoms that are
@@ -218,9 +248,11 @@ private void incrementActivityCounter(int literal) {
 		// integers for rule bodies, uneven for other atoms)
 	}
 	
-	private void incrementSignCounter(Integer literal) {
-		if (choiceManager.isAtomChoice(atomOf(literal))) {
-			signCounters.compute(literal, (k, v) -> (v == null ? DEFAULT_SIGN_COUNTER : v) + 1);
+	private void incrementSignCounter(int literal) {
+		int atom = atomOf(literal);
+		if (choiceManager.isAtomChoice(atom)) {
+			growForMaxAtomId(atom);
+			signCounters[literal]++;
 		}
 	}
 
@@ -228,7 +260,9 @@ private void decayAllIfTimeHasCome() {
 		stepsSinceLastDecay++;
 		if (stepsSinceLastDecay >= decayPeriod) {
 			// Decay all:
-			activityCounters.replaceAll((k, v) -> v * decayFactor);
+			for (int atom = 0; atom < activityCounters.length; atom++) {
+				activityCounters[atom] *= decayFactor;
+			}
 			stepsSinceLastDecay = 0;
 		}
 	}
@@ -247,25 +281,29 @@ NoGood getCurrentTopClause() {
 	}
 	
 	/**
-	 * If {@code noGood != null}, returns the most active unassigned literal from {@code noGood}. Else, returns the most active atom of all the known atoms.
-	 * @param noGood
-	 * @return
+	 * Returns the most active atom of {@code noGood} that is unassigned and an active choice point, or
+	 * {@link #DEFAULT_CHOICE_ATOM} if there is none.
 	 */
 	private int getMostActiveChoosableAtom(NoGood noGood) {
-		if (noGood != null) {
-			return getMostActiveChoosableAtom(noGood.stream().boxed().map(Literals::atomOf));
-		} else {
-			return getMostActiveChoosableAtom(activityCounters.keySet().stream());
+		int mostActiveAtom = DEFAULT_CHOICE_ATOM;
+		for (int i = 0; i < noGood.size(); i++) {
+			mostActiveAtom = moreActiveChoosableAtom(mostActiveAtom, atomOf(noGood.getLiteral(i)));
 		}
+		return mostActiveAtom;
 	}
-	
-	protected int getMostActiveChoosableAtom(Stream<Integer> streamOfLiterals) {
-		return streamOfLiterals
-			.map(Literals::atomOf)
-			.filter(this::isUnassigned)
-			.filter(choiceManager::isActiveChoiceAtom)
-			.max(Comparator.comparingDouble(this::getActivity))
-			.orElse(DEFAULT_CHOICE_ATOM);
+
+	/**
+	 * Returns {@code atom} if it is choosable and more active than {@code mostActiveAtom}, and {@code mostActiveAtom}
+	 * otherwise. Used to find the most active choosable atom in a loop starting from {@link #DEFAULT_CHOICE_ATOM}.
+	 */
+	int moreActiveChoosableAtom(int mostActiveAtom, int atom) {
+		if (!isUnassigned(atom) || !choiceManager.isActiveChoiceAtom(atom)) {
+			return mostActiveAtom;
+		}
+		if (mostActiveAtom == DEFAULT_CHOICE_ATOM || getAtomActivity(atom) > getAtomActivity(mostActiveAtom)) {
+			return atom;
+		}
+		return mostActiveAtom;
 	}
 
 	private boolean isUnassigned(int atom) {
@@ -31,8 +31,6 @@
 import at.ac.tuwien.kr.alpha.common.NoGood;
 import at.ac.tuwien.kr.alpha.solver.ChoiceManager;
 
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Random;
 
 import static at.ac.tuwien.kr.alpha.common.Literals.atomOf;
@@ -43,13 +41,17 @@
  */
 public class BerkMinLiteral extends BerkMin {
 
-	private Deque<Integer> activeLiterals = new LinkedList<>();
+	// A ring buffer holding the most recent active literals, starting at index first.
+	private final int[] activeLiterals;
+	private int first;
+	private int numActiveLiterals;
 	private static final int DEFAULT_QUEUE_SIZE = 32;
 	private final int queueSize;
 
 	BerkMinLiteral(Assignment assignment, ChoiceManager choiceManager, int decayPeriod, double decayFactor, Random random, int queueSize) {
 		super(assignment, choiceManager, decayPeriod, decayFactor, random);
 		this.queueSize = queueSize;
+		this.activeLiterals = new int[queueSize];
 	}
 
 	BerkMinLiteral(Assignment assignment, ChoiceManager choiceManager, Random random) {
@@ -58,15 +60,20 @@ public class BerkMinLiteral extends BerkMin {
 
 	@Override
 	public int chooseAtom() {
-		return  getMostActiveChoosableAtom(activeLiterals.stream());
+		int mostActiveAtom = DEFAULT_CHOICE_ATOM;
+		for (int i = 0; i < numActiveLiterals; i++) {
+			mostActiveAtom = moreActiveChoosableAtom(mostActiveAtom, atomOf(activeLiterals[(first + i) % queueSize]));
+		}
+		return mostActiveAtom;
 	}
 
-	private void pushToStack(Integer literal) {
-		if (choiceManager.isAtomChoice(atomOf(literal))) {
-			activeLiterals.addFirst(literal);
-			// Restrict the size of the queue.
-			if (activeLiterals.size() > queueSize) {
-				activeLiterals.removeLast();
+	private void pushToStack(int literal) {
+		if (queueSize > 0 && choiceManager.isAtomChoice(atomOf(literal))) {
+			// Restrict the size of the queue by overwriting the oldest literal.
+			first = (first + queueSize - 1) % queueSize;
+			activeLiterals[first] = literal;
+			if (numActiveLiterals < queueSize) {
+				numActiveLiterals++;
 			}
 		}
 	}
@@ -74,7 +81,7 @@ private void pushToStack(Integer literal) {
 	@Override
 	protected void pushToStack(NoGood noGood) {
 		if (noGood != null) {
-			for (Integer literal : noGood) {
+			for (int literal : noGood) {
 				pushToStack(literal);
 			}
 		}
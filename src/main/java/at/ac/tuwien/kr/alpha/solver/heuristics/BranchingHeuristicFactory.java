@@ -27,6 +27,7 @@
 
 import at.ac.tuwien.kr.alpha.grounder.Grounder;
 import at.ac.tuwien.kr.alpha.solver.ChoiceManager;
+import at.ac.tuwien.kr.alpha.solver.TrailAssignment;
 import at.ac.tuwien.kr.alpha.solver.WritableAssignment;
 import at.ac.tuwien.kr.alpha.solver.heuristics.activity.BodyActivityProviderFactory.BodyActivityType;
 
@@ -87,6 +88,14 @@ public static String listAllowedValues() {
 
 	public static BranchingHeuristic getInstance(HeuristicsConfiguration heuristicsConfiguration, Grounder grounder, WritableAssignment assignment, ChoiceManager choiceManager, Random random) {
 		BranchingHeuristic heuristicWithoutReplay = getInstanceWithoutReplay(heuristicsConfiguration, grounder, assignment, choiceManager, random);
+		PhaseSavingHeuristic.Mode phaseSaving = heuristicsConfiguration.getPhaseSaving();
+		if (phaseSaving != null && phaseSaving != PhaseSavingHeuristic.Mode.NONE) {
+			if (!(assignment instanceof TrailAssignment)) {
+				throw new IllegalArgumentException("Phase saving requires a " + TrailAssignment.class.getSimpleName() + ".");
+			}
+			heuristicWithoutReplay = new PhaseSavingHeuristic(heuristicWithoutReplay, (TrailAssignment) assignment, phaseSaving,
+					heuristicsConfiguration.getRephaseInterval());
+		}
 		List<Integer> replayChoices = heuristicsConfiguration.getReplayChoices();
 		if (replayChoices != null && !replayChoices.isEmpty()) {
 			return ChainedBranchingHeuristics.chainOf(
@@ -26,7 +26,6 @@
 package at.ac.tuwien.kr.alpha.solver.heuristics;
 
 import at.ac.tuwien.kr.alpha.common.Assignment;
-import at.ac.tuwien.kr.alpha.common.Literals;
 import at.ac.tuwien.kr.alpha.common.NoGood;
 import at.ac.tuwien.kr.alpha.solver.ChoiceManager;
 import at.ac.tuwien.kr.alpha.solver.ThriceTruth;
@@ -34,15 +33,17 @@
 import at.ac.tuwien.kr.alpha.solver.heuristics.activity.BodyActivityProviderFactory;
 import at.ac.tuwien.kr.alpha.solver.heuristics.activity.BodyActivityProviderFactory.BodyActivityType;
 import at.ac.tuwien.kr.alpha.solver.learning.GroundConflictNoGoodLearner.ConflictAnalysisResult;
-import org.apache.commons.collections4.MultiValuedMap;
-import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Random;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
 import static at.ac.tuwien.kr.alpha.common.Literals.*;
 import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.FALSE;
 import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.TRUE;
@@ -71,32 +72,35 @@ public class DependencyDrivenHeuristic implements ActivityBasedBranchingHeuristi
 	protected final Random rand;
 	protected final BodyActivityProvider bodyActivity;
 
-	protected final Map<Integer, Double> activityCounters = new HashMap<>();
-	protected final Map<Integer, Integer> signCounters = new HashMap<>();
+	/**
+	 * Activity counters indexed by atom, sign counters indexed by literal.
+	 */
+	protected double[] activityCounters = new double[0];
+	protected int[] signCounters = new int[0];
 	protected final Deque<NoGood> stackOfNoGoods = new ArrayDeque<>();
 	private int decayPeriod;
 	private double decayFactor;
 	private int stepsSinceLastDecay;
 
 	/**
-	 * Maps body-representing atoms to rule heads.
+	 * Maps body-representing atoms to rule heads, or to {@link #DEFAULT_CHOICE_ATOM} if the head is unknown.
 	 */
-	protected final Map<Integer, Integer> bodyAtomToHeadAtom = new HashMap<>();
+	protected int[] bodyAtomToHeadAtom = new int[0];
 
 	/**
 	 * Maps rule heads to atoms representing corresponding bodies.
 	 */
-	protected final MultiValuedMap<Integer, Integer> headToBodies = new HashSetValuedHashMap<>();
+	protected final AtomAdjacencyLists headToBodies = new AtomAdjacencyLists();
 
 	/**
 	 * Maps body-representing atoms to literals occuring in the rule body.
 	 */
-	protected final MultiValuedMap<Integer, Integer> bodyAtomToLiterals = new HashSetValuedHashMap<>();
+	protected final AtomAdjacencyLists bodyAtomToLiterals = new AtomAdjacencyLists();
 
 	/**
 	 * Maps atoms to atoms representing bodies of rules in which the former atoms occur (in the head or the body).
 	 */
-	protected final MultiValuedMap<Integer, Integer> atomsToBodiesAtoms = new HashSetValuedHashMap<>();
+	protected final AtomAdjacencyLists atomsToBodiesAtoms = new AtomAdjacencyLists();
 
 	public DependencyDrivenHeuristic(Assignment assignment, ChoiceManager choiceManager, int decayPeriod, double decayFactor, Random random, BodyActivityType bodyActivityType) {
 		this.assignment = assignment;
@@ -104,7 +108,7 @@ public DependencyDrivenHeuristic(Assignment assignment, ChoiceManager choiceMana
 		this.decayPeriod = decayPeriod;
 		this.decayFactor = decayFactor;
 		this.rand = random;
-		this.bodyActivity = BodyActivityProviderFactory.getInstance(bodyActivityType, bodyAtomToLiterals, activityCounters, DEFAULT_ACTIVITY);
+		this.bodyActivity = BodyActivityProviderFactory.getInstance(bodyActivityType, bodyAtomToLiterals, this::getAtomActivity, DEFAULT_ACTIVITY);
 	}
 
 	public DependencyDrivenHeuristic(Assignment assignment, ChoiceManager choiceManager, Random random, BodyActivityType bodyActivityType) {
@@ -156,7 +160,7 @@ public void analyzedConflict(ConflictAnalysisResult analysisResult) {
 			incrementActivityCounter(atomToLiteral(resolutionAtom, false));
 		}
 		if (analysisResult.learnedNoGood != null) {
-			for (Integer literal : analysisResult.learnedNoGood) {
+			for (int literal : analysisResult.learnedNoGood) {
 				incrementSignCounter(literal);
 			}
 		}
@@ -167,7 +171,7 @@ public void analyzedConflict(ConflictAnalysisResult analysisResult) {
 	public void newNoGood(NoGood newNoGood) {
 		recordAtomRelationships(newNoGood);
 		pushToStack(newNoGood);
-		for (Integer literal : newNoGood) {
+		for (int literal : newNoGood) {
 			incrementSignCounter(literal);
 		}
 	}
@@ -179,7 +183,37 @@ public void newNoGoods(Collection<NoGood> newNoGoods) {
 
 	@Override
 	public double getActivity(int literal) {
-		return activityCounters.getOrDefault(atomOf(literal), DEFAULT_ACTIVITY);
+		return getAtomActivity(atomOf(literal));
+	}
+
+	protected double getAtomActivity(int atom) {
+		return atom < activityCounters.length ? activityCounters[atom] : DEFAULT_ACTIVITY;
+	}
+
+	private int getSignCounter(int literal) {
+		return literal < signCounters.length ? signCounters[literal] : DEFAULT_SIGN_COUNTER;
+	}
+
+	@Override
+	public void growForMaxAtomId(int maxAtomId) {
+		// Grow arrays only if needed.
+		if (activityCounters.length > maxAtomId) {
+			return;
+		}
+		// Grow to default size, except if bigger array is required due to maxAtomId.
+		int newCapacity = arrayGrowthSize(activityCounters.length);
+		if (newCapacity < maxAtomId + 1) {
+			newCapacity = maxAtomId + 1;
+		}
+		int oldCapacity = activityCounters.length;
+		activityCounters = Arrays.copyOf(activityCounters, newCapacity);
+		Arrays.fill(activityCounters, oldCapacity, newCapacity, DEFAULT_ACTIVITY);
+		signCounters = Arrays.copyOf(signCounters, 2 * newCapacity);
+		Arrays.fill(signCounters, 2 * oldCapacity, 2 * newCapacity, DEFAULT_SIGN_COUNTER);
+		bodyAtomToHeadAtom = Arrays.copyOf(bodyAtomToHeadAtom, newCapacity);
+		headToBodies.growForMaxAtomId(maxAtomId);
+		bodyAtomToLiterals.growForMaxAtomId(maxAtomId);
+		atomsToBodiesAtoms.growForMaxAtomId(maxAtomId);
 	}
 	
 	/**
@@ -207,16 +241,35 @@ protected int chooseAtom() {
 				return mostActiveAtom;
 			}
 
-			Collection<Integer> bodies = atomsToBodiesAtoms.get(mostActiveAtom);
-			Optional<Integer> mostActiveBody = bodies.stream().filter(this::isUnassigned).filter(choiceManager::isActiveChoiceAtom)
-					.max(Comparator.comparingDouble(bodyActivity::get));
-			if (mostActiveBody.isPresent()) {
-				return mostActiveBody.get();
+			int mostActiveBody = getMostActiveChoosableBody(atomsToBodiesAtoms, mostActiveAtom);
+			if (mostActiveBody != DEFAULT_CHOICE_ATOM) {
+				return mostActiveBody;
 			}
 		}
 		return DEFAULT_CHOICE_ATOM;
 	}
 
+	/**
+	 * Returns the body-representing atom of highest {@link #bodyActivity} among the bodies associated with the given
+	 * atom that are unassigned active choice points, or {@link #DEFAULT_CHOICE_ATOM} if there is none.
+	 */
+	protected int getMostActiveChoosableBody(AtomAdjacencyLists atomToBodies, int atom) {
+		int mostActiveBody = DEFAULT_CHOICE_ATOM;
+		double maxActivity = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < atomToBodies.size(atom); i++) {
+			int body = atomToBodies.get(atom, i);
+			if (!isUnassigned(body) || !choiceManager.isActiveChoiceAtom(body)) {
+				continue;
+			}
+			double activity = bodyActivity.get(body);
+			if (activity > maxActivity) {
+				mostActiveBody = body;
+				maxActivity = activity;
+			}
+		}
+		return mostActiveBody;
+	}
+
 	protected boolean chooseSign(int atom) {
 		atom = getAtomForChooseSign(atom);
 
@@ -224,8 +277,8 @@ protected boolean chooseSign(int atom) {
 			return true;
 		}
 
-		int positiveCounter = signCounters.getOrDefault(atomToLiteral(atom, true),  DEFAULT_SIGN_COUNTER);
-		int negativeCounter = signCounters.getOrDefault(atomToLiteral(atom, false), DEFAULT_SIGN_COUNTER);
+		int positiveCounter = getSignCounter(atomToLiteral(atom, true));
+		int negativeCounter = getSignCounter(atomToLiteral(atom, false));
 
 		if (positiveCounter > negativeCounter) {
 			return false;
@@ -237,8 +290,8 @@ protected boolean chooseSign(int atom) {
 	}
 
 	protected int getAtomForChooseSign(int atom) {
-		Integer head = bodyAtomToHeadAtom.get(atom);
-		if (head != null) {
+		int head = atom < bodyAtomToHeadAtom.length ? bodyAtomToHeadAtom[atom] : DEFAULT_CHOICE_ATOM;
+		if (head != DEFAULT_CHOICE_ATOM) {
 			atom = head; // head atom can give more relevant information than atom representing rule body
 		}
 		return atom;
@@ -248,15 +301,15 @@ protected void recordAtomRelationships(NoGood noGood) {
 		if (isBodyNotHead(noGood, choiceManager::isAtomChoice)) {
 			int body = atomOf(noGood.getLiteral(1));
 			int head = atomOf(noGood.getHead());
-			bodyAtomToHeadAtom.put(body, head);
+			growForMaxAtomId(body);
+			bodyAtomToHeadAtom[body] = head;
 			headToBodies.put(head, body);
 			atomsToBodiesAtoms.put(head, body);
 		} else if (isBodyElementsNotBody(noGood, choiceManager::isAtomChoice)) {
-			Set<Integer> literals = new HashSet<>();
 			int bodyAtom = atomOf(noGood.getHead());
 			for (int i = 0; i < noGood.size(); i++) {
 				int literal = noGood.getLiteral(i);
-				literals.add(literal);
+				bodyAtomToLiterals.put(bodyAtom, literal);
 				if (bodyAtom != 0) {
 					atomsToBodiesAtoms.put(atomOf(literal), bodyAtom);
 				} // else {
@@ -264,7 +317,6 @@ protected void recordAtomRelationships(NoGood noGood) {
 				// }
 			}
 			assert bodyAtom != 0;
-			bodyAtomToLiterals.putAll(bodyAtom, literals);
 		}
 	}
 
@@ -277,7 +329,7 @@ private void pushToStack(NoGood noGood) {
 	protected void incrementActivityCounter(int literal) {
 		int atom = atomOf(literal);
 		if (choiceManager.isAtomChoice(atom)) {
-			activityCounters.compute(atom, (k, v) -> (v == null ? DEFAULT_ACTIVITY : v) + 1);
+			incrementAtomActivity(atom);
 		}
 		// TODO: check performance
 		// note that here (and in incrementSignCounter) we only count atoms that are
@@ -289,15 +341,23 @@ protected void incrementActivityCounter(int literal) {
 		// integers for rule bodies, uneven for other atoms)
 	}
 	
-	protected void incrementSignCounter(Integer literal) {
-		signCounters.compute(literal, (k, v) -> (v == null ? DEFAULT_SIGN_COUNTER : v) + 1);
+	protected void incrementAtomActivity(int atom) {
+		growForMaxAtomId(atom);
+		activityCounters[atom]++;
+	}
+
+	protected void incrementSignCounter(int literal) {
+		growForMaxAtomId(atomOf(literal));
+		signCounters[literal]++;
 	}
 
 	private void decayAllIfTimeHasCome() {
 		stepsSinceLastDecay++;
 		if (stepsSinceLastDecay >= decayPeriod) {
 			// Decay all:
-			activityCounters.replaceAll((k, v) -> v * decayFactor);
+			for (int atom = 0; atom < activityCounters.length; atom++) {
+				activityCounters[atom] *= decayFactor;
+			}
 			stepsSinceLastDecay = 0;
 		}
 	}
@@ -321,15 +381,17 @@ protected boolean isUnassigned(int atom) {
 	}
 
 	private int getMostActiveAtom(NoGood noGood) {
-		if (noGood != null) {
-			return getMostActiveAtom(noGood.stream().boxed());
-		} else {
-			return getMostActiveAtom(activityCounters.keySet().stream());
+		int mostActiveAtom = DEFAULT_CHOICE_ATOM;
+		double maxActivity = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < noGood.size(); i++) {
+			int atom = atomOf(noGood.getLiteral(i));
+			double activity = getAtomActivity(atom);
+			if (activity > maxActivity) {
+				mostActiveAtom = atom;
+				maxActivity = activity;
+			}
 		}
-	}
-
-	private int getMostActiveAtom(Stream<Integer> streamOfLiterals) {
-		return streamOfLiterals.map(Literals::atomOf).max(Comparator.comparingDouble(this::getActivity)).orElse(DEFAULT_CHOICE_ATOM);
+		return mostActiveAtom;
 		// TODO: exploit synergy with getMostActiveChoosableAtom
 	}
 
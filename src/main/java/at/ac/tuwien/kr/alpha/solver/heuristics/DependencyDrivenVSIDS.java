@@ -60,8 +60,8 @@ public DependencyDrivenVSIDS(Assignment assignment, ChoiceManager choiceManager,
 	 */
 	@Override
 	protected int getAtomForChooseSign(int atom) {
-		Integer head = choiceManager.getHeadDerivedByChoiceAtom(atom);
-		if (head != null) {
+		int head = choiceManager.getHeadDerivedByChoiceAtom(atom);
+		if (head != DEFAULT_CHOICE_ATOM) {
 			atom = head;
 		}
 		return atom;
@@ -30,9 +30,7 @@
 import at.ac.tuwien.kr.alpha.solver.ChoiceManager;
 import at.ac.tuwien.kr.alpha.solver.heuristics.activity.BodyActivityProviderFactory.BodyActivityType;
 
-import java.util.HashSet;
 import java.util.Random;
-import java.util.Set;
 
 import static at.ac.tuwien.kr.alpha.common.Literals.atomOf;
 
@@ -68,18 +66,19 @@ public GeneralizedDependencyDrivenHeuristic(Assignment assignment, ChoiceManager
 	protected void recordAtomRelationships(NoGood noGood) {
 		// TODO: use HeapOfActiveChoicePoints.recordAtomRelationships, which does similar things
 		int body = DEFAULT_CHOICE_ATOM;
-		Set<Integer> others = new HashSet<>();
 		for (int literal : noGood) {
 			int atom = atomOf(literal);
-			if (body == DEFAULT_CHOICE_ATOM && choiceManager.isAtomChoice(atom)) {
+			if (choiceManager.isAtomChoice(atom)) {
 				body = atom;
-			} else {
-				others.add(atom);
+				break;
 			}
 		}
-		for (Integer atom : others) {
-			atomsToBodiesAtoms.put(atom, body);
-			bodyAtomToLiterals.put(body, atom);
+		for (int literal : noGood) {
+			int atom = atomOf(literal);
+			if (atom != body) {
+				atomsToBodiesAtoms.put(atom, body);
+				bodyAtomToLiterals.put(body, atom);
+			}
 		}
 	}
 
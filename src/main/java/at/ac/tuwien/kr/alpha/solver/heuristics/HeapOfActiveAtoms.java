@@ -35,8 +35,6 @@
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.PriorityQueue;
 
 import static at.ac.tuwien.kr.alpha.common.Literals.atomOf;
 
@@ -57,7 +55,7 @@ public class HeapOfActiveAtoms {
 
 	private boolean[] incrementedActivityScores = new boolean[0];
 	protected double[] activityScores = new double[0];
-	protected final PriorityQueue<Integer> heap = new PriorityQueue<>(new AtomActivityComparator().reversed());
+	protected final IndexedActivityHeap heap = new IndexedActivityHeap(atom -> activityScores[atom]);
 
 	protected ChoiceManager choiceManager;
 	private int decayPeriod;
@@ -193,9 +191,10 @@ private void initActivityNaive(NoGood newNoGood) {
 
 	/**
 	 * Returns the atom with the highest activity score and removes it from the heap.
+	 * @return the most active atom, or {@link BranchingHeuristic#DEFAULT_CHOICE_ATOM} if the heap is empty.
 	 */
-	public Integer getMostActiveAtom() {
-		return heap.poll();
+	public int getMostActiveAtom() {
+		return heap.isEmpty() ? BranchingHeuristic.DEFAULT_CHOICE_ATOM : heap.removeMax();
 	}
 
 	/**
@@ -225,7 +224,8 @@ private void setActivity(int atom, double newActivity) {
 			normalizeActivityScores();
 		}
 
-		heap.add(atom); // ignores the fact that atom may already be in the heap for performance reasons (may be revised in future)
+		// Inserts the atom or, if it is in the heap already, moves it up according to its increased activity.
+		heap.insert(atom);
 	}
 
 	/**
@@ -249,15 +249,6 @@ private double normalizeNewActivityScore(double newActivity) {
 		return newActivity;
 	}
 
-	private class AtomActivityComparator implements Comparator<Integer> {
-
-		@Override
-		public int compare(Integer a1, Integer a2) {
-			return Double.compare(activityScores[a1], activityScores[a2]);
-		}
-
-	}
-
 	private class ChoicePointActivityListener implements ChoiceInfluenceManager.ActivityListener {
 
 		@Override
@@ -267,7 +258,7 @@ public void callbackOnChanged(int atom, boolean active) {
 					/* if atom has no activity score, probably the atom is still being buffered
 					   by DependencyDrivenVSIDSHeuristic and will get an initial activity
 					   when the buffer is ingested */
-					heap.add(atom);
+					heap.insert(atom);
 				}
 			}
 		}
@@ -38,16 +38,23 @@ public class HeuristicsConfiguration {
 	private Heuristic heuristic;
 	private Strategy momsStrategy;
 	private List<Integer> replayChoices;
+	private PhaseSavingHeuristic.Mode phaseSaving;
+	private int rephaseInterval;
 	/**
 	 * @param heuristic
 	 * @param momsStrategy
 	 * @param replayChoices
+	 * @param phaseSaving
+	 * @param rephaseInterval
 	 */
-	public HeuristicsConfiguration(Heuristic heuristic, Strategy momsStrategy, List<Integer> replayChoices) {
+	public HeuristicsConfiguration(Heuristic heuristic, Strategy momsStrategy, List<Integer> replayChoices, PhaseSavingHeuristic.Mode phaseSaving,
+			int rephaseInterval) {
 		super();
 		this.heuristic = heuristic;
 		this.momsStrategy = momsStrategy;
 		this.replayChoices = replayChoices;
+		this.phaseSaving = phaseSaving;
+		this.rephaseInterval = rephaseInterval;
 	}
 
 	/**
@@ -92,6 +99,34 @@ public void setReplayChoices(List<Integer> replayChoices) {
 		this.replayChoices = replayChoices;
 	}
 
+	/**
+	 * @return the phase saving mode
+	 */
+	public PhaseSavingHeuristic.Mode getPhaseSaving() {
+		return phaseSaving;
+	}
+
+	/**
+	 * @param phaseSaving the phase saving mode to set
+	 */
+	public void setPhaseSaving(PhaseSavingHeuristic.Mode phaseSaving) {
+		this.phaseSaving = phaseSaving;
+	}
+
+	/**
+	 * @return the number of conflicts after which saved phases are forgotten, 0 if never
+	 */
+	public int getRephaseInterval() {
+		return rephaseInterval;
+	}
+
+	/**
+	 * @param rephaseInterval the rephase interval to set
+	 */
+	public void setRephaseInterval(int rephaseInterval) {
+		this.rephaseInterval = rephaseInterval;
+	}
+
 	public static HeuristicsConfigurationBuilder builder() {
 		return new HeuristicsConfigurationBuilder();
 	}
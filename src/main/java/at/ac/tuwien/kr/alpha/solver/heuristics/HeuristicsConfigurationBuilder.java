@@ -38,6 +38,8 @@ public class HeuristicsConfigurationBuilder {
 	private Heuristic heuristic;
 	private BinaryNoGoodPropagationEstimation.Strategy momsStrategy;
 	private List<Integer> replayChoices;
+	private PhaseSavingHeuristic.Mode phaseSaving = PhaseSavingHeuristic.Mode.NONE;
+	private int rephaseInterval;
 
 	/**
 	 * @param heuristic the heuristic to set
@@ -63,8 +65,24 @@ public HeuristicsConfigurationBuilder setReplayChoices(List<Integer> replayChoic
 		return this;
 	}
 
+	/**
+	 * @param phaseSaving the phase saving mode to set
+	 */
+	public HeuristicsConfigurationBuilder setPhaseSaving(PhaseSavingHeuristic.Mode phaseSaving) {
+		this.phaseSaving = phaseSaving;
+		return this;
+	}
+
+	/**
+	 * @param rephaseInterval the rephase interval to set
+	 */
+	public HeuristicsConfigurationBuilder setRephaseInterval(int rephaseInterval) {
+		this.rephaseInterval = rephaseInterval;
+		return this;
+	}
+
 	public HeuristicsConfiguration build() {
-		return new HeuristicsConfiguration(heuristic, momsStrategy, replayChoices);
+		return new HeuristicsConfiguration(heuristic, momsStrategy, replayChoices, phaseSaving, rephaseInterval);
 	}
 	
 }
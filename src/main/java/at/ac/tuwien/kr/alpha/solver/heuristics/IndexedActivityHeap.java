@@ -0,0 +1,157 @@
+package at.ac.tuwien.kr.alpha.solver.heuristics;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+import static at.ac.tuwien.kr.alpha.Util.arrayGrowthSize;
+
+/**
+ * A binary max-heap of atoms ordered by their activity, where activities are kept outside of the heap. Atoms are
+ * stored as primitive ints and the position of every atom in the heap is tracked, such that each atom occurs at most
+ * once, membership is checked in constant time, and the position of an atom whose activity changed is restored in
+ * O(log n) time. No operation allocates memory except for growing the underlying arrays.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+final class IndexedActivityHeap {
+	/**
+	 * Returned by {@link #removeMax()} if the heap is empty. Atom ids start at 1, hence this is no atom.
+	 */
+	static final int NO_ATOM = 0;
+
+	private static final int NOT_IN_HEAP = -1;
+
+	private final IntToDoubleFunction activity;
+	private int[] heap = new int[0];
+	// The position of each atom in the heap or NOT_IN_HEAP.
+	private int[] positions = new int[0];
+	private int size;
+
+	/**
+	 * @param activity yields the current activity of an atom.
+	 */
+	IndexedActivityHeap(IntToDoubleFunction activity) {
+		this.activity = activity;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean contains(int atom) {
+		return atom < positions.length && positions[atom] != NOT_IN_HEAP;
+	}
+
+	/**
+	 * Inserts the given atom, or restores its position if it is already in the heap.
+	 */
+	void insert(int atom) {
+		if (contains(atom)) {
+			update(atom);
+			return;
+		}
+		if (atom >= positions.length) {
+			int oldLength = positions.length;
+			positions = Arrays.copyOf(positions, Math.max(atom + 1, arrayGrowthSize(oldLength)));
+			Arrays.fill(positions, oldLength, positions.length, NOT_IN_HEAP);
+		}
+		if (size == heap.length) {
+			heap = Arrays.copyOf(heap, Math.max(8, arrayGrowthSize(size)));
+		}
+		heap[size] = atom;
+		positions[atom] = size;
+		size++;
+		siftUp(size - 1);
+	}
+
+	/**
+	 * Restores the position of the given atom after its activity increased or decreased. Does nothing if the atom is
+	 * not in the heap.
+	 */
+	void update(int atom) {
+		if (!contains(atom)) {
+			return;
+		}
+		int position = siftUp(positions[atom]);
+		siftDown(position);
+	}
+
+	/**
+	 * Removes and returns the atom of highest activity, or {@link #NO_ATOM} if the heap is empty.
+	 */
+	int removeMax() {
+		if (size == 0) {
+			return NO_ATOM;
+		}
+		int max = heap[0];
+		size--;
+		if (size > 0) {
+			heap[0] = heap[size];
+			positions[heap[0]] = 0;
+			siftDown(0);
+		}
+		positions[max] = NOT_IN_HEAP;
+		return max;
+	}
+
+	void clear() {
+		for (int i = 0; i < size; i++) {
+			positions[heap[i]] = NOT_IN_HEAP;
+		}
+		size = 0;
+	}
+
+	private int siftUp(int position) {
+		int atom = heap[position];
+		double atomActivity = activity.applyAsDouble(atom);
+		while (position > 0) {
+			int parent = (position - 1) >>> 1;
+			if (activity.applyAsDouble(heap[parent]) >= atomActivity) {
+				break;
+			}
+			move(heap[parent], position);
+			position = parent;
+		}
+		move(atom, position);
+		return position;
+	}
+
+	private void siftDown(int position) {
+		int atom = heap[position];
+		double atomActivity = activity.applyAsDouble(atom);
+		while (true) {
+			int child = 2 * position + 1;
+			if (child >= size) {
+				break;
+			}
+			double childActivity = activity.applyAsDouble(heap[child]);
+			if (child + 1 < size) {
+				double rightActivity = activity.applyAsDouble(heap[child + 1]);
+				if (rightActivity > childActivity) {
+					child++;
+					childActivity = rightActivity;
+				}
+			}
+			if (atomActivity >= childActivity) {
+				break;
+			}
+			move(heap[child], position);
+			position = child;
+		}
+		move(atom, position);
+	}
+
+	private void move(int atom, int position) {
+		heap[position] = atom;
+		positions[atom] = position;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(Arrays.copyOf(heap, size));
+	}
+}
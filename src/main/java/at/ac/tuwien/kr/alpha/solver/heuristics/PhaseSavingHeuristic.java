@@ -0,0 +1,110 @@
+package at.ac.tuwien.kr.alpha.solver.heuristics;
+
+import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.solver.TrailAssignment;
+import at.ac.tuwien.kr.alpha.solver.learning.GroundConflictNoGoodLearner.ConflictAnalysisResult;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import static at.ac.tuwien.kr.alpha.common.Literals.atomOf;
+import static at.ac.tuwien.kr.alpha.common.Literals.atomToLiteral;
+
+/**
+ * Adds phase saving to any {@link BranchingHeuristic}: the wrapped heuristic decides which atom to choose, but if the
+ * atom was assigned before, it is chosen with the truth value it had when it was last unassigned by backtracking. This
+ * way, a backjump does not throw away the parts of a nearly consistent assignment that were unrelated to the conflict.
+ *
+ * In {@link Mode#TARGET} mode, the truth value an atom had in the largest trail seen so far is preferred over its last
+ * truth value. If a rephase interval is given, all phases are forgotten after that many conflicts, such that the
+ * signs chosen by the wrapped heuristic take over again.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class PhaseSavingHeuristic implements BranchingHeuristic {
+
+	public enum Mode {
+		NONE,
+		SAVED,
+		TARGET;
+
+		/**
+		 * @return a comma-separated list of names of known phase saving modes
+		 */
+		public static String listAllowedValues() {
+			return Arrays.stream(values()).map(Mode::toString).collect(Collectors.joining(", "));
+		}
+	}
+
+	private final BranchingHeuristic heuristic;
+	private final TrailAssignment assignment;
+	private final boolean preferTargetPhases;
+	private final int rephaseInterval;
+	private int conflictsSinceRephase;
+
+	/**
+	 * @param heuristic       the heuristic choosing the atoms.
+	 * @param assignment      the assignment recording the phases.
+	 * @param mode            either {@link Mode#SAVED} or {@link Mode#TARGET}.
+	 * @param rephaseInterval the number of conflicts after which phases are forgotten, 0 to never forget them.
+	 */
+	public PhaseSavingHeuristic(BranchingHeuristic heuristic, TrailAssignment assignment, Mode mode, int rephaseInterval) {
+		if (mode == Mode.NONE) {
+			throw new IllegalArgumentException("Phase saving heuristic requires a phase saving mode.");
+		}
+		this.heuristic = heuristic;
+		this.assignment = assignment;
+		this.preferTargetPhases = mode == Mode.TARGET;
+		this.rephaseInterval = rephaseInterval;
+		if (preferTargetPhases) {
+			assignment.enableTargetPhases();
+		}
+	}
+
+	@Override
+	public void violatedNoGood(NoGood violatedNoGood) {
+		heuristic.violatedNoGood(violatedNoGood);
+	}
+
+	@Override
+	public void analyzedConflict(ConflictAnalysisResult analysisResult) {
+		heuristic.analyzedConflict(analysisResult);
+		if (rephaseInterval > 0 && ++conflictsSinceRephase >= rephaseInterval) {
+			conflictsSinceRephase = 0;
+			assignment.resetPhases();
+		}
+	}
+
+	@Override
+	public void newNoGood(NoGood newNoGood) {
+		heuristic.newNoGood(newNoGood);
+	}
+
+	@Override
+	public void newNoGoods(Collection<NoGood> newNoGoods) {
+		heuristic.newNoGoods(newNoGoods);
+	}
+
+	@Override
+	public int chooseLiteral() {
+		int literal = heuristic.chooseLiteral();
+		if (literal == DEFAULT_CHOICE_LITERAL) {
+			return literal;
+		}
+		int atom = atomOf(literal);
+		byte phase = preferTargetPhases ? assignment.getTargetPhase(atom) : TrailAssignment.PHASE_NONE;
+		if (phase == TrailAssignment.PHASE_NONE) {
+			phase = assignment.getSavedPhase(atom);
+		}
+		if (phase == TrailAssignment.PHASE_NONE) {
+			return literal;
+		}
+		return atomToLiteral(atom, phase == TrailAssignment.PHASE_TRUE);
+	}
+
+	@Override
+	public void growForMaxAtomId(int maxAtomId) {
+		heuristic.growForMaxAtomId(maxAtomId);
+	}
+}
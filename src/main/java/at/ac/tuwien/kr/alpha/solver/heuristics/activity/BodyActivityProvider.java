@@ -25,28 +25,32 @@
  */
 package at.ac.tuwien.kr.alpha.solver.heuristics.activity;
 
-import org.apache.commons.collections4.MultiValuedMap;
+import at.ac.tuwien.kr.alpha.solver.heuristics.AtomAdjacencyLists;
 
-import java.util.Map;
+import java.util.function.IntToDoubleFunction;
 
 import static at.ac.tuwien.kr.alpha.common.Literals.atomOf;
 
 public abstract class BodyActivityProvider {
 
-	protected final MultiValuedMap<Integer, Integer> bodyToLiterals;
-	protected final Map<Integer, Double> activityCounters;
+	protected final AtomAdjacencyLists bodyToLiterals;
+	protected final IntToDoubleFunction atomActivity;
 	protected final double defaultActivity;
 
-	public BodyActivityProvider(MultiValuedMap<Integer, Integer> bodyToLiterals, Map<Integer, Double> activityCounters, double defaultActivity) {
+	/**
+	 * @param bodyToLiterals maps body-representing atoms to the literals occurring in the rule body.
+	 * @param atomActivity   yields the current activity of an atom.
+	 */
+	public BodyActivityProvider(AtomAdjacencyLists bodyToLiterals, IntToDoubleFunction atomActivity, double defaultActivity) {
 		this.bodyToLiterals = bodyToLiterals;
-		this.activityCounters = activityCounters;
+		this.atomActivity = atomActivity;
 		this.defaultActivity = defaultActivity;
 	}
 
 	public abstract double get(int bodyRepresentingAtom);
 
 	protected double getActivity(int literal) {
-		return activityCounters.getOrDefault(atomOf(literal), defaultActivity);
+		return atomActivity.applyAsDouble(atomOf(literal));
 	}
 
 }
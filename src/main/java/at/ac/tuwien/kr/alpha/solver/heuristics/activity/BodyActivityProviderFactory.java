@@ -25,9 +25,9 @@
  */
 package at.ac.tuwien.kr.alpha.solver.heuristics.activity;
 
-import org.apache.commons.collections4.MultiValuedMap;
+import at.ac.tuwien.kr.alpha.solver.heuristics.AtomAdjacencyLists;
 
-import java.util.Map;
+import java.util.function.IntToDoubleFunction;
 
 public final class BodyActivityProviderFactory {
 
@@ -35,19 +35,19 @@ public enum BodyActivityType {
 		DEFAULT, SUM, AVG, MAX, MIN
 	}
 
-	public static BodyActivityProvider getInstance(BodyActivityType type, MultiValuedMap<Integer, Integer> bodyToLiterals, Map<Integer, Double> activityCounters,
+	public static BodyActivityProvider getInstance(BodyActivityType type, AtomAdjacencyLists bodyToLiterals, IntToDoubleFunction atomActivity,
 			double defaultActivity) {
 		switch (type) {
 		case DEFAULT:
-			return new DefaultBodyActivityProvider(bodyToLiterals, activityCounters, defaultActivity);
+			return new DefaultBodyActivityProvider(bodyToLiterals, atomActivity, defaultActivity);
 		case SUM:
-			return new SumBodyActivityProvider(bodyToLiterals, activityCounters, defaultActivity);
+			return new SumBodyActivityProvider(bodyToLiterals, atomActivity, defaultActivity);
 		case AVG:
-			return new AvgBodyActivityProvider(bodyToLiterals, activityCounters, defaultActivity);
+			return new AvgBodyActivityProvider(bodyToLiterals, atomActivity, defaultActivity);
 		case MAX:
-			return new MaxBodyActivityProvider(bodyToLiterals, activityCounters, defaultActivity);
+			return new MaxBodyActivityProvider(bodyToLiterals, atomActivity, defaultActivity);
 		case MIN:
-			return new MinBodyActivityProvider(bodyToLiterals, activityCounters, defaultActivity);
+			return new MinBodyActivityProvider(bodyToLiterals, atomActivity, defaultActivity);
 		default:
 			throw new IllegalArgumentException("Unknown body activity type requested.");
 		}
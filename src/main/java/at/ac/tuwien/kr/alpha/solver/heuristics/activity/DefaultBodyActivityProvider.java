@@ -25,19 +25,19 @@
  */
 package at.ac.tuwien.kr.alpha.solver.heuristics.activity;
 
-import org.apache.commons.collections4.MultiValuedMap;
+import at.ac.tuwien.kr.alpha.solver.heuristics.AtomAdjacencyLists;
 
-import java.util.Map;
+import java.util.function.IntToDoubleFunction;
 
 public class DefaultBodyActivityProvider extends BodyActivityProvider {
 
-	public DefaultBodyActivityProvider(MultiValuedMap<Integer, Integer> bodyToLiterals, Map<Integer, Double> activityCounters, double defaultActivity) {
-		super(bodyToLiterals, activityCounters, defaultActivity);
+	public DefaultBodyActivityProvider(AtomAdjacencyLists bodyToLiterals, IntToDoubleFunction atomActivity, double defaultActivity) {
+		super(bodyToLiterals, atomActivity, defaultActivity);
 	}
 
 	@Override
 	public double get(int bodyRepresentingAtom) {
-		return activityCounters.getOrDefault(bodyRepresentingAtom, defaultActivity);
+		return atomActivity.applyAsDouble(bodyRepresentingAtom);
 	}
 
 }
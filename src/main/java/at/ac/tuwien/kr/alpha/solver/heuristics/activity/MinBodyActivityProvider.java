@@ -25,19 +25,27 @@
  */
 package at.ac.tuwien.kr.alpha.solver.heuristics.activity;
 
-import org.apache.commons.collections4.MultiValuedMap;
+import at.ac.tuwien.kr.alpha.solver.heuristics.AtomAdjacencyLists;
 
-import java.util.Map;
+import java.util.function.IntToDoubleFunction;
 
 public class MinBodyActivityProvider extends BodyActivityProvider {
 
-	public MinBodyActivityProvider(MultiValuedMap<Integer, Integer> bodyToLiterals, Map<Integer, Double> activityCounters, double defaultActivity) {
-		super(bodyToLiterals, activityCounters, defaultActivity);
+	public MinBodyActivityProvider(AtomAdjacencyLists bodyToLiterals, IntToDoubleFunction atomActivity, double defaultActivity) {
+		super(bodyToLiterals, atomActivity, defaultActivity);
 	}
 
 	@Override
 	public double get(int bodyRepresentingAtom) {
-		return bodyToLiterals.get(bodyRepresentingAtom).stream().mapToDouble(this::getActivity).min().orElse(defaultActivity);
+		int size = bodyToLiterals.size(bodyRepresentingAtom);
+		if (size == 0) {
+			return defaultActivity;
+		}
+		double min = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < size; i++) {
+			min = Math.min(min, getActivity(bodyToLiterals.get(bodyRepresentingAtom, i)));
+		}
+		return min;
 	}
 
 }
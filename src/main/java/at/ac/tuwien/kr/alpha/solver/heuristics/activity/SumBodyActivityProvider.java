@@ -25,19 +25,23 @@
  */
 package at.ac.tuwien.kr.alpha.solver.heuristics.activity;
 
-import org.apache.commons.collections4.MultiValuedMap;
+import at.ac.tuwien.kr.alpha.solver.heuristics.AtomAdjacencyLists;
 
-import java.util.Map;
+import java.util.function.IntToDoubleFunction;
 
 public class SumBodyActivityProvider extends BodyActivityProvider {
 
-	public SumBodyActivityProvider(MultiValuedMap<Integer, Integer> bodyToLiterals, Map<Integer, Double> activityCounters, double defaultActivity) {
-		super(bodyToLiterals, activityCounters, defaultActivity);
+	public SumBodyActivityProvider(AtomAdjacencyLists bodyToLiterals, IntToDoubleFunction atomActivity, double defaultActivity) {
+		super(bodyToLiterals, atomActivity, defaultActivity);
 	}
 
 	@Override
 	public double get(int bodyRepresentingAtom) {
-		return bodyToLiterals.get(bodyRepresentingAtom).stream().mapToDouble(this::getActivity).sum();
+		double sum = 0;
+		for (int i = 0; i < bodyToLiterals.size(bodyRepresentingAtom); i++) {
+			sum += getActivity(bodyToLiterals.get(bodyRepresentingAtom, i));
+		}
+		return sum;
 	}
 
 }
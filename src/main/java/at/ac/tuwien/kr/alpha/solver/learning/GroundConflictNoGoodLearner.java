@@ -32,6 +32,7 @@
 import at.ac.tuwien.kr.alpha.common.NoGood;
 import at.ac.tuwien.kr.alpha.solver.Antecedent;
 import at.ac.tuwien.kr.alpha.solver.TrailAssignment;
+import at.ac.tuwien.kr.alpha.solver.WatchedNoGood;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +54,7 @@ public class GroundConflictNoGoodLearner {
 
 	private final Assignment assignment;
 	private final AtomStore atomStore;
+	private final boolean recursiveMinimization;
 
 	/**
 	 * Given a conflicting NoGood, computes a conflict-free backjumping level such that the given NoGood is not
@@ -136,8 +138,16 @@ public String toString() {
 	}
 
 	public GroundConflictNoGoodLearner(Assignment assignment, AtomStore atomStore) {
+		this(assignment, atomStore, false);
+	}
+
+	/**
+	 * @param recursiveMinimization whether learned nogoods are minimized recursively, otherwise only locally.
+	 */
+	public GroundConflictNoGoodLearner(Assignment assignment, AtomStore atomStore, boolean recursiveMinimization) {
 		this.assignment = assignment;
 		this.atomStore = atomStore;
+		this.recursiveMinimization = recursiveMinimization;
 	}
 
 	public ConflictAnalysisResult analyzeConflictingNoGood(Antecedent violatedNoGood) {
@@ -198,6 +208,7 @@ private ConflictAnalysisResult analyzeTrailBased(Antecedent conflictReason) {
 		int[] currentConflictReason = conflictReason.getReasonLiterals();
 		int backjumpLevel = -1;
 		conflictReason.bumpActivity();
+		updateLBD(conflictReason);
 		TrailAssignment.TrailBackwardsWalker trailWalker = ((TrailAssignment)assignment).getTrailBackwardsWalker();
 		if (LOGGER.isTraceEnabled()) {
 			LOGGER.trace("Current trail is: {}", trailWalker);
@@ -242,6 +253,7 @@ private ConflictAnalysisResult analyzeTrailBased(Antecedent conflictReason) {
 			if (impliedBy != null) {
 				currentConflictReason = impliedBy.getReasonLiterals();
 				impliedBy.bumpActivity();
+				updateLBD(impliedBy);
 			}
 			processedAtoms.add(nextAtom);
 		} while (numLiteralsInConflictLevel-- > 1);
@@ -272,6 +284,12 @@ private ConflictAnalysisResult analyzeTrailBased(Antecedent conflictReason) {
 	private int[] minimizeLearnedLiterals(List<Integer> resolutionLiterals, Set<Integer> seenAtoms) {
 		int[] learnedLiterals = new int[resolutionLiterals.size()];
 		int i = 0;
+		Set<Integer> learnedDecisionLevels = recursiveMinimization ? new HashSet<>() : null;
+		if (recursiveMinimization) {
+			for (Integer resolutionLiteral : resolutionLiterals) {
+				learnedDecisionLevels.add(assignment.getWeakDecisionLevel(atomOf(resolutionLiteral)));
+			}
+		}
 		// Do local clause minimization: if an implied literal has all its antecedents seen (i.e., in the clause already), it can be removed.
 		learnedLiteralsLoop:
 		for (Integer resolutionLiteral : resolutionLiterals) {
@@ -283,6 +301,10 @@ private int[] minimizeLearnedLiterals(List<Integer> resolutionLiterals, Set<Inte
 			if (antecedent == null) {
 				// The resolutionLiteral is a decision, keep it.
 				learnedLiterals[i++] = resolutionLiteral;
+			} else if (recursiveMinimization) {
+				if (!isImpliedBySeenAtoms(antecedent, seenAtoms, learnedDecisionLevels)) {
+					learnedLiterals[i++] = resolutionLiteral;
+				}
 			} else {
 				for (int antecedentReasonLiteral : antecedent.getReasonLiterals()) {
 					// Only add current resolutionLiteral if at least one of its antecedents has not been seen already.
@@ -300,6 +322,55 @@ private int[] minimizeLearnedLiterals(List<Integer> resolutionLiterals, Set<Inte
 		return learnedLiterals;
 	}
 
+	/**
+	 * Recursive minimization (as in MiniSat): checks whether all reasons of the given antecedent are seen atoms, stem
+	 * from decision level 0, or are implied (transitively) by such atoms only. Atoms found to be implied this way are
+	 * marked as seen (which caches the result for subsequent checks), if the check fails, these marks are removed.
+	 *
+	 * Antecedents always stem from the weak assignment of an atom, hence reasons are assigned earlier on the trail
+	 * and the search cannot cycle. A reason whose (weak) decision level does not occur in the learned nogood cannot be
+	 * implied by it, so the check fails early. Due to out-of-order literals, the actual decision level of an atom may
+	 * be lower than its weak decision level, in which case the check fails although it might succeed; this is only
+	 * conservative, the resulting nogood is still correct.
+	 */
+	private boolean isImpliedBySeenAtoms(Antecedent antecedent, Set<Integer> seenAtoms, Set<Integer> learnedDecisionLevels) {
+		ArrayDeque<Antecedent> toCheck = new ArrayDeque<>();
+		List<Integer> newlySeenAtoms = new ArrayList<>();
+		toCheck.push(antecedent);
+		while (!toCheck.isEmpty()) {
+			for (int reasonLiteral : toCheck.pop().getReasonLiterals()) {
+				int reasonAtom = atomOf(reasonLiteral);
+				if (seenAtoms.contains(reasonAtom)) {
+					continue;
+				}
+				int reasonDecisionLevel = assignment.getWeakDecisionLevel(reasonAtom);
+				if (reasonDecisionLevel == 0) {
+					continue;
+				}
+				Antecedent reasonAntecedent = assignment.getImpliedBy(reasonAtom);
+				if (reasonAntecedent == null || !learnedDecisionLevels.contains(reasonDecisionLevel)) {
+					// The reason is a decision not in the learned nogood or cannot be implied by the learned nogood.
+					seenAtoms.removeAll(newlySeenAtoms);
+					return false;
+				}
+				seenAtoms.add(reasonAtom);
+				newlySeenAtoms.add(reasonAtom);
+				toCheck.push(reasonAntecedent);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Re-computes the LBD of a learned nogood taking part in conflict analysis, allowing it to be promoted to a better
+	 * tier of the learned nogood deletion.
+	 */
+	private void updateLBD(Antecedent antecedent) {
+		if (antecedent instanceof WatchedNoGood && ((WatchedNoGood) antecedent).isCandidateForPromotion()) {
+			((WatchedNoGood) antecedent).improveLBD(computeLBD(antecedent.getReasonLiterals()));
+		}
+	}
+
 	private int computeLBD(int[] literals) {
 		HashSet<Integer> occurringDecisionLevels = new HashSet<>();
 		for (int literal : literals) {
@@ -0,0 +1,70 @@
+package at.ac.tuwien.kr.alpha.solver.restarts;
+
+/**
+ * Restarts in the style of Glucose: if the average LBD of the most recently learned nogoods is significantly worse
+ * than the average LBD of all learned nogoods, the solver is considered to be stuck in a bad part of the search space.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class DynamicLbdRestartStrategy implements RestartStrategy {
+	public static final int DEFAULT_WINDOW_SIZE = 50;
+	public static final double DEFAULT_MARGIN = 0.8;
+
+	private final int[] recentLbds;
+	private final double margin;
+	private int numRecentLbds;
+	private int nextRecentLbdPosition;
+	private long recentLbdSum;
+	private long totalLbdSum;
+	private long totalLbdCount;
+
+	/**
+	 * @param windowSize the number of most recent LBDs to consider.
+	 * @param margin     restart if the recent average times the margin exceeds the total average.
+	 */
+	public DynamicLbdRestartStrategy(int windowSize, double margin) {
+		if (windowSize <= 0) {
+			throw new IllegalArgumentException("Window size of dynamic LBD restarts must be positive, but is: " + windowSize);
+		}
+		this.recentLbds = new int[windowSize];
+		this.margin = margin;
+	}
+
+	public DynamicLbdRestartStrategy() {
+		this(DEFAULT_WINDOW_SIZE, DEFAULT_MARGIN);
+	}
+
+	@Override
+	public void newConflict(int lbd) {
+		if (lbd <= 0 || lbd == Integer.MAX_VALUE) {
+			// Conflicts without a meaningful LBD do not influence the averages.
+			return;
+		}
+		totalLbdSum += lbd;
+		totalLbdCount++;
+		if (numRecentLbds == recentLbds.length) {
+			recentLbdSum -= recentLbds[nextRecentLbdPosition];
+		} else {
+			numRecentLbds++;
+		}
+		recentLbds[nextRecentLbdPosition] = lbd;
+		recentLbdSum += lbd;
+		nextRecentLbdPosition = (nextRecentLbdPosition + 1) % recentLbds.length;
+	}
+
+	@Override
+	public boolean shouldRestart() {
+		if (numRecentLbds < recentLbds.length) {
+			return false;
+		}
+		// Compare recentLbdSum / windowSize * margin > totalLbdSum / totalLbdCount without divisions.
+		return recentLbdSum * margin * totalLbdCount > (double) totalLbdSum * recentLbds.length;
+	}
+
+	@Override
+	public void restarted() {
+		numRecentLbds = 0;
+		nextRecentLbdPosition = 0;
+		recentLbdSum = 0;
+	}
+}
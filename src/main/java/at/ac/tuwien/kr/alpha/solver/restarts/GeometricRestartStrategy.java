@@ -0,0 +1,43 @@
+package at.ac.tuwien.kr.alpha.solver.restarts;
+
+/**
+ * Restarts after a number of conflicts that grows geometrically with every restart.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class GeometricRestartStrategy implements RestartStrategy {
+	public static final int DEFAULT_FIRST_LIMIT = 100;
+	public static final double DEFAULT_GROWTH_FACTOR = 1.5;
+
+	private final double growthFactor;
+	private double conflictLimit;
+	private int conflicts;
+
+	public GeometricRestartStrategy(int firstLimit, double growthFactor) {
+		if (firstLimit <= 0 || growthFactor < 1) {
+			throw new IllegalArgumentException("Geometric restarts require a positive first limit and a growth factor of at least 1.");
+		}
+		this.conflictLimit = firstLimit;
+		this.growthFactor = growthFactor;
+	}
+
+	public GeometricRestartStrategy() {
+		this(DEFAULT_FIRST_LIMIT, DEFAULT_GROWTH_FACTOR);
+	}
+
+	@Override
+	public void newConflict(int lbd) {
+		conflicts++;
+	}
+
+	@Override
+	public boolean shouldRestart() {
+		return conflicts >= conflictLimit;
+	}
+
+	@Override
+	public void restarted() {
+		conflicts = 0;
+		conflictLimit *= growthFactor;
+	}
+}
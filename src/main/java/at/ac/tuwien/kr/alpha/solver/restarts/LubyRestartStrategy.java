@@ -0,0 +1,65 @@
+package at.ac.tuwien.kr.alpha.solver.restarts;
+
+/**
+ * Restarts after a number of conflicts given by the Luby sequence (1, 1, 2, 1, 1, 2, 4, 1, ...) times a unit.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class LubyRestartStrategy implements RestartStrategy {
+	public static final int DEFAULT_UNIT = 32;
+
+	private final int unit;
+	private int restarts;
+	private int conflicts;
+	private long conflictLimit;
+
+	public LubyRestartStrategy(int unit) {
+		if (unit <= 0) {
+			throw new IllegalArgumentException("Unit of Luby restarts must be positive, but is: " + unit);
+		}
+		this.unit = unit;
+		this.conflictLimit = unit * luby(0);
+	}
+
+	public LubyRestartStrategy() {
+		this(DEFAULT_UNIT);
+	}
+
+	/**
+	 * Computes the element at the given (0-based) index of the Luby sequence.
+	 */
+	static long luby(int index) {
+		// Find the finite subsequence 1, 1, 2, ..., 2^(k-1) of length 2^k - 1 that contains the index.
+		long size = 1;
+		int exponent = 0;
+		while (size < index + 1) {
+			exponent++;
+			size = 2 * size + 1;
+		}
+		// Descend into the repeated prefix until the index hits the last element of a subsequence.
+		long position = index;
+		while (size - 1 != position) {
+			size = (size - 1) >> 1;
+			exponent--;
+			position = position % size;
+		}
+		return 1L << exponent;
+	}
+
+	@Override
+	public void newConflict(int lbd) {
+		conflicts++;
+	}
+
+	@Override
+	public boolean shouldRestart() {
+		return conflicts >= conflictLimit;
+	}
+
+	@Override
+	public void restarted() {
+		restarts++;
+		conflicts = 0;
+		conflictLimit = unit * luby(restarts);
+	}
+}
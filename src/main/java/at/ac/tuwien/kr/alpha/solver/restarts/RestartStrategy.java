@@ -0,0 +1,27 @@
+package at.ac.tuwien.kr.alpha.solver.restarts;
+
+/**
+ * Decides when the solver restarts its search, i.e., backjumps to decision level 0 while keeping all learned nogoods
+ * and the activities of the branching heuristic.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public interface RestartStrategy {
+
+	/**
+	 * Informs the strategy about a conflict.
+	 * @param lbd the LBD of the nogood learned from the conflict, or {@link at.ac.tuwien.kr.alpha.solver.NoGoodStore#LBD_NO_VALUE}
+	 *            if none was learned.
+	 */
+	void newConflict(int lbd);
+
+	/**
+	 * @return true iff the solver should restart now.
+	 */
+	boolean shouldRestart();
+
+	/**
+	 * Informs the strategy that the solver restarted.
+	 */
+	void restarted();
+}
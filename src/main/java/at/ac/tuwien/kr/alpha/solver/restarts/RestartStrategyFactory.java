@@ -0,0 +1,44 @@
+package at.ac.tuwien.kr.alpha.solver.restarts;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public final class RestartStrategyFactory {
+
+	/**
+	 * The available restart strategies.
+	 */
+	public enum Strategy {
+		NONE,
+		LUBY,
+		GEOMETRIC,
+		DYNAMIC_LBD;
+
+		/**
+		 * @return a comma-separated list of names of known restart strategies
+		 */
+		public static String listAllowedValues() {
+			return Arrays.stream(values()).map(Strategy::toString).collect(Collectors.joining(", "));
+		}
+	}
+
+	/**
+	 * @return the restart strategy, or null if restarts are disabled.
+	 */
+	public static RestartStrategy getInstance(Strategy strategy) {
+		switch (strategy) {
+		case NONE:
+			return null;
+		case LUBY:
+			return new LubyRestartStrategy();
+		case GEOMETRIC:
+			return new GeometricRestartStrategy();
+		case DYNAMIC_LBD:
+			return new DynamicLbdRestartStrategy();
+		}
+		throw new IllegalArgumentException("Unknown restart strategy requested.");
+	}
+}
@@ -50,7 +50,8 @@ public static Iterable<? extends String[][]> data() {
 				new String[][][] {{{"-DebugEnableInternalChecks", "-g", "naive", "-s", "default", "-e", "1119654162577372", "-n", "20", "-str", INPUT }},
 						{{"-DebugEnableInternalChecks", "-g", "naive", "-s", "default", "-n", "0", "-str", INPUT }},
 						{{"-DebugEnableInternalChecks", "-g", "naive", "-s", "default", "-n", "1", "-str", INPUT }},
-						{{"-g", "naive", "-s", "default", "-r", "naive", "-e", "1119654162577372", "--numAS", "1", "-str", INPUT }}});
+						{{"-g", "naive", "-s", "default", "-r", "naive", "-e", "1119654162577372", "--numAS", "1", "-str", INPUT }},
+						{{"-g", "naive", "-s", "parallel", "-ew", "2", "-st", "-str", INPUT }}});
 	}
 
 	@Parameter
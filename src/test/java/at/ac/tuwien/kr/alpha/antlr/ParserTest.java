@@ -54,11 +54,13 @@
 import at.ac.tuwien.kr.alpha.common.atoms.Literal;
 import at.ac.tuwien.kr.alpha.common.program.InputProgram;
 import at.ac.tuwien.kr.alpha.common.rule.head.ChoiceHead;
+import at.ac.tuwien.kr.alpha.common.rule.head.NormalHead;
 import at.ac.tuwien.kr.alpha.common.terms.ConstantTerm;
 import at.ac.tuwien.kr.alpha.common.terms.FunctionTerm;
 import at.ac.tuwien.kr.alpha.common.terms.IntervalTerm;
 import at.ac.tuwien.kr.alpha.common.terms.Term;
 import at.ac.tuwien.kr.alpha.common.terms.VariableTerm;
+import at.ac.tuwien.kr.alpha.grounder.atoms.WeakConstraintAtom;
 import at.ac.tuwien.kr.alpha.grounder.parser.InlineDirectives;
 import at.ac.tuwien.kr.alpha.grounder.parser.ProgramParser;
 
@@ -212,6 +214,23 @@ public void cardinalityAggregate() throws IOException {
 		assertEquals(expectedAggregate, parsedAggregate.getAtom());
 	}
 
+	@Test
+	public void parseWeakConstraint() throws IOException {
+		InputProgram parsedProgram = parser.parse("p(1). :~ p(X). [X@2, X, a] :~ . [3]");
+
+		assertEquals(1, parsedProgram.getRules().size());
+		Atom head = ((NormalHead) parsedProgram.getRules().get(0).getHead()).getAtom();
+		assertEquals(new WeakConstraintAtom(VariableTerm.getInstance("X"), ConstantTerm.getInstance(2),
+				Arrays.asList(VariableTerm.getInstance("X"), ConstantTerm.getSymbolicInstance("a"))), head);
+		assertEquals(new WeakConstraintAtom(ConstantTerm.getInstance(3), ConstantTerm.getInstance(0), Collections.emptyList()),
+				parsedProgram.getFacts().get(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parseWeakConstraintWithNegativeWeight() throws IOException {
+		parser.parse("p(1). :~ p(X). [-1@1, X]");
+	}
+
 	@Test
 	public void stringWithEscapedQuotes() throws IOException {
 		CharStream stream = CharStreams.fromStream(ParserTest.class.getResourceAsStream("/escaped_quotes.asp"));
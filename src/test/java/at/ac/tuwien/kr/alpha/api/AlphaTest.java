@@ -31,6 +31,7 @@
 import at.ac.tuwien.kr.alpha.api.externals.Externals;
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
 import at.ac.tuwien.kr.alpha.common.AnswerSetBuilder;
+import at.ac.tuwien.kr.alpha.common.BasicAnswerSet;
 import at.ac.tuwien.kr.alpha.common.Predicate;
 import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
 import at.ac.tuwien.kr.alpha.common.atoms.ExternalAtom;
@@ -45,12 +46,18 @@
 import at.ac.tuwien.kr.alpha.config.InputConfig;
 import at.ac.tuwien.kr.alpha.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.grounder.parser.InlineDirectives;
+import at.ac.tuwien.kr.alpha.solver.Solver;
+import at.ac.tuwien.kr.alpha.solver.SolverMaintainingStatistics;
+import at.ac.tuwien.kr.alpha.solver.heuristics.PhaseSavingHeuristic;
+import at.ac.tuwien.kr.alpha.solver.restarts.RestartStrategyFactory;
 import at.ac.tuwien.kr.alpha.test.util.TestUtils;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -66,8 +73,14 @@
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class AlphaTest {
+	private static final String QUEENS = "dom(1..6). q(X,Y) :- dom(X), dom(Y), not nq(X,Y). nq(X,Y) :- dom(X), dom(Y), not q(X,Y)." +
+		"hasq(X) :- q(X,Y). :- dom(X), not hasq(X)." +
+		":- q(X,Y1), q(X,Y2), Y1 < Y2. :- q(X1,Y), q(X2,Y), X1 < X2." +
+		":- q(X1,Y1), q(X2,Y2), X1 < X2, X2 - X1 = Y2 - Y1. :- q(X1,Y1), q(X2,Y2), X1 < X2, X2 - X1 = Y1 - Y2.";
+
 	private static int invocations;
 
 	@at.ac.tuwien.kr.alpha.api.externals.Predicate
@@ -497,6 +510,106 @@ public void problematicRun_3col_1119718541727902_sorted_400() throws IOException
 		assertFalse(system.solve(prog).sorted().limit(400).collect(Collectors.toList()).isEmpty());
 	}
 
+	@Test
+	public void projectedEnumerationReportsEachProjectionOnce() {
+		final String program = "dom(1..3). { h(X) } :- dom(X). shown :- h(X). hidden(X) :- h(X).";
+		SystemConfig cfg = new SystemConfig();
+		cfg.setProjectedEnumeration(true);
+		Alpha system = new Alpha(cfg);
+		java.util.function.Predicate<Predicate> filter = p -> p.getName().equals("shown");
+		List<AnswerSet> actual = system.solve(system.readProgramString(program), filter).collect(Collectors.toList());
+		assertEquals(2, actual.size());
+		Set<AnswerSet> expected = new HashSet<>(asList(BasicAnswerSet.EMPTY, new AnswerSetBuilder().predicate("shown").build()));
+		assertEquals(expected, new HashSet<>(actual));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void projectedEnumerationRequiresFilter() {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setProjectedEnumeration(true);
+		Alpha system = new Alpha(cfg);
+		system.solve(system.readProgramString("{ h }. shown :- h.")).count();
+	}
+
+	@Test
+	public void restartsKeepAllAnswerSets() {
+		for (RestartStrategyFactory.Strategy strategy : RestartStrategyFactory.Strategy.values()) {
+			SystemConfig cfg = new SystemConfig();
+			cfg.setRestartStrategy(strategy);
+			cfg.setSeed(0);
+			Alpha system = new Alpha(cfg);
+			Solver solver = system.prepareSolverFor(system.performProgramPreprocessing(InternalProgram.fromNormalProgram(
+				system.normalizeProgram(system.readProgramString(QUEENS)))), InputConfig.DEFAULT_FILTER);
+			assertEquals(strategy.name(), 4, solver.collectSet().size());
+			if (strategy == RestartStrategyFactory.Strategy.LUBY) {
+				assertTrue(((SolverMaintainingStatistics) solver).getNumberOfRestarts() > 0);
+			}
+		}
+	}
+
+	@Test
+	public void phaseSavingKeepsAllAnswerSets() {
+		for (PhaseSavingHeuristic.Mode mode : PhaseSavingHeuristic.Mode.values()) {
+			SystemConfig cfg = new SystemConfig();
+			cfg.setPhaseSaving(mode);
+			cfg.setRephaseInterval(20);
+			cfg.setRestartStrategy(RestartStrategyFactory.Strategy.LUBY);
+			cfg.setSeed(0);
+			Alpha system = new Alpha(cfg);
+			Set<AnswerSet> answerSets = system.solve(system.readProgramString(QUEENS)).collect(Collectors.toSet());
+			assertEquals(mode.name(), 4, answerSets.size());
+		}
+	}
+
+	/**
+	 * Verifies that reading several files (which are parsed in parallel) yields the same program as parsing them one
+	 * after another, in particular that rules and facts keep the order in which the files are given.
+	 */
+	@Test
+	public void readProgramFilesKeepsFileOrder() throws IOException {
+		final Path encoding = Paths.get("src", "test", "resources", "HanoiTower_Alpha.asp");
+		final Path instance = Paths.get("src", "test", "resources", "HanoiTower_instances", "simple.asp");
+		Alpha system = new Alpha();
+		InputProgram parsedTogether = system.readProgramFiles(false, null, encoding, instance);
+		InputProgram expected = InputProgram.builder()
+				.accumulate(system.readProgramFiles(false, null, encoding))
+				.accumulate(system.readProgramFiles(false, null, instance))
+				.build();
+		assertEquals(expected.getRules(), parsedTogether.getRules());
+		assertEquals(expected.getFacts(), parsedTogether.getFacts());
+	}
+
+	/**
+	 * Verifies that anonymous variables are numbered in the order in which files are given, although the files are
+	 * parsed in parallel.
+	 */
+	@Test
+	public void readProgramFilesNumbersAnonymousVariablesInFileOrder() throws IOException {
+		Path tmpDir = Files.createTempDirectory("alpha-test-anonymous-variables");
+		Path[] files = new Path[8];
+		try {
+			for (int i = 0; i < files.length; i++) {
+				files[i] = Files.write(tmpDir.resolve("p" + i + ".asp"), ("p" + i + "(X) :- q(X, _).").getBytes(StandardCharsets.UTF_8));
+			}
+			List<BasicRule> rules = new Alpha().readProgramFiles(false, null, files).getRules();
+			int previousId = -1;
+			for (int i = 0; i < files.length; i++) {
+				String rule = rules.get(i).toString();
+				assertTrue(rule, rule.startsWith("p" + i + "("));
+				int id = Integer.parseInt(rule.replaceAll(".*_(\\d+).*", "$1"));
+				assertTrue(rule, id > previousId);
+				previousId = id;
+			}
+		} finally {
+			for (Path file : files) {
+				if (file != null) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(tmpDir);
+		}
+	}
+
 	private void problematicRun(String program, long seed, int limit) throws IOException {
 		final Path base = Paths.get("src", "test", "resources", "PreviouslyProblematic");
 		SystemConfig cfg = new SystemConfig();
@@ -2,6 +2,9 @@
 
 import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
 import at.ac.tuwien.kr.alpha.common.terms.ConstantTerm;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * Copyright (c) 2018, the Alpha Team.
@@ -14,4 +17,24 @@ public static void fillAtomStore(AtomStore atomStore, int numberOfAtomsToFill) {
 			atomStore.putIfAbsent(new BasicAtom(predA, ConstantTerm.getInstance(i)));
 		}
 	}
+
+	@Test
+	public void looksUpAtomsWhileAtomsAreAdded() throws InterruptedException {
+		final int numberOfAtoms = 100_000;
+		AtomStore atomStore = new AtomStoreImpl();
+		Thread writer = new Thread(() -> fillAtomStore(atomStore, numberOfAtoms));
+		writer.start();
+		int maxAtomId = 0;
+		while (maxAtomId < numberOfAtoms) {
+			maxAtomId = atomStore.getMaxAtomId();
+			if (maxAtomId > 0) {
+				// Atom ids are handed out from 1 on, in the order in which fillAtomStore adds atoms.
+				assertEquals("a(" + (maxAtomId - 1) + ")", atomStore.get(maxAtomId).toString());
+			}
+		}
+		writer.join();
+		for (int atomId = 1; atomId <= numberOfAtoms; atomId++) {
+			assertEquals(atomId, atomStore.get(atomStore.get(atomId)));
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package at.ac.tuwien.kr.alpha.common;
+
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
+import at.ac.tuwien.kr.alpha.common.terms.ConstantTerm;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class LazyAnswerSetTest {
+	private final Predicate p = Predicate.getInstance("p", 1);
+	private final Predicate q = Predicate.getInstance("q", 1);
+	private final Predicate fact = Predicate.getInstance("fact", 1);
+
+	private final AtomStore atomStore = new AtomStoreImpl();
+	private final Atom p1 = new BasicAtom(p, ConstantTerm.getInstance(1));
+	private final Atom p2 = new BasicAtom(p, ConstantTerm.getInstance(2));
+	private final Atom q1 = new BasicAtom(q, ConstantTerm.getInstance(1));
+	private final Atom fact1 = new BasicAtom(fact, ConstantTerm.getInstance(1));
+
+	private Map<Predicate, SortedSet<Atom>> factInstances() {
+		Map<Predicate, SortedSet<Atom>> factInstances = new HashMap<>();
+		factInstances.put(fact, Collections.unmodifiableSortedSet(new TreeSet<>(Collections.singleton(fact1))));
+		return factInstances;
+	}
+
+	@Test
+	public void equalsBasicAnswerSetOfSameContents() {
+		int[] trueAtoms = new int[] {atomStore.putIfAbsent(p2), atomStore.putIfAbsent(q1), atomStore.putIfAbsent(p1), 0};
+		AnswerSet lazy = new LazyAnswerSet(trueAtoms, 3, atomStore, pred -> true, factInstances());
+
+		AnswerSet basic = new AnswerSetBuilder()
+			.predicate("p").instance(1).instance(2)
+			.predicate("q").instance(1)
+			.predicate("fact").instance(1)
+			.build();
+
+		assertEquals(basic, lazy);
+		assertEquals(lazy, basic);
+		assertEquals(basic.hashCode(), lazy.hashCode());
+		assertEquals(0, lazy.compareTo(basic));
+		assertEquals(basic.toString(), lazy.toString());
+	}
+
+	@Test
+	public void resolvesOnlyUnfilteredPredicates() {
+		int[] trueAtoms = new int[] {atomStore.putIfAbsent(p1), atomStore.putIfAbsent(q1)};
+		AnswerSet lazy = new LazyAnswerSet(trueAtoms, trueAtoms.length, atomStore, pred -> !pred.equals(q), factInstances());
+
+		assertEquals(new TreeSet<>(asList(fact, p)), lazy.getPredicates());
+		assertEquals(new TreeSet<>(Collections.singleton(p1)), lazy.getPredicateInstances(p));
+		assertEquals(new TreeSet<>(Collections.singleton(fact1)), lazy.getPredicateInstances(fact));
+		assertNull(lazy.getPredicateInstances(q));
+		assertNotEquals(new AnswerSetBuilder().predicate("p").instance(1).build(), lazy);
+	}
+
+	@Test
+	public void emptyWithoutTrueAtomsAndFacts() {
+		AnswerSet lazy = new LazyAnswerSet(new int[0], 0, atomStore, pred -> true, Collections.emptyMap());
+		assertTrue(lazy.isEmpty());
+		assertEquals(BasicAnswerSet.EMPTY, lazy);
+		assertEquals("{}", lazy.toString());
+	}
+}
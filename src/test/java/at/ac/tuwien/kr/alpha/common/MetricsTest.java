@@ -0,0 +1,94 @@
+package at.ac.tuwien.kr.alpha.common;
+
+import at.ac.tuwien.kr.alpha.api.Alpha;
+import at.ac.tuwien.kr.alpha.common.program.InternalProgram;
+import at.ac.tuwien.kr.alpha.config.SystemConfig;
+import at.ac.tuwien.kr.alpha.solver.Solver;
+import org.junit.Test;
+
+import static at.ac.tuwien.kr.alpha.common.Metrics.Phase.ANSWER_SET_TRANSLATION;
+import static at.ac.tuwien.kr.alpha.common.Metrics.Phase.BOOTSTRAP_GROUNDING;
+import static at.ac.tuwien.kr.alpha.common.Metrics.Phase.NORMALIZE;
+import static at.ac.tuwien.kr.alpha.common.Metrics.Phase.PARSE;
+import static at.ac.tuwien.kr.alpha.common.Metrics.Phase.PROPAGATION;
+import static at.ac.tuwien.kr.alpha.common.Metrics.Phase.STRATIFIED_EVALUATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link Metrics}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class MetricsTest {
+
+	@Test
+	public void countsNestedCallsOnce() {
+		Metrics metrics = new Metrics(true);
+		metrics.begin(PARSE);
+		metrics.begin(PARSE);
+		metrics.end(PARSE);
+		assertEquals(0, metrics.getCalls(PARSE));
+		metrics.end(PARSE);
+		assertEquals(1, metrics.getCalls(PARSE));
+		assertTrue(metrics.getWallTimeNanos(PARSE) >= 0);
+		assertEquals(0, metrics.getCalls(NORMALIZE));
+	}
+
+	@Test
+	public void recordsNothingIfDisabled() {
+		Metrics metrics = new Metrics(false);
+		metrics.begin(PARSE);
+		metrics.end(PARSE);
+		assertEquals(0, metrics.getCalls(PARSE));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsEndWithoutBegin() {
+		new Metrics(true).end(PROPAGATION);
+	}
+
+	@Test
+	public void addsUpMetrics() {
+		Metrics first = new Metrics(true);
+		first.begin(PROPAGATION);
+		first.end(PROPAGATION);
+		Metrics second = new Metrics(true);
+		second.begin(PROPAGATION);
+		second.end(PROPAGATION);
+		Metrics sum = new Metrics(false);
+		sum.addAll(first);
+		sum.addAll(second);
+		assertEquals(2, sum.getCalls(PROPAGATION));
+		assertEquals(first.getWallTimeNanos(PROPAGATION) + second.getWallTimeNanos(PROPAGATION), sum.getWallTimeNanos(PROPAGATION));
+	}
+
+	@Test
+	public void exportsAllPhasesAsJson() {
+		Metrics metrics = new Metrics(true);
+		metrics.begin(NORMALIZE);
+		metrics.end(NORMALIZE);
+		String json = metrics.toJson();
+		for (Metrics.Phase phase : Metrics.Phase.values()) {
+			assertTrue(json.contains("\"" + phase.getName() + "\": {\"calls\": " + metrics.getCalls(phase) + ", "));
+		}
+		assertTrue(json.contains("\"normalize\": {\"calls\": 1, "));
+	}
+
+	@Test
+	public void recordsPhasesOfSolving() {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setCollectMetrics(true);
+		Alpha alpha = new Alpha(cfg);
+		Solver solver = alpha.prepareSolverFor(alpha.performProgramPreprocessing(InternalProgram.fromNormalProgram(
+			alpha.normalizeProgram(alpha.readProgramString("p(1). q(X) :- p(X). a :- not b. b :- not a.")))), p -> true);
+		assertEquals(2, solver.collectList().size());
+		assertEquals(1, alpha.getMetrics().getCalls(PARSE));
+		assertEquals(1, alpha.getMetrics().getCalls(NORMALIZE));
+		assertEquals(1, alpha.getMetrics().getCalls(STRATIFIED_EVALUATION));
+		assertEquals(1, solver.getMetrics().getCalls(BOOTSTRAP_GROUNDING));
+		assertTrue(solver.getMetrics().getCalls(PROPAGATION) > 0);
+		assertEquals(2, solver.getMetrics().getCalls(ANSWER_SET_TRANSLATION));
+	}
+
+}
@@ -0,0 +1,33 @@
+package at.ac.tuwien.kr.alpha.common.jfr;
+
+import at.ac.tuwien.kr.alpha.api.Alpha;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests {@link FlightRecorderEvents} without a recording, on any JVM. Recorded events are tested by
+ * {@code FlightRecordingTest} in the source set {@code src/jfrTest}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class FlightRecorderEventsTest {
+
+	@Test
+	public void beginsNoEventsWithoutRecording() {
+		assertNull(FlightRecorderEvents.beginGroundingRound());
+		assertNull(FlightRecorderEvents.beginNoGoodDeletion());
+		assertNull(FlightRecorderEvents.beginJustification());
+	}
+
+	@Test
+	public void ignoresEventsNotBegun() {
+		FlightRecorderEvents.endGroundingRound(null, false, 0);
+		FlightRecorderEvents.endNoGoodDeletion(null, 0, 0, 0, 0);
+		FlightRecorderEvents.endJustification(null, 0, 0);
+		// Solving passes events not begun to every end method and commits events nobody records.
+		assertEquals(2, new Alpha().solve(new Alpha().readProgramString("a :- not b. b :- not a.")).count());
+	}
+
+}
@@ -27,6 +27,8 @@
  */
 package at.ac.tuwien.kr.alpha.config;
 
+import at.ac.tuwien.kr.alpha.solver.heuristics.PhaseSavingHeuristic;
+import at.ac.tuwien.kr.alpha.solver.restarts.RestartStrategyFactory;
 import org.apache.commons.cli.ParseException;
 import org.junit.Assert;
 import org.junit.Test;
@@ -170,4 +172,73 @@ public void atomSeparator() throws ParseException {
 		assertEquals("some-string", cfg.getSystemConfig().getAtomSeparator());
 	}
 
+	@Test
+	public void countAnswerSets() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-cnt"});
+		assertTrue(cfg.getSystemConfig().isCountAnswerSets());
+	}
+
+	@Test
+	public void restartStrategy() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-rs", "dynamic-lbd"});
+		assertEquals(RestartStrategyFactory.Strategy.DYNAMIC_LBD, cfg.getSystemConfig().getRestartStrategy());
+	}
+
+	@Test
+	public void phaseSaving() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-ph", "target", "-rph", "100"});
+		assertEquals(PhaseSavingHeuristic.Mode.TARGET, cfg.getSystemConfig().getPhaseSaving());
+		assertEquals(100, cfg.getSystemConfig().getRephaseInterval());
+	}
+
+	@Test
+	public void portfolioWorkers() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-s", "portfolio", "-pw", "3", "-shs", "5", "-shl", "2"});
+		assertEquals("portfolio", cfg.getSystemConfig().getSolverName());
+		assertEquals(3, cfg.getSystemConfig().getPortfolioWorkers());
+		assertEquals(5, cfg.getSystemConfig().getSharedNoGoodMaxSize());
+		assertEquals(2, cfg.getSystemConfig().getSharedNoGoodMaxLbd());
+	}
+
+	@Test
+	public void enumerationWorkers() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-s", "parallel", "-ew", "6"});
+		assertEquals("parallel", cfg.getSystemConfig().getSolverName());
+		assertEquals(6, cfg.getSystemConfig().getEnumerationWorkers());
+	}
+
+	@Test
+	public void writeMetrics() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-wm", "out.json"});
+		assertTrue(cfg.getInputConfig().isWriteMetrics());
+		assertEquals("out.json", cfg.getInputConfig().getMetricsPath());
+		assertTrue(cfg.getSystemConfig().isCollectMetrics());
+	}
+
+	@Test
+	public void profileGrounding() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-pg"});
+		assertTrue(cfg.getSystemConfig().isProfileGrounding());
+	}
+
+	@Test
+	public void projectedEnumeration() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-proj", "-f", "a"});
+		assertTrue(cfg.getSystemConfig().isProjectedEnumeration());
+	}
+
+	@Test(expected = ParseException.class)
+	public void projectedEnumerationWithoutFilter() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		parser.parseCommandLine(new String[]{"-str", "aString.", "-proj"});
+	}
+
 }
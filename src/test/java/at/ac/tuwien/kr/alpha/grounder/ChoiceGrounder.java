@@ -29,12 +29,12 @@
 
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
 import at.ac.tuwien.kr.alpha.common.AnswerSetBuilder;
-import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
 import at.ac.tuwien.kr.alpha.common.BasicAnswerSet;
 import at.ac.tuwien.kr.alpha.common.IntIterator;
 import at.ac.tuwien.kr.alpha.common.NoGood;
 import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.TruthView;
 import at.ac.tuwien.kr.alpha.common.atoms.Atom;
 import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
 import at.ac.tuwien.kr.alpha.common.rule.BasicRule;
@@ -43,8 +43,6 @@
 import at.ac.tuwien.kr.alpha.common.rule.head.NormalHead;
 import at.ac.tuwien.kr.alpha.grounder.atoms.ChoiceAtom;
 import at.ac.tuwien.kr.alpha.grounder.atoms.RuleAtom;
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -102,14 +100,6 @@ public class ChoiceGrounder implements Grounder {
 		entry(CHOICE_DIS_BR1, headFirst(fromOldLiterals(-ATOM_DIS_BR1, ATOM_BB))),
 		entry(CHOICE_DIS_BR2, headFirst(fromOldLiterals(-ATOM_DIS_BR2, ATOM_AA)))
 	).collect(entriesToMap());
-	private static final Map<Integer, Integer> CHOICE_ENABLE = Stream.of(
-		entry(ATOM_BR1, ATOM_EN_BR1),
-		entry(ATOM_BR2, ATOM_EN_BR2)
-	).collect(entriesToMap());
-	private static final Map<Integer, Integer> CHOICE_DISABLE = Stream.of(
-		entry(ATOM_BR1, ATOM_DIS_BR1),
-		entry(ATOM_BR2, ATOM_DIS_BR2)
-	).collect(entriesToMap());
 	private static Atom atomAA = new BasicAtom(Predicate.getInstance("aa", 0));
 	private static Atom atomBB = new BasicAtom(Predicate.getInstance("bb", 0));
 	private static BasicRule ruleAA = new BasicRule(new NormalHead(atomAA), Collections.singletonList(new BasicAtom(Predicate.getInstance("bb", 0)).toLiteral(false)));
@@ -136,10 +126,10 @@ public ChoiceGrounder(AtomStore atomStore, java.util.function.Predicate<Predicat
 	}
 
 	@Override
-	public AnswerSet assignmentToAnswerSet(Iterable<Integer> trueAtoms) {
+	public AnswerSet assignmentToAnswerSet(IntIterator trueAtoms) {
 		SortedSet<Predicate> trueAtomPredicates = new TreeSet<>();
-		for (int trueAtom : trueAtoms) {
-			Predicate atomPredicate = atomStore.get(trueAtom).getPredicate();
+		while (trueAtoms.hasNext()) {
+			Predicate atomPredicate = atomStore.get(trueAtoms.next()).getPredicate();
 			if (!filter.test(atomPredicate)) {
 				continue;
 			}
@@ -162,30 +152,28 @@ public AnswerSet assignmentToAnswerSet(Iterable<Integer> trueAtoms) {
 	}
 
 	@Override
-	public Map<Integer, NoGood> getNoGoods(Assignment assignment) {
+	public NoGoodBatch getNoGoods(TruthView assignment) {
+		NoGoodBatch noGoods = new NoGoodBatch();
 		if (!returnedAllNogoods) {
 			returnedAllNogoods = true;
-			return NOGOODS;
-		} else {
-			return new HashMap<>();
+			for (Map.Entry<Integer, NoGood> noGood : NOGOODS.entrySet()) {
+				noGoods.add(noGood.getKey(), noGood.getValue());
+			}
 		}
+		return noGoods;
 	}
 	
 	private boolean isFirst = true;
 
 	@Override
-	public Pair<Map<Integer, Integer>, Map<Integer, Integer>> getChoiceAtoms() {
+	public ChoiceInformation getChoiceInformation() {
+		ChoiceInformation choiceInformation = new ChoiceInformation();
 		if (isFirst) {
 			isFirst = false;
-			return new ImmutablePair<>(CHOICE_ENABLE, CHOICE_DISABLE);
-		} else {
-			return new ImmutablePair<>(new HashMap<>(), new HashMap<>());
+			choiceInformation.addChoicePoint(ATOM_BR1, ATOM_EN_BR1, ATOM_DIS_BR1);
+			choiceInformation.addChoicePoint(ATOM_BR2, ATOM_EN_BR2, ATOM_DIS_BR2);
 		}
-	}
-	
-	@Override
-	public Map<Integer, Set<Integer>> getHeadsToBodies() {
-		return Collections.emptyMap();
+		return choiceInformation;
 	}
 
 	@Override
@@ -0,0 +1,58 @@
+package at.ac.tuwien.kr.alpha.grounder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link ChoiceInformation}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class ChoiceInformationTest {
+
+	@Test
+	public void keepsChoicePointsAndHeadsInInsertionOrder() {
+		ChoiceInformation choiceInformation = new ChoiceInformation();
+		assertTrue(choiceInformation.isEmpty());
+		for (int i = 1; i <= 20; i++) {
+			choiceInformation.addChoicePoint(3 * i, 3 * i + 1, 3 * i + 2);
+			choiceInformation.addHeadToBody(100 + i, 3 * i);
+		}
+		assertFalse(choiceInformation.isEmpty());
+		assertEquals(20, choiceInformation.getNumberOfChoicePoints());
+		assertEquals(20, choiceInformation.getNumberOfHeadsToBodies());
+		for (int i = 0; i < 20; i++) {
+			assertEquals(3 * (i + 1), choiceInformation.getChoiceAtom(i));
+			assertEquals(3 * (i + 1) + 1, choiceInformation.getEnabler(i));
+			assertEquals(3 * (i + 1) + 2, choiceInformation.getDisabler(i));
+			assertEquals(101 + i, choiceInformation.getHead(i));
+			assertEquals(3 * (i + 1), choiceInformation.getBody(i));
+		}
+	}
+
+	@Test
+	public void appendsOtherChoiceInformation() {
+		ChoiceInformation first = new ChoiceInformation();
+		first.addChoicePoint(1, 2, 3);
+		ChoiceInformation second = new ChoiceInformation();
+		second.addChoicePoint(4, 5, 6);
+		second.addHeadToBody(7, 4);
+		first.addAll(second);
+		assertEquals(2, first.getNumberOfChoicePoints());
+		assertEquals(4, first.getChoiceAtom(1));
+		assertEquals(6, first.getDisabler(1));
+		assertEquals(1, first.getNumberOfHeadsToBodies());
+		assertEquals(7, first.getHead(0));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void rejectsIndexBeyondSize() {
+		ChoiceInformation choiceInformation = new ChoiceInformation();
+		choiceInformation.addChoicePoint(1, 2, 3);
+		choiceInformation.getEnabler(1);
+	}
+
+}
@@ -29,12 +29,12 @@
 
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
 import at.ac.tuwien.kr.alpha.common.AnswerSetBuilder;
-import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
 import at.ac.tuwien.kr.alpha.common.BasicAnswerSet;
 import at.ac.tuwien.kr.alpha.common.IntIterator;
 import at.ac.tuwien.kr.alpha.common.NoGood;
 import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.TruthView;
 import at.ac.tuwien.kr.alpha.common.atoms.Atom;
 import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
 import at.ac.tuwien.kr.alpha.common.rule.BasicRule;
@@ -42,11 +42,8 @@
 import at.ac.tuwien.kr.alpha.common.rule.NormalRule;
 import at.ac.tuwien.kr.alpha.common.rule.head.NormalHead;
 import at.ac.tuwien.kr.alpha.grounder.atoms.RuleAtom;
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -123,13 +120,13 @@ public int register(NoGood noGood) {
 	}
 
 	@Override
-	public AnswerSet assignmentToAnswerSet(Iterable<Integer> trueAtoms) {
+	public AnswerSet assignmentToAnswerSet(IntIterator trueAtoms) {
 		// Note: This grounder only deals with 0-ary predicates, i.e., every atom is a predicate and there is
 		// 	 only one predicate instance representing 0 terms.
 
 		SortedSet<Predicate> trueAtomPredicates = new TreeSet<>();
-		for (int trueAtom : trueAtoms) {
-			Predicate atomPredicate = atomStore.get(trueAtom).getPredicate();
+		while (trueAtoms.hasNext()) {
+			Predicate atomPredicate = atomStore.get(trueAtoms.next()).getPredicate();
 			if (!filter.test(atomPredicate)) {
 				continue;
 			}
@@ -150,9 +147,9 @@ public AnswerSet assignmentToAnswerSet(Iterable<Integer> trueAtoms) {
 	}
 
 	@Override
-	public Map<Integer, NoGood> getNoGoods(Assignment assignment) {
+	public NoGoodBatch getNoGoods(TruthView assignment) {
 		// Return NoGoods depending on current assignment.
-		HashMap<Integer, NoGood> returnNoGoods = new HashMap<>();
+		NoGoodBatch returnNoGoods = new NoGoodBatch();
 		if (currentTruthValues[1] == 1 && currentTruthValues[2] == 1) {
 			addNoGoodIfNotAlreadyReturned(returnNoGoods, RULE_B);
 			addNoGoodIfNotAlreadyReturned(returnNoGoods, RULE_H);
@@ -164,13 +161,8 @@ public Map<Integer, NoGood> getNoGoods(Assignment assignment) {
 	}
 
 	@Override
-	public Pair<Map<Integer, Integer>, Map<Integer, Integer>> getChoiceAtoms() {
-		return new ImmutablePair<>(new HashMap<>(), new HashMap<>());
-	}
-	
-	@Override
-	public Map<Integer, Set<Integer>> getHeadsToBodies() {
-		return Collections.emptyMap();
+	public ChoiceInformation getChoiceInformation() {
+		return new ChoiceInformation();
 	}
 
 	@Override
@@ -180,9 +172,9 @@ public void updateAssignment(IntIterator it) {
 		}
 	}
 
-	private void addNoGoodIfNotAlreadyReturned(Map<Integer, NoGood> integerNoGoodMap, Integer idNoGood) {
+	private void addNoGoodIfNotAlreadyReturned(NoGoodBatch noGoodBatch, Integer idNoGood) {
 		if (!returnedNogoods.contains(idNoGood)) {
-			integerNoGoodMap.put(idNoGood, NOGOODS.get(idNoGood));
+			noGoodBatch.add(idNoGood, NOGOODS.get(idNoGood));
 			returnedNogoods.add(idNoGood);
 		}
 	}
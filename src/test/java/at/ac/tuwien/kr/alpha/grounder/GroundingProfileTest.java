@@ -0,0 +1,150 @@
+package at.ac.tuwien.kr.alpha.grounder;
+
+import at.ac.tuwien.kr.alpha.api.Alpha;
+import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.common.program.InternalProgram;
+import at.ac.tuwien.kr.alpha.common.rule.InternalRule;
+import at.ac.tuwien.kr.alpha.common.rule.SourcePosition;
+import at.ac.tuwien.kr.alpha.config.InputConfig;
+import at.ac.tuwien.kr.alpha.config.SystemConfig;
+import at.ac.tuwien.kr.alpha.grounder.heuristics.GrounderHeuristicsConfiguration;
+import at.ac.tuwien.kr.alpha.solver.Solver;
+import at.ac.tuwien.kr.alpha.solver.TrailAssignment;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link GroundingProfile}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class GroundingProfileTest {
+	private static final String PROGRAM = "p(1). p(2). p(3). r(1).\n"
+		+ "q(X, Y) :- p(X), p(Y), X < Y, not s(X).\n"
+		+ "  s(X) :- r(X).";
+
+	private static InternalProgram prepareProgram(Alpha alpha) {
+		return alpha.performProgramPreprocessing(InternalProgram.fromNormalProgram(alpha.normalizeProgram(alpha.readProgramString(PROGRAM))));
+	}
+
+	private static InternalRule findRule(GroundingProfile profile, String headPredicate) {
+		for (InternalRule rule : profile.getProfiledRules()) {
+			if (rule.getHeadAtom().getPredicate().getName().equals(headPredicate)) {
+				return rule;
+			}
+		}
+		throw new AssertionError("Rule for " + headPredicate + " was not profiled.");
+	}
+
+	private static GroundingProfile groundWithProfiling() {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setEvaluateStratifiedPart(false);
+		AtomStore atomStore = new AtomStoreImpl();
+		Grounder grounder = GrounderFactory.getInstance("naive", prepareProgram(new Alpha(cfg)), atomStore, InputConfig.DEFAULT_FILTER,
+			new GrounderHeuristicsConfiguration(), true, true);
+		grounder.getNoGoods(new TrailAssignment(atomStore));
+		return grounder.getGroundingProfile();
+	}
+
+	@Test
+	public void countsPerRuleAndGroundingOrder() {
+		GroundingProfile profile = groundWithProfiling();
+		InternalRule rule = findRule(profile, "q");
+		// Grounding starts from p(X) and from p(Y), each once for every instance of p.
+		assertEquals(2, profile.getCountersByGroundingOrder(rule).size());
+		for (GroundingProfile.Counters counters : profile.getCountersByGroundingOrder(rule).values()) {
+			assertEquals(3, counters.getInstantiations());
+			assertEquals(3, counters.getSubstitutionsProduced());
+			assertTrue(counters.getSubstitutionsTried() >= 9);
+		}
+		GroundingProfile.Counters total = profile.getCounters(rule);
+		assertEquals(6, total.getInstantiations());
+		assertEquals(6, total.getSubstitutionsProduced());
+		// Nogoods are counted whenever a ground instance is found, including ones known already: each of the 3 ground
+		// instances is found from both grounding orders and yields 3 nogoods each time.
+		assertEquals(18, total.getNoGoodsGenerated());
+	}
+
+	@Test
+	public void ranksRulesAndPrintsReport() {
+		GroundingProfile profile = groundWithProfiling();
+		InternalRule first = profile.getRankedRules().get(0);
+		for (InternalRule rule : profile.getRankedRules()) {
+			assertTrue(profile.getCounters(first).getBindingNanos() >= profile.getCounters(rule).getBindingNanos());
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		profile.printReport(new PrintStream(out));
+		String report = out.toString();
+		assertTrue(report.contains("   1. rule " + first.getRuleId() + " at " + first.getSourcePosition() + ": " + first));
+		assertTrue(report.contains("starting from p(X): "));
+		InternalRule rule = findRule(profile, "q");
+		assertTrue(report.contains("rule " + rule.getRuleId() + " at 2:1: " + rule));
+	}
+
+	@Test
+	public void recordsSourcePositionsOfRules() {
+		GroundingProfile profile = groundWithProfiling();
+		SourcePosition positionOfQ = findRule(profile, "q").getSourcePosition();
+		assertEquals(2, positionOfQ.getLine());
+		assertEquals(1, positionOfQ.getColumn());
+		assertNull(positionOfQ.getSourceName());
+		SourcePosition positionOfS = findRule(profile, "s").getSourcePosition();
+		assertEquals(3, positionOfS.getLine());
+		assertEquals(3, positionOfS.getColumn());
+	}
+
+	@Test
+	public void keepsSourcePositionsThroughNormalization() {
+		Alpha alpha = new Alpha();
+		InternalProgram program = InternalProgram.fromNormalProgram(alpha.normalizeProgram(alpha.readProgramString(
+			"dom(1..2).\n{ a(X) } :- dom(X).\n:- 2 <= #count { X : a(X) }.")));
+		Set<Integer> lines = new HashSet<>();
+		for (InternalRule rule : program.getRules()) {
+			// Rules of the encoding added for the aggregate stem from no rule of the input.
+			if (rule.getSourcePosition() != null) {
+				lines.add(rule.getSourcePosition().getLine());
+			}
+		}
+		assertEquals(new HashSet<>(Arrays.asList(2, 3)), lines);
+	}
+
+	@Test
+	public void addsUpProfiles() {
+		GroundingProfile first = groundWithProfiling();
+		GroundingProfile sum = new GroundingProfile();
+		sum.addAll(first);
+		sum.addAll(first);
+		InternalRule rule = findRule(first, "q");
+		assertEquals(2 * first.getCounters(rule).getSubstitutionsTried(), sum.getCounters(rule).getSubstitutionsTried());
+		assertEquals(2 * first.getCounters(rule).getNoGoodsGenerated(), sum.getCounters(rule).getNoGoodsGenerated());
+	}
+
+	@Test
+	public void profilesSolvingOnlyIfEnabled() {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setEvaluateStratifiedPart(false);
+		Alpha alpha = new Alpha(cfg);
+		Solver solver = alpha.prepareSolverFor(prepareProgram(alpha), p -> true);
+		assertEquals(1, solver.collectList().size());
+		assertTrue(solver.getGroundingProfile().isEmpty());
+
+		cfg.setProfileGrounding(true);
+		alpha = new Alpha(cfg);
+		solver = alpha.prepareSolverFor(prepareProgram(alpha), p -> true);
+		assertEquals(1, solver.collectList().size());
+		assertFalse(solver.getGroundingProfile().isEmpty());
+		assertEquals(6, solver.getGroundingProfile().getCounters(findRule(solver.getGroundingProfile(), "q")).getSubstitutionsProduced());
+	}
+
+}
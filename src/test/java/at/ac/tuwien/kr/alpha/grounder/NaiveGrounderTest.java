@@ -26,11 +26,11 @@
 package at.ac.tuwien.kr.alpha.grounder;
 
 import at.ac.tuwien.kr.alpha.api.Alpha;
-import at.ac.tuwien.kr.alpha.common.Assignment;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
 import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
 import at.ac.tuwien.kr.alpha.common.Literals;
 import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.common.TruthView;
 import at.ac.tuwien.kr.alpha.common.atoms.Literal;
 import at.ac.tuwien.kr.alpha.common.program.InputProgram;
 import at.ac.tuwien.kr.alpha.common.program.InternalProgram;
@@ -51,7 +51,6 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import static at.ac.tuwien.kr.alpha.TestUtil.atom;
 import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.TRUE;
@@ -98,11 +97,11 @@ public void groundRuleAlreadyGround() {
 		
 		AtomStore atomStore = new AtomStoreImpl();
 		Grounder grounder = GrounderFactory.getInstance("naive", prog, atomStore, true);
-		Map<Integer, NoGood> noGoods = grounder.getNoGoods(new TrailAssignment(atomStore));
+		NoGoodBatch noGoods = grounder.getNoGoods(new TrailAssignment(atomStore));
 		int litCNeg = Literals.atomToLiteral(atomStore.get(PROGRAM_PART_PARSER.parseBasicAtom("c")), false);
 		int litB = Literals.atomToLiteral(atomStore.get(PROGRAM_PART_PARSER.parseBasicAtom("b")));
-		assertExistsNoGoodContaining(noGoods.values(), litCNeg);
-		assertExistsNoGoodContaining(noGoods.values(), litB);
+		assertExistsNoGoodContaining(noGoods.getNoGoods(), litCNeg);
+		assertExistsNoGoodContaining(noGoods.getNoGoods(), litB);
 	}
 
 	/**
@@ -121,15 +120,15 @@ public void groundRuleWithLongerBodyAlreadyGround() {
 		
 		AtomStore atomStore = new AtomStoreImpl();
 		Grounder grounder = GrounderFactory.getInstance("naive", prog, atomStore, true);
-		Map<Integer, NoGood> noGoods = grounder.getNoGoods(new TrailAssignment(atomStore));
+		NoGoodBatch noGoods = grounder.getNoGoods(new TrailAssignment(atomStore));
 		int litANeg = Literals.atomToLiteral(atomStore.get(PROGRAM_PART_PARSER.parseBasicAtom("a")), false);
 		int litBNeg = Literals.atomToLiteral(atomStore.get(PROGRAM_PART_PARSER.parseBasicAtom("b")), false);
 		int litCNeg = Literals.atomToLiteral(atomStore.get(PROGRAM_PART_PARSER.parseBasicAtom("c")), false);
 		int litDNeg = Literals.atomToLiteral(atomStore.get(PROGRAM_PART_PARSER.parseBasicAtom("d")), false);
-		assertExistsNoGoodContaining(noGoods.values(), litANeg);
-		assertExistsNoGoodContaining(noGoods.values(), litBNeg);
-		assertExistsNoGoodContaining(noGoods.values(), litCNeg);
-		assertExistsNoGoodContaining(noGoods.values(), litDNeg);
+		assertExistsNoGoodContaining(noGoods.getNoGoods(), litANeg);
+		assertExistsNoGoodContaining(noGoods.getNoGoods(), litBNeg);
+		assertExistsNoGoodContaining(noGoods.getNoGoods(), litCNeg);
+		assertExistsNoGoodContaining(noGoods.getNoGoods(), litDNeg);
 	}
 
 	/**
@@ -147,9 +146,9 @@ public void groundConstraintAlreadyGround() {
 		
 		AtomStore atomStore = new AtomStoreImpl();
 		Grounder grounder = GrounderFactory.getInstance("naive", prog, atomStore, true);
-		Map<Integer, NoGood> noGoods = grounder.getNoGoods(new TrailAssignment(atomStore));
+		NoGoodBatch noGoods = grounder.getNoGoods(new TrailAssignment(atomStore));
 		int litB = Literals.atomToLiteral(atomStore.get(PROGRAM_PART_PARSER.parseBasicAtom("b")));
-		assertTrue(noGoods.containsValue(NoGood.fromConstraint(Collections.singletonList(litB), Collections.emptyList())));
+		assertTrue(noGoods.getNoGoods().contains(NoGood.fromConstraint(Collections.singletonList(litB), Collections.emptyList())));
 	}
 
 	@Test
@@ -181,7 +180,7 @@ public void noDeadEndWithPermissiveGrounderHeuristicForQ1() {
 	}
 
 	/**
-	 * Tests the method {@link NaiveGrounder#getGroundInstantiations(InternalRule, RuleGroundingOrder, Substitution, Assignment)} on a predefined program:
+	 * Tests the method {@link NaiveGrounder#getGroundInstantiations(InternalRule, RuleGroundingOrder, Substitution, TruthView)} on a predefined program:
 	 * <code>
 	 *  p1(1). q1(1). <br/>
 	 * 	x :- p1(X), p2(X), q1(Y), q2(Y). <br/>
@@ -263,7 +262,7 @@ public void testGroundingOfRuleNotSwitchedOffByFalseNegativeBody() {
 	}
 
 	/**
-	 * Tests if {@link NaiveGrounder#getGroundInstantiations(InternalRule, RuleGroundingOrder, Substitution, Assignment)}
+	 * Tests if {@link NaiveGrounder#getGroundInstantiations(InternalRule, RuleGroundingOrder, Substitution, TruthView)}
 	 * produces ground instantiations for the rule with ID {@code ruleID} in {@code program} when {@code startingLiteral}
 	 * unified with the numeric instance {@code startingInstance} is used as starting literal and {@code b(1)} is assigned
 	 * {@code bTruth}.
@@ -357,7 +356,7 @@ private void testPermissiveGrounderHeuristicTolerance(InputProgram program, int
 	}
 
 	/**
-	 * Tests if {@link NaiveGrounder#getGroundInstantiations(InternalRule, RuleGroundingOrder, Substitution, Assignment)}
+	 * Tests if {@link NaiveGrounder#getGroundInstantiations(InternalRule, RuleGroundingOrder, Substitution, TruthView)}
 	 * produces ground instantiations for the rule with ID {@code ruleID} in {@code program} when {@code startingLiteral}
 	 * unified with the numeric instance {@code startingInstance} is used as starting literal and the following
 	 * additional conditions are established:
@@ -0,0 +1,60 @@
+package at.ac.tuwien.kr.alpha.grounder;
+
+import at.ac.tuwien.kr.alpha.common.NoGood;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link NoGoodBatch}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class NoGoodBatchTest {
+
+	@Test
+	public void keepsNoGoodsInInsertionOrder() {
+		NoGoodBatch batch = new NoGoodBatch();
+		assertTrue(batch.isEmpty());
+		NoGood[] noGoods = new NoGood[20];
+		for (int i = 0; i < 20; i++) {
+			noGoods[i] = new NoGood(2 * (i + 1));
+			batch.add(100 - i, noGoods[i]);
+		}
+		assertFalse(batch.isEmpty());
+		assertEquals(20, batch.size());
+		for (int i = 0; i < 20; i++) {
+			assertEquals(100 - i, batch.getId(i));
+			assertSame(noGoods[i], batch.getNoGood(i));
+		}
+		assertEquals(Arrays.asList(noGoods), batch.getNoGoods());
+	}
+
+	@Test
+	public void appendsOtherBatch() {
+		NoGood first = new NoGood(2);
+		NoGood second = new NoGood(4);
+		NoGoodBatch batch = new NoGoodBatch();
+		batch.add(1, first);
+		NoGoodBatch other = new NoGoodBatch();
+		other.add(7, second);
+		batch.addAll(other);
+		assertEquals(2, batch.size());
+		assertEquals(7, batch.getId(1));
+		assertSame(second, batch.getNoGood(1));
+		assertEquals(Arrays.asList(first, second), batch.getNoGoods());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void rejectsIndexBeyondSize() {
+		NoGoodBatch batch = new NoGoodBatch();
+		batch.add(1, new NoGood(2));
+		batch.getId(1);
+	}
+
+}
@@ -49,6 +49,7 @@
 import java.util.Set;
 
 import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertNotEquals;
 
 /**
@@ -215,4 +216,40 @@ public void justifyNegatedFactsRemovedFromReasons() {
 			assertNotEquals(literal.getPredicate(), Predicate.getInstance("forbidden", 2));
 		}
 	}
+
+	@Test
+	public void justifyConsidersOnlyAtomsAssignedInCurrentAssignment() {
+		Alpha system = new Alpha();
+		String program = "p(X) :- q(X)." +
+			"q(X) :- p(X)." +
+			"q(5) :- r." +
+			"r :- not nr." +
+			"nr :- not r." +
+			":- not p(5).";
+		InputProgram parsedProgram = parser.parse(program);
+		NormalProgram normal = system.normalizeProgram(parsedProgram);
+		InternalProgram internalProgram = InternalProgram.fromNormalProgram(normal);
+		AtomStore atomStore = new AtomStoreImpl();
+		NaiveGrounder grounder = new NaiveGrounder(internalProgram, atomStore, true);
+		grounder.getNoGoods(null);
+		TrailAssignment assignment = new TrailAssignment(atomStore);
+		BasicAtom nr = new BasicAtom(Predicate.getInstance("nr", 0));
+		int rId = atomStore.get(new BasicAtom(Predicate.getInstance("r", 0)));
+		int nrId = atomStore.get(nr);
+		BasicAtom p5 = new BasicAtom(Predicate.getInstance("p", 1), Collections.singletonList(ConstantTerm.getInstance(5)));
+		int p5Id = atomStore.get(p5);
+		assignment.growForMaxAtomId();
+		assignment.choose(nrId, ThriceTruth.TRUE);
+		assignment.assign(rId, ThriceTruth.FALSE);
+		assignment.assign(p5Id, ThriceTruth.MBT);
+		assertTrue(grounder.justifyAtom(p5Id, assignment).contains(nr.toLiteral()));
+
+		// Justifying again in the same assignment reuses previous results.
+		assertTrue(grounder.justifyAtom(p5Id, assignment).contains(nr.toLiteral()));
+
+		// After backtracking, nr is no longer assigned and hence no reason.
+		assignment.backtrack();
+		assignment.assign(p5Id, ThriceTruth.MBT);
+		assertFalse(grounder.justifyAtom(p5Id, assignment).contains(nr.toLiteral()));
+	}
 }
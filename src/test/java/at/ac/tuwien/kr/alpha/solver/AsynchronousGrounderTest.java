@@ -0,0 +1,78 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.api.Alpha;
+import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.common.program.InternalProgram;
+import at.ac.tuwien.kr.alpha.config.InputConfig;
+import at.ac.tuwien.kr.alpha.config.SystemConfig;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link AsynchronousGrounder}, i.e., that the default solver finds the same answer sets when grounding on a
+ * separate thread.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class AsynchronousGrounderTest {
+	private static final String QUEENS = "dom(1..6). q(X,Y) :- dom(X), dom(Y), not nq(X,Y). nq(X,Y) :- dom(X), dom(Y), not q(X,Y)." +
+		"hasq(X) :- q(X,Y). :- dom(X), not hasq(X)." +
+		":- q(X,Y1), q(X,Y2), Y1 < Y2. :- q(X1,Y), q(X2,Y), X1 < X2." +
+		":- q(X1,Y1), q(X2,Y2), X1 < X2, X2 - X1 = Y2 - Y1. :- q(X1,Y1), q(X2,Y2), X1 < X2, X2 - X1 = Y1 - Y2.";
+
+	private static Solver prepareSolver(String program, boolean asyncGrounding, boolean disableJustificationSearch) {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setAsyncGrounding(asyncGrounding);
+		cfg.setDisableJustificationSearch(disableJustificationSearch);
+		cfg.setSeed(0);
+		Alpha system = new Alpha(cfg);
+		return system.prepareSolverFor(system.performProgramPreprocessing(InternalProgram.fromNormalProgram(
+			system.normalizeProgram(system.readProgramString(program)))), InputConfig.DEFAULT_FILTER);
+	}
+
+	private static void assertSameAnswerSets(String program, int expectedNumberOfAnswerSets) {
+		for (boolean disableJustificationSearch : new boolean[] {false, true}) {
+			Set<AnswerSet> expected = prepareSolver(program, false, disableJustificationSearch).collectSet();
+			assertEquals(expectedNumberOfAnswerSets, expected.size());
+			assertEquals(expected, prepareSolver(program, true, disableJustificationSearch).collectSet());
+		}
+	}
+
+	@Test
+	public void enumeratesSameAnswerSetsAsSynchronousGrounding() {
+		assertSameAnswerSets(QUEENS, 4);
+	}
+
+	@Test
+	public void enumeratesSameAnswerSetsWithMustBeTrueAtoms() {
+		// Atoms p(X) are derived MBT from the constraint and must be justified or backtracked.
+		assertSameAnswerSets("dom(1..4). p(X) :- dom(X), q(X). q(X) :- dom(X), not r(X). r(X) :- dom(X), not q(X)." +
+			"s(X) :- p(X), not t(X). t(X) :- dom(X), not s(X). :- dom(X), X < 3, not p(X).", 36);
+	}
+
+	@Test
+	public void reportsUnsatisfiability() {
+		// Pigeon hole problem with five pigeons and four holes.
+		Solver solver = prepareSolver("p(1..5). h(1..4). in(P,H) :- p(P), h(H), not out(P,H). out(P,H) :- p(P), h(H), not in(P,H)." +
+			"placed(P) :- in(P,H). :- p(P), not placed(P). :- in(P,H1), in(P,H2), H1 != H2. :- in(P1,H), in(P2,H), P1 != P2.",
+			true, false);
+		assertTrue(solver.collectSet().isEmpty());
+	}
+
+	@Test
+	public void countsAnswerSets() {
+		assertEquals(4, prepareSolver(QUEENS, true, false).countAnswerSets(0));
+		assertEquals(3, prepareSolver(QUEENS, true, false).countAnswerSets(3));
+	}
+
+	@Test
+	public void groundsSynchronouslyForWeakConstraints() {
+		String program = "a :- not b. b :- not a. :~ a. [1@1] :~ b. [2@1]";
+		assertEquals(prepareSolver(program, false, false).collectList(), prepareSolver(program, true, false).collectList());
+	}
+
+}
@@ -66,7 +66,7 @@ public void setUp() {
 	@Test
 	public void testIsAtomChoice() {
 		Collection<NoGood> noGoods = getNoGoods();
-		choiceManager.addChoiceInformation(grounder.getChoiceAtoms(), grounder.getHeadsToBodies());
+		choiceManager.addChoiceInformation(grounder.getChoiceInformation());
 		for (NoGood noGood : noGoods) {
 			for (Integer literal : noGood) {
 				int atom = atomOf(literal);
@@ -79,6 +79,6 @@ public void testIsAtomChoice() {
 	}
 
 	private Collection<NoGood> getNoGoods() {
-		return grounder.getNoGoods(null).values();
+		return grounder.getNoGoods(null).getNoGoods();
 	}
 }
@@ -85,8 +85,8 @@ public void testDeletionRemovingWatches() {
 		assertFalse(learnedNoGoodDeletion.needToRunNoGoodDeletion());
 		learnedNoGoodDeletion.increaseConflictCounter();
 		assertTrue(learnedNoGoodDeletion.needToRunNoGoodDeletion());
-		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), 3));
-		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), 4));
+		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD + 1));
+		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD + 2));
 		List<WatchedNoGood> watchedNoGoods = learnedNoGoodDeletion.inspectLearnedNoGoods();
 		assertTrue(watchedNoGoods.size() >= 2);
 		WatchedNoGood watchedNoGood = watchedNoGoods.get(0);
@@ -106,8 +106,8 @@ public void testDeletionIncreasesDeletionCounter() {
 		assertFalse(learnedNoGoodDeletion.needToRunNoGoodDeletion());
 		learnedNoGoodDeletion.increaseConflictCounter();
 		assertTrue(learnedNoGoodDeletion.needToRunNoGoodDeletion());
-		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), 3));
-		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), 4));
+		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD + 1));
+		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD + 2));
 		assertEquals(0, learnedNoGoodDeletion.getNumberOfDeletedNoGoods());
 		learnedNoGoodDeletion.runNoGoodDeletion();
 		assertTrue(learnedNoGoodDeletion.getNumberOfDeletedNoGoods() > 0);
@@ -121,8 +121,8 @@ public void testDeletionReducesNumberOfLearntNoGoods() {
 		assertFalse(learnedNoGoodDeletion.needToRunNoGoodDeletion());
 		learnedNoGoodDeletion.increaseConflictCounter();
 		assertTrue(learnedNoGoodDeletion.needToRunNoGoodDeletion());
-		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), 3));
-		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), 4));
+		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD + 1));
+		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD + 2));
 
 		final Map<Type, Integer> countersBeforeDeletion = countNoGoodsByType(store);
 		learnedNoGoodDeletion.runNoGoodDeletion();
@@ -138,6 +138,46 @@ public void testDeletionReducesNumberOfLearntNoGoods() {
 
 	}
 
+	@Test
+	public void testLearnedNoGoodsAreSortedIntoTiersByLbd() {
+		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), LearnedNoGoodDeletion.CORE_TIER_MAX_LBD));
+		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD));
+		assertNull(store.add(6, NoGood.learnt(fromOldLiterals(10, 15, 16)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD + 1));
+		assertEquals(1, learnedNoGoodDeletion.getCoreTierSize());
+		assertEquals(1, learnedNoGoodDeletion.getMidTierSize());
+		assertEquals(1, learnedNoGoodDeletion.getLocalTierSize());
+	}
+
+	@Test
+	public void testNoGoodWithImprovedLbdIsPromotedAndKept() {
+		for (int i = 0; i <= LearnedNoGoodDeletion.RUN_AFTER_AT_LEAST; i++) {
+			learnedNoGoodDeletion.increaseConflictCounter();
+		}
+		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD + 1));
+		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD + 1));
+		WatchedNoGood improvedNoGood = learnedNoGoodDeletion.inspectLearnedNoGoods().get(0);
+		improvedNoGood.improveLBD(LearnedNoGoodDeletion.CORE_TIER_MAX_LBD);
+		learnedNoGoodDeletion.runNoGoodDeletion();
+		assertEquals(1, learnedNoGoodDeletion.getCoreTierSize());
+		assertEquals(1, learnedNoGoodDeletion.getLocalTierSize());
+		assertSame(improvedNoGood, learnedNoGoodDeletion.inspectLearnedNoGoods().get(0));
+	}
+
+	@Test
+	public void testMidTierReductionDemotesUnusedNoGoods() {
+		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD));
+		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), LearnedNoGoodDeletion.MID_TIER_MAX_LBD));
+		learnedNoGoodDeletion.inspectLearnedNoGoods().get(0).bumpActivity();
+		for (int i = 0; i < LearnedNoGoodDeletion.MID_TIER_REDUCTION_INTERVAL; i++) {
+			learnedNoGoodDeletion.increaseConflictCounter();
+		}
+		assertTrue(learnedNoGoodDeletion.needToRunNoGoodDeletion());
+		learnedNoGoodDeletion.runNoGoodDeletion();
+		assertEquals(1, learnedNoGoodDeletion.getMidTierSize());
+		// The demoted NoGood may be deleted by the local tier reduction running at the same time.
+		assertEquals(1, learnedNoGoodDeletion.getLocalTierSize() + learnedNoGoodDeletion.getNumberOfDeletedNoGoods());
+	}
+
 	private Map<Type, Integer> countNoGoodsByType(NoGoodStore store) {
 		final Map<Type, Integer> counters = new HashMap<>();
 		final NoGoodCounter noGoodCounter = store.getNoGoodCounter();
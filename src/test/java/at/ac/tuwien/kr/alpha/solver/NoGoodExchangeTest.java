@@ -0,0 +1,104 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.atoms.Atom;
+import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
+import at.ac.tuwien.kr.alpha.common.terms.ConstantTerm;
+import at.ac.tuwien.kr.alpha.grounder.atoms.ChoiceAtom;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static at.ac.tuwien.kr.alpha.common.Literals.atomToLiteral;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link NoGoodExchange}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class NoGoodExchangeTest {
+	private static final Predicate P = Predicate.getInstance("p", 1);
+
+	private AtomStore atomStore0;
+	private AtomStore atomStore1;
+	private NoGoodExchange.Endpoint endpoint0;
+	private NoGoodExchange.Endpoint endpoint1;
+	private final List<NoGood> importedNoGoods = new ArrayList<>();
+	private final List<Integer> importedLbds = new ArrayList<>();
+
+	private static Atom p(int i) {
+		return new BasicAtom(P, ConstantTerm.getInstance(i));
+	}
+
+	@Before
+	public void setUp() {
+		atomStore0 = new AtomStoreImpl();
+		atomStore1 = new AtomStoreImpl();
+		// Both workers know the same atoms, but with different ids.
+		for (int i = 1; i <= 3; i++) {
+			atomStore0.putIfAbsent(p(i));
+		}
+		for (int i = 3; i >= 1; i--) {
+			atomStore1.putIfAbsent(p(i));
+		}
+		NoGoodExchange exchange = new NoGoodExchange(2, 3, 2);
+		endpoint0 = exchange.getEndpoint(0, atomStore0);
+		endpoint1 = exchange.getEndpoint(1, atomStore1);
+	}
+
+	private boolean collect(NoGood noGood, int lbd) {
+		importedNoGoods.add(noGood);
+		importedLbds.add(lbd);
+		return true;
+	}
+
+	@Test
+	public void translatesAtomIds() {
+		NoGood learned = NoGood.learnt(atomToLiteral(atomStore0.get(p(1)), true), atomToLiteral(atomStore0.get(p(2)), false));
+		assertTrue(endpoint0.export(learned, 2));
+		assertTrue(endpoint1.importNoGoods(this::collect));
+
+		NoGood expected = NoGood.learnt(atomToLiteral(atomStore1.get(p(1)), true), atomToLiteral(atomStore1.get(p(2)), false));
+		assertEquals(1, importedNoGoods.size());
+		assertEquals(expected, importedNoGoods.get(0));
+		assertEquals(2, (int) importedLbds.get(0));
+
+		// Nogoods are not delivered to their exporter.
+		importedNoGoods.clear();
+		assertTrue(endpoint0.importNoGoods(this::collect));
+		assertTrue(importedNoGoods.isEmpty());
+	}
+
+	@Test
+	public void respectsThresholds() {
+		int[] literals = {atomToLiteral(atomStore0.get(p(1))), atomToLiteral(atomStore0.get(p(2))), atomToLiteral(atomStore0.get(p(3)))};
+		assertFalse(endpoint0.export(NoGood.learnt(literals), 3));
+		assertTrue(endpoint0.export(NoGood.learnt(literals), 2));
+		int unknownAtom = atomStore0.putIfAbsent(p(4));
+		assertFalse(endpoint0.export(NoGood.learnt(atomToLiteral(unknownAtom), literals[0], literals[1], literals[2]), 1));
+		assertEquals(1, endpoint0.getNumberOfExportedNoGoods());
+	}
+
+	@Test
+	public void dropsNoGoodsOverUnknownAtoms() {
+		int unknownAtom = atomStore0.putIfAbsent(p(4));
+		assertTrue(endpoint0.export(NoGood.learnt(atomToLiteral(unknownAtom), atomToLiteral(atomStore0.get(p(1)))), 1));
+		assertTrue(endpoint1.importNoGoods(this::collect));
+		assertTrue(importedNoGoods.isEmpty());
+		assertEquals(1, endpoint1.getNumberOfDroppedNoGoods());
+	}
+
+	@Test
+	public void doesNotShareNoGoodsOverChoiceAtoms() {
+		int choiceAtom = atomStore0.putIfAbsent(ChoiceAtom.on(1));
+		assertFalse(endpoint0.export(NoGood.learnt(atomToLiteral(choiceAtom), atomToLiteral(atomStore0.get(p(1)))), 1));
+	}
+}
@@ -612,4 +612,29 @@ public void alphaWatchNotIgnored() {
 		assertNull(store.propagate());
 		assertEquals(TRUE, assignment.getTruth(1));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void propagationCompleteAfterSkippingNoGoodSatisfiedByBlocker() {
+		assertNull(store.add(1, new NoGood(fromOldLiterals(1, 2, 3, 4))));
+		// Satisfy the nogood by a literal that is not watched initially, then assign all others.
+		assertNull(assignment.choose(4, FALSE));
+		assertNull(store.propagate());
+		assertNull(assignment.choose(1, TRUE));
+		assertNull(store.propagate());
+		assertNull(assignment.choose(2, TRUE));
+		assertNull(store.propagate());
+		assertNull(assignment.choose(3, TRUE));
+		assertNull(store.propagate());
+		for (int i = 0; i < 4; i++) {
+			store.backtrack();
+		}
+		// Without the satisfying literal the nogood must propagate again.
+		assertNull(assignment.choose(3, TRUE));
+		assertNull(store.propagate());
+		assertNull(assignment.choose(2, TRUE));
+		assertNull(store.propagate());
+		assertNull(assignment.choose(1, TRUE));
+		assertNull(store.propagate());
+		assertEquals(FALSE, assignment.getTruth(4));
+	}
+}
@@ -0,0 +1,120 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.api.Alpha;
+import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.common.NoGoodInterface;
+import at.ac.tuwien.kr.alpha.common.program.InternalProgram;
+import at.ac.tuwien.kr.alpha.config.InputConfig;
+import at.ac.tuwien.kr.alpha.config.SystemConfig;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link ParallelEnumerationSolver}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class ParallelEnumerationSolverTest {
+	private static final String QUEENS = "dom(1..6). q(X,Y) :- dom(X), dom(Y), not nq(X,Y). nq(X,Y) :- dom(X), dom(Y), not q(X,Y)." +
+		"hasq(X) :- q(X,Y). :- dom(X), not hasq(X)." +
+		":- q(X,Y1), q(X,Y2), Y1 < Y2. :- q(X1,Y), q(X2,Y), X1 < X2." +
+		":- q(X1,Y1), q(X2,Y2), X1 < X2, X2 - X1 = Y2 - Y1. :- q(X1,Y1), q(X2,Y2), X1 < X2, X2 - X1 = Y1 - Y2.";
+
+	private static final String SUBSETS = "dom(1..7). in(X) :- dom(X), not out(X). out(X) :- dom(X), not in(X)." +
+		":- in(X), in(Y), X + 1 = Y.";
+
+	private static Solver prepareSolver(String program, String solverName, int workers) {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setSolverName(solverName);
+		cfg.setEnumerationWorkers(workers);
+		cfg.setSeed(0);
+		Alpha system = new Alpha(cfg);
+		return system.prepareSolverFor(system.performProgramPreprocessing(InternalProgram.fromNormalProgram(
+			system.normalizeProgram(system.readProgramString(program)))), InputConfig.DEFAULT_FILTER);
+	}
+
+	private static void assertSameAnswerSetsAsDefaultSolver(String program, int workers) {
+		Solver parallel = prepareSolver(program, SolverFactory.PARALLEL_SOLVER_NAME, workers);
+		assertTrue(parallel instanceof ParallelEnumerationSolver);
+		Set<AnswerSet> expected = prepareSolver(program, SystemConfig.DEFAULT_SOLVER_NAME, 1).collectSet();
+		List<AnswerSet> actual = parallel.collectList();
+		// Cubes are disjoint, hence no answer set is reported twice.
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected, new HashSet<>(actual));
+	}
+
+	@Test
+	public void enumeratesQueens() {
+		assertSameAnswerSetsAsDefaultSolver(QUEENS, 4);
+	}
+
+	@Test
+	public void enumeratesIndependentSets() {
+		// Independent sets of a path with seven nodes.
+		assertSameAnswerSetsAsDefaultSolver(SUBSETS, 3);
+		assertEquals(34, prepareSolver(SUBSETS, SolverFactory.PARALLEL_SOLVER_NAME, 3).countAnswerSets(0));
+	}
+
+	@Test
+	public void enumeratesWithSingleWorker() {
+		assertSameAnswerSetsAsDefaultSolver(SUBSETS, 1);
+	}
+
+	@Test
+	public void enumeratesProgramWithoutChoices() {
+		assertSameAnswerSetsAsDefaultSolver("a. b :- a. c :- b, not d.", 4);
+	}
+
+	@Test
+	public void reportsUnsatisfiability() {
+		assertTrue(prepareSolver("a :- not b. b :- not a. :- a. :- b.", SolverFactory.PARALLEL_SOLVER_NAME, 4).collectSet().isEmpty());
+		assertTrue(prepareSolver("a. :- a.", SolverFactory.PARALLEL_SOLVER_NAME, 4).collectSet().isEmpty());
+	}
+
+	@Test
+	public void stopsWorkersWhenClosed() throws InterruptedException {
+		// More answer sets than fit into the queue of results, such that workers block unless they are stopped.
+		Solver parallel = prepareSolver("dom(1..12). in(X) :- dom(X), not out(X). out(X) :- dom(X), not in(X).",
+			SolverFactory.PARALLEL_SOLVER_NAME, 4);
+		try (Stream<AnswerSet> answerSets = parallel.stream()) {
+			assertTrue(answerSets.findFirst().isPresent());
+		}
+		assertTrue(((ParallelEnumerationSolver) parallel).awaitTermination(10_000));
+		assertFalse(parallel.spliterator().tryAdvance(answerSet -> { }));
+	}
+
+	@Test
+	public void countsUpToLimit() throws InterruptedException {
+		Solver parallel = prepareSolver("dom(1..12). in(X) :- dom(X), not out(X). out(X) :- dom(X), not in(X).",
+			SolverFactory.PARALLEL_SOLVER_NAME, 4);
+		assertEquals(5, parallel.countAnswerSets(5));
+		assertTrue(((ParallelEnumerationSolver) parallel).awaitTermination(10_000));
+	}
+
+	@Test
+	public void sumsStatisticsOfAllSolvers() {
+		Solver parallel = prepareSolver(SUBSETS, SolverFactory.PARALLEL_SOLVER_NAME, 3);
+		assertEquals(34, parallel.collectList().size());
+		SolverMaintainingStatistics statistics = (SolverMaintainingStatistics) parallel;
+		// Three workers split the search space over five atoms into 32 cubes. Each cube is solved by its own solver,
+		// which calls the grounder at least once, as does the solver splitting the search space.
+		assertTrue(statistics.getNumberOfGrounderRoundTrips() >= 33);
+		assertTrue(statistics.getNoGoodCounter().getNumberOfNoGoods(NoGoodInterface.Type.STATIC) > 0);
+		assertTrue(statistics.getStatisticsString().startsWith("g="));
+	}
+
+	@Test
+	public void optimizesSequentially() {
+		List<AnswerSet> answerSets = prepareSolver("a :- not b. b :- not a. :~ a. [2] :~ b. [1]", SolverFactory.PARALLEL_SOLVER_NAME, 4)
+			.collectList();
+		assertEquals("{ b }", answerSets.get(answerSets.size() - 1).toString());
+	}
+}
@@ -0,0 +1,86 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.api.Alpha;
+import at.ac.tuwien.kr.alpha.common.AnswerSet;
+import at.ac.tuwien.kr.alpha.common.program.InternalProgram;
+import at.ac.tuwien.kr.alpha.config.InputConfig;
+import at.ac.tuwien.kr.alpha.config.SystemConfig;
+import at.ac.tuwien.kr.alpha.grounder.heuristics.GrounderHeuristicsConfiguration;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link PortfolioSolver}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class PortfolioSolverTest {
+	private static final String QUEENS = "dom(1..6). q(X,Y) :- dom(X), dom(Y), not nq(X,Y). nq(X,Y) :- dom(X), dom(Y), not q(X,Y)." +
+		"hasq(X) :- q(X,Y). :- dom(X), not hasq(X)." +
+		":- q(X,Y1), q(X,Y2), Y1 < Y2. :- q(X1,Y), q(X2,Y), X1 < X2." +
+		":- q(X1,Y1), q(X2,Y2), X1 < X2, X2 - X1 = Y2 - Y1. :- q(X1,Y1), q(X2,Y2), X1 < X2, X2 - X1 = Y1 - Y2.";
+
+	private static Solver prepareSolver(String program, String solverName) {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setSolverName(solverName);
+		cfg.setPortfolioWorkers(4);
+		cfg.setSeed(0);
+		Alpha system = new Alpha(cfg);
+		return system.prepareSolverFor(system.performProgramPreprocessing(InternalProgram.fromNormalProgram(
+			system.normalizeProgram(system.readProgramString(program)))), InputConfig.DEFAULT_FILTER);
+	}
+
+	@Test
+	public void enumeratesSameAnswerSetsAsDefaultSolver() {
+		Solver portfolio = prepareSolver(QUEENS, SolverFactory.PORTFOLIO_SOLVER_NAME);
+		assertTrue(portfolio instanceof PortfolioSolver);
+		Set<AnswerSet> expected = prepareSolver(QUEENS, SystemConfig.DEFAULT_SOLVER_NAME).collectSet();
+		assertEquals(4, expected.size());
+		assertEquals(expected, portfolio.collectSet());
+	}
+
+	@Test
+	public void reportsUnsatisfiability() {
+		Solver portfolio = prepareSolver("a :- not b. b :- not a. :- a. :- b.", SolverFactory.PORTFOLIO_SOLVER_NAME);
+		assertTrue(portfolio.collectSet().isEmpty());
+	}
+
+	@Test
+	public void sharesNoGoodsOnUnsatisfiableProgram() {
+		// Pigeon hole problem with six pigeons and five holes.
+		Solver portfolio = prepareSolver("p(1..6). h(1..5). in(P,H) :- p(P), h(H), not out(P,H). out(P,H) :- p(P), h(H), not in(P,H)." +
+			"placed(P) :- in(P,H). :- p(P), not placed(P). :- in(P,H1), in(P,H2), H1 != H2. :- in(P1,H), in(P2,H), P1 != P2.",
+			SolverFactory.PORTFOLIO_SOLVER_NAME);
+		assertTrue(portfolio.collectSet().isEmpty());
+	}
+
+	@Test
+	public void countsAnswerSets() {
+		assertEquals(4, prepareSolver(QUEENS, SolverFactory.PORTFOLIO_SOLVER_NAME).countAnswerSets(0));
+		assertEquals(3, prepareSolver(QUEENS, SolverFactory.PORTFOLIO_SOLVER_NAME).countAnswerSets(3));
+	}
+
+	@Test
+	public void workerConfigurationsDiffer() {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setSolverName(SolverFactory.PORTFOLIO_SOLVER_NAME);
+		cfg.setPortfolioWorkers(4);
+		List<SystemConfig> configurations = SolverFactory.buildPortfolioConfigurations(cfg);
+		assertEquals(4, configurations.size());
+		for (SystemConfig workerConfig : configurations) {
+			assertEquals(SystemConfig.DEFAULT_SOLVER_NAME, workerConfig.getSolverName());
+		}
+		assertEquals(cfg.getBranchingHeuristic(), configurations.get(0).getBranchingHeuristic());
+		assertEquals(cfg.getSeed(), configurations.get(0).getSeed());
+		assertNotEquals(configurations.get(1).getSeed(), configurations.get(2).getSeed());
+		assertNotEquals(configurations.get(1).getBranchingHeuristic(), configurations.get(2).getBranchingHeuristic());
+		assertEquals(GrounderHeuristicsConfiguration.PERMISSIVE_STRING, configurations.get(1).getGrounderToleranceConstraints());
+		assertTrue(configurations.get(3).isDisableNoGoodDeletion());
+	}
+}
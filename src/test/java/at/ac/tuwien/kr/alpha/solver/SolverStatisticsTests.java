@@ -28,6 +28,7 @@
 import at.ac.tuwien.kr.alpha.common.AnswerSet;
 import at.ac.tuwien.kr.alpha.common.AtomStore;
 import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.grounder.DummyGrounder;
 import org.junit.Before;
 import org.junit.Test;
@@ -35,29 +36,52 @@
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
 
 public class SolverStatisticsTests extends AbstractSolverTests {
 
 	private AtomStore atomStore;
+	private int grounderBatchSize = SystemConfig.DEFAULT_GROUNDER_BATCH_SIZE;
 
 	@Before
 	public void setUp() {
 		this.atomStore = new AtomStoreImpl();
 	}
 
+	@Override
+	protected SystemConfig buildSystemConfig() {
+		SystemConfig config = super.buildSystemConfig();
+		config.setGrounderBatchSize(grounderBatchSize);
+		return config;
+	}
+
 	@Test
 	public void checkStatsStringZeroChoices() {
 		Solver solver = getInstance("a.");
 		assumeTrue(solver instanceof SolverMaintainingStatistics);
-		collectAnswerSetsAndCheckStats(solver, 1, 0, 0, 0, 0, 0, 0, 0);
+		collectAnswerSetsAndCheckStats(solver, 1, 0, 0, 0, 0, 0, 0, 0, 1);
 	}
 
 	@Test
 	public void checkStatsStringOneChoice() {
 		Solver solver = getInstance("a :- not b. b :- not a.");
 		assumeTrue(solver instanceof SolverMaintainingStatistics);
-		collectAnswerSetsAndCheckStats(solver, 2, 1, 1, 1, 1, 0, 0, 0);
+		collectAnswerSetsAndCheckStats(solver, 2, 1, 1, 1, 1, 0, 0, 0, 6);
+	}
+
+	@Test
+	public void batchedGroundingNeedsFewerRoundTrips() {
+		String program = "dom(1..4). p(X) :- dom(X), not q(X). q(X) :- dom(X), not p(X). r(X) :- p(X). s(X) :- r(X), q(Y), X < Y.";
+		Solver eager = getInstance(program);
+		assumeTrue(eager instanceof SolverMaintainingStatistics);
+		Set<AnswerSet> expected = eager.collectSet();
+		assertEquals(16, expected.size());
+		grounderBatchSize = 1000;
+		Solver batched = getInstance(program);
+		assertEquals(expected, batched.collectSet());
+		assertTrue(((SolverMaintainingStatistics) batched).getNumberOfGrounderRoundTrips()
+			< ((SolverMaintainingStatistics) eager).getNumberOfGrounderRoundTrips());
 	}
 
 	@Test
@@ -75,13 +99,13 @@ public void checkNoGoodCounterStatsByCardinalityUsingDummyGrounder() {
 	}
 
 	private void collectAnswerSetsAndCheckStats(Solver solver, int expectedNumberOfAnswerSets, int expectedNumberOfGuesses, int expectedTotalNumberOfBacktracks,
-			int expectedNumberOfBacktracksWithinBackjumps, int expectedNumberOfBackjumps, int expectedNumberOfMBTs, int expectedNumberOfConflictsAfterClosing, int expectedNumberOfDeletedNoGoods) {
+			int expectedNumberOfBacktracksWithinBackjumps, int expectedNumberOfBackjumps, int expectedNumberOfMBTs, int expectedNumberOfConflictsAfterClosing, int expectedNumberOfDeletedNoGoods, int expectedNumberOfGrounderRoundTrips) {
 		Set<AnswerSet> answerSets = solver.collectSet();
 		assertEquals(expectedNumberOfAnswerSets, answerSets.size());
 		SolverMaintainingStatistics solverMaintainingStatistics = (SolverMaintainingStatistics) solver;
 		assertEquals(
-				String.format("g=%d, bt=%d, bj=%d, bt_within_bj=%d, mbt=%d, cac=%d, del_ng=%d", expectedNumberOfGuesses, expectedTotalNumberOfBacktracks, expectedNumberOfBackjumps,
-						expectedNumberOfBacktracksWithinBackjumps, expectedNumberOfMBTs, expectedNumberOfConflictsAfterClosing, expectedNumberOfDeletedNoGoods),
+				String.format("g=%d, bt=%d, bj=%d, bt_within_bj=%d, mbt=%d, cac=%d, del_ng=%d, rs=%d, tiers=%d/%d/%d, gr=%d", expectedNumberOfGuesses, expectedTotalNumberOfBacktracks, expectedNumberOfBackjumps,
+						expectedNumberOfBacktracksWithinBackjumps, expectedNumberOfMBTs, expectedNumberOfConflictsAfterClosing, expectedNumberOfDeletedNoGoods, 0, 0, 0, 0, expectedNumberOfGrounderRoundTrips),
 				solverMaintainingStatistics.getStatisticsString());
 	}
 
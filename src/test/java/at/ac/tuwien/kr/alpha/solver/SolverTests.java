@@ -43,6 +43,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.stream.Collectors;
 
 import at.ac.tuwien.kr.alpha.AnswerSetsParser;
 import at.ac.tuwien.kr.alpha.api.Alpha;
@@ -51,6 +52,7 @@
 import at.ac.tuwien.kr.alpha.common.AtomStore;
 import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
 import at.ac.tuwien.kr.alpha.common.Predicate;
+import at.ac.tuwien.kr.alpha.common.WeightedAnswerSet;
 import at.ac.tuwien.kr.alpha.common.atoms.Atom;
 import at.ac.tuwien.kr.alpha.common.atoms.BasicAtom;
 import at.ac.tuwien.kr.alpha.common.program.InputProgram;
@@ -174,6 +176,50 @@ public void choiceProgram3Way() throws IOException {
 		);
 	}
 
+	@Test
+	public void countAnswerSetsWithoutConstructingThem() throws IOException {
+		final String program = "dom(1..3). p(X) :- dom(X), not q(X). q(X) :- dom(X), not p(X).";
+		assertEquals(8, getInstance(program).countAnswerSets(0));
+		assertEquals(5, getInstance(program).countAnswerSets(5));
+		assertEquals(0, getInstance("a :- not a.").countAnswerSets(0));
+	}
+
+	@Test
+	public void weakConstraintsYieldSuccessivelyBetterAnswerSets() throws IOException {
+		// Choosing p(X) costs X, choosing q(X) costs 2, so p(1), q(3), q(4) is the only optimum, of weight 5.
+		List<AnswerSet> answerSets = getInstance("dom(1). dom(3). dom(4). p(X) :- dom(X), not q(X). q(X) :- dom(X), not p(X)." +
+			":~ p(X). [X@1, X]" +
+			":~ q(X). [2@1, X]").stream().collect(Collectors.toList());
+		long previousWeight = Long.MAX_VALUE;
+		for (AnswerSet answerSet : answerSets) {
+			long weight = ((WeightedAnswerSet) answerSet).getWeights().get(1);
+			assertTrue(weight < previousWeight);
+			previousWeight = weight;
+		}
+		assertEquals(5, previousWeight);
+		assertEquals(AnswerSetsParser.parse("{ dom(1), dom(3), dom(4), p(1), q(3), q(4) }").iterator().next(), answerSets.get(answerSets.size() - 1));
+	}
+
+	@Test
+	public void weakConstraintsRespectLevels() throws IOException {
+		List<AnswerSet> answerSets = getInstance("a :- not b. b :- not a. :~ a. [1@2] :~ b. [5@1]").stream().collect(Collectors.toList());
+		WeightedAnswerSet optimum = (WeightedAnswerSet) answerSets.get(answerSets.size() - 1);
+		assertEquals(AnswerSetsParser.parse("{ b }").iterator().next(), optimum);
+		assertEquals(Collections.singletonMap(1, 5L), optimum.getWeights());
+		assertEquals("5@1", optimum.getWeightsAsString());
+	}
+
+	@Test
+	public void weakConstraintsCountEachTupleOnce() throws IOException {
+		List<AnswerSet> answerSets = getInstance("dom(1..2). p(X) :- dom(X), not q(X). q(X) :- dom(X), not p(X). c." +
+			":~ p(X). [2@1]" +
+			":~ q(X). [1@1, X]" +
+			":~ c. [3@0]").stream().collect(Collectors.toList());
+		WeightedAnswerSet optimum = (WeightedAnswerSet) answerSets.get(answerSets.size() - 1);
+		assertEquals(2L, (long) optimum.getWeights().get(1));
+		assertEquals(3L, (long) optimum.getWeights().get(0));
+	}
+
 	@Test
 	public void emptyProgramYieldsEmptyAnswerSet() throws IOException {
 		assertAnswerSets("", "");
@@ -25,13 +25,10 @@
  */
 package at.ac.tuwien.kr.alpha.solver;
 
-import org.apache.commons.lang3.tuple.Pair;
-
-import java.util.Map;
-import java.util.Set;
+import at.ac.tuwien.kr.alpha.grounder.ChoiceInformation;
 
 /**
- * This class is only here to make {@link ChoiceManager#addChoiceInformation(Pair)} public so that unit tests can access it.
+ * This class is only here to make {@link ChoiceManager#addChoiceInformation(ChoiceInformation)} public so that unit tests can access it.
  * 
  * Copyright (c) 2017 Siemens AG
  *
@@ -43,8 +40,8 @@ public TestableChoiceManager(WritableAssignment assignment, NoGoodStore store) {
 	}
 
 	@Override
-	public void addChoiceInformation(Pair<Map<Integer, Integer>, Map<Integer, Integer>> choiceAtoms, Map<Integer, Set<Integer>> headsToBodies) {
-		super.addChoiceInformation(choiceAtoms, headsToBodies);
+	public void addChoiceInformation(ChoiceInformation choiceInformation) {
+		super.addChoiceInformation(choiceInformation);
 	}
 
 }
@@ -32,18 +32,23 @@
 import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
 import at.ac.tuwien.kr.alpha.common.AtomStoreTest;
 import at.ac.tuwien.kr.alpha.common.IntIterator;
+import at.ac.tuwien.kr.alpha.common.Predicate;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.FALSE;
 import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.MBT;
 import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.TRUE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
@@ -75,6 +80,21 @@ public void negativeAtomThrows() throws Exception {
 		assignment.assign(-1, null);
 	}
 
+	@Test
+	public void epochChangesWithAssignment() {
+		long initialEpoch = assignment.getEpoch();
+		assignment.choose(1, MBT);
+		long epochAfterChoice = assignment.getEpoch();
+		assertNotEquals(initialEpoch, epochAfterChoice);
+		assignment.assign(1, MBT);
+		assertEquals(epochAfterChoice, assignment.getEpoch());
+		assignment.assign(1, TRUE);
+		long epochAfterTrue = assignment.getEpoch();
+		assertNotEquals(epochAfterChoice, epochAfterTrue);
+		assignment.backtrack();
+		assertNotEquals(epochAfterTrue, assignment.getEpoch());
+	}
+
 	@Test
 	public void alreadyAssignedThrows() throws Exception {
 		assertNull(assignment.assign(1, MBT));
@@ -103,6 +123,69 @@ public void reassignGracefully() {
 		assignment.assign(1, FALSE);
 	}
 
+	@Test
+	public void savePhasesOnBacktrack() {
+		assignment.assign(1, TRUE);
+		assignment.choose(2, FALSE);
+		assignment.assign(3, MBT);
+		assignment.choose(4, TRUE);
+		assertEquals(TrailAssignment.PHASE_NONE, assignment.getSavedPhase(2));
+
+		assignment.backjump(0);
+		assertEquals(TrailAssignment.PHASE_NONE, assignment.getSavedPhase(1));
+		assertEquals(TrailAssignment.PHASE_FALSE, assignment.getSavedPhase(2));
+		assertEquals(TrailAssignment.PHASE_TRUE, assignment.getSavedPhase(3));
+		assertEquals(TrailAssignment.PHASE_TRUE, assignment.getSavedPhase(4));
+
+		assignment.resetPhases();
+		assertEquals(TrailAssignment.PHASE_NONE, assignment.getSavedPhase(2));
+	}
+
+	@Test
+	public void targetPhasesStemFromLargestTrail() {
+		assignment.enableTargetPhases();
+		assignment.choose(1, TRUE);
+		assignment.choose(2, TRUE);
+		assignment.assign(3, FALSE);
+		assignment.backjump(0);
+		assignment.choose(1, FALSE);
+		assignment.backtrack();
+
+		assertEquals(TrailAssignment.PHASE_FALSE, assignment.getSavedPhase(1));
+		assertEquals(TrailAssignment.PHASE_TRUE, assignment.getTargetPhase(1));
+		assertEquals(TrailAssignment.PHASE_TRUE, assignment.getTargetPhase(2));
+		assertEquals(TrailAssignment.PHASE_FALSE, assignment.getTargetPhase(3));
+	}
+
+	@Test
+	public void iteratesTrueAtomsInOrderTheyBecameTrue() {
+		assignment.assign(1, MBT);
+		assignment.assign(2, TRUE);
+		assignment.choose(3, FALSE);
+		assignment.assign(1, TRUE);
+		assignment.assign(4, MBT);
+		assignment.assign(4, TRUE);
+		assertEquals(Arrays.asList(2, 1, 4), toList(assignment.getTrueAtoms()));
+
+		assignment.backtrack();
+		assertEquals(Collections.singletonList(2), toList(assignment.getTrueAtoms()));
+		assertEquals(MBT, assignment.getTruth(1));
+
+		assignment.choose(4, TRUE);
+		assertEquals(Arrays.asList(2, 4), toList(assignment.getTrueAtoms()));
+
+		assignment.clear();
+		assertFalse(assignment.getTrueAtoms().hasNext());
+	}
+
+	private static List<Integer> toList(IntIterator it) {
+		List<Integer> list = new ArrayList<>();
+		while (it.hasNext()) {
+			list.add(it.next());
+		}
+		return list;
+	}
+
 	@Test
 	public void assignAndBacktrack() {
 		assignment.assign(1, MBT);
@@ -257,4 +340,27 @@ public void numberOfAssignedAtoms() throws Exception {
 		assignment.assign(5, TRUE);
 		assertEquals(2, assignment.getNumberOfAtomsAssignedSinceLastDecision());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void assignedAtomsFollowBacktracking() {
+		Predicate predicate = Predicate.getInstance("a", 1);
+		assignment.assign(1, MBT);
+		assignment.assign(2, FALSE);
+		assertEquals(new HashSet<>(Arrays.asList(1, 2)), assignedAtoms(predicate));
+		assignment.choose(3, TRUE);
+		assignment.assign(4, FALSE);
+		assignment.assign(1, TRUE);
+		assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4)), assignedAtoms(predicate));
+		assignment.backtrack();
+		assertEquals(new HashSet<>(Arrays.asList(1, 2)), assignedAtoms(predicate));
+		assertEquals(Collections.emptySet(), assignedAtoms(Predicate.getInstance("b", 1)));
+	}
+
+	private Set<Integer> assignedAtoms(Predicate predicate) {
+		Set<Integer> assignedAtoms = new HashSet<>();
+		for (IntIterator it = assignment.getAssignedAtoms(predicate); it.hasNext();) {
+			assignedAtoms.add(it.next());
+		}
+		return assignedAtoms;
+	}
+}
@@ -0,0 +1,56 @@
+package at.ac.tuwien.kr.alpha.solver;
+
+import at.ac.tuwien.kr.alpha.common.NoGood;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static at.ac.tuwien.kr.alpha.common.NoGoodTest.fromOldLiterals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class WatchedNoGoodArenaTest {
+
+	@Test
+	public void storesLiteralsWithWatchesFirst() {
+		WatchedNoGoodArena arena = new WatchedNoGoodArena();
+		WatchedNoGood watchedNoGood = arena.add(new NoGood(fromOldLiterals(1, 2, 3)), 1, 2, -1);
+		assertArrayEquals(new int[] {fromOldLiterals(2), fromOldLiterals(3), fromOldLiterals(1)},
+			new int[] {watchedNoGood.getLiteral(0), watchedNoGood.getLiteral(1), watchedNoGood.getLiteral(2)});
+		assertSame(watchedNoGood, arena.get(watchedNoGood.getId()));
+	}
+
+	@Test
+	public void keepsLiteralsWhenGrowingAndCompacting() {
+		WatchedNoGoodArena arena = new WatchedNoGoodArena();
+		List<WatchedNoGood> watchedNoGoods = new ArrayList<>();
+		for (int i = 1; i <= 1000; i++) {
+			watchedNoGoods.add(arena.add(new NoGood(fromOldLiterals(i, i + 1, i + 2)), 0, 1, -1));
+		}
+		// Removing every other NoGood leaves enough garbage to trigger compaction.
+		List<WatchedNoGood> removed = new ArrayList<>();
+		for (int i = 0; i < watchedNoGoods.size(); i += 2) {
+			arena.remove(watchedNoGoods.get(i));
+			removed.add(watchedNoGoods.get(i));
+		}
+		for (int i = 0; i < watchedNoGoods.size(); i++) {
+			WatchedNoGood watchedNoGood = watchedNoGoods.get(i);
+			assertEquals(fromOldLiterals(i + 1), watchedNoGood.getLiteral(0));
+			assertEquals(fromOldLiterals(i + 3), watchedNoGood.getLiteral(2));
+			if (i % 2 == 0) {
+				assertNull(arena.get(watchedNoGood.getId()));
+			} else {
+				assertSame(watchedNoGood, arena.get(watchedNoGood.getId()));
+			}
+		}
+		// Ids of removed NoGoods are reused.
+		WatchedNoGood added = arena.add(new NoGood(fromOldLiterals(5, 6, 7)), 0, 1, -1);
+		assertEquals(removed.get(removed.size() - 1).getId(), added.getId());
+	}
+}
@@ -102,7 +102,7 @@ private void testNumbersOfNoGoods(Predicate<? super Integer> isRuleBody) {
 		Collection<NoGood> noGoods = getNoGoods();
 		assignment.growForMaxAtomId();
 		choiceManager.growForMaxAtomId(atomStore.getMaxAtomId());
-		choiceManager.addChoiceInformation(grounder.getChoiceAtoms(), grounder.getHeadsToBodies());
+		choiceManager.addChoiceInformation(grounder.getChoiceInformation());
 		for (NoGood noGood : noGoods) {
 			n++;
 			boolean knownType = false;
@@ -148,7 +148,7 @@ private void testIsAtomChoice(Predicate<? super Integer> isRuleBody) {
 		Collection<NoGood> noGoods = getNoGoods();
 		assignment.growForMaxAtomId();
 		choiceManager.growForMaxAtomId(atomStore.getMaxAtomId());
-		choiceManager.addChoiceInformation(grounder.getChoiceAtoms(), grounder.getHeadsToBodies());
+		choiceManager.addChoiceInformation(grounder.getChoiceInformation());
 		for (NoGood noGood : noGoods) {
 			for (Integer literal : noGood) {
 				int atom = atomOf(literal);
@@ -161,7 +161,7 @@ private void testIsAtomChoice(Predicate<? super Integer> isRuleBody) {
 	}
 
 	private Collection<NoGood> getNoGoods() {
-		return grounder.getNoGoods(null).values();
+		return grounder.getNoGoods(null).getNoGoods();
 	}
 
 	private void assertGreaterThan(String message, long expected, long actual) {
@@ -0,0 +1,50 @@
+package at.ac.tuwien.kr.alpha.solver.heuristics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link AtomAdjacencyLists}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class AtomAdjacencyListsTest {
+
+	@Test
+	public void keepsValuesInInsertionOrderWithoutDuplicates() {
+		AtomAdjacencyLists lists = new AtomAdjacencyLists();
+		for (int value = 10; value > 0; value--) {
+			assertTrue(lists.put(3, value));
+		}
+		assertFalse(lists.put(3, 7));
+		assertEquals(10, lists.size(3));
+		for (int i = 0; i < 10; i++) {
+			assertEquals(10 - i, lists.get(3, i));
+		}
+	}
+
+	@Test
+	public void remembersAtomsWithValues() {
+		AtomAdjacencyLists lists = new AtomAdjacencyLists();
+		lists.growForMaxAtomId(5);
+		lists.put(42, 1);
+		lists.put(2, 1);
+		lists.put(42, 2);
+		assertEquals(0, lists.size(1));
+		assertEquals(0, lists.size(100));
+		assertEquals(2, lists.getNumberOfAtoms());
+		assertEquals(42, lists.getAtom(0));
+		assertEquals(2, lists.getAtom(1));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void rejectsIndexBeyondSize() {
+		AtomAdjacencyLists lists = new AtomAdjacencyLists();
+		lists.put(1, 1);
+		lists.get(1, 1);
+	}
+
+}
@@ -0,0 +1,86 @@
+package at.ac.tuwien.kr.alpha.solver.heuristics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link IndexedActivityHeap}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class IndexedActivityHeapTest {
+
+	private double[] activities;
+	private IndexedActivityHeap heap;
+
+	@Before
+	public void setUp() {
+		activities = new double[100];
+		heap = new IndexedActivityHeap(atom -> activities[atom]);
+	}
+
+	@Test
+	public void removesAtomsInOrderOfActivity() {
+		for (int atom = 1; atom < activities.length; atom++) {
+			activities[atom] = (atom * 37) % 101;
+			heap.insert(atom);
+		}
+		double lastActivity = Double.MAX_VALUE;
+		int removed = 0;
+		while (!heap.isEmpty()) {
+			int atom = heap.removeMax();
+			assertTrue(activities[atom] <= lastActivity);
+			lastActivity = activities[atom];
+			removed++;
+		}
+		assertEquals(activities.length - 1, removed);
+		assertEquals(IndexedActivityHeap.NO_ATOM, heap.removeMax());
+	}
+
+	@Test
+	public void insertingAtomTwiceKeepsSingleEntry() {
+		activities[1] = 1.0;
+		activities[2] = 2.0;
+		heap.insert(1);
+		heap.insert(2);
+		heap.insert(1);
+		assertEquals(2, heap.size());
+		assertEquals(2, heap.removeMax());
+		assertEquals(1, heap.removeMax());
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test
+	public void updateRestoresOrderAfterIncreaseAndDecrease() {
+		for (int atom = 1; atom <= 5; atom++) {
+			activities[atom] = atom;
+			heap.insert(atom);
+		}
+		activities[1] = 10.0;
+		heap.update(1);
+		activities[5] = 0.5;
+		heap.update(5);
+		assertEquals(1, heap.removeMax());
+		assertEquals(4, heap.removeMax());
+		assertEquals(3, heap.removeMax());
+		assertEquals(2, heap.removeMax());
+		assertEquals(5, heap.removeMax());
+	}
+
+	@Test
+	public void removedAtomCanBeReinserted() {
+		activities[7] = 3.0;
+		heap.insert(7);
+		assertEquals(7, heap.removeMax());
+		assertFalse(heap.contains(7));
+		heap.insert(7);
+		assertTrue(heap.contains(7));
+		heap.clear();
+		assertFalse(heap.contains(7));
+		assertTrue(heap.isEmpty());
+	}
+}
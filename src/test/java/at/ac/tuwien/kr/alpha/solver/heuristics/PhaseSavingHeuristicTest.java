@@ -0,0 +1,97 @@
+package at.ac.tuwien.kr.alpha.solver.heuristics;
+
+import at.ac.tuwien.kr.alpha.common.AtomStore;
+import at.ac.tuwien.kr.alpha.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.common.AtomStoreTest;
+import at.ac.tuwien.kr.alpha.common.NoGood;
+import at.ac.tuwien.kr.alpha.solver.TrailAssignment;
+import at.ac.tuwien.kr.alpha.solver.learning.GroundConflictNoGoodLearner.ConflictAnalysisResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import static at.ac.tuwien.kr.alpha.common.Literals.atomToLiteral;
+import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.FALSE;
+import static at.ac.tuwien.kr.alpha.solver.ThriceTruth.TRUE;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests {@link PhaseSavingHeuristic}.
+ *
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class PhaseSavingHeuristicTest {
+	private TrailAssignment assignment;
+
+	@Before
+	public void setUp() {
+		AtomStore atomStore = new AtomStoreImpl();
+		AtomStoreTest.fillAtomStore(atomStore, 5);
+		assignment = new TrailAssignment(atomStore);
+		assignment.growForMaxAtomId();
+	}
+
+	@Test
+	public void keepsSignOfWrappedHeuristicWithoutSavedPhase() {
+		PhaseSavingHeuristic heuristic = new PhaseSavingHeuristic(new FixedLiteralHeuristic(atomToLiteral(1, true)), assignment,
+			PhaseSavingHeuristic.Mode.SAVED, 0);
+		assertEquals(atomToLiteral(1, true), heuristic.chooseLiteral());
+	}
+
+	@Test
+	public void prefersSavedPhase() {
+		PhaseSavingHeuristic heuristic = new PhaseSavingHeuristic(new FixedLiteralHeuristic(atomToLiteral(1, true)), assignment,
+			PhaseSavingHeuristic.Mode.SAVED, 0);
+		assignment.choose(1, FALSE);
+		assignment.backtrack();
+		assertEquals(atomToLiteral(1, false), heuristic.chooseLiteral());
+	}
+
+	@Test
+	public void prefersTargetPhaseOverSavedPhase() {
+		PhaseSavingHeuristic heuristic = new PhaseSavingHeuristic(new FixedLiteralHeuristic(atomToLiteral(1, false)), assignment,
+			PhaseSavingHeuristic.Mode.TARGET, 0);
+		assignment.choose(1, TRUE);
+		assignment.choose(2, TRUE);
+		assignment.backjump(0);
+		assignment.choose(1, FALSE);
+		assignment.backtrack();
+		assertEquals(atomToLiteral(1, true), heuristic.chooseLiteral());
+	}
+
+	@Test
+	public void rephasingForgetsPhases() {
+		PhaseSavingHeuristic heuristic = new PhaseSavingHeuristic(new FixedLiteralHeuristic(atomToLiteral(1, true)), assignment,
+			PhaseSavingHeuristic.Mode.SAVED, 2);
+		assignment.choose(1, FALSE);
+		assignment.backtrack();
+		heuristic.analyzedConflict(null);
+		assertEquals(atomToLiteral(1, false), heuristic.chooseLiteral());
+		heuristic.analyzedConflict(null);
+		assertEquals(atomToLiteral(1, true), heuristic.chooseLiteral());
+	}
+
+	private static class FixedLiteralHeuristic implements BranchingHeuristic {
+		private final int literal;
+
+		FixedLiteralHeuristic(int literal) {
+			this.literal = literal;
+		}
+
+		@Override
+		public void violatedNoGood(NoGood violatedNoGood) {
+		}
+
+		@Override
+		public void analyzedConflict(ConflictAnalysisResult analysisResult) {
+		}
+
+		@Override
+		public void newNoGood(NoGood newNoGood) {
+		}
+
+		@Override
+		public int chooseLiteral() {
+			return literal;
+		}
+	}
+}
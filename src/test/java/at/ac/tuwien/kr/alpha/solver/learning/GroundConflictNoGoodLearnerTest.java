@@ -68,6 +68,34 @@ public void smallConflictNonTrivial1UIP() {
 		assertEquals(backjumpingDecisionLevel, 2);
 	}
 
+	private NoGood learnFromConflictWithTransitivelyImpliedLiteral(boolean recursiveMinimization) {
+		GroundConflictNoGoodLearner learner = new GroundConflictNoGoodLearner(assignment, atomStore, recursiveMinimization);
+		store.add(10, new NoGood(fromOldLiterals(1, -2)));
+		store.add(11, new NoGood(fromOldLiterals(2, -3)));
+		store.add(12, new NoGood(fromOldLiterals(5, -6)));
+		store.add(13, new NoGood(fromOldLiterals(5, -7)));
+		store.add(14, new NoGood(fromOldLiterals(6, 7, 3, 1)));
+
+		assignment.choose(1, ThriceTruth.TRUE);
+		assertNull(store.propagate());
+		assertEquals(ThriceTruth.MBT, assignment.getTruth(3));
+		assignment.choose(5, ThriceTruth.TRUE);
+		ConflictCause conflictCause = store.propagate();
+		assertNotNull(conflictCause);
+		return learner.analyzeConflictingNoGood(conflictCause.getAntecedent()).learnedNoGood;
+	}
+
+	@Test
+	public void localMinimizationKeepsTransitivelyImpliedLiteral() {
+		assertEquals(new NoGood(fromOldLiterals(1, 3, 5)), learnFromConflictWithTransitivelyImpliedLiteral(false));
+	}
+
+	@Test
+	public void recursiveMinimizationRemovesTransitivelyImpliedLiteral() {
+		// Atom 3 is implied by atom 2, which in turn is implied by atom 1 that is part of the learned nogood.
+		assertEquals(new NoGood(fromOldLiterals(1, 5)), learnFromConflictWithTransitivelyImpliedLiteral(true));
+	}
+
 	@Ignore // TrailAssignment no longer propagates at lower decision level.
 	@Test
 	public void subCurrentDLPropagationWithChoiceCauseOfConflict() {
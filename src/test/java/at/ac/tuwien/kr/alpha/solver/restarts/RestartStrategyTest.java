@@ -0,0 +1,66 @@
+package at.ac.tuwien.kr.alpha.solver.restarts;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Copyright (c) 2020, the Alpha Team.
+ */
+public class RestartStrategyTest {
+
+	@Test
+	public void lubySequence() {
+		long[] expected = {1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8, 1};
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], LubyRestartStrategy.luby(i));
+		}
+	}
+
+	@Test
+	public void lubyRestartsAfterScaledSequence() {
+		RestartStrategy luby = new LubyRestartStrategy(2);
+		assertEquals(2, conflictsUntilRestart(luby));
+		assertEquals(2, conflictsUntilRestart(luby));
+		assertEquals(4, conflictsUntilRestart(luby));
+		assertEquals(2, conflictsUntilRestart(luby));
+	}
+
+	@Test
+	public void geometricRestartsGrow() {
+		RestartStrategy geometric = new GeometricRestartStrategy(10, 2);
+		assertEquals(10, conflictsUntilRestart(geometric));
+		assertEquals(20, conflictsUntilRestart(geometric));
+		assertEquals(40, conflictsUntilRestart(geometric));
+	}
+
+	@Test
+	public void dynamicLbdRestartsIfRecentLbdsAreWorse() {
+		RestartStrategy dynamicLbd = new DynamicLbdRestartStrategy(3, 0.8);
+		for (int i = 0; i < 10; i++) {
+			dynamicLbd.newConflict(2);
+			assertFalse(dynamicLbd.shouldRestart());
+		}
+		dynamicLbd.newConflict(10);
+		assertTrue(dynamicLbd.shouldRestart());
+		dynamicLbd.restarted();
+		assertFalse(dynamicLbd.shouldRestart());
+		// Conflicts without learned nogood do not count.
+		for (int i = 0; i < 3; i++) {
+			dynamicLbd.newConflict(-1);
+		}
+		assertFalse(dynamicLbd.shouldRestart());
+	}
+
+	private static int conflictsUntilRestart(RestartStrategy restartStrategy) {
+		int conflicts = 0;
+		while (!restartStrategy.shouldRestart()) {
+			restartStrategy.newConflict(1);
+			conflicts++;
+		}
+		restartStrategy.restarted();
+		return conflicts;
+	}
+}